@@ -0,0 +1,473 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQueryBuilder;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v4.util.Pair;
+
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+import com.example.store_keeper.store_keeper.utils.AppExecutors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Instrumented test that verifies the Query Plans of the queries defined in {@link QueryArgsUtility},
+ * on a database created fresh by {@link StoreDbHelper} and on a database migrated to the latest
+ * Version from the schema of Version 1.
+ * <p>
+ * Every table in a Query Plan needs to be read through an Index, which is either a named Index,
+ * a Covering Index or the INTEGER PRIMARY KEY that indexes the rows of the table itself.
+ * Automatic Indexes built by SQLite for the query are a failure, since they are rebuilt on every run.
+ * Only the aggregates over all the Items are allowed to scan the tables they aggregate.
+ * </p>
+ */
+@RunWith(AndroidJUnit4.class)
+public class StoreDbHelperQueryPlanTest {
+
+    //Constants for the names of the databases created by the tests
+    private static final String FRESH_DATABASE_NAME = "query_plan_fresh.db";
+    private static final String MIGRATED_DATABASE_NAME = "query_plan_migrated.db";
+
+    //Constants used for reading the Query Plans
+    private static final String EXPLAIN_QUERY_PLAN = "EXPLAIN QUERY PLAN ";
+    private static final String QUERY_PLAN_COLUMN_DETAIL = "detail";
+    private static final String QUERY_PLAN_SCAN = "SCAN";
+    private static final String QUERY_PLAN_SEARCH = "SEARCH";
+    private static final String QUERY_PLAN_TABLE = "TABLE";
+    private static final String QUERY_PLAN_AUTOMATIC_INDEX = "AUTOMATIC";
+    private static final String[] QUERY_PLAN_INDEX_USAGES = {
+            "USING INDEX", "USING COVERING INDEX", "USING INTEGER PRIMARY KEY"
+    };
+
+    //Constant for the Page Key of the paged lists
+    private static final String PAGE_KEY = "M";
+
+    //The statements that created the schema of Version 1 of the database
+    private static final String[] CREATE_SCHEMA_VERSION_1 = {
+            "CREATE TABLE item(_id INTEGER PRIMARY KEY AUTOINCREMENT, item_name TEXT NOT NULL, item_sku TEXT NOT NULL, "
+                    + "item_description TEXT NOT NULL, category_id INTEGER, "
+                    + "CONSTRAINT unique_item_sku UNIQUE (item_sku) ON CONFLICT FAIL, "
+                    + "CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES item_category(_id))",
+            "CREATE TABLE item_category(_id INTEGER PRIMARY KEY AUTOINCREMENT, category_name TEXT NOT NULL, "
+                    + "CONSTRAINT unique_category_name UNIQUE (category_name) ON CONFLICT FAIL)",
+            "CREATE TABLE item_image(item_id INTEGER, image_uri TEXT, is_default INTEGER NOT NULL DEFAULT 0, "
+                    + "CONSTRAINT unique_image_uri UNIQUE (item_id, image_uri), "
+                    + "CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_attr(item_id INTEGER, attr_name TEXT NOT NULL, attr_value TEXT NOT NULL, "
+                    + "CONSTRAINT unique_attr_name UNIQUE (item_id, attr_name), "
+                    + "CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE)",
+            "CREATE TABLE supplier(_id INTEGER PRIMARY KEY AUTOINCREMENT, supplier_name TEXT NOT NULL, supplier_code TEXT NOT NULL, "
+                    + "CONSTRAINT unique_supplier_code UNIQUE (supplier_code) ON CONFLICT FAIL)",
+            "CREATE TABLE contact_type(_id INTEGER PRIMARY KEY, type_name TEXT NOT NULL, "
+                    + "CONSTRAINT unique_type_name UNIQUE (type_name))",
+            "CREATE TABLE supplier_contact(contact_type_id INTEGER, contact_value TEXT NOT NULL, is_default INTEGER NOT NULL DEFAULT 0, "
+                    + "supplier_id INTEGER, CONSTRAINT unique_record UNIQUE (supplier_id, contact_value) ON CONFLICT REPLACE, "
+                    + "CONSTRAINT fk_contact_type_id FOREIGN KEY (contact_type_id) REFERENCES contact_type(_id), "
+                    + "CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_supplier_info(item_id INTEGER, supplier_id INTEGER, unit_price REAL NOT NULL DEFAULT 0, "
+                    + "CONSTRAINT unique_record UNIQUE (item_id, supplier_id) ON CONFLICT REPLACE, "
+                    + "CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE, "
+                    + "CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE TABLE item_supplier_inventory(item_id INTEGER, supplier_id INTEGER, available_quantity INTEGER NOT NULL DEFAULT 0, "
+                    + "CONSTRAINT unique_record UNIQUE (item_id, supplier_id) ON CONFLICT REPLACE, "
+                    + "CONSTRAINT fk_item_id FOREIGN KEY (item_id) REFERENCES item(_id) ON DELETE CASCADE, "
+                    + "CONSTRAINT fk_supplier_id FOREIGN KEY (supplier_id) REFERENCES supplier(_id) ON DELETE CASCADE)",
+            "CREATE INDEX quantity_idx ON item_supplier_inventory (available_quantity)"
+    };
+
+    //Context of the app under test
+    private Context mContext;
+    //The Database Helper of the database being verified
+    private StoreDbHelper mDbHelper;
+
+    /**
+     * Deletes the databases left behind by any previous run.
+     */
+    @Before
+    public void setUp() {
+        mContext = InstrumentationRegistry.getTargetContext();
+        mContext.deleteDatabase(FRESH_DATABASE_NAME);
+        mContext.deleteDatabase(MIGRATED_DATABASE_NAME);
+    }
+
+    /**
+     * Waits for the background work started by the Database Helper on opening the database,
+     * and then closes and deletes the database.
+     */
+    @After
+    public void tearDown() throws Exception {
+        if (mDbHelper != null) {
+            //Waiting for the predefined records to be inserted and for the self-check to begin
+            awaitExecutor(AppExecutors.getInstance().getDbWrite());
+            awaitExecutor(AppExecutors.getInstance().getDbRead());
+            mDbHelper.close();
+            mDbHelper = null;
+        }
+        mContext.deleteDatabase(FRESH_DATABASE_NAME);
+        mContext.deleteDatabase(MIGRATED_DATABASE_NAME);
+    }
+
+    /**
+     * Verifies the Query Plans on a database created by {@link StoreDbHelper#onCreate(SQLiteDatabase)}.
+     */
+    @Test
+    public void freshDatabase_queriesUseIndexes() {
+        mDbHelper = new StoreDbHelper(mContext, FRESH_DATABASE_NAME);
+
+        assertQueryPlansUseIndexes(mDbHelper.getReadableDatabase());
+    }
+
+    /**
+     * Verifies the Query Plans on a database of Version 1 upgraded through
+     * {@link StoreDbHelper#onUpgrade(SQLiteDatabase, int, int)}.
+     */
+    @Test
+    public void migratedDatabase_queriesUseIndexes() {
+        //Creating the database with the schema of Version 1
+        SQLiteDatabase versionOneDatabase = SQLiteDatabase.openOrCreateDatabase(
+                mContext.getDatabasePath(MIGRATED_DATABASE_NAME), null);
+        try {
+            for (String createStatement : CREATE_SCHEMA_VERSION_1) {
+                versionOneDatabase.execSQL(createStatement);
+            }
+            versionOneDatabase.setVersion(1);
+        } finally {
+            versionOneDatabase.close();
+        }
+
+        //Opening the database with the Helper, which migrates it to the latest Version
+        mDbHelper = new StoreDbHelper(mContext, MIGRATED_DATABASE_NAME);
+
+        assertQueryPlansUseIndexes(mDbHelper.getReadableDatabase());
+    }
+
+    /**
+     * Method that builds each of the queries of {@link QueryArgsUtility} the way
+     * {@link StoreContentProvider} and {@link LoaderProvider} build them, and verifies their Query Plans.
+     *
+     * @param db The database.
+     */
+    private static void assertQueryPlansUseIndexes(SQLiteDatabase db) {
+        String itemSku = ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU);
+        String supplierCode = SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE);
+        String categoryName = ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME);
+        String pageLimit = String.valueOf(AppConstants.LIST_PAGE_SIZE);
+
+        //Lookups of an Item and its details
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemByIdQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemByIdQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "ItemByIdQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemByIdQuery.getProjection(),
+                QueryArgsUtility.ItemByIdQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = createTableQueryBuilder(ProductContract.Product.TABLE_NAME);
+        assertQueryPlan(db, "ItemBySkuQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemBySkuQuery.getProjection(),
+                QueryArgsUtility.ItemBySkuQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemAttributesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemAttributesQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "ItemAttributesQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemAttributesQuery.getProjection(),
+                QueryArgsUtility.ItemAttributesQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemImagesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemImagesQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "ItemImagesQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemImagesQuery.getProjection(),
+                QueryArgsUtility.ItemImagesQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = createTableQueryBuilder(ProductContract.ProductImage.TABLE_NAME);
+        assertQueryPlan(db, "ItemImageRefsQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemImageRefsQuery.getProjection(),
+                QueryArgsUtility.ItemImageRefsQuery.getSelection(), null, null, null, null
+        ), null);
+
+        //Lookups and list of the Categories
+        queryBuilder = createTableQueryBuilder(ProductContract.ProductCategory.TABLE_NAME);
+        assertQueryPlan(db, "CategoriesQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.CategoriesQuery.getProjection(), null, null, null,
+                ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, null
+        ), null);
+
+        assertQueryPlan(db, "CategoryByIdQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.CategoryByIdQuery.getProjection(),
+                QueryArgsUtility.CategoryByIdQuery.getSelection(), null, null, null, null
+        ), null);
+
+        assertQueryPlan(db, "CategoryByNameQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.CategoryByNameQuery.getProjection(),
+                QueryArgsUtility.CategoryByNameQuery.getSelection(), null, null, null, null
+        ), null);
+
+        //Lookups of a Supplier and its details
+        queryBuilder = createTableQueryBuilder(SupplierContract.Supplier.TABLE_NAME);
+        assertQueryPlan(db, "SupplierByIdQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SupplierByIdQuery.getProjection(),
+                QueryArgsUtility.SupplierByIdQuery.getSelection(), null, null, null, null
+        ), null);
+
+        assertQueryPlan(db, "SupplierByCodeQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SupplierByCodeQuery.getProjection(),
+                QueryArgsUtility.SupplierByCodeQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SupplierContactsQuery.setTables(queryBuilder);
+        QueryArgsUtility.SupplierContactsQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "SupplierContactsQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SupplierContactsQuery.getProjection(),
+                QueryArgsUtility.SupplierContactsQuery.getSelection(), null, null, null, null
+        ), null);
+
+        //Lookups of the Items of a Supplier and the Suppliers of an Item
+        queryBuilder = createTableQueryBuilder(SalesContract.ProductSupplierInfo.TABLE_NAME);
+        assertQueryPlan(db, "SupplierItemsQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SupplierItemsQuery.getProjection(),
+                QueryArgsUtility.SupplierItemsQuery.getSelection(), null, null, null, null
+        ), null);
+
+        assertQueryPlan(db, "ItemSuppliersQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemSuppliersQuery.getProjection(),
+                QueryArgsUtility.ItemSuppliersQuery.getSelection(), null, null, null, null
+        ), null);
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemSuppliersSalesQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemSuppliersSalesQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "ItemSuppliersSalesQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemSuppliersSalesQuery.getProjection(),
+                QueryArgsUtility.ItemSuppliersSalesQuery.getSelection(), null, null, null, null
+        ), null);
+
+        //Pages of the lists, read after their Page Key
+        Pair<String, String[]> selectionPairs = SqliteUtility.combineSelectionPairs(
+                Pair.create(QueryArgsUtility.ItemsShortInfoQuery.getSelection(),
+                        QueryArgsUtility.ItemsShortInfoQuery.getSelectionArgs()),
+                createPageSelectionPair(itemSku),
+                SqliteUtility.AND
+        );
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.ItemsShortInfoQuery.setTables(queryBuilder);
+        QueryArgsUtility.ItemsShortInfoQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "ItemsShortInfoQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.ItemsShortInfoQuery.getProjection(),
+                selectionPairs.first, null, null, itemSku, pageLimit
+        ), selectionPairs.second);
+
+        selectionPairs = createPageSelectionPair(supplierCode);
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SuppliersShortInfoQuery.setTables(queryBuilder);
+        QueryArgsUtility.SuppliersShortInfoQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "SuppliersShortInfoQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SuppliersShortInfoQuery.getProjection(),
+                selectionPairs.first, null, null, supplierCode, pageLimit
+        ), selectionPairs.second);
+
+        selectionPairs = SqliteUtility.combineSelectionPairs(
+                Pair.create(QueryArgsUtility.SalesShortInfoQuery.getSelection(),
+                        QueryArgsUtility.SalesShortInfoQuery.getSelectionArgs()),
+                createPageSelectionPair(itemSku),
+                SqliteUtility.AND
+        );
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SalesShortInfoQuery.setTables(queryBuilder);
+        QueryArgsUtility.SalesShortInfoQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "SalesShortInfoQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SalesShortInfoQuery.getProjection(),
+                selectionPairs.first, null, null, itemSku, pageLimit
+        ), selectionPairs.second);
+
+        //Stock aggregated per Supplier and per Category
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.SupplierStockQuery.setTables(queryBuilder);
+        QueryArgsUtility.SupplierStockQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "SupplierStockQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.SupplierStockQuery.getProjection(), null,
+                QueryArgsUtility.SupplierStockQuery.getGroupBy(), null, supplierCode, null
+        ), null);
+
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.CategoryStockQuery.setTables(queryBuilder);
+        QueryArgsUtility.CategoryStockQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "CategoryStockQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.CategoryStockQuery.getProjection(), null,
+                QueryArgsUtility.CategoryStockQuery.getGroupBy(), null, categoryName, null
+        ), null);
+
+        //Stock Levels over all the Items, which reads every Item and every Inventory record
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.StockLevelsQuery.setTables(queryBuilder);
+        QueryArgsUtility.StockLevelsQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "StockLevelsQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.StockLevelsQuery.getProjection(), null, null, null, null, null
+        ), null, ProductContract.Product.TABLE_NAME, SalesContract.ProductSupplierInventory.TABLE_NAME);
+
+        //Low Stock Items over all the Items, which compares the columns of two tables for every Item
+        queryBuilder = new SQLiteQueryBuilder();
+        QueryArgsUtility.LowStockQuery.setTables(queryBuilder);
+        QueryArgsUtility.LowStockQuery.setProjectionMap(queryBuilder);
+        assertQueryPlan(db, "LowStockQuery", queryBuilder.buildQuery(
+                QueryArgsUtility.LowStockQuery.getProjection(),
+                QueryArgsUtility.LowStockQuery.getSelection(), null, null,
+                QueryArgsUtility.LowStockQuery.getSortOrder(), null
+        ), null, ProductContract.Product.TABLE_NAME);
+
+        //Low Stock Items among the Items changed, which are looked up by their Ids
+        selectionPairs = SqliteUtility.combineSelectionPairs(
+                Pair.create(QueryArgsUtility.LowStockQuery.getSelection(), new String[0]),
+                QueryArgsUtility.LowStockQuery.getSelectionForProductIds(Arrays.asList("1", "2")),
+                SqliteUtility.AND
+        );
+        assertQueryPlan(db, "LowStockQuery(productIds)", queryBuilder.buildQuery(
+                QueryArgsUtility.LowStockQuery.getProjection(),
+                selectionPairs.first, null, null,
+                QueryArgsUtility.LowStockQuery.getSortOrder(), null
+        ), selectionPairs.second);
+    }
+
+    /**
+     * Method that creates a {@link SQLiteQueryBuilder} on the single table {@code tableName},
+     * for the queries that are fired on the database directly.
+     *
+     * @param tableName The Name of the table to query
+     * @return Instance of {@link SQLiteQueryBuilder} for the table
+     */
+    private static SQLiteQueryBuilder createTableQueryBuilder(String tableName) {
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        queryBuilder.setTables(tableName);
+        return queryBuilder;
+    }
+
+    /**
+     * Method that creates the Selection of the Page of a list that begins after the
+     * Page Key, the way {@link LoaderProvider} does.
+     *
+     * @param sortKeyColumn The qualified name of the unique column used for sorting and paging the list
+     * @return A Pair of Selection with its Selection Arguments
+     */
+    private static Pair<String, String[]> createPageSelectionPair(String sortKeyColumn) {
+        return Pair.create(sortKeyColumn + SqliteUtility.GREATER_THAN + SqliteUtility.PLACEHOLDER,
+                new String[]{PAGE_KEY});
+    }
+
+    /**
+     * Method that reads the Query Plan of the {@code query} with EXPLAIN QUERY PLAN, and asserts
+     * that every table in the plan is read through an Index, without any automatic Index.
+     * The parameters of the {@code query} left unbound do not alter its plan.
+     *
+     * @param db            The database.
+     * @param queryName     The Name of the query for the failure messages
+     * @param query         The SQL of the query to verify
+     * @param selectionArgs The values of the parameters of the {@code query}. Can be {@code null}.
+     * @param scannedTables The tables that the {@code query} is allowed to scan completely,
+     *                      as it reads all their rows.
+     */
+    private static void assertQueryPlan(SQLiteDatabase db, String queryName, String query,
+                                        String[] selectionArgs, String... scannedTables) {
+        Cursor cursor = db.rawQuery(EXPLAIN_QUERY_PLAN + query, selectionArgs);
+        try {
+            int detailColumnIndex = cursor.getColumnIndexOrThrow(QUERY_PLAN_COLUMN_DETAIL);
+            while (cursor.moveToNext()) {
+                String detail = cursor.getString(detailColumnIndex);
+
+                assertTrue(queryName + " builds an automatic index: " + detail,
+                        !detail.contains(QUERY_PLAN_AUTOMATIC_INDEX));
+
+                if (detail.startsWith(QUERY_PLAN_SCAN) || detail.startsWith(QUERY_PLAN_SEARCH)) {
+                    assertTrue(queryName + " does not use an index: " + detail,
+                            isIndexUsed(detail) || isScanAllowed(detail, scannedTables));
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Method that checks whether the step {@code detail} of a Query Plan reads its table through an Index.
+     *
+     * @param detail The description of the step of the Query Plan
+     * @return <b>TRUE</b> when the table is read through an Index; <b>FALSE</b> otherwise.
+     */
+    private static boolean isIndexUsed(String detail) {
+        for (String indexUsage : QUERY_PLAN_INDEX_USAGES) {
+            if (detail.contains(indexUsage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method that checks whether the step {@code detail} of a Query Plan is a full scan
+     * of one of the {@code scannedTables}. The older versions of SQLite name the table
+     * after the word "TABLE", as in "SCAN TABLE item".
+     *
+     * @param detail        The description of the step of the Query Plan
+     * @param scannedTables The tables allowed to be scanned completely
+     * @return <b>TRUE</b> when the step scans one of the {@code scannedTables}; <b>FALSE</b> otherwise.
+     */
+    private static boolean isScanAllowed(String detail, String[] scannedTables) {
+        String[] detailWords = detail.split(" ");
+        if (!QUERY_PLAN_SCAN.equals(detailWords[0]) || detailWords.length < 2) {
+            return false;
+        }
+        String tableName = QUERY_PLAN_TABLE.equals(detailWords[1]) && detailWords.length > 2
+                ? detailWords[2] : detailWords[1];
+        return Arrays.asList(scannedTables).contains(tableName);
+    }
+
+    /**
+     * Method that waits for the tasks queued earlier on the {@code executor} to begin. For the
+     * single thread of the Database writes, this also waits for them to complete.
+     *
+     * @param executor The Executor to wait for
+     */
+    private static void awaitExecutor(Executor executor) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        latch.await(10, TimeUnit.SECONDS);
+    }
+}
@@ -16,37 +16,69 @@
 
 package com.example.store_keeper.store_keeper.cache;
 
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.v4.app.ActivityManagerCompat;
 import android.support.v4.util.LruCache;
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Class that saves the Bitmaps downloaded, in a Memory Cache {@link LruCache}
+ * Class that saves the Bitmaps downloaded, in a Memory Cache {@link LruCache}.
+ * This is the first tier above the Disk Cache {@link DiskThumbnailCache}.
+ * <p>
+ * The size of the Memory Cache is derived from the Memory Class of the device when initialized
+ * with {@link #init(Context)}, which also registers the Cache for the Memory trim callbacks.
+ * The Memory Cache and the {@link BitmapPool} are then trimmed in stages based on the trim level,
+ * and the trims done are recorded for diagnostics.
  *
  * @author Rajat Gupta And Harshita Joshi 
  */
-public class BitmapImageCache {
-    //Constant for Cache size of the Memory Cache
+public class BitmapImageCache implements ComponentCallbacks2 {
+    //Constant used for logs
+    private static final String LOG_TAG = BitmapImageCache.class.getSimpleName();
+
+    //Constant for Cache size of the Memory Cache, used when the Memory Class of the device is not known
     private static final int DEFAULT_CACHE_SIZE = 25 * 1024 * 1024; //25MB in bytes
 
+    //Constants for the fraction of the Memory Class used for the Memory Cache, on normal and low RAM devices
+    private static final int MEMORY_CLASS_DIVISOR = 8;
+    private static final int MEMORY_CLASS_DIVISOR_LOW_RAM = 16;
+
+    //Constant for the number of recent trims retained for diagnostics
+    private static final int TRIM_HISTORY_SIZE = 10;
+
     //For the Singleton instance of this
     private static volatile BitmapImageCache INSTANCE;
 
     //Memory Cache to save the Bitmaps downloaded
     private LruCache<String, Bitmap> mMemoryCache;
 
+    //Counters of the Cache lookups and evictions
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private final AtomicLong mEvictionCount = new AtomicLong();
+
+    //Recent trims of the Cache done for the Memory trim callbacks, the oldest first
+    private final ArrayDeque<TrimRecord> mTrimHistory = new ArrayDeque<>(TRIM_HISTORY_SIZE);
+
     /**
      * Private Constructor of {@link BitmapImageCache}
+     *
+     * @param cacheSize The maximum size of the Memory Cache in bytes
      */
-    private BitmapImageCache() {
-        //Retrieving the current Max Memory available (in bytes)
-        final int maxMemory = (int) Runtime.getRuntime().maxMemory();
-        //Calculating the safe usable Max Memory which is 1/8th of the current Max Memory available
-        final int maxMemoryThreshold = maxMemory / 8;
-        //Selecting the cache size based on the current availability
-        final int cacheSizeSelected = DEFAULT_CACHE_SIZE > maxMemoryThreshold ? maxMemoryThreshold : DEFAULT_CACHE_SIZE;
-
+    private BitmapImageCache(int cacheSize) {
         //Initializing the Memory Cache
-        mMemoryCache = new LruCache<String, Bitmap>(cacheSizeSelected) {
+        mMemoryCache = new LruCache<String, Bitmap>(cacheSize) {
             /**
              * Returns the size of the entry for {@code key} and {@code value} in
              * terms of bytes rather than the number of entries
@@ -55,12 +87,78 @@ public class BitmapImageCache {
             protected int sizeOf(String key, Bitmap bitmap) {
                 //Size of the cache now returned will be the size of the entries
                 //measured in bytes rather than the number of entries
-                return bitmap.getByteCount();
+                return getBitmapSize(bitmap);
+            }
+
+            /**
+             * Called for entries that have been evicted or removed.
+             */
+            @Override
+            protected void entryRemoved(boolean evicted, String key, Bitmap oldValue, Bitmap newValue) {
+                if (evicted) {
+                    //Counting the entries evicted to make room for the new entries
+                    mEvictionCount.incrementAndGet();
+                    //Handing over the Bitmap evicted to the Pool, for reuse by the later decodes
+                    BitmapPool.getInstance().put(oldValue);
+                }
             }
 
         };
     }
 
+    /**
+     * Method that calculates the size of the Memory Cache from the current Max Memory available,
+     * for when the Memory Class of the device is not known.
+     *
+     * @return The size of the Memory Cache in bytes
+     */
+    private static int getDefaultCacheSize() {
+        //Retrieving the current Max Memory available (in bytes)
+        final int maxMemory = (int) Runtime.getRuntime().maxMemory();
+        //Calculating the safe usable Max Memory which is 1/8th of the current Max Memory available
+        final int maxMemoryThreshold = maxMemory / 8;
+        //Selecting the cache size based on the current availability
+        return DEFAULT_CACHE_SIZE > maxMemoryThreshold ? maxMemoryThreshold : DEFAULT_CACHE_SIZE;
+    }
+
+    /**
+     * Method that calculates the size of the Memory Cache from the Memory Class of the device,
+     * which is 1/8th of the Memory Class; or 1/16th of it on the low RAM devices.
+     *
+     * @param context A {@link Context} to read the Memory Class of the device
+     * @return The size of the Memory Cache in bytes
+     */
+    private static int getMemoryClassCacheSize(@NonNull Context context) {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        if (activityManager == null) {
+            //When the Memory Class cannot be read, fallback to the size based on the Max Memory
+            return getDefaultCacheSize();
+        }
+
+        //Retrieving the Memory Class of the device (in bytes)
+        final int memoryClassBytes = activityManager.getMemoryClass() * 1024 * 1024;
+        //Using a smaller fraction of the Memory Class on the low RAM devices
+        final int divisor = ActivityManagerCompat.isLowRamDevice(activityManager)
+                ? MEMORY_CLASS_DIVISOR_LOW_RAM : MEMORY_CLASS_DIVISOR;
+        return memoryClassBytes / divisor;
+    }
+
+    /**
+     * Method that returns the number of bytes actually held by the {@code bitmap}, which follows its
+     * {@link Bitmap.Config} and also includes the unused bytes of a larger pooled Bitmap it was decoded into.
+     *
+     * @param bitmap The Bitmap to be measured
+     * @return The size of the Bitmap in bytes
+     */
+    private static int getBitmapSize(@NonNull Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            //Size of the memory allocated, for API Level 19 and above
+            return bitmap.getAllocationByteCount();
+        }
+        //Size of the pixels, for API Level below 19 where the Bitmaps are never reused for a smaller decode
+        return bitmap.getByteCount();
+    }
+
     /**
      * Singleton Constructor of {@link BitmapImageCache}
      *
@@ -70,8 +168,9 @@ public class BitmapImageCache {
         if (INSTANCE == null) {
             synchronized (BitmapImageCache.class) {
                 if (INSTANCE == null) {
-                    //Creating the instance when not available
-                    INSTANCE = new BitmapImageCache();
+                    //Creating the instance when not available, sized from the Max Memory
+                    //since the Memory Class of the device is not known
+                    INSTANCE = new BitmapImageCache(getDefaultCacheSize());
                 }
             }
         }
@@ -79,6 +178,25 @@ public class BitmapImageCache {
         return INSTANCE;
     }
 
+    /**
+     * Method that initializes the Memory Cache with the size derived from the Memory Class of the device,
+     * and registers it for the Memory trim callbacks of the Application. This should be called
+     * from {@link android.app.Application#onCreate()}, before any Bitmap is cached.
+     *
+     * @param context A {@link Context} to read the Memory Class and to register the callbacks with
+     */
+    public static void init(@NonNull Context context) {
+        Context appContext = context.getApplicationContext();
+        synchronized (BitmapImageCache.class) {
+            if (INSTANCE == null) {
+                //Creating the instance sized from the Memory Class of the device
+                INSTANCE = new BitmapImageCache(getMemoryClassCacheSize(appContext));
+                //Registering for the Memory trim callbacks
+                appContext.registerComponentCallbacks(INSTANCE);
+            }
+        }
+    }
+
     /**
      * Method that retrieves the Bitmap Image from Memory Cache for the given Image URL
      *
@@ -86,7 +204,46 @@ public class BitmapImageCache {
      * @return Bitmap of the Image for the Image URL mentioned
      */
     public static Bitmap getBitmapFromCache(String imageURLStr) {
-        return getInstance().mMemoryCache.get(imageURLStr);
+        BitmapImageCache bitmapImageCache = getInstance();
+        Bitmap cachedBitmap = bitmapImageCache.mMemoryCache.get(imageURLStr);
+        //Counting the lookup
+        if (cachedBitmap != null) {
+            bitmapImageCache.mHitCount.incrementAndGet();
+        } else {
+            bitmapImageCache.mMissCount.incrementAndGet();
+        }
+        return cachedBitmap;
+    }
+
+    /**
+     * Method that retrieves the Bitmap Image from Memory Cache for the given Image URL, and marks it
+     * in use by the {@code holder} in the {@link BitmapPool}. The lookup and the marking are done
+     * under the lock of the Pool, so that the Bitmap cannot be evicted into the Pool in between.
+     *
+     * @param imageURLStr String containing the Image URL whose Bitmap needs to be retrieved from Memory Cache
+     * @param holder      The holder that will show the Bitmap, like an ImageView
+     * @return Bitmap of the Image for the Image URL mentioned
+     */
+    public static Bitmap getBitmapFromCache(String imageURLStr, @NonNull Object holder) {
+        BitmapPool bitmapPool = BitmapPool.getInstance();
+        synchronized (bitmapPool) {
+            Bitmap cachedBitmap = getBitmapFromCache(imageURLStr);
+            if (cachedBitmap != null) {
+                bitmapPool.markInUse(holder, cachedBitmap);
+            }
+            return cachedBitmap;
+        }
+    }
+
+    /**
+     * Method that checks whether the Bitmap Image of the given Image URL is present in Memory Cache,
+     * without counting it as a lookup.
+     *
+     * @param imageURLStr String containing the Image URL to be checked
+     * @return <b>TRUE</b> when the Bitmap is present in Memory Cache; <b>FALSE</b> otherwise
+     */
+    public static boolean containsBitmap(String imageURLStr) {
+        return getInstance().mMemoryCache.get(imageURLStr) != null;
     }
 
     /**
@@ -96,8 +253,8 @@ public class BitmapImageCache {
      * @param bitmap      Bitmap Image downloaded from the Image URL passed
      */
     public static void addBitmapToCache(String imageURLStr, Bitmap bitmap) {
-        if (getBitmapFromCache(imageURLStr) == null
-                && bitmap != null) {
+        if (bitmap != null
+                && getInstance().mMemoryCache.get(imageURLStr) == null) {
             getInstance().mMemoryCache.put(imageURLStr, bitmap);
         }
     }
@@ -107,5 +264,292 @@ public class BitmapImageCache {
      */
     public static void clearCache() {
         getInstance().mMemoryCache.evictAll();
+        //Clearing the Bitmaps handed over to the Pool as well
+        BitmapPool.getInstance().clear();
+    }
+
+    /**
+     * Called when the operating system has determined that it is a good
+     * time for a process to trim unneeded memory from its process.
+     * Trims the Memory Cache and the {@link BitmapPool} in stages based on the {@code level}:
+     * <ul>
+     * <li>{@link #TRIM_MEMORY_RUNNING_MODERATE}: Cache trimmed to 3/4th and Pool to 3/4th of their sizes</li>
+     * <li>{@link #TRIM_MEMORY_RUNNING_LOW}: Cache trimmed to half and Pool to half of their sizes</li>
+     * <li>{@link #TRIM_MEMORY_RUNNING_CRITICAL}: Cache trimmed to 1/4th of its size and Pool cleared</li>
+     * <li>{@link #TRIM_MEMORY_UI_HIDDEN}: Cache trimmed to half of its size and Pool cleared</li>
+     * <li>{@link #TRIM_MEMORY_BACKGROUND}: Cache trimmed to 1/4th of its size and Pool cleared</li>
+     * <li>{@link #TRIM_MEMORY_MODERATE} and above: Cache and Pool cleared</li>
+     * </ul>
+     * The Cache fills back to its full size as the Images are shown again.
+     *
+     * @param level The context of the trim, giving a hint of the amount of
+     *              trimming the application may like to perform.
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        //Percentages of the maximum sizes of the Cache and the Pool to be retained for the level
+        final int cacheRetainPercent;
+        final int poolRetainPercent;
+        if (level >= TRIM_MEMORY_MODERATE) {
+            //When the process is in the middle of the background LRU list, release everything
+            cacheRetainPercent = 0;
+            poolRetainPercent = 0;
+        } else if (level >= TRIM_MEMORY_BACKGROUND) {
+            //When the process has just entered the background LRU list
+            cacheRetainPercent = 25;
+            poolRetainPercent = 0;
+        } else if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            //When the UI is hidden, there are no decodes to reuse the pooled Bitmaps for
+            cacheRetainPercent = 50;
+            poolRetainPercent = 0;
+        } else if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            //When the device is about to kill the background processes to keep this App running
+            cacheRetainPercent = 25;
+            poolRetainPercent = 0;
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            //When the device is running low on memory while this App is running
+            cacheRetainPercent = 50;
+            poolRetainPercent = 50;
+        } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+            //When the device is beginning to run low on memory while this App is running
+            cacheRetainPercent = 75;
+            poolRetainPercent = 75;
+        } else {
+            //Ignoring the unknown levels
+            return;
+        }
+
+        trim(level, cacheRetainPercent, poolRetainPercent);
+    }
+
+    /**
+     * This is called when the overall system is running low on memory,
+     * and actively running processes should trim their memory usage.
+     * Clears the Memory Cache and the {@link BitmapPool}.
+     */
+    @Override
+    public void onLowMemory() {
+        trim(TRIM_MEMORY_COMPLETE, 0, 0);
+    }
+
+    /**
+     * Called by the system when the device configuration changes while your
+     * component is running. Not used by the Cache.
+     *
+     * @param newConfig The new device configuration.
+     */
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        //no-op
+    }
+
+    /**
+     * Method that trims the Memory Cache and the {@link BitmapPool} to the percentages of
+     * their maximum sizes mentioned, and records the trim in the Trim History.
+     *
+     * @param level              The trim level that triggered the trim
+     * @param cacheRetainPercent Percentage of the maximum size of the Memory Cache to be retained
+     * @param poolRetainPercent  Percentage of the maximum size of the Pool to be retained
+     */
+    private void trim(int level, int cacheRetainPercent, int poolRetainPercent) {
+        BitmapPool bitmapPool = BitmapPool.getInstance();
+        final int cacheSizeBefore = mMemoryCache.size();
+        final int poolSizeBefore = bitmapPool.getSize();
+
+        //Trimming the Memory Cache first, since the Bitmaps evicted are handed over to the Pool
+        if (cacheRetainPercent == 0) {
+            mMemoryCache.evictAll();
+        } else {
+            mMemoryCache.trimToSize((int) ((long) mMemoryCache.maxSize() * cacheRetainPercent / 100));
+        }
+        //Trimming the Pool next, which also drops the Bitmaps just evicted from the Memory Cache when required
+        bitmapPool.trimToSize((int) ((long) bitmapPool.getMaxSize() * poolRetainPercent / 100));
+
+        //Recording the trim done
+        TrimRecord trimRecord = new TrimRecord(System.currentTimeMillis(), level,
+                cacheSizeBefore, mMemoryCache.size(), poolSizeBefore, bitmapPool.getSize());
+        synchronized (mTrimHistory) {
+            if (mTrimHistory.size() == TRIM_HISTORY_SIZE) {
+                //Dropping the oldest record when the History is full
+                mTrimHistory.pollFirst();
+            }
+            mTrimHistory.addLast(trimRecord);
+        }
+        Log.i(LOG_TAG, "trim: " + trimRecord);
+    }
+
+    /**
+     * Method that returns the maximum size of the Memory Cache, which is its current budget.
+     *
+     * @return The maximum size of the Memory Cache in bytes
+     */
+    public static int getMaxSize() {
+        return getInstance().mMemoryCache.maxSize();
+    }
+
+    /**
+     * Method that returns the current size of the Memory Cache.
+     *
+     * @return The size of the Bitmaps cached in bytes
+     */
+    public static int getSize() {
+        return getInstance().mMemoryCache.size();
+    }
+
+    /**
+     * Method that returns the recent trims of the Memory Cache done for the Memory trim callbacks.
+     *
+     * @return List of the recent {@link TrimRecord}s, the oldest first
+     */
+    @NonNull
+    public static List<TrimRecord> getTrimHistory() {
+        BitmapImageCache bitmapImageCache = getInstance();
+        synchronized (bitmapImageCache.mTrimHistory) {
+            return new ArrayList<>(bitmapImageCache.mTrimHistory);
+        }
+    }
+
+    /**
+     * Method that logs the metrics of the Memory Cache along with its recent trims
+     */
+    public static void logStats() {
+        Log.i(LOG_TAG, "logStats: Hits=" + getHitCount() + ", Misses=" + getMissCount()
+                + ", Evictions=" + getEvictionCount() + ", Size=" + getSize() + "/" + getMaxSize()
+                + ", Trims=" + getTrimHistory());
+    }
+
+    /**
+     * Method that returns the number of lookups that found the Bitmap in the Memory Cache.
+     *
+     * @return The number of Cache hits
+     */
+    public static long getHitCount() {
+        return getInstance().mHitCount.get();
+    }
+
+    /**
+     * Method that returns the number of lookups that did not find the Bitmap in the Memory Cache.
+     *
+     * @return The number of Cache misses
+     */
+    public static long getMissCount() {
+        return getInstance().mMissCount.get();
+    }
+
+    /**
+     * Method that returns the number of Bitmaps evicted to keep the Memory Cache within its maximum size.
+     *
+     * @return The number of Cache evictions
+     */
+    public static long getEvictionCount() {
+        return getInstance().mEvictionCount.get();
+    }
+
+    /**
+     * Class that records a trim of the Memory Cache and the {@link BitmapPool}
+     * done for a Memory trim callback.
+     */
+    public static final class TrimRecord {
+        //The time of the trim in milliseconds since epoch
+        private final long mTimeMillis;
+        //The trim level that triggered the trim
+        private final int mLevel;
+        //The sizes of the Memory Cache in bytes, before and after the trim
+        private final int mCacheSizeBefore;
+        private final int mCacheSizeAfter;
+        //The sizes of the Pool in bytes, before and after the trim
+        private final int mPoolSizeBefore;
+        private final int mPoolSizeAfter;
+
+        /**
+         * Constructor of {@link TrimRecord}
+         *
+         * @param timeMillis      The time of the trim in milliseconds since epoch
+         * @param level           The trim level that triggered the trim
+         * @param cacheSizeBefore The size of the Memory Cache in bytes before the trim
+         * @param cacheSizeAfter  The size of the Memory Cache in bytes after the trim
+         * @param poolSizeBefore  The size of the Pool in bytes before the trim
+         * @param poolSizeAfter   The size of the Pool in bytes after the trim
+         */
+        TrimRecord(long timeMillis, int level, int cacheSizeBefore, int cacheSizeAfter,
+                   int poolSizeBefore, int poolSizeAfter) {
+            mTimeMillis = timeMillis;
+            mLevel = level;
+            mCacheSizeBefore = cacheSizeBefore;
+            mCacheSizeAfter = cacheSizeAfter;
+            mPoolSizeBefore = poolSizeBefore;
+            mPoolSizeAfter = poolSizeAfter;
+        }
+
+        /**
+         * Getter Method for the time of the trim
+         *
+         * @return The time of the trim in milliseconds since epoch
+         */
+        public long getTimeMillis() {
+            return mTimeMillis;
+        }
+
+        /**
+         * Getter Method for the trim level that triggered the trim
+         *
+         * @return The trim level of the Memory trim callback
+         */
+        public int getLevel() {
+            return mLevel;
+        }
+
+        /**
+         * Getter Method for the size of the Memory Cache before the trim
+         *
+         * @return The size of the Memory Cache in bytes
+         */
+        public int getCacheSizeBefore() {
+            return mCacheSizeBefore;
+        }
+
+        /**
+         * Getter Method for the size of the Memory Cache after the trim
+         *
+         * @return The size of the Memory Cache in bytes
+         */
+        public int getCacheSizeAfter() {
+            return mCacheSizeAfter;
+        }
+
+        /**
+         * Getter Method for the size of the Pool before the trim
+         *
+         * @return The size of the Pool in bytes
+         */
+        public int getPoolSizeBefore() {
+            return mPoolSizeBefore;
+        }
+
+        /**
+         * Getter Method for the size of the Pool after the trim
+         *
+         * @return The size of the Pool in bytes
+         */
+        public int getPoolSizeAfter() {
+            return mPoolSizeAfter;
+        }
+
+        /**
+         * Returns a string representation of the object.
+         *
+         * @return A string representation of the object.
+         */
+        @Override
+        public String toString() {
+            return "TrimRecord{" +
+                    "mTimeMillis=" + mTimeMillis +
+                    ", mLevel=" + mLevel +
+                    ", mCacheSizeBefore=" + mCacheSizeBefore +
+                    ", mCacheSizeAfter=" + mCacheSizeAfter +
+                    ", mPoolSizeBefore=" + mPoolSizeBefore +
+                    ", mPoolSizeAfter=" + mPoolSizeAfter +
+                    '}';
+        }
     }
 }
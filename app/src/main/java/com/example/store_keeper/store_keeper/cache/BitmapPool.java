@@ -0,0 +1,362 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * Class that pools the Bitmaps evicted from the Memory Cache {@link BitmapImageCache}, so that
+ * their memory can be reused by the later decodes through {@link BitmapFactory.Options#inBitmap}
+ * instead of allocating a fresh Bitmap for every decode.
+ * <p>
+ * Bitmaps are bucketed by their allocation size in bytes, and a decode is given the smallest pooled
+ * Bitmap that can hold it, as long as it is not more than {@link #MAX_SIZE_MULTIPLE} times the size required.
+ * Reuse of a Bitmap of a different size requires Android KitKat (API 19) and above, hence the Pool
+ * is disabled on the older versions.
+ * </p>
+ * <p>
+ * Bitmaps still shown by any View are marked in use by their holders through {@link #markInUse(Object, Bitmap)},
+ * and are never pooled even when evicted from the Memory Cache.
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class BitmapPool {
+
+    //Constant used for logs
+    private static final String LOG_TAG = BitmapPool.class.getSimpleName();
+
+    //Constant for the maximum multiple of the size required, upto which a pooled Bitmap is reused
+    private static final int MAX_SIZE_MULTIPLE = 2;
+
+    //For the Singleton instance of this
+    private static volatile BitmapPool INSTANCE;
+
+    //The maximum size of the Pool in bytes
+    private final int mMaxSize;
+    //Buckets of the pooled Bitmaps keyed by their allocation size in bytes
+    private final TreeMap<Integer, ArrayDeque<Bitmap>> mBuckets = new TreeMap<>();
+    //Map of the holders to the Bitmaps they are currently showing.
+    //Holders are weakly referenced, so that the Bitmaps of the Views gone are released automatically
+    private final Map<Object, Bitmap> mInUseBitmaps = new WeakHashMap<>();
+    //The current size of the Pool in bytes
+    private int mCurrentSize;
+
+    //Counters of the Pool lookups, and of the Bitmaps pooled and dropped
+    private long mHitCount;
+    private long mMissCount;
+    private long mPutCount;
+    private long mDropCount;
+
+    /**
+     * Private Constructor of {@link BitmapPool}
+     */
+    private BitmapPool() {
+        //Limiting the Pool to 1/16th of the current Max Memory available
+        final long maxMemoryThreshold = Runtime.getRuntime().maxMemory() / 16;
+        mMaxSize = (int) Math.min(AppConstants.BITMAP_POOL_SIZE_BYTES, maxMemoryThreshold);
+    }
+
+    /**
+     * Singleton Constructor of {@link BitmapPool}
+     *
+     * @return Instance of {@link BitmapPool}
+     */
+    public static BitmapPool getInstance() {
+        if (INSTANCE == null) {
+            synchronized (BitmapPool.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new BitmapPool();
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that returns whether the Bitmaps can be reused for decodes of a different size
+     * on this version of Android.
+     *
+     * @return <b>TRUE</b> when running on Android KitKat (API 19) and above; <b>FALSE</b> otherwise
+     */
+    public static boolean isReuseSupported() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT;
+    }
+
+    /**
+     * Method that adds the Bitmap no longer required by the Memory Cache to the Pool. The Bitmap is
+     * dropped instead, when it cannot be reused or is in use, or when it does not fit in the Pool.
+     *
+     * @param bitmap The Bitmap to be pooled
+     */
+    public synchronized void put(@NonNull Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT || bitmap.isRecycled() || !bitmap.isMutable()
+                || mInUseBitmaps.containsValue(bitmap)) {
+            //Dropping the Bitmap that cannot be reused or is still shown
+            mDropCount++;
+            return;
+        }
+
+        int bitmapSize = bitmap.getAllocationByteCount();
+        if (bitmapSize > mMaxSize) {
+            //Dropping the Bitmap that is larger than the Pool itself
+            mDropCount++;
+            return;
+        }
+
+        //Adding the Bitmap to the bucket of its size
+        ArrayDeque<Bitmap> bucket = mBuckets.get(bitmapSize);
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            mBuckets.put(bitmapSize, bucket);
+        }
+        bucket.addLast(bitmap);
+        mCurrentSize += bitmapSize;
+        mPutCount++;
+
+        //Trimming the Pool to its maximum size
+        trimToSize(mMaxSize);
+    }
+
+    /**
+     * Method that removes and returns a pooled Bitmap of the same {@code config}, that can hold
+     * the decode of the size mentioned.
+     *
+     * @param width  The width of the Bitmap to be decoded
+     * @param height The height of the Bitmap to be decoded
+     * @param config The {@link Bitmap.Config} of the Bitmap to be decoded
+     * @return A pooled Bitmap to be passed to {@link BitmapFactory.Options#inBitmap};
+     * or {@code null} when there is none that fits.
+     */
+    @Nullable
+    public synchronized Bitmap get(int width, int height, @NonNull Bitmap.Config config) {
+        if (!isReuseSupported() || width <= 0 || height <= 0) {
+            //Bail out when reuse is not possible
+            return null;
+        }
+
+        //Looking up the smallest bucket that can hold the Bitmap required
+        int requiredSize = width * height * getBytesPerPixel(config);
+        Map.Entry<Integer, ArrayDeque<Bitmap>> bucketEntry = mBuckets.ceilingEntry(requiredSize);
+        while (bucketEntry != null && bucketEntry.getKey() <= requiredSize * MAX_SIZE_MULTIPLE) {
+            ArrayDeque<Bitmap> bucket = bucketEntry.getValue();
+            //Taking out the most recent Bitmap of the same Config, dropping the recycled ones on the way
+            Bitmap pooledBitmap = null;
+            Iterator<Bitmap> bucketIterator = bucket.descendingIterator();
+            while (bucketIterator.hasNext()) {
+                Bitmap bucketBitmap = bucketIterator.next();
+                if (bucketBitmap.isRecycled()) {
+                    bucketIterator.remove();
+                    mCurrentSize -= bucketEntry.getKey();
+                } else if (bucketBitmap.getConfig() == config) {
+                    bucketIterator.remove();
+                    mCurrentSize -= bucketEntry.getKey();
+                    pooledBitmap = bucketBitmap;
+                    break;
+                }
+            }
+            if (bucket.isEmpty()) {
+                mBuckets.remove(bucketEntry.getKey());
+            }
+            if (pooledBitmap != null) {
+                //Returning the Bitmap found
+                mHitCount++;
+                return pooledBitmap;
+            }
+            //Looking up the next larger bucket
+            bucketEntry = mBuckets.higherEntry(bucketEntry.getKey());
+        }
+
+        //Returning NULL when there is no Bitmap that fits
+        mMissCount++;
+        return null;
+    }
+
+    /**
+     * Method that sets a pooled Bitmap on the {@code options} as {@link BitmapFactory.Options#inBitmap}
+     * for the decode to reuse, when there is one that can hold the decode. The {@code options} should
+     * already carry the original dimensions decoded with {@link BitmapFactory.Options#inJustDecodeBounds}
+     * and the {@link BitmapFactory.Options#inSampleSize} to be used. The decode needs to be retried without
+     * the {@link BitmapFactory.Options#inBitmap} when it fails with an {@link IllegalArgumentException}.
+     *
+     * @param options The {@link BitmapFactory.Options} of the decode
+     */
+    public void setReusableBitmap(@NonNull BitmapFactory.Options options) {
+        //Mutable Bitmaps are required for them to be reused later
+        options.inMutable = true;
+
+        //Decoders round down the sample size to the nearest power of 2
+        int sampleSize = Math.max(1, Integer.highestOneBit(Math.max(1, options.inSampleSize)));
+        int width = (options.outWidth + sampleSize - 1) / sampleSize;
+        int height = (options.outHeight + sampleSize - 1) / sampleSize;
+        Bitmap.Config config = options.inPreferredConfig != null ? options.inPreferredConfig : Bitmap.Config.ARGB_8888;
+
+        //Setting the pooled Bitmap that fits, if any
+        options.inBitmap = get(width, height, config);
+    }
+
+    /**
+     * Method that marks the {@code bitmap} as being shown by the {@code holder}, replacing the Bitmap
+     * previously marked for the same holder. A Bitmap marked in use is never pooled.
+     * If the Bitmap was already pooled, it is taken back from the Pool.
+     *
+     * @param holder The holder showing the Bitmap, like an ImageView
+     * @param bitmap The Bitmap being shown
+     */
+    public synchronized void markInUse(@NonNull Object holder, @NonNull Bitmap bitmap) {
+        mInUseBitmaps.put(holder, bitmap);
+
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
+            //Bail out as nothing is pooled on the older versions
+            return;
+        }
+
+        //Taking back the Bitmap if it was pooled
+        int bitmapSize = bitmap.getAllocationByteCount();
+        ArrayDeque<Bitmap> bucket = mBuckets.get(bitmapSize);
+        if (bucket != null && bucket.remove(bitmap)) {
+            mCurrentSize -= bitmapSize;
+            if (bucket.isEmpty()) {
+                mBuckets.remove(bitmapSize);
+            }
+        }
+    }
+
+    /**
+     * Method that clears the Bitmap marked as being shown by the {@code holder}.
+     *
+     * @param holder The holder that no longer shows its Bitmap
+     */
+    public synchronized void releaseInUse(@NonNull Object holder) {
+        mInUseBitmaps.remove(holder);
+    }
+
+    /**
+     * Method that trims the Pool to the size mentioned, by dropping the Bitmaps
+     * of the largest sizes first.
+     *
+     * @param maxSize The maximum size in bytes to trim the Pool to
+     */
+    public synchronized void trimToSize(int maxSize) {
+        while (mCurrentSize > maxSize && !mBuckets.isEmpty()) {
+            Map.Entry<Integer, ArrayDeque<Bitmap>> bucketEntry = mBuckets.lastEntry();
+            ArrayDeque<Bitmap> bucket = bucketEntry.getValue();
+            bucket.pollFirst();
+            mCurrentSize -= bucketEntry.getKey();
+            mDropCount++;
+            if (bucket.isEmpty()) {
+                mBuckets.remove(bucketEntry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Method that clears the entire Pool
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Method that returns the number of lookups that found a Bitmap for reuse.
+     *
+     * @return The number of Pool hits
+     */
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Method that returns the number of lookups that did not find a Bitmap for reuse.
+     *
+     * @return The number of Pool misses
+     */
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Method that returns the fraction of the lookups that found a Bitmap for reuse.
+     *
+     * @return The hit rate of the Pool between 0 and 1; or 0 when there were no lookups
+     */
+    public synchronized float getHitRate() {
+        long lookupCount = mHitCount + mMissCount;
+        return lookupCount == 0 ? 0f : (float) mHitCount / lookupCount;
+    }
+
+    /**
+     * Method that returns the maximum size of the Pool.
+     *
+     * @return The maximum size of the Pool in bytes
+     */
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Method that returns the current size of the Pool.
+     *
+     * @return The size of the Bitmaps pooled in bytes
+     */
+    public synchronized int getSize() {
+        return mCurrentSize;
+    }
+
+    /**
+     * Method that logs the metrics of the Pool
+     */
+    public synchronized void logStats() {
+        Log.i(LOG_TAG, "logStats: Hits=" + mHitCount + ", Misses=" + mMissCount
+                + ", HitRate=" + getHitRate() + ", Puts=" + mPutCount + ", Drops=" + mDropCount
+                + ", Size=" + mCurrentSize + "/" + mMaxSize);
+    }
+
+    /**
+     * Method that returns the number of bytes used to store a pixel of the {@link Bitmap.Config} mentioned.
+     *
+     * @param config The {@link Bitmap.Config} of the Bitmap
+     * @return The number of bytes per pixel
+     */
+    private static int getBytesPerPixel(@NonNull Bitmap.Config config) {
+        switch (config) {
+            case ALPHA_8:
+                return 1;
+            case RGB_565:
+            case ARGB_4444:
+                return 2;
+            case ARGB_8888:
+            default:
+                return 4;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.cache;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that saves the pre-scaled Thumbnails of the Images downloaded, in a size-bounded Disk Cache
+ * in the App's Cache directory. This is the second tier below the Memory Cache {@link BitmapImageCache},
+ * which lets the Thumbnails be read back without decoding the full-size Images again after the
+ * Memory Cache is cleared or the process is restarted.
+ * <p>
+ * Thumbnails are keyed by the Image URL along with the target size they were scaled for,
+ * and are evicted in the order of their last access when the Cache grows beyond its maximum size.
+ * The last access is persisted as the modified time of the Thumbnail files.
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class DiskThumbnailCache {
+
+    //Constant used for logs
+    private static final String LOG_TAG = DiskThumbnailCache.class.getSimpleName();
+    //Constant for the name of the Cache directory
+    private static final String CACHE_DIR_NAME = "thumbnails";
+    //Constant for the extension of the Thumbnail files
+    private static final String THUMBNAIL_FILE_EXT = ".jpg";
+    //Constant for the extension of the Thumbnail files being written
+    private static final String TEMP_FILE_EXT = ".tmp";
+    //Constant for the compression quality of the Thumbnails
+    private static final int THUMBNAIL_QUALITY = 90;
+
+    //For the Singleton instance of this
+    private static volatile DiskThumbnailCache INSTANCE;
+
+    //The directory of the Cache
+    private final File mCacheDir;
+    //The maximum size of the Cache in bytes
+    private final long mMaxSize;
+    //Index of the Thumbnail files to their sizes, in the order of their last access
+    private final LinkedHashMap<String, Long> mFileSizeIndex = new LinkedHashMap<>(64, 0.75f, true);
+    //The current size of the Cache in bytes
+    private long mSize;
+    //Counters of the Cache lookups and evictions
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private final AtomicLong mEvictionCount = new AtomicLong();
+
+    /**
+     * Private Constructor of {@link DiskThumbnailCache}
+     *
+     * @param cacheDir The directory of the Cache
+     * @param maxSize  The maximum size of the Cache in bytes
+     */
+    private DiskThumbnailCache(File cacheDir, long maxSize) {
+        mCacheDir = cacheDir;
+        mMaxSize = maxSize;
+        //Rebuilding the Index from the Thumbnail files already present
+        rebuildIndex();
+    }
+
+    /**
+     * Singleton Constructor of {@link DiskThumbnailCache}
+     *
+     * @param context A {@link Context} to retrieve the App's Cache directory
+     * @return Instance of {@link DiskThumbnailCache}
+     */
+    public static DiskThumbnailCache getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (DiskThumbnailCache.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new DiskThumbnailCache(
+                            new File(context.getApplicationContext().getCacheDir(), CACHE_DIR_NAME),
+                            AppConstants.DISK_THUMBNAIL_CACHE_SIZE_BYTES
+                    );
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that reads the Thumbnail files present in the Cache directory into the Index,
+     * ordered by their last access. Leftover files of incomplete writes are deleted.
+     */
+    private synchronized void rebuildIndex() {
+        if (!mCacheDir.exists() && !mCacheDir.mkdirs()) {
+            Log.e(LOG_TAG, "rebuildIndex: Failed to create the Cache directory " + mCacheDir);
+            return;
+        }
+
+        File[] files = mCacheDir.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        //Sorting the files by their last access, the least recent first
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File file1, File file2) {
+                long modified1 = file1.lastModified();
+                long modified2 = file2.lastModified();
+                return modified1 < modified2 ? -1 : (modified1 == modified2 ? 0 : 1);
+            }
+        });
+
+        for (File file : files) {
+            if (file.getName().endsWith(THUMBNAIL_FILE_EXT)) {
+                //Indexing the Thumbnail file
+                mFileSizeIndex.put(file.getName(), file.length());
+                mSize += file.length();
+            } else {
+                //Deleting the leftover of an incomplete write
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+
+        //Trimming the Cache in case the maximum size was reduced
+        trimToSize();
+    }
+
+    /**
+     * Method that retrieves the Thumbnail of the Image URL scaled for the target size, from the Disk Cache.
+     *
+     * @param imageURLStr   String containing the Image URL whose Thumbnail needs to be retrieved
+     * @param targetWidth   The target width the Thumbnail was scaled for
+     * @param targetHeight  The target height the Thumbnail was scaled for
+     * @param decodeProfile The profile of the Bitmap to be decoded, one of
+     *                      {@link ImageStorageUtility#DECODE_PROFILE_FULL_COLOR},
+     *                      {@link ImageStorageUtility#DECODE_PROFILE_OPAQUE} or
+     *                      {@link ImageStorageUtility#DECODE_PROFILE_HARDWARE}
+     * @return Bitmap of the Thumbnail when present; {@code null} otherwise.
+     */
+    @WorkerThread
+    @Nullable
+    public Bitmap get(String imageURLStr, int targetWidth, int targetHeight,
+                      @ImageStorageUtility.DecodeProfileDef int decodeProfile) {
+        String fileName = getFileName(imageURLStr, targetWidth, targetHeight);
+        File thumbnailFile = new File(mCacheDir, fileName);
+
+        synchronized (this) {
+            if (mFileSizeIndex.get(fileName) == null) {
+                //When the Thumbnail is not present
+                mMissCount.incrementAndGet();
+                return null;
+            }
+            //Recording the access on the Thumbnail file for the eviction order across restarts
+            //noinspection ResultOfMethodCallIgnored
+            thumbnailFile.setLastModified(System.currentTimeMillis());
+        }
+
+        //Decoding the dimensions of the Thumbnail
+        BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
+        bitmapOptions.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(thumbnailFile.getPath(), bitmapOptions);
+        bitmapOptions.inJustDecodeBounds = false;
+
+        //Decoding the Thumbnail for the profile, reusing a pooled Bitmap when there is one that fits
+        ImageStorageUtility.applyDecodeProfile(bitmapOptions, decodeProfile);
+        Bitmap thumbnailBitmap;
+        try {
+            thumbnailBitmap = BitmapFactory.decodeFile(thumbnailFile.getPath(), bitmapOptions);
+        } catch (IllegalArgumentException e) {
+            //When the pooled Bitmap could not be reused, decode into a new Bitmap instead
+            bitmapOptions.inBitmap = null;
+            thumbnailBitmap = BitmapFactory.decodeFile(thumbnailFile.getPath(), bitmapOptions);
+        }
+        if (thumbnailBitmap == null) {
+            //When the Thumbnail file is unreadable, removing it from the Cache
+            remove(fileName);
+            mMissCount.incrementAndGet();
+            return null;
+        }
+
+        mHitCount.incrementAndGet();
+        return thumbnailBitmap;
+    }
+
+    /**
+     * Method that saves the Thumbnail of the Image URL scaled for the target size, to the Disk Cache.
+     * The Thumbnail is written to a temporary file first and renamed when complete, such that
+     * an incomplete write is never read back.
+     *
+     * @param imageURLStr  String containing the Image URL used as the Key along with the target size
+     * @param targetWidth  The target width the Thumbnail was scaled for
+     * @param targetHeight The target height the Thumbnail was scaled for
+     * @param bitmap       Bitmap of the Thumbnail to be saved
+     */
+    @WorkerThread
+    public void put(String imageURLStr, int targetWidth, int targetHeight, @NonNull Bitmap bitmap) {
+        String fileName = getFileName(imageURLStr, targetWidth, targetHeight);
+        File thumbnailFile = new File(mCacheDir, fileName);
+        File tempFile = new File(mCacheDir, fileName + TEMP_FILE_EXT);
+
+        //Writing the Thumbnail to the temporary file
+        boolean writeSuccess;
+        try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile)) {
+            writeSuccess = bitmap.compress(Bitmap.CompressFormat.JPEG, THUMBNAIL_QUALITY, fileOutputStream);
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "put: Failed while writing the Thumbnail for the URI " + imageURLStr, e);
+            writeSuccess = false;
+        }
+
+        synchronized (this) {
+            if (writeSuccess && tempFile.renameTo(thumbnailFile)) {
+                //Indexing the Thumbnail file written, replacing the previous one if any
+                Long previousSize = mFileSizeIndex.put(fileName, thumbnailFile.length());
+                mSize += thumbnailFile.length() - (previousSize != null ? previousSize : 0L);
+                //Evicting the least recently accessed Thumbnails when the Cache is full
+                trimToSize();
+            } else {
+                //Deleting the temporary file on failure
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Method that removes the Thumbnail file from the Cache and its Index.
+     *
+     * @param fileName The Name of the Thumbnail file
+     */
+    private synchronized void remove(String fileName) {
+        Long fileSize = mFileSizeIndex.remove(fileName);
+        if (fileSize != null) {
+            mSize -= fileSize;
+        }
+        //noinspection ResultOfMethodCallIgnored
+        new File(mCacheDir, fileName).delete();
+    }
+
+    /**
+     * Method that evicts the least recently accessed Thumbnails until the size of the Cache
+     * is within its maximum size.
+     */
+    private synchronized void trimToSize() {
+        Iterator<Map.Entry<String, Long>> indexIterator = mFileSizeIndex.entrySet().iterator();
+        while (mSize > mMaxSize && indexIterator.hasNext()) {
+            Map.Entry<String, Long> eldestEntry = indexIterator.next();
+            //noinspection ResultOfMethodCallIgnored
+            new File(mCacheDir, eldestEntry.getKey()).delete();
+            mSize -= eldestEntry.getValue();
+            indexIterator.remove();
+            mEvictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Method that clears the entire Disk Cache
+     */
+    @WorkerThread
+    public synchronized void clear() {
+        for (String fileName : mFileSizeIndex.keySet()) {
+            //noinspection ResultOfMethodCallIgnored
+            new File(mCacheDir, fileName).delete();
+        }
+        mFileSizeIndex.clear();
+        mSize = 0L;
+    }
+
+    /**
+     * Method that returns the Name of the Thumbnail file for the Image URL and the target size,
+     * which is the MD5 hash of the Key so that it is safe for use as a file name.
+     *
+     * @param imageURLStr  String containing the Image URL
+     * @param targetWidth  The target width of the Thumbnail
+     * @param targetHeight The target height of the Thumbnail
+     * @return The Name of the Thumbnail file
+     */
+    private static String getFileName(String imageURLStr, int targetWidth, int targetHeight) {
+        String cacheKey = imageURLStr + "_" + targetWidth + "x" + targetHeight;
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+            byte[] digestBytes = messageDigest.digest(cacheKey.getBytes("UTF-8"));
+            StringBuilder fileNameBuilder = new StringBuilder(digestBytes.length * 2 + THUMBNAIL_FILE_EXT.length());
+            for (byte digestByte : digestBytes) {
+                fileNameBuilder.append(String.format("%02x", digestByte & 0xff));
+            }
+            return fileNameBuilder.append(THUMBNAIL_FILE_EXT).toString();
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            //Falling back to the hash code of the Key, which is unlikely to be needed
+            return Integer.toHexString(cacheKey.hashCode()) + THUMBNAIL_FILE_EXT;
+        }
+    }
+
+    /**
+     * Method that returns the number of lookups that found the Thumbnail in the Cache.
+     *
+     * @return The number of Cache hits
+     */
+    public long getHitCount() {
+        return mHitCount.get();
+    }
+
+    /**
+     * Method that returns the number of lookups that did not find the Thumbnail in the Cache.
+     *
+     * @return The number of Cache misses
+     */
+    public long getMissCount() {
+        return mMissCount.get();
+    }
+
+    /**
+     * Method that returns the number of Thumbnails evicted to keep the Cache within its maximum size.
+     *
+     * @return The number of Cache evictions
+     */
+    public long getEvictionCount() {
+        return mEvictionCount.get();
+    }
+
+    /**
+     * Method that returns the current size of the Cache.
+     *
+     * @return The size of the Cache in bytes
+     */
+    public synchronized long getSize() {
+        return mSize;
+    }
+}
@@ -23,12 +23,15 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 
+import com.example.store_keeper.store_keeper.data.local.models.CategoryStock;
 import com.example.store_keeper.store_keeper.data.local.models.Product;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
+import com.example.store_keeper.store_keeper.data.local.models.StockLevels;
 import com.example.store_keeper.store_keeper.data.local.models.Supplier;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierContact;
+import com.example.store_keeper.store_keeper.data.local.models.SupplierStock;
 import com.example.store_keeper.store_keeper.data.local.StoreLocalRepository;
 
 import java.util.ArrayList;
@@ -208,20 +211,20 @@ public interface DataRepository {
     void deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback);
 
     /**
-     * Method that decreases the available quantity {@code availableQuantity} of a Product sold
-     * by the Supplier, by the specified quantity {@code decreaseQuantityBy}.
+     * Method that decreases the available quantity of a Product sold by the Supplier,
+     * by the specified quantity {@code decreaseQuantityBy}. The quantity is decreased relative to
+     * the quantity currently stored, and is never decreased below zero.
      *
      * @param productId          The Product Id of the Product.
      * @param productSku         The Product SKU of the Product.
      * @param supplierId         The Supplier Id of the Supplier for the Product.
      * @param supplierCode       The Supplier Code of the Supplier for the Product.
-     * @param availableQuantity  The current available Quantity of the Product at the Supplier.
      * @param decreaseQuantityBy The amount to decrease the available quantity by.
-     * @param operationsCallback The Callback to be implemented by the caller to
-     *                           receive the operation result.
+     * @param decreaseCallback   The Callback to be implemented by the caller to
+     *                           receive the operation result with the resulting available quantity.
      */
-    void decreaseProductSupplierInventory(int productId, String productSku, int supplierId, String supplierCode, int availableQuantity,
-                                          int decreaseQuantityBy, @NonNull DataOperationsCallback operationsCallback);
+    void decreaseProductSupplierInventory(int productId, String productSku, int supplierId, String supplierCode,
+                                          int decreaseQuantityBy, @NonNull InventoryDecreaseCallback decreaseCallback);
 
     /**
      * Method that retrieves the Suppliers' Inventory and Price details
@@ -232,6 +235,27 @@ public interface DataRepository {
      */
     void getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback);
 
+    /**
+     * Method that retrieves the Stock of every Supplier, aggregated over all its Products.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    void getSupplierStocks(@NonNull GetQueryCallback<List<SupplierStock>> queryCallback);
+
+    /**
+     * Method that retrieves the Stock of every Category, aggregated over all its Products.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    void getCategoryStocks(@NonNull GetQueryCallback<List<CategoryStock>> queryCallback);
+
+    /**
+     * Method that retrieves the Stock Levels of the Store, aggregated over all the Products.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     */
+    void getStockLevels(@NonNull GetQueryCallback<StockLevels> queryCallback);
+
     /**
      * Method that updates the inventory of the Product identified by the Product Id {@code productId}
      * at all its registered suppliers.
@@ -248,6 +272,19 @@ public interface DataRepository {
                                      @NonNull List<ProductSupplierSales> updatedProductSupplierSales,
                                      @NonNull DataOperationsCallback operationsCallback);
 
+    /**
+     * Method that updates the Reorder Level of the Product identified by the Product Id {@code productId},
+     * which is the Total Available Quantity at or below which the Product is reported as low on stock.
+     *
+     * @param productId          The Product Id of the Product whose Reorder Level is being updated.
+     * @param productSku         The Product SKU of the Product.
+     * @param reorderLevel       The new Reorder Level of the Product.
+     * @param operationsCallback The Callback to be implemented by the caller to
+     *                           receive the operation result.
+     */
+    void updateProductReorderLevel(int productId, String productSku, int reorderLevel,
+                                   @NonNull DataOperationsCallback operationsCallback);
+
     /**
      * Callback Interface for Database query requests
      *
@@ -303,6 +340,29 @@ public interface DataRepository {
         void onFailure(@StringRes int messageId, @Nullable Object... args);
     }
 
+    /**
+     * Callback Interface for the Database Operation that decreases the available quantity of a Product
+     */
+    interface InventoryDecreaseCallback {
+        /**
+         * Method invoked when the available quantity was decreased successfully.
+         *
+         * @param availableQuantity The available quantity of the Product at the Supplier after the decrease
+         */
+        void onSuccess(int availableQuantity);
+
+        /**
+         * Method invoked when the available quantity could not be decreased, either due to
+         * insufficient quantity or a failure of the database operation.
+         *
+         * @param messageId The String resource of the error message
+         *                  for the database operation failure
+         * @param args      Variable number of arguments to replace the format specifiers
+         *                  in the String resource if any
+         */
+        void onFailure(@StringRes int messageId, @Nullable Object... args);
+    }
+
     /**
      * Callback interface for the {@link android.support.v4.content.CursorLoader} operations
      */
@@ -37,7 +37,8 @@ public interface FileRepository {
 
     /**
      * Method that saves the Image pointed to by the Content URI {@code fileContentUri}
-     * in a file located at the app's private external storage path.
+     * in a file located at the app's private external storage path, along with
+     * its smaller Thumbnail and Medium variants.
      *
      * @param context            The Context of the Activity/Fragment
      * @param fileContentUri     The Content Uri of the Temporary Image File
@@ -45,6 +46,20 @@ public interface FileRepository {
      */
     void saveImageToFile(Context context, Uri fileContentUri, FileOperationsCallback<Uri> operationsCallback);
 
+    /**
+     * Method that saves the Images pointed to by the Content URIs {@code fileContentUris} in files
+     * located at the app's private external storage path, along with their smaller variants.
+     * The Images are saved in parallel, and the outcome of every Image is reported together
+     * once all of them are processed.
+     *
+     * @param context            The Context of the Activity/Fragment
+     * @param fileContentUris    List of Content Uris of the Image Files to be saved
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image, which is the Content URI of the Image saved.
+     */
+    void saveImagesToFiles(Context context, List<Uri> fileContentUris,
+                           BatchFileOperationsCallback<Uri, Uri> operationsCallback);
+
     /**
      * Method that persists the persistable URI permission grant that the system gives the app.
      * Applicable for devices with Android Kitkat (API level 19) and above.
@@ -62,6 +77,18 @@ public interface FileRepository {
      */
     void deleteImageFiles(List<String> fileContentUriList, FileOperationsCallback<Boolean> operationsCallback);
 
+    /**
+     * Method that deletes the Image files passed in {@code fileContentUriList} in parallel,
+     * and reports the outcome of every Image file together once all of them are processed.
+     * Image files that are still referred to by any Product are shared, and hence retained.
+     *
+     * @param fileContentUriList List of String URIs (Content URIs) of the Image Files to be deleted.
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image file.
+     */
+    void deleteImageFilesInBatch(List<String> fileContentUriList,
+                                 BatchFileOperationsCallback<String, Boolean> operationsCallback);
+
     /**
      * Method that deletes the Image files passed in {@code fileContentUriList} silently
      * without reporting success/failure back to the caller
@@ -95,4 +122,122 @@ public interface FileRepository {
         }
     }
 
+    /**
+     * Callback interface for the file related operations executed on a batch of items.
+     *
+     * @param <I> The type of the items of the batch
+     * @param <R> The type of the result of an item when its operation was executed successfully.
+     */
+    interface BatchFileOperationsCallback<I, R> {
+        /**
+         * Method invoked on the Main Thread as the items of the batch get processed.
+         *
+         * @param completedCount The number of items processed so far
+         * @param totalCount     The total number of items in the batch
+         */
+        default void onProgress(int completedCount, int totalCount) {
+        }
+
+        /**
+         * Method invoked on the Main Thread once all the items of the batch are processed.
+         *
+         * @param itemResults List of {@link BatchItemResult} with the outcome of each item,
+         *                    in the order of the items of the batch.
+         */
+        void onComplete(List<BatchItemResult<I, R>> itemResults);
+    }
+
+    /**
+     * Class that holds the outcome of the file operation executed on an item of a batch.
+     *
+     * @param <I> The type of the item
+     * @param <R> The type of the result of the item when its operation was executed successfully.
+     */
+    final class BatchItemResult<I, R> {
+        //The item of the batch
+        private final I mItem;
+        //The result of the item when successful
+        private final R mResult;
+        //The String resource of the error message when failed
+        @StringRes
+        private final int mErrorMessageId;
+
+        /**
+         * Private Constructor of {@link BatchItemResult}
+         *
+         * @param item           The item of the batch
+         * @param result         The result of the item when successful
+         * @param errorMessageId The String resource of the error message when failed
+         */
+        private BatchItemResult(I item, @Nullable R result, @StringRes int errorMessageId) {
+            mItem = item;
+            mResult = result;
+            mErrorMessageId = errorMessageId;
+        }
+
+        /**
+         * Method that creates the outcome of an item whose operation was executed successfully.
+         *
+         * @param item   The item of the batch
+         * @param result The result of the item
+         * @param <I>    The type of the item
+         * @param <R>    The type of the result
+         * @return Instance of {@link BatchItemResult} for the success of the item
+         */
+        public static <I, R> BatchItemResult<I, R> success(I item, R result) {
+            return new BatchItemResult<>(item, result, 0);
+        }
+
+        /**
+         * Method that creates the outcome of an item whose operation failed to complete.
+         *
+         * @param item           The item of the batch
+         * @param errorMessageId The String resource of the error message
+         * @param <I>            The type of the item
+         * @param <R>            The type of the result
+         * @return Instance of {@link BatchItemResult} for the failure of the item
+         */
+        public static <I, R> BatchItemResult<I, R> failure(I item, @StringRes int errorMessageId) {
+            return new BatchItemResult<>(item, null, errorMessageId);
+        }
+
+        /**
+         * Method that returns the item of the batch
+         *
+         * @return The item of the batch
+         */
+        public I getItem() {
+            return mItem;
+        }
+
+        /**
+         * Method that returns the result of the item
+         *
+         * @return The result of the item when successful; {@code null} otherwise
+         */
+        @Nullable
+        public R getResult() {
+            return mResult;
+        }
+
+        /**
+         * Method that returns whether the operation of the item was executed successfully.
+         *
+         * @return <b>TRUE</b> when successful; <b>FALSE</b> otherwise
+         */
+        public boolean isSuccess() {
+            return mErrorMessageId == 0;
+        }
+
+        /**
+         * Method that returns the String resource of the error message of the item
+         *
+         * @return The String resource of the error message when failed; 0 otherwise
+         */
+        @StringRes
+        public int getErrorMessageId() {
+            return mErrorMessageId;
+        }
+    }
+
 }
@@ -19,16 +19,26 @@ package com.example.store_keeper.store_keeper.data;
 import android.content.Context;
 import android.database.ContentObserver;
 import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.MainThread;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.StringRes;
 import android.util.Log;
 
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.CategoryStock;
 import com.example.store_keeper.store_keeper.data.local.models.Product;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
+import com.example.store_keeper.store_keeper.data.local.models.StockLevels;
 import com.example.store_keeper.store_keeper.data.local.models.Supplier;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierContact;
+import com.example.store_keeper.store_keeper.data.local.models.SupplierStock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +63,17 @@ public class StoreRepository implements DataRepository, FileRepository {
     //Instance of FileRepository to communicate with Files
     private final FileRepository mLocalFileSource;
 
+    //Cached Stock of every Supplier, valid till the next Inventory or Price change. Accessed on the Main Thread only.
+    private List<SupplierStock> mCachedSupplierStocks;
+    //Cached Stock of every Category, valid till the next Inventory or Price change. Accessed on the Main Thread only.
+    private List<CategoryStock> mCachedCategoryStocks;
+    //Cached Stock Levels of the Store, valid till the next Inventory or Price change. Accessed on the Main Thread only.
+    private StockLevels mCachedStockLevels;
+    //Generation of the Aggregates cache, bumped on every invalidation to discard results of queries in-flight
+    private int mAggregatesGeneration;
+    //Observer that invalidates the Aggregates cache, registered lazily on the first Aggregate query
+    private ContentObserver mAggregatesObserver;
+
     /**
      * Private Constructor of {@link StoreRepository}
      *
@@ -295,23 +316,24 @@ public class StoreRepository implements DataRepository, FileRepository {
     }
 
     /**
-     * Method that decreases the available quantity {@code availableQuantity} of a Product sold
-     * by the Supplier, by the specified quantity {@code decreaseQuantityBy}.
+     * Method that decreases the available quantity of a Product sold by the Supplier,
+     * by the specified quantity {@code decreaseQuantityBy}. The quantity is decreased relative to
+     * the quantity currently stored, and is never decreased below zero.
      *
      * @param productId          The Product Id of the Product.
      * @param productSku         The Product SKU of the Product.
      * @param supplierId         The Supplier Id of the Supplier for the Product.
      * @param supplierCode       The Supplier Code of the Supplier for the Product.
-     * @param availableQuantity  The current available Quantity of the Product at the Supplier.
      * @param decreaseQuantityBy The amount to decrease the available quantity by.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param decreaseCallback   The Callback to be implemented by the caller to
+     *                           receive the operation result with the resulting available quantity.
      */
     @Override
     public void decreaseProductSupplierInventory(int productId, String productSku,
                                                  int supplierId, String supplierCode,
-                                                 int availableQuantity, int decreaseQuantityBy,
-                                                 @NonNull DataOperationsCallback operationsCallback) {
-        mLocalDataSource.decreaseProductSupplierInventory(productId, productSku, supplierId, supplierCode, availableQuantity, decreaseQuantityBy, operationsCallback);
+                                                 int decreaseQuantityBy,
+                                                 @NonNull InventoryDecreaseCallback decreaseCallback) {
+        mLocalDataSource.decreaseProductSupplierInventory(productId, productSku, supplierId, supplierCode, decreaseQuantityBy, decreaseCallback);
     }
 
     /**
@@ -326,6 +348,174 @@ public class StoreRepository implements DataRepository, FileRepository {
         mLocalDataSource.getProductSuppliersSalesInfo(productId, queryCallback);
     }
 
+    /**
+     * Method that retrieves the Stock of every Supplier, aggregated over all its Products.
+     * Serves the result from the cache when it is still valid.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    @MainThread
+    @Override
+    public void getSupplierStocks(@NonNull GetQueryCallback<List<SupplierStock>> queryCallback) {
+        if (mCachedSupplierStocks != null) {
+            //Serving from the cache when valid
+            queryCallback.onResults(mCachedSupplierStocks);
+            return;
+        }
+
+        //Querying the Database otherwise, and caching the results
+        mLocalDataSource.getSupplierStocks(
+                createAggregatesCachingCallback(supplierStocks -> mCachedSupplierStocks = supplierStocks, queryCallback)
+        );
+    }
+
+    /**
+     * Method that retrieves the Stock of every Category, aggregated over all its Products.
+     * Serves the result from the cache when it is still valid.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    @MainThread
+    @Override
+    public void getCategoryStocks(@NonNull GetQueryCallback<List<CategoryStock>> queryCallback) {
+        if (mCachedCategoryStocks != null) {
+            //Serving from the cache when valid
+            queryCallback.onResults(mCachedCategoryStocks);
+            return;
+        }
+
+        //Querying the Database otherwise, and caching the results
+        mLocalDataSource.getCategoryStocks(
+                createAggregatesCachingCallback(categoryStocks -> mCachedCategoryStocks = categoryStocks, queryCallback)
+        );
+    }
+
+    /**
+     * Method that retrieves the Stock Levels of the Store, aggregated over all the Products.
+     * Serves the result from the cache when it is still valid.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     */
+    @MainThread
+    @Override
+    public void getStockLevels(@NonNull GetQueryCallback<StockLevels> queryCallback) {
+        if (mCachedStockLevels != null) {
+            //Serving from the cache when valid
+            queryCallback.onResults(mCachedStockLevels);
+            return;
+        }
+
+        //Querying the Database otherwise, and caching the result
+        mLocalDataSource.getStockLevels(
+                createAggregatesCachingCallback(stockLevels -> mCachedStockLevels = stockLevels, queryCallback)
+        );
+    }
+
+    /**
+     * Method that wraps the {@code queryCallback} of an Aggregate query, to store its results
+     * in the Aggregates cache through the {@code cacheSetter} before passing them on. The results are
+     * cached only when the cache was not invalidated while querying, as they may be stale otherwise.
+     *
+     * @param cacheSetter   The {@link AggregatesCacheSetter} that stores the results in their cache field
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     * @param <T>           The type of the results of the Aggregate query
+     * @return The {@link GetQueryCallback} to pass to the Aggregate query
+     */
+    @MainThread
+    private <T> GetQueryCallback<T> createAggregatesCachingCallback(@NonNull AggregatesCacheSetter<T> cacheSetter,
+                                                                   @NonNull GetQueryCallback<T> queryCallback) {
+        //Ensuring the cache gets invalidated on changes
+        registerAggregatesObserver();
+        //Capturing the current generation of the cache
+        final int generation = mAggregatesGeneration;
+
+        return new GetQueryCallback<T>() {
+            /**
+             * Method invoked when the results are obtained
+             * for the query executed.
+             *
+             * @param results The results of the Aggregate query
+             */
+            @Override
+            public void onResults(T results) {
+                if (generation == mAggregatesGeneration) {
+                    //Caching only when the data did not change while querying
+                    cacheSetter.setCache(results);
+                }
+                queryCallback.onResults(results);
+            }
+
+            /**
+             * Method invoked when there are no results
+             * for the query executed.
+             */
+            @Override
+            public void onEmpty() {
+                queryCallback.onEmpty();
+            }
+
+            /**
+             * Method invoked when the results could not be retrieved
+             * for the query due to some error.
+             *
+             * @param messageId The String resource of the error message
+             *                  for the query execution failure
+             * @param args      Variable number of arguments to replace the format specifiers
+             *                  in the String resource if any
+             */
+            @Override
+            public void onFailure(@StringRes int messageId, @Nullable Object... args) {
+                queryCallback.onFailure(messageId, args);
+            }
+        };
+    }
+
+    /**
+     * Method that registers the {@link ContentObserver} that invalidates the Aggregates cache,
+     * if not registered already. The Observer watches the Inventory and Price changes, along with
+     * the Product and Supplier changes since their deletes cascade to the Inventory and Price records
+     * without a notification of their own.
+     */
+    @MainThread
+    private void registerAggregatesObserver() {
+        if (mAggregatesObserver != null) {
+            //Returning when already registered
+            return;
+        }
+
+        //Creating the Observer that delivers the changes on the Main Thread
+        mAggregatesObserver = new ContentObserver(new Handler(Looper.getMainLooper())) {
+            /**
+             * This method is called when a content change occurs.
+             *
+             * @param selfChange True if this is a self-change notification.
+             */
+            @Override
+            public void onChange(boolean selfChange) {
+                //Invalidating the cached Aggregates
+                invalidateAggregates();
+            }
+        };
+
+        //Registering the Observer for the URIs that affect the Aggregates
+        mLocalDataSource.registerContentObserver(SalesContract.ProductSupplierInventory.CONTENT_URI, true, mAggregatesObserver);
+        mLocalDataSource.registerContentObserver(SalesContract.ProductSupplierInfo.CONTENT_URI, true, mAggregatesObserver);
+        mLocalDataSource.registerContentObserver(ProductContract.Product.CONTENT_URI, true, mAggregatesObserver);
+        mLocalDataSource.registerContentObserver(SupplierContract.Supplier.CONTENT_URI, true, mAggregatesObserver);
+    }
+
+    /**
+     * Method that clears the cached Aggregates and bumps the generation of the cache
+     * so that the results of queries in-flight are not cached.
+     */
+    @MainThread
+    private void invalidateAggregates() {
+        mAggregatesGeneration++;
+        mCachedSupplierStocks = null;
+        mCachedCategoryStocks = null;
+        mCachedStockLevels = null;
+    }
+
     /**
      * Method that updates the inventory of the Product identified by the Product Id {@code productId}
      * at all its registered suppliers.
@@ -346,6 +536,22 @@ public class StoreRepository implements DataRepository, FileRepository {
                 existingProductSupplierSales, updatedProductSupplierSales, operationsCallback);
     }
 
+    /**
+     * Method that updates the Reorder Level of the Product identified by the Product Id {@code productId},
+     * which is the Total Available Quantity at or below which the Product is reported as low on stock.
+     *
+     * @param productId          The Product Id of the Product whose Reorder Level is being updated.
+     * @param productSku         The Product SKU of the Product.
+     * @param reorderLevel       The new Reorder Level of the Product.
+     * @param operationsCallback The Callback to be implemented by the caller to
+     *                           receive the operation result.
+     */
+    @Override
+    public void updateProductReorderLevel(int productId, String productSku, int reorderLevel,
+                                          @NonNull DataOperationsCallback operationsCallback) {
+        mLocalDataSource.updateProductReorderLevel(productId, productSku, reorderLevel, operationsCallback);
+    }
+
     /**
      * Method that saves the Image pointed to by the Content URI {@code fileContentUri}
      * in a file located at the app's private external storage path.
@@ -359,6 +565,23 @@ public class StoreRepository implements DataRepository, FileRepository {
         mLocalFileSource.saveImageToFile(context, fileContentUri, operationsCallback);
     }
 
+    /**
+     * Method that saves the Images pointed to by the Content URIs {@code fileContentUris} in files
+     * located at the app's private external storage path, along with their smaller variants.
+     * The Images are saved in parallel, and the outcome of every Image is reported together
+     * once all of them are processed.
+     *
+     * @param context            The Context of the Activity/Fragment
+     * @param fileContentUris    List of Content Uris of the Image Files to be saved
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image, which is the Content URI of the Image saved.
+     */
+    @Override
+    public void saveImagesToFiles(Context context, List<Uri> fileContentUris,
+                                  BatchFileOperationsCallback<Uri, Uri> operationsCallback) {
+        mLocalFileSource.saveImagesToFiles(context, fileContentUris, operationsCallback);
+    }
+
     /**
      * Method that persists the persistable URI permission grant that the system gives the app.
      * Applicable for devices with Android Kitkat (API level 19) and above.
@@ -382,6 +605,20 @@ public class StoreRepository implements DataRepository, FileRepository {
         mLocalFileSource.deleteImageFiles(fileContentUriList, operationsCallback);
     }
 
+    /**
+     * Method that deletes the Image files passed in {@code fileContentUriList} in parallel,
+     * and reports the outcome of every Image file together once all of them are processed.
+     *
+     * @param fileContentUriList List of String URIs (Content URIs) of the Image Files to be deleted.
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image file.
+     */
+    @Override
+    public void deleteImageFilesInBatch(List<String> fileContentUriList,
+                                        BatchFileOperationsCallback<String, Boolean> operationsCallback) {
+        mLocalFileSource.deleteImageFilesInBatch(fileContentUriList, operationsCallback);
+    }
+
     /**
      * Method that deletes the Image files passed in {@code fileContentUriList} silently
      * without reporting success/failure back to the caller
@@ -419,5 +656,18 @@ public class StoreRepository implements DataRepository, FileRepository {
         });
     }
 
+    /**
+     * Interface that stores the results of an Aggregate query in its field of the Aggregates cache.
+     *
+     * @param <T> The type of the results of the Aggregate query
+     */
+    private interface AggregatesCacheSetter<T> {
+        /**
+         * Method that stores the {@code results} in the cache.
+         *
+         * @param results The results of the Aggregate query
+         */
+        void setCache(T results);
+    }
 
 }
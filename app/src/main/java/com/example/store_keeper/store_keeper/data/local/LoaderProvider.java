@@ -18,15 +18,20 @@ package com.example.store_keeper.store_keeper.data.local;
 
 import android.content.Context;
 import android.database.Cursor;
+import android.net.Uri;
+import android.os.Bundle;
 import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v4.content.CursorLoader;
 import android.support.v4.content.Loader;
 
 import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
 import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -43,6 +48,14 @@ public class LoaderProvider {
     public static final int PRODUCT_LIST_TYPE = 0;
     public static final int SUPPLIER_LIST_TYPE = 1;
     public static final int SALES_LIST_TYPE = 2;
+    //Annotation constants for the direction of the Page requested relative to its Page Key
+    public static final int PAGE_FROM_KEY = 0;
+    public static final int PAGE_AFTER_KEY = 1;
+    public static final int PAGE_BEFORE_KEY = 2;
+    //Bundle Keys of the arguments that define the Page of a paged CursorLoader
+    private static final String ARG_PAGE_KEY = "arg_page_key";
+    private static final String ARG_PAGE_DIRECTION = "arg_page_direction";
+    private static final String ARG_PAGE_LIMIT = "arg_page_limit";
     //Singleton instance of LoaderProvider
     private static volatile LoaderProvider INSTANCE;
     //Context Reference required for CursorLoaders
@@ -79,7 +92,46 @@ public class LoaderProvider {
     }
 
     /**
-     * Method that returns the {@link CursorLoader} to the {@code loaderType} requested
+     * Method that prepares the Bundle of arguments that defines a Page of rows to be loaded
+     * by the CursorLoader created through {@link #createCursorLoader(int, Bundle)}. Pages are
+     * identified by the value of the Sort Key column of the list (Keyset Pagination), which avoids
+     * the cost of skipping rows with an OFFSET on large lists.
+     *
+     * @param pageDirection Integer constant defined by {@link PageDirectionDef} that denotes
+     *                      the rows to be loaded relative to the {@code pageKey}
+     * @param pageKey       The value of the Sort Key column from where the Page begins. Can be {@code null}
+     *                      to load the Page from the start of the list.
+     * @param pageLimit     The maximum number of rows to be loaded for the Page
+     * @return Bundle of arguments that defines the Page of rows to be loaded
+     */
+    public static Bundle createPageArgs(@PageDirectionDef int pageDirection, @Nullable String pageKey, int pageLimit) {
+        Bundle pageArgs = new Bundle(3);
+        pageArgs.putInt(ARG_PAGE_DIRECTION, pageDirection);
+        pageArgs.putString(ARG_PAGE_KEY, pageKey);
+        pageArgs.putInt(ARG_PAGE_LIMIT, pageLimit);
+        return pageArgs;
+    }
+
+    /**
+     * Method that returns the Direction of the Page defined by the arguments {@code pageArgs}
+     * prepared with {@link #createPageArgs(int, String, int)}
+     *
+     * @param pageArgs Bundle of arguments that defines the Page of rows to be loaded
+     * @return Integer constant defined by {@link PageDirectionDef} that denotes the rows
+     * to be loaded relative to its Page Key. Returns {@link #PAGE_FROM_KEY} when {@code pageArgs} is {@code null}.
+     */
+    @PageDirectionDef
+    public static int getPageDirection(@Nullable Bundle pageArgs) {
+        if (pageArgs == null) {
+            return PAGE_FROM_KEY;
+        }
+        //noinspection WrongConstant
+        return pageArgs.getInt(ARG_PAGE_DIRECTION, PAGE_FROM_KEY);
+    }
+
+    /**
+     * Method that returns the {@link CursorLoader} to the {@code loaderType} requested,
+     * which loads all the rows of the list.
      *
      * @param loaderType Integer constant defined by {@link LoadersTypeDef} to
      *                   create a correct CursorLoader.
@@ -87,6 +139,21 @@ public class LoaderProvider {
      * and the {@code loaderType} requested is valid; otherwise {@code NULL}
      */
     public Loader<Cursor> createCursorLoader(@LoadersTypeDef int loaderType) {
+        return createCursorLoader(loaderType, null);
+    }
+
+    /**
+     * Method that returns the {@link CursorLoader} to the {@code loaderType} requested,
+     * which loads the Page of rows defined by {@code pageArgs}.
+     *
+     * @param loaderType Integer constant defined by {@link LoadersTypeDef} to
+     *                   create a correct CursorLoader.
+     * @param pageArgs   Bundle of arguments prepared with {@link #createPageArgs(int, String, int)}
+     *                   that defines the Page of rows to be loaded. Can be {@code null} to load all the rows.
+     * @return Returns a {@link CursorLoader} instance when the {@link Context} instance is present
+     * and the {@code loaderType} requested is valid; otherwise {@code NULL}
+     */
+    public Loader<Cursor> createCursorLoader(@LoadersTypeDef int loaderType, @Nullable Bundle pageArgs) {
         //Retrieving the Context from the reference
         Context context = mContextWeakReference.get();
         //Returning Null when the Context is Null
@@ -98,33 +165,30 @@ public class LoaderProvider {
         switch (loaderType) {
             case PRODUCT_LIST_TYPE:
                 //Returning the Cursor Loader to list of Products sorted by its SKU
-                return new CursorLoader(
+                return createPagedCursorLoader(
                         context,
                         ProductContract.Product.CONTENT_URI_SHORT_INFO,
                         QueryArgsUtility.ItemsShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU)
+                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
+                        pageArgs
                 );
             case SUPPLIER_LIST_TYPE:
                 //Returning the Cursor Loader to list of Suppliers sorted by its Code
-                return new CursorLoader(
+                return createPagedCursorLoader(
                         context,
                         SupplierContract.Supplier.CONTENT_URI_SHORT_INFO,
                         QueryArgsUtility.SuppliersShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        SupplierContract.Supplier.COLUMN_SUPPLIER_CODE
+                        SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE),
+                        pageArgs
                 );
             case SALES_LIST_TYPE:
                 //Returning the Cursor Loader to the list of Products sold by the Suppliers, sorted by its SKU
-                return new CursorLoader(
+                return createPagedCursorLoader(
                         context,
                         SalesContract.ProductSupplierInventory.CONTENT_URI_SHORT_INFO,
                         QueryArgsUtility.SalesShortInfoQuery.getProjection(),
-                        null,
-                        null,
-                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU)
+                        ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
+                        pageArgs
                 );
         }
 
@@ -133,6 +197,69 @@ public class LoaderProvider {
         return null;
     }
 
+    /**
+     * Method that creates the {@link CursorLoader} for the list identified by the {@code contentUri},
+     * sorted by the unique Sort Key column {@code sortKeyColumn}. When {@code pageArgs} are passed,
+     * the rows are restricted to the Page relative to the Page Key, with a LIMIT on the number of rows.
+     *
+     * @param context       A {@link Context} required for CursorLoaders
+     * @param contentUri    The Content URI of the list to be loaded
+     * @param projection    The list of columns to load
+     * @param sortKeyColumn The qualified name of the unique column used for sorting and paging the list
+     * @param pageArgs      Bundle of arguments that defines the Page of rows to be loaded.
+     *                      Can be {@code null} to load all the rows.
+     * @return Instance of {@link CursorLoader} for the list or its Page requested
+     */
+    private Loader<Cursor> createPagedCursorLoader(@NonNull Context context, @NonNull Uri contentUri,
+                                                   @NonNull String[] projection, @NonNull String sortKeyColumn,
+                                                   @Nullable Bundle pageArgs) {
+        if (pageArgs == null) {
+            //When no Page is defined, return the CursorLoader to the entire list
+            return new CursorLoader(context, contentUri, projection, null, null, sortKeyColumn);
+        }
+
+        //Reading the Page arguments
+        int pageDirection = getPageDirection(pageArgs);
+        String pageKey = pageArgs.getString(ARG_PAGE_KEY);
+        int pageLimit = pageArgs.getInt(ARG_PAGE_LIMIT, 0);
+
+        //Building the Selection relative to the Page Key when present
+        String selection = null;
+        String[] selectionArgs = null;
+        if (pageKey != null) {
+            String comparison;
+            switch (pageDirection) {
+                case PAGE_AFTER_KEY:
+                    comparison = SqliteUtility.GREATER_THAN;
+                    break;
+                case PAGE_BEFORE_KEY:
+                    comparison = SqliteUtility.LESS_THAN;
+                    break;
+                case PAGE_FROM_KEY:
+                default:
+                    comparison = SqliteUtility.GREATER_THAN_OR_EQUALS;
+                    break;
+            }
+            selection = sortKeyColumn + comparison + SqliteUtility.PLACEHOLDER;
+            selectionArgs = new String[]{pageKey};
+        }
+
+        //Rows before the Page Key are read in the reverse order so that the LIMIT applies
+        //to the rows nearest to the Page Key
+        String sortOrder = (pageDirection == PAGE_BEFORE_KEY) ? sortKeyColumn + SqliteUtility.DESC : sortKeyColumn;
+
+        //Appending the LIMIT of rows as a Query Parameter when present
+        Uri pageUri = contentUri;
+        if (pageLimit > 0) {
+            pageUri = contentUri.buildUpon()
+                    .appendQueryParameter(StoreContract.QUERY_PARAMETER_LIMIT, String.valueOf(pageLimit))
+                    .build();
+        }
+
+        //Returning the CursorLoader to the Page of the list
+        return new CursorLoader(context, pageUri, projection, selection, selectionArgs, sortOrder);
+    }
+
     //Defining Annotation interface for valid types of CursorLoaders
     //Enumerating Annotation with the valid types of CursorLoaders
     //Retains annotation till Compile Time
@@ -141,4 +268,12 @@ public class LoaderProvider {
     @interface LoadersTypeDef {
     }
 
+    //Defining Annotation interface for valid directions of a Page
+    //Enumerating Annotation with the valid directions of a Page relative to its Page Key
+    //Retains annotation till Compile Time
+    @IntDef({PAGE_FROM_KEY, PAGE_AFTER_KEY, PAGE_BEFORE_KEY})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface PageDirectionDef {
+    }
+
 }
@@ -17,9 +17,12 @@
 package com.example.store_keeper.store_keeper.data.local;
 
 import android.content.ContentProvider;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.content.UriMatcher;
 import android.database.ContentObserver;
 import android.database.Cursor;
@@ -27,6 +30,7 @@ import android.database.SQLException;
 import android.database.sqlite.SQLiteConstraintException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteQueryBuilder;
+import android.database.sqlite.SQLiteStatement;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
@@ -44,6 +48,12 @@ import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContra
 import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
 import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * {@link ContentProvider} of the App that provides methods to communicate with the Database of the App
  * using Content URIs.
@@ -61,6 +71,9 @@ public class StoreContentProvider extends ContentProvider {
     private static final int ITEM_BY_SKU = 13;
     private static final int ITEM_ATTRS_ID = 14;
     private static final int ITEM_IMAGES_ID = 15;
+    private static final int ITEM_ATTRS = 16;
+    private static final int ITEM_IMAGES = 17;
+    private static final int ITEM_IMAGE_REFS = 18;
     //URI Matcher codes for identifying the URI of Category and its descendant relationships
     private static final int CATEGORIES = 20;
     private static final int CATEGORY_BY_ID = 21;
@@ -78,10 +91,24 @@ public class StoreContentProvider extends ContentProvider {
     private static final int SALES_SHORT_INFO = 50;
     private static final int SALES_INVENTORY_ITEM_ID = 51;
     private static final int SALES_INVENTORY_SUPPLIER_ID = 52;
+    private static final int SALES_INVENTORY_DECREASE_ITEM_ID = 53;
+    //URI Matcher codes for identifying the URI of the aggregates of Inventory and Price data
+    private static final int SALES_AGGREGATE_SUPPLIER_STOCK = 60;
+    private static final int SALES_AGGREGATE_CATEGORY_STOCK = 61;
+    private static final int SALES_AGGREGATE_STOCK_LEVELS = 62;
+    private static final int SALES_AGGREGATE_LOW_STOCK = 63;
     //URI Matcher for matching the possible URI
     private static final UriMatcher sUriMatcher = buildUriMatcher();
+
+    //Counters of the change notifications requested by the operations and actually sent to the listeners,
+    //the difference being the number of notifications suppressed by batching
+    private static final AtomicLong sNotificationsRequested = new AtomicLong();
+    private static final AtomicLong sNotificationsSent = new AtomicLong();
     //Stores the instance of SQLiteOpenHelper
     private StoreDbHelper mDbHelper;
+    //Holds the Notification Batch open on the current thread if any, which collects the Content URIs
+    //changed by the operations till the outermost transaction ends
+    private final ThreadLocal<NotificationBatch> mNotificationBatch = new ThreadLocal<>();
 
     /**
      * Method that returns the {@link UriMatcher} to be used
@@ -123,6 +150,23 @@ public class StoreContentProvider extends ContentProvider {
                 ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_IMAGE + "/#",
                 ITEM_IMAGES_ID);
 
+        //For "content://AUTHORITY/item/image/refs/*" URI that references the count of records
+        //in 'item_image' table referring to the 'image_uri'
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_IMAGE + "/"
+                        + ProductContract.ProductImage.PATH_IMAGE_REFS + "/*",
+                ITEM_IMAGE_REFS);
+
+        //For "content://AUTHORITY/item/attr" URI that references the entire 'item_attr' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_ATTR,
+                ITEM_ATTRS);
+
+        //For "content://AUTHORITY/item/image" URI that references the entire 'item_image' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/" + ProductContract.PATH_ITEM_IMAGE,
+                ITEM_IMAGES);
+
         //For "content://AUTHORITY/category" URI that references the entire 'item_category' table
         matcher.addURI(StoreContract.CONTENT_AUTHORITY,
                 ProductContract.PATH_CATEGORY, CATEGORIES);
@@ -193,6 +237,35 @@ public class StoreContentProvider extends ContentProvider {
                 SalesContract.PATH_ITEM_SUPPLIER_INVENTORY + "/" + SupplierContract.PATH_SUPPLIER + "/#",
                 SALES_INVENTORY_SUPPLIER_ID);
 
+        //For "content://AUTHORITY/salesinventory/decrease/item/#" URI that references a set of records in
+        //'item_supplier_inventory' table identified by 'item_id', whose available quantity is to be decreased
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_ITEM_SUPPLIER_INVENTORY + "/" + SalesContract.ProductSupplierInventory.PATH_DECREASE
+                        + "/" + ProductContract.PATH_ITEM + "/#",
+                SALES_INVENTORY_DECREASE_ITEM_ID);
+
+        //For "content://AUTHORITY/salesaggregate/supplier" URI that references the Stock aggregated per Supplier
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_SALES_AGGREGATE + "/" + SupplierContract.PATH_SUPPLIER,
+                SALES_AGGREGATE_SUPPLIER_STOCK);
+
+        //For "content://AUTHORITY/salesaggregate/category" URI that references the Stock aggregated per Category
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_SALES_AGGREGATE + "/" + ProductContract.PATH_CATEGORY,
+                SALES_AGGREGATE_CATEGORY_STOCK);
+
+        //For "content://AUTHORITY/salesaggregate/levels" URI that references the Stock Levels
+        //aggregated over all the Items
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_SALES_AGGREGATE + "/" + SalesContract.SalesAggregate.PATH_STOCK_LEVELS,
+                SALES_AGGREGATE_STOCK_LEVELS);
+
+        //For "content://AUTHORITY/salesaggregate/lowstock" URI that references the Items
+        //whose Total Available Quantity is at or below their Reorder Level
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_SALES_AGGREGATE + "/" + SalesContract.SalesAggregate.PATH_LOW_STOCK,
+                SALES_AGGREGATE_LOW_STOCK);
+
         //Returning the URI Matcher prepared
         return matcher;
     }
@@ -301,6 +374,9 @@ public class StoreContentProvider extends ContentProvider {
         //Declaring the cursor that will hold the result of the query
         Cursor retCursor;
 
+        //Reading the LIMIT of rows requested by the paged queries if any
+        String limit = uri.getQueryParameter(StoreContract.QUERY_PARAMETER_LIMIT);
+
         //Matching the queried Uri to execute the correct query
         switch (sUriMatcher.match(uri)) {
             case ITEM_ATTRS_ID:
@@ -311,6 +387,10 @@ public class StoreContentProvider extends ContentProvider {
                 //For Item's Images, identified by the item '_id'
                 retCursor = getItemImages(uri, readableDatabase, projection);
                 break;
+            case ITEM_IMAGE_REFS:
+                //For the count of Items referring to an Image, identified by the 'image_uri'
+                retCursor = getItemImageRefs(uri, readableDatabase, projection);
+                break;
             case ITEM_ID:
                 //For an Item identified by its '_id'
                 retCursor = getItemDetails(uri, readableDatabase, projection);
@@ -321,7 +401,7 @@ public class StoreContentProvider extends ContentProvider {
                 break;
             case ITEM_SHORT_INFO:
                 //For Items with Short relationship info
-                retCursor = getItemsWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                retCursor = getItemsWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder, limit);
                 break;
             case CATEGORIES:
                 //For all Categories
@@ -357,16 +437,32 @@ public class StoreContentProvider extends ContentProvider {
                 break;
             case SUPPLIER_SHORT_INFO:
                 //For Suppliers with Short relationship info
-                retCursor = getSuppliersWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                retCursor = getSuppliersWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder, limit);
                 break;
             case SALES_SHORT_INFO:
                 //For Sales Inventory with Short relationship info
-                retCursor = getSalesWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                retCursor = getSalesWithShortInfo(readableDatabase, projection, selection, selectionArgs, sortOrder, limit);
                 break;
             case SALES_INVENTORY_ITEM_ID:
                 //For Item's Suppliers with Inventory and Price details
                 retCursor = getItemSuppliersSalesInfo(uri, readableDatabase, projection, sortOrder);
                 break;
+            case SALES_AGGREGATE_SUPPLIER_STOCK:
+                //For the Stock aggregated per Supplier
+                retCursor = getSupplierStockAggregate(readableDatabase, projection, sortOrder);
+                break;
+            case SALES_AGGREGATE_CATEGORY_STOCK:
+                //For the Stock aggregated per Category
+                retCursor = getCategoryStockAggregate(readableDatabase, projection, sortOrder);
+                break;
+            case SALES_AGGREGATE_STOCK_LEVELS:
+                //For the Stock Levels aggregated over all the Items
+                retCursor = getStockLevelsAggregate(readableDatabase, projection);
+                break;
+            case SALES_AGGREGATE_LOW_STOCK:
+                //For the Items that are Low on Stock
+                retCursor = getLowStockItems(readableDatabase, projection, selection, selectionArgs, sortOrder);
+                break;
             default:
                 throw new UnsupportedOperationException("Cannot query unknown URI " + uri);
         }
@@ -417,10 +513,12 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
+     * @param limit            Limits the number of rows returned by the query, used by the paged queries.
+     *                         If {@code null} then all rows are returned.
      * @return Cursor to the records retrieved from the relationship with 'item' and its tables
      * 'item_category' and 'item_image'.
      */
-    private Cursor getItemsWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, @Nullable String selection, @Nullable String[] selectionArgs, @Nullable String sortOrder) {
+    private Cursor getItemsWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, @Nullable String selection, @Nullable String[] selectionArgs, @Nullable String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -451,7 +549,8 @@ public class StoreContentProvider extends ContentProvider {
                 selectionPairs != null ? selectionPairs.second : null,
                 null,
                 null,
-                sortOrder
+                sortOrder,
+                limit
         );
     }
 
@@ -588,6 +687,29 @@ public class StoreContentProvider extends ContentProvider {
         );
     }
 
+    /**
+     * Method that returns a Cursor to the count of records in the 'item_image' table
+     * referring to the 'image_uri' value passed in the URI.
+     *
+     * @param uri              is the URI used for querying the data
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @return Cursor to the count of records in 'item_image' table referring to the Image
+     */
+    private Cursor getItemImageRefs(Uri uri, SQLiteDatabase readableDatabase, String[] projection) {
+        return readableDatabase.query(
+                ProductContract.ProductImage.TABLE_NAME,
+                projection,
+                //Where Clause
+                QueryArgsUtility.ItemImageRefsQuery.getSelection(),
+                //The value in Where Clause which is the 'image_uri' passed in the URI
+                QueryArgsUtility.ItemImageRefsQuery.getSelectionArgs(uri),
+                null,
+                null,
+                null
+        );
+    }
+
     /**
      * Method that returns a Cursor to the Item's Attributes retrieved from 'item_attr' table
      * for the Item Key passed in the URI.
@@ -757,11 +879,13 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
+     * @param limit            Limits the number of rows returned by the query, used by the paged queries.
+     *                         If {@code null} then all rows are returned.
      * @return Cursor to the records of Suppliers retrieved from the relationship between
      * the tables 'supplier', 'supplier_contact', 'contact_type', 'item' and 'item_supplier_info'.
      */
     private Cursor getSuppliersWithShortInfo(SQLiteDatabase readableDatabase, String[] projection,
-                                             String selection, String[] selectionArgs, String sortOrder) {
+                                             String selection, String[] selectionArgs, String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -777,7 +901,8 @@ public class StoreContentProvider extends ContentProvider {
                 selectionArgs,
                 null,
                 null,
-                sortOrder
+                sortOrder,
+                limit
         );
     }
 
@@ -794,10 +919,12 @@ public class StoreContentProvider extends ContentProvider {
      *                         The values will be bound as Strings.
      * @param sortOrder        How the rows in the cursor should be sorted.
      *                         If {@code null} then the provider is free to define the sort order.
+     * @param limit            Limits the number of rows returned by the query, used by the paged queries.
+     *                         If {@code null} then all rows are returned.
      * @return Cursor to the records retrieved from the relationship between
      * the tables 'item', 'item_category', 'item_image', 'supplier', 'item_supplier_info' and 'item_supplier_inventory'.
      */
-    private Cursor getSalesWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, String selection, String[] selectionArgs, String sortOrder) {
+    private Cursor getSalesWithShortInfo(SQLiteDatabase readableDatabase, String[] projection, String selection, String[] selectionArgs, String sortOrder, @Nullable String limit) {
         //Instantiating a Query Builder
         SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
         //Setting up the Tables involved in the query
@@ -828,7 +955,8 @@ public class StoreContentProvider extends ContentProvider {
                 selectionPairs != null ? selectionPairs.second : null,
                 null,
                 null,
-                sortOrder
+                sortOrder,
+                limit
         );
     }
 
@@ -867,6 +995,146 @@ public class StoreContentProvider extends ContentProvider {
         );
     }
 
+    /**
+     * Method that returns a Cursor to the Stock aggregated per Supplier, computed with GROUP BY
+     * over the relationship between the tables 'supplier', 'item_supplier_inventory' and 'item_supplier_info'.
+     *
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @param sortOrder        How the rows in the cursor should be sorted.
+     *                         If {@code null} then the provider is free to define the sort order.
+     * @return Cursor to the Item Count, Total Quantity and Stock Value of each Supplier
+     */
+    private Cursor getSupplierStockAggregate(SQLiteDatabase readableDatabase, String[] projection, String sortOrder) {
+        //Instantiating a Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        //Setting up the Tables involved in the query
+        QueryArgsUtility.SupplierStockQuery.setTables(queryBuilder);
+        //Setting up the Projection Map to use
+        QueryArgsUtility.SupplierStockQuery.setProjectionMap(queryBuilder);
+
+        //Querying for the content using the Query Builder
+        return queryBuilder.query(
+                readableDatabase,
+                projection,
+                null,
+                null,
+                //Grouping by the Supplier
+                QueryArgsUtility.SupplierStockQuery.getGroupBy(),
+                null,
+                sortOrder
+        );
+    }
+
+    /**
+     * Method that returns a Cursor to the Stock aggregated per Category, computed with GROUP BY
+     * over the relationship between the tables 'item_category', 'item', 'item_supplier_inventory'
+     * and 'item_supplier_info'.
+     *
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @param sortOrder        How the rows in the cursor should be sorted.
+     *                         If {@code null} then the provider is free to define the sort order.
+     * @return Cursor to the Item Count, Total Quantity and Stock Value of each Category
+     */
+    private Cursor getCategoryStockAggregate(SQLiteDatabase readableDatabase, String[] projection, String sortOrder) {
+        //Instantiating a Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        //Setting up the Tables involved in the query
+        QueryArgsUtility.CategoryStockQuery.setTables(queryBuilder);
+        //Setting up the Projection Map to use
+        QueryArgsUtility.CategoryStockQuery.setProjectionMap(queryBuilder);
+
+        //Querying for the content using the Query Builder
+        return queryBuilder.query(
+                readableDatabase,
+                projection,
+                null,
+                null,
+                //Grouping by the Category
+                QueryArgsUtility.CategoryStockQuery.getGroupBy(),
+                null,
+                sortOrder
+        );
+    }
+
+    /**
+     * Method that returns a Cursor to the single record of Stock Levels aggregated over all the Items.
+     *
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @return Cursor to the Item Count, Total Quantity, Stock Value, Out of Stock Count and Low Stock Count
+     */
+    private Cursor getStockLevelsAggregate(SQLiteDatabase readableDatabase, String[] projection) {
+        //Instantiating a Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        //Setting up the Tables involved in the query
+        QueryArgsUtility.StockLevelsQuery.setTables(queryBuilder);
+        //Setting up the Projection Map to use
+        QueryArgsUtility.StockLevelsQuery.setProjectionMap(queryBuilder);
+
+        //Querying for the content using the Query Builder
+        return queryBuilder.query(
+                readableDatabase,
+                projection,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    /**
+     * Method that returns a Cursor to the Items whose Total Available Quantity is at or below
+     * their own Reorder Level, read from the 'item_sales_summary' of each Item. Items without
+     * any Supplier have no summary, and are reported with no quantity available.
+     *
+     * @param readableDatabase is the instance of {@link SQLiteDatabase} opened for reading
+     * @param projection       is the Projection of columns required in the Select Query
+     * @param selection        A filter declaring which rows to return, which is combined with the
+     *                         Low Stock condition. Passing {@code null} will return all the Low Stock Items.
+     * @param selectionArgs    You may include ?s in selection, which will be replaced by the values
+     *                         from selectionArgs, in order that they appear in the selection.
+     * @param sortOrder        How the rows in the cursor should be sorted.
+     *                         If {@code null} then the provider is free to define the sort order.
+     * @return Cursor to the Low Stock Items with their Total Available Quantity and Reorder Level
+     */
+    private Cursor getLowStockItems(SQLiteDatabase readableDatabase, String[] projection,
+                                    String selection, String[] selectionArgs, String sortOrder) {
+        //Instantiating a Query Builder
+        SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
+        //Setting up the Tables involved in the query
+        QueryArgsUtility.LowStockQuery.setTables(queryBuilder);
+        //Setting up the Projection Map to use
+        QueryArgsUtility.LowStockQuery.setProjectionMap(queryBuilder);
+
+        //Building a Pair of the Low Stock condition, which has no arguments
+        Pair<String, String[]> selectionPairs = Pair.create(
+                QueryArgsUtility.LowStockQuery.getSelection(),
+                new String[0]);
+
+        if (!TextUtils.isEmpty(selection)) {
+            //Combining the Selection clauses when Selection Clause is passed
+            selectionPairs = SqliteUtility.combineSelectionPairs(
+                    selectionPairs,
+                    Pair.create(selection, selectionArgs),
+                    SqliteUtility.AND
+            );
+        }
+
+        //Querying for the content using the Query Builder
+        return queryBuilder.query(
+                readableDatabase,
+                projection,
+                selectionPairs.first,
+                selectionPairs.second,
+                null,
+                null,
+                sortOrder
+        );
+    }
+
     /**
      * Implement this to handle requests to insert a new row.
      * As a courtesy, call {@link ContentResolver#notifyChange(Uri, ContentObserver) notifyChange()}
@@ -923,6 +1191,22 @@ public class StoreContentProvider extends ContentProvider {
                             values
                     );
                     break;
+                case ITEM_ATTRS:
+                    //For 'item_attr' table (Values carry the 'item_id', usually as a back reference of a Batch)
+                    returnUri = insertWithConflictFail(uri,
+                            ProductContract.ProductAttribute.TABLE_NAME,
+                            writableDatabase,
+                            values
+                    );
+                    break;
+                case ITEM_IMAGES:
+                    //For 'item_image' table (Values carry the 'item_id', usually as a back reference of a Batch)
+                    returnUri = insertWithConflictFail(uri,
+                            ProductContract.ProductImage.TABLE_NAME,
+                            writableDatabase,
+                            values
+                    );
+                    break;
                 default:
                     throw new IllegalArgumentException("Unknown/Unsupported uri: " + uri);
             }
@@ -970,7 +1254,7 @@ public class StoreContentProvider extends ContentProvider {
 
                 //Notify listeners attached to the Content Resolver
                 //that the data at the URI has changed
-                getContext().getContentResolver().notifyChange(uri, null);
+                notifyChange(uri);
 
                 //Generate the URI for the record inserted, with the id appended at the end
                 returnUri = ContentUris.withAppendedId(uri, recordId);
@@ -1096,6 +1380,9 @@ public class StoreContentProvider extends ContentProvider {
      * </p><p>
      * Records in such tables identified by their '_id' column value are first deleted
      * before inserting the new records when {@code deleteAllFirst} passed is TRUE.
+     * </p><p>
+     * The delete and all the inserts are done in a single transaction, and the {@code uri}
+     * is notified only once after the transaction is committed.
      * </p>
      *
      * @param uri              The content:// URI of the insertion request which contains the '_id' column
@@ -1111,19 +1398,22 @@ public class StoreContentProvider extends ContentProvider {
     private int bulkInsertHangOffTable(Uri uri, String tableName, SQLiteDatabase writableDatabase,
                                        ContentValues[] values, boolean deleteAllFirst) {
 
-        if (deleteAllFirst) {
-            //When the flag is passed as True
-
-            //Delete all the records from the tables first
-            delete(uri, null, null);
-        }
-
         //Stores the count of records inserted
         int noOfRecordsInserted = 0;
 
         //Locking the database for insert
         writableDatabase.beginTransaction();
+        //Deferring the notifications of the records inserted till the transaction ends,
+        //so that the URI is notified only once for the entire request
+        beginNotificationBatch();
         try {
+            if (deleteAllFirst) {
+                //When the flag is passed as True
+
+                //Delete all the records from the tables first, within the same transaction
+                delete(uri, null, null);
+            }
+
             //Using URI matcher to find the possible URI
             switch (sUriMatcher.match(uri)) {
                 case ITEM_ATTRS_ID:
@@ -1262,13 +1552,17 @@ public class StoreContentProvider extends ContentProvider {
             }
         } finally {
 
-            if (noOfRecordsInserted == values.length) {
+            //Checking if all the records were inserted
+            boolean successful = noOfRecordsInserted == values.length;
+            if (successful) {
                 //Mark the Transaction as successful when all the records were inserted
                 writableDatabase.setTransactionSuccessful();
             }
 
             //Releasing the lock in the end
             writableDatabase.endTransaction();
+            //Notifying the URI once when the records were committed
+            endNotificationBatch(successful);
         }
 
         //Returning the number of records inserted
@@ -1301,8 +1595,8 @@ public class StoreContentProvider extends ContentProvider {
             //On success of inserting the record
 
             //Notify listeners attached to the Content Resolver
-            //that the data at the URI has changed
-            getContext().getContentResolver().notifyChange(uri, null);
+            //that the data at the URI has changed (Deferred till the Bulk Insert transaction ends)
+            notifyChange(uri);
 
             //Returning True on Success
             return true;
@@ -1323,6 +1617,10 @@ public class StoreContentProvider extends ContentProvider {
      * of the URI, if a specific row is being deleted. That is, the client would
      * pass in <code>content://contacts/people/22</code> and the implementation is
      * responsible for parsing the record number (22) when creating a SQL statement.
+     * <p>
+     * <p>The URIs of the hang off tables also accept a set of Keys as the repeated Query Parameter
+     * {@link StoreContract#QUERY_PARAMETER_KEY}, to delete multiple records of the set in a single
+     * request and transaction.
      *
      * @param uri           The full URI to query, including a row ID (if a specific record is requested).
      * @param selection     An optional restriction to apply to rows when deleting.
@@ -1436,11 +1734,12 @@ public class StoreContentProvider extends ContentProvider {
                         );
                     }
 
-                    //Executing delete
-                    noOfRecordsDeleted = writableDatabase.delete(
+                    //Executing delete, restricted to the Keys passed in the URI if any
+                    noOfRecordsDeleted = deleteWithKeys(uri,
+                            writableDatabase,
                             SupplierContract.SupplierContact.TABLE_NAME,
-                            selectionPairs != null ? selectionPairs.first : null,
-                            selectionPairs != null ? selectionPairs.second : null
+                            SupplierContract.SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE,
+                            selectionPairs
                     );
                     //Marking the transaction as successful
                     writableDatabase.setTransactionSuccessful();
@@ -1468,11 +1767,12 @@ public class StoreContentProvider extends ContentProvider {
                         );
                     }
 
-                    //Executing delete
-                    noOfRecordsDeleted = writableDatabase.delete(
+                    //Executing delete, restricted to the Keys passed in the URI if any
+                    noOfRecordsDeleted = deleteWithKeys(uri,
+                            writableDatabase,
                             SalesContract.ProductSupplierInfo.TABLE_NAME,
-                            selectionPairs != null ? selectionPairs.first : null,
-                            selectionPairs != null ? selectionPairs.second : null
+                            SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID,
+                            selectionPairs
                     );
                     //Marking the transaction as successful
                     writableDatabase.setTransactionSuccessful();
@@ -1500,11 +1800,12 @@ public class StoreContentProvider extends ContentProvider {
                         );
                     }
 
-                    //Executing delete
-                    noOfRecordsDeleted = writableDatabase.delete(
+                    //Executing delete, restricted to the Keys passed in the URI if any
+                    noOfRecordsDeleted = deleteWithKeys(uri,
+                            writableDatabase,
                             SalesContract.ProductSupplierInfo.TABLE_NAME,
-                            selectionPairs != null ? selectionPairs.first : null,
-                            selectionPairs != null ? selectionPairs.second : null
+                            SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID,
+                            selectionPairs
                     );
                     //Marking the transaction as successful
                     writableDatabase.setTransactionSuccessful();
@@ -1532,11 +1833,12 @@ public class StoreContentProvider extends ContentProvider {
                         );
                     }
 
-                    //Executing delete
-                    noOfRecordsDeleted = writableDatabase.delete(
+                    //Executing delete, restricted to the Keys passed in the URI if any
+                    noOfRecordsDeleted = deleteWithKeys(uri,
+                            writableDatabase,
                             SalesContract.ProductSupplierInventory.TABLE_NAME,
-                            selectionPairs != null ? selectionPairs.first : null,
-                            selectionPairs != null ? selectionPairs.second : null
+                            SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID,
+                            selectionPairs
                     );
                     //Marking the transaction as successful
                     writableDatabase.setTransactionSuccessful();
@@ -1564,11 +1866,12 @@ public class StoreContentProvider extends ContentProvider {
                         );
                     }
 
-                    //Executing delete
-                    noOfRecordsDeleted = writableDatabase.delete(
+                    //Executing delete, restricted to the Keys passed in the URI if any
+                    noOfRecordsDeleted = deleteWithKeys(uri,
+                            writableDatabase,
                             SalesContract.ProductSupplierInventory.TABLE_NAME,
-                            selectionPairs != null ? selectionPairs.first : null,
-                            selectionPairs != null ? selectionPairs.second : null
+                            SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID,
+                            selectionPairs
                     );
                     //Marking the transaction as successful
                     writableDatabase.setTransactionSuccessful();
@@ -1585,7 +1888,75 @@ public class StoreContentProvider extends ContentProvider {
 
         if (noOfRecordsDeleted > 0) {
             //Notifying the listeners that the data at the URI has changed, when some rows are deleted
-            getContext().getContentResolver().notifyChange(uri, null);
+            //(Without the Keys if any, as the listeners only observe the path of the URI)
+            notifyChange(uri.buildUpon().clearQuery().build());
+        }
+
+        //Returning the number of records deleted
+        return noOfRecordsDeleted;
+    }
+
+    /**
+     * Method that deletes the records of the table {@code tableName} that match the {@code selectionPairs}.
+     * When the {@code uri} carries the Keys of the records to delete as the repeated Query Parameter
+     * {@link StoreContract#QUERY_PARAMETER_KEY}, the records are further restricted to those whose
+     * {@code keyColumnName} value is one of the Keys. The Keys are bound as parameters of an IN clause,
+     * in chunks that keep each statement within the {@link SqliteUtility#MAX_BOUND_PARAMETERS}.
+     * Should be called within the transaction of the delete request, so that all the chunks are
+     * deleted in a single transaction.
+     *
+     * @param uri              The content:// URI of the delete request, with the Keys if any
+     * @param writableDatabase The instance of {@link SQLiteDatabase} opened for writing
+     * @param tableName        The name of the table to delete from
+     * @param keyColumnName    The name of the column whose values are passed as the Keys
+     * @param selectionPairs   Pair of Selection clause with its arguments that identifies the records to delete
+     * @return The number of records deleted
+     */
+    private int deleteWithKeys(Uri uri, SQLiteDatabase writableDatabase, String tableName,
+                               String keyColumnName, @Nullable Pair<String, String[]> selectionPairs) {
+        //Reading the Keys passed in the URI
+        List<String> keys = uri.getQueryParameters(StoreContract.QUERY_PARAMETER_KEY);
+
+        if (keys.isEmpty()) {
+            //When there are no Keys, delete all the records matching the selection
+            return writableDatabase.delete(
+                    tableName,
+                    selectionPairs != null ? selectionPairs.first : null,
+                    selectionPairs != null ? selectionPairs.second : null
+            );
+        }
+
+        //Computing the number of Keys that can be bound per statement, along with the selection arguments
+        int noOfSelectionArgs = (selectionPairs != null && selectionPairs.second != null) ? selectionPairs.second.length : 0;
+        int chunkSize = SqliteUtility.MAX_BOUND_PARAMETERS - noOfSelectionArgs;
+
+        //Stores the count of records deleted
+        int noOfRecordsDeleted = 0;
+
+        //Deleting the records for each chunk of Keys
+        int noOfKeys = keys.size();
+        for (int chunkStart = 0; chunkStart < noOfKeys; chunkStart += chunkSize) {
+            //Building the IN clause for the chunk of Keys
+            Pair<String, String[]> keySelectionPairs = SqliteUtility.makeSelectionForBoundInClause(
+                    keyColumnName,
+                    keys.subList(chunkStart, Math.min(chunkStart + chunkSize, noOfKeys))
+            );
+
+            if (selectionPairs != null) {
+                //Combining with the selection clause when present
+                keySelectionPairs = SqliteUtility.combineSelectionPairs(
+                        selectionPairs,
+                        keySelectionPairs,
+                        SqliteUtility.AND
+                );
+            }
+
+            //Executing delete for the chunk
+            noOfRecordsDeleted += writableDatabase.delete(
+                    tableName,
+                    keySelectionPairs != null ? keySelectionPairs.first : null,
+                    keySelectionPairs != null ? keySelectionPairs.second : null
+            );
         }
 
         //Returning the number of records deleted
@@ -1733,6 +2104,19 @@ public class StoreContentProvider extends ContentProvider {
                 }
                 break;
 
+                case SALES_INVENTORY_DECREASE_ITEM_ID:
+                    //For decreasing the available quantity of the specific set of records from the
+                    //'item_supplier_inventory' table identified by the 'item_id' passed in the URI
+
+                    //Executing update
+                    noOfRecordsUpdated = decreaseItemInventory(uri, writableDatabase, values, selection, selectionArgs);
+                    //Marking the transaction as successful
+                    writableDatabase.setTransactionSuccessful();
+                    //Notifying the change on the Inventory URI of the Item, which is the one observed
+                    uri = ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM,
+                            ContentUris.parseId(uri));
+                    break;
+
                 default:
                     throw new IllegalArgumentException("Update operation is not supported for " + uri);
             }
@@ -1743,10 +2127,312 @@ public class StoreContentProvider extends ContentProvider {
 
         if (noOfRecordsUpdated > 0) {
             //Notifying the listeners that the data at the URI has changed, when some rows are updated
-            getContext().getContentResolver().notifyChange(uri, null);
+            notifyChange(uri);
         }
 
         //Returning the number of records updated
         return noOfRecordsUpdated;
     }
+
+    /**
+     * Method that decreases the available quantity of the records in the 'item_supplier_inventory' table
+     * identified by the 'item_id' passed in the {@code uri}, by the quantity passed in the {@code values}.
+     * The quantity is decreased relative to the quantity currently stored, and only in the records
+     * having at least the quantity to decrease by, hence the quantity never goes negative.
+     * Every decrease is also appended to the 'sales_event' Ledger, in the same transaction.
+     *
+     * @param uri              The URI with the 'item_id' of the records to update
+     * @param writableDatabase The Database to update
+     * @param values           The {@link ContentValues} with the quantity to decrease by, as the value of
+     *                         {@link SalesContract.ProductSupplierInventory#COLUMN_ITEM_AVAIL_QUANTITY}
+     * @param selection        An optional filter to match rows to update.
+     * @param selectionArgs    The arguments of the {@code selection} if any
+     * @return The number of records updated, which is 0 when there was not enough quantity to decrease by.
+     */
+    private int decreaseItemInventory(Uri uri, SQLiteDatabase writableDatabase, ContentValues values,
+                                      @Nullable String selection, @Nullable String[] selectionArgs) {
+        //Reading the quantity to decrease by
+        Integer decreaseQuantityBy = values.getAsInteger(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY);
+        if (decreaseQuantityBy == null || decreaseQuantityBy <= 0) {
+            //When the quantity is not valid, throw an exception
+            throw new IllegalArgumentException("Invalid quantity to decrease by " + decreaseQuantityBy + " for " + uri);
+        }
+
+        //Building the where clause that guards the available quantity from going negative
+        String selection1 = SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER
+                + SqliteUtility.AND
+                + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + SqliteUtility.GREATER_THAN_OR_EQUALS + SqliteUtility.PLACEHOLDER;
+        String[] selectionArgs1 = new String[]{String.valueOf(ContentUris.parseId(uri)), String.valueOf(decreaseQuantityBy)};
+        //Building a Pair of where clause and its Arguments
+        Pair<String, String[]> selectionPairs = Pair.create(selection1, selectionArgs1);
+
+        if (!TextUtils.isEmpty(selection)) {
+            //Combining the Selection clauses when Selection Clause is passed
+            selectionPairs = SqliteUtility.combineSelectionPairs(
+                    selectionPairs,
+                    Pair.create(selection, selectionArgs),
+                    SqliteUtility.AND
+            );
+        }
+
+        //Building the insert statement that records the decrease in the Ledger, for the same records updated:
+        //"INSERT INTO sales_event (item_id, supplier_id, quantity_delta, event_time)
+        //SELECT item_id, supplier_id, ?, ? FROM item_supplier_inventory WHERE ..."
+        String insertEventSql = SqliteUtility.INSERT_INTO + SalesContract.SalesEvent.TABLE_NAME
+                + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE
+                + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+                + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+                + SalesContract.SalesEvent.COLUMN_QUANTITY_DELTA + SqliteUtility.COMMA + SqliteUtility.SPACE
+                + SalesContract.SalesEvent.COLUMN_EVENT_TIME + SqliteUtility.CLOSE_BRACE + SqliteUtility.SPACE
+                + SqliteUtility.SELECT
+                + SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+                + SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+                + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE + SqliteUtility.PLACEHOLDER
+                + SqliteUtility.FROM + SalesContract.ProductSupplierInventory.TABLE_NAME
+                + SqliteUtility.WHERE + selectionPairs.first;
+
+        //Building the update statement that decreases the quantity relative to its current value:
+        //"UPDATE item_supplier_inventory SET available_quantity = available_quantity - ? WHERE ..."
+        String updateSql = SqliteUtility.UPDATE + SalesContract.ProductSupplierInventory.TABLE_NAME
+                + SqliteUtility.SET + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+                + SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+                + SqliteUtility.MINUS + SqliteUtility.PLACEHOLDER
+                + SqliteUtility.WHERE + selectionPairs.first;
+
+        String[] whereArgs = selectionPairs.second;
+
+        //Recording the events first, as the records would no longer match the guard once updated
+        SQLiteStatement insertEventStatement = writableDatabase.compileStatement(insertEventSql);
+        try {
+            //Binding the change in quantity and the time of the event, followed by the arguments of the where clause
+            insertEventStatement.bindLong(1, -decreaseQuantityBy);
+            insertEventStatement.bindLong(2, System.currentTimeMillis());
+            for (int index = 0; index < whereArgs.length; index++) {
+                insertEventStatement.bindString(index + 3, whereArgs[index]);
+            }
+            insertEventStatement.execute();
+        } finally {
+            //Releasing the statement
+            insertEventStatement.close();
+        }
+
+        SQLiteStatement updateStatement = writableDatabase.compileStatement(updateSql);
+        try {
+            //Binding the quantity to decrease by, followed by the arguments of the where clause
+            updateStatement.bindLong(1, decreaseQuantityBy);
+            for (int index = 0; index < whereArgs.length; index++) {
+                updateStatement.bindString(index + 2, whereArgs[index]);
+            }
+            //Executing update and returning the number of records updated
+            return updateStatement.executeUpdateDelete();
+        } finally {
+            //Releasing the statement
+            updateStatement.close();
+        }
+    }
+
+    /**
+     * Override this to handle requests to perform a batch of operations, or the
+     * default implementation will iterate over the operations and call
+     * {@link ContentProviderOperation#apply} on each of them.
+     * All the operations are applied in a single database transaction, such that either all of them
+     * are committed or none of them are. The Content URIs changed by the operations are notified
+     * only once the transaction is committed, without the duplicates and the URIs covered by their ancestors.
+     * This method can be called from multiple threads, as described in
+     * <a href="{@docRoot}guide/topics/fundamentals/processes-and-threads.html#Threads">Processes
+     * and Threads</a>.
+     *
+     * @param operations The operations to apply
+     * @return The results of the applications
+     * @throws OperationApplicationException thrown if any operation fails, in which case
+     *                                       none of the operations are committed.
+     */
+    @NonNull
+    @Override
+    public ContentProviderResult[] applyBatch(@NonNull ArrayList<ContentProviderOperation> operations)
+            throws OperationApplicationException {
+        //Retrieving the database in write mode
+        SQLiteDatabase writableDatabase = mDbHelper.getWritableDatabase();
+
+        //Stores the results of the operations
+        ContentProviderResult[] results;
+        //Stores whether all the operations were applied
+        boolean successful = false;
+
+        //Locking the database for the entire Batch
+        writableDatabase.beginTransaction();
+        //Deferring the notifications of the changes till the Batch is committed
+        beginNotificationBatch();
+        try {
+            //Applying all the operations. The transactions opened by each of them are nested
+            //into this transaction, hence any failure rolls back the entire Batch
+            results = super.applyBatch(operations);
+            //Marking the transaction as successful when all the operations were applied
+            writableDatabase.setTransactionSuccessful();
+            successful = true;
+        } finally {
+            //Releasing the lock in the end
+            writableDatabase.endTransaction();
+            //Notifying the listeners once for the changes committed by the Batch
+            endNotificationBatch(successful);
+        }
+
+        //Returning the results of the operations
+        return results;
+    }
+
+    /**
+     * Method that notifies the listeners attached to the Content Resolver that the data
+     * at the {@code uri} has changed. When called within a Notification Batch opened by
+     * {@link #beginNotificationBatch()}, the notification is deferred till the Batch ends.
+     *
+     * @param uri The content:// URI of the data changed
+     */
+    private void notifyChange(Uri uri) {
+        //Counting the notification requested
+        sNotificationsRequested.incrementAndGet();
+
+        //Retrieving the Notification Batch open on this thread if any
+        NotificationBatch notificationBatch = mNotificationBatch.get();
+        if (notificationBatch != null) {
+            //When a Batch is open, defer the notification till the Batch ends.
+            //(Repeated notifications of the same URI are collected only once)
+            notificationBatch.mChangedUris.add(uri);
+        } else {
+            //Otherwise, notify the listeners right away
+            sendNotification(uri);
+        }
+    }
+
+    /**
+     * Method that sends the change notification of the {@code uri} to the listeners
+     * attached to the Content Resolver.
+     *
+     * @param uri The content:// URI of the data changed
+     */
+    private void sendNotification(Uri uri) {
+        //Counting the notification sent
+        sNotificationsSent.incrementAndGet();
+        //Notifying the listeners
+        getContext().getContentResolver().notifyChange(uri, null);
+    }
+
+    /**
+     * Method that opens a Notification Batch on the current thread, or joins the one already open,
+     * to defer the change notifications of the operations till the Batch ends. Should be called
+     * right after beginning a transaction, and paired with {@link #endNotificationBatch(boolean)}
+     * right after ending the transaction.
+     */
+    private void beginNotificationBatch() {
+        //Retrieving the Notification Batch open on this thread if any
+        NotificationBatch notificationBatch = mNotificationBatch.get();
+        if (notificationBatch == null) {
+            //When there is no Batch open, open a new one
+            notificationBatch = new NotificationBatch();
+            mNotificationBatch.set(notificationBatch);
+        }
+        //Increasing the nesting level of the Batch
+        notificationBatch.mDepth++;
+    }
+
+    /**
+     * Method that ends the Notification Batch opened with {@link #beginNotificationBatch()}.
+     * When the outermost Batch ends, the Content URIs collected are notified once, leaving out
+     * the URIs covered by their ancestors. The notifications are dropped when any of
+     * the transactions of the Batch failed, since the changes are rolled back by SQLite.
+     *
+     * @param successful Boolean that indicates whether the transaction paired with this call was
+     *                   marked as successful. <b>TRUE</b> if successful; <b>FALSE</b> otherwise.
+     */
+    private void endNotificationBatch(boolean successful) {
+        //Retrieving the Notification Batch open on this thread
+        NotificationBatch notificationBatch = mNotificationBatch.get();
+        if (notificationBatch == null) {
+            //Bail out when there is no Batch open (This can never occur when calls are paired)
+            return;
+        }
+
+        if (!successful) {
+            //Any failure of a nested transaction rolls back the outermost transaction as well
+            notificationBatch.mFailed = true;
+        }
+
+        if (--notificationBatch.mDepth > 0) {
+            //Bail out when this is a nested Batch, as the notifications are sent by the outermost Batch
+            return;
+        }
+
+        //Closing the Batch when this is the outermost one
+        mNotificationBatch.remove();
+
+        if (!notificationBatch.mFailed) {
+            //When the changes were committed, notify the listeners once for each of the URIs changed
+            for (Uri changedUri : coalesceChangedUris(notificationBatch.mChangedUris)) {
+                sendNotification(changedUri);
+            }
+        }
+    }
+
+    /**
+     * Method that returns the number of change notifications suppressed so far, by de-duplicating
+     * the notifications of the operations within a Notification Batch, by leaving out the ones
+     * covered by their ancestors, or by dropping them when the changes were rolled back.
+     *
+     * @return The number of change notifications requested by the operations but not sent to the listeners.
+     */
+    public static long getSuppressedNotificationCount() {
+        return sNotificationsRequested.get() - sNotificationsSent.get();
+    }
+
+    /**
+     * Method that coalesces the Content URIs {@code changedUris} that are already covered by another
+     * URI of the Set. Since a notification of a URI also reaches the listeners of its descendant URIs,
+     * a URI is dropped only when one of its ancestors was changed as well. No broader URI
+     * is ever made up, hence the listeners receive the exact URIs changed.
+     *
+     * @param changedUris The Set of Content URIs changed, already free of duplicates
+     * @return List of Content URIs to be notified
+     */
+    private static List<Uri> coalesceChangedUris(Set<Uri> changedUris) {
+        //Stores the URIs to be notified
+        List<Uri> notifyUris = new ArrayList<>();
+
+        //Iterating over the changed URIs to drop the ones whose ancestor is also in the Set
+        for (Uri changedUri : changedUris) {
+            //Reading the path of the changed URI
+            List<String> changedSegments = changedUri.getPathSegments();
+            boolean covered = false;
+            for (int count = changedSegments.size() - 1; count > 0 && !covered; count--) {
+                //Building the ancestor URI having the leading 'count' segments of the path
+                Uri.Builder ancestorBuilder = new Uri.Builder()
+                        .scheme(changedUri.getScheme())
+                        .authority(changedUri.getAuthority());
+                for (String segment : changedSegments.subList(0, count)) {
+                    ancestorBuilder.appendPath(segment);
+                }
+                //The URI is covered when its ancestor is notified as well
+                covered = changedUris.contains(ancestorBuilder.build());
+            }
+
+            if (!covered) {
+                //When no ancestor of the URI was changed, notify the URI as is
+                notifyUris.add(changedUri);
+            }
+        }
+
+        //Returning the coalesced list of URIs
+        return notifyUris;
+    }
+
+    /**
+     * Class that holds the state of a Notification Batch open on a thread.
+     */
+    private static class NotificationBatch {
+        //The Content URIs changed within the Batch, in the order of their first change
+        private final Set<Uri> mChangedUris = new LinkedHashSet<>();
+        //The nesting level of the Batch
+        private int mDepth;
+        //Flag that indicates whether any of the transactions of the Batch failed
+        private boolean mFailed;
+    }
 }
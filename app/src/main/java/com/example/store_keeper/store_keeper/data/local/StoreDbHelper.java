@@ -25,6 +25,10 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.database.sqlite.SQLiteQuery;
 import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.StringDef;
+import android.support.annotation.VisibleForTesting;
+import android.support.annotation.WorkerThread;
 import android.util.Log;
 
 import com.example.store_keeper.store_keeper.utils.AppConstants;
@@ -32,8 +36,12 @@ import com.example.store_keeper.store_keeper.utils.AppExecutors;
 import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.Money;
 import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
 /**
  * Database Helper class that manages Database creation and Version management.
  *
@@ -44,9 +52,21 @@ public class StoreDbHelper extends SQLiteOpenHelper {
     private static final String LOG_TAG = StoreDbHelper.class.getSimpleName();
 
     //Constant for the Database Version
-    private static final int DATABASE_VERSION = 1;
+    private static final int DATABASE_VERSION = 8;
     //Constant for the Database Name
     private static final String DATABASE_NAME = "inventory.db";
+    //Constant for the expected Journal Mode of the Database
+    private static final String JOURNAL_MODE_WAL = "wal";
+    //Constant for the result of a successful integrity check
+    private static final String INTEGRITY_CHECK_OK = "ok";
+    //Annotation constants for the modes of WAL Checkpoint
+    public static final String WAL_CHECKPOINT_PASSIVE = "PASSIVE";
+    public static final String WAL_CHECKPOINT_FULL = "FULL";
+    public static final String WAL_CHECKPOINT_RESTART = "RESTART";
+    //Definition of the "reorder_level" column of the Item Table
+    private static final String COLUMN_DEFINITION_ITEM_REORDER_LEVEL
+            = ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL
+            + SqliteUtility.DEFAULT + ProductContract.Product.DEFAULT_ITEM_REORDER_LEVEL;
     //Query that creates the Item Table
     private static final String CREATE_TABLE_ITEM
             = SqliteUtility.CREATE_TABLE + ProductContract.Product.TABLE_NAME
@@ -55,7 +75,8 @@ public class StoreDbHelper extends SQLiteOpenHelper {
             + ProductContract.Product.COLUMN_ITEM_NAME + SqliteUtility.SPACE + SqliteUtility.TEXT + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
             + ProductContract.Product.COLUMN_ITEM_SKU + SqliteUtility.SPACE + SqliteUtility.TEXT + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
             + ProductContract.Product.COLUMN_ITEM_DESCRIPTION + SqliteUtility.SPACE + SqliteUtility.TEXT + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
-            + ProductContract.Product.COLUMN_ITEM_CATEGORY_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.COMMA
+            + ProductContract.Product.COLUMN_ITEM_CATEGORY_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + COLUMN_DEFINITION_ITEM_REORDER_LEVEL + SqliteUtility.COMMA
             + SqliteUtility.CONSTRAINT + "unique_item_sku" + SqliteUtility.UNIQUE + SqliteUtility.OPEN_BRACE + ProductContract.Product.COLUMN_ITEM_SKU + SqliteUtility.CLOSE_BRACE + SqliteUtility.ON + SqliteUtility.CONFLICT_FAIL + SqliteUtility.COMMA
             + SqliteUtility.CONSTRAINT + "fk_category_id"
             + SqliteUtility.FOREIGN_KEY + SqliteUtility.OPEN_BRACE + ProductContract.Product.COLUMN_ITEM_CATEGORY_ID + SqliteUtility.CLOSE_BRACE
@@ -137,7 +158,7 @@ public class StoreDbHelper extends SQLiteOpenHelper {
             + SqliteUtility.OPEN_BRACE
             + SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.COMMA + SqliteUtility.SPACE
             + SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.COMMA + SqliteUtility.SPACE
-            + SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + SqliteUtility.SPACE + SqliteUtility.REAL + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE + SqliteUtility.COMMA
+            + SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE + SqliteUtility.COMMA
             + SqliteUtility.CONSTRAINT + "unique_record" + SqliteUtility.UNIQUE
             + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
             + SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.CLOSE_BRACE + SqliteUtility.ON + SqliteUtility.CONFLICT_REPLACE + SqliteUtility.COMMA
@@ -174,6 +195,131 @@ public class StoreDbHelper extends SQLiteOpenHelper {
     private static final String CREATE_INDEX_SUPPLIER_QUANTITY
             = SqliteUtility.CREATE_INDEX + "quantity_idx" + SqliteUtility.ON + SalesContract.ProductSupplierInventory.TABLE_NAME
             + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "item_id" and "is_default" columns of "item_image" table,
+    //for looking up the default image of the Items in the lists
+    private static final String CREATE_INDEX_ITEM_IMAGE_DEFAULT
+            = SqliteUtility.CREATE_INDEX + "item_image_default_idx" + SqliteUtility.ON + ProductContract.ProductImage.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + ProductContract.ProductImage.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + ProductContract.ProductImage.COLUMN_ITEM_IMAGE_DEFAULT + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" and "is_default" columns of "supplier_contact" table,
+    //for looking up the default contacts of the Suppliers in the list
+    private static final String CREATE_INDEX_SUPPLIER_CONTACT_DEFAULT
+            = SqliteUtility.CREATE_INDEX + "supplier_contact_default_idx" + SqliteUtility.ON + SupplierContract.SupplierContact.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SupplierContract.SupplierContact.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SupplierContract.SupplierContact.COLUMN_SUPPLIER_CONTACT_DEFAULT + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" and "item_id" columns of "item_supplier_info" table,
+    //for looking up the Items of a Supplier
+    private static final String CREATE_INDEX_SUPPLIER_INFO_SUPPLIER
+            = SqliteUtility.CREATE_INDEX + "supplier_info_supplier_idx" + SqliteUtility.ON + SalesContract.ProductSupplierInfo.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" and "item_id" columns of "item_supplier_inventory" table,
+    //for looking up the Inventory of a Supplier and for its cascaded deletes
+    private static final String CREATE_INDEX_SUPPLIER_INVENTORY_SUPPLIER
+            = SqliteUtility.CREATE_INDEX + "supplier_inventory_supplier_idx" + SqliteUtility.ON + SalesContract.ProductSupplierInventory.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "image_uri" column of "item_image" table,
+    //for counting the references to the Image files shared by the Items
+    private static final String CREATE_INDEX_ITEM_IMAGE_URI
+            = SqliteUtility.CREATE_INDEX + "item_image_uri_idx" + SqliteUtility.ON + ProductContract.ProductImage.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "category_id" column of "item" table,
+    //for joining the Items of each Category in the Stock aggregates
+    private static final String CREATE_INDEX_ITEM_CATEGORY
+            = SqliteUtility.CREATE_INDEX + "item_category_idx" + SqliteUtility.ON + ProductContract.Product.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + ProductContract.Product.COLUMN_ITEM_CATEGORY_ID + SqliteUtility.CLOSE_BRACE;
+    //Query that creates the Item Sales Summary Table. This table has no Foreign Key to the 'item' table,
+    //since its rows are maintained by the triggers that also fire during the cascaded deletes of an Item
+    private static final String CREATE_TABLE_ITEM_SALES_SUMMARY
+            = SqliteUtility.CREATE_TABLE + SalesContract.ProductSalesSummary.TABLE_NAME
+            + SqliteUtility.OPEN_BRACE
+            + SalesContract.ProductSalesSummary.COLUMN_ITEM_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.SPACE + SqliteUtility.PRIMARY_KEY + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + SalesContract.ProductSupplierInventory.DEFAULT_ITEM_AVAIL_QUANTITY + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_AVAIL_QUANTITY + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + SalesContract.ProductSupplierInventory.DEFAULT_ITEM_AVAIL_QUANTITY + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_UNIT_PRICE + SqliteUtility.SPACE + SqliteUtility.INTEGER
+            + SqliteUtility.CLOSE_BRACE;
+    //Names of the Triggers that maintain the Item Sales Summary table
+    private static final String TRIGGER_SUMMARY_INVENTORY_INSERT = "summary_inventory_insert";
+    private static final String TRIGGER_SUMMARY_INVENTORY_UPDATE = "summary_inventory_update";
+    private static final String TRIGGER_SUMMARY_INVENTORY_DELETE = "summary_inventory_delete";
+    private static final String TRIGGER_SUMMARY_INFO_INSERT = "summary_info_insert";
+    private static final String TRIGGER_SUMMARY_INFO_UPDATE = "summary_info_update";
+    private static final String TRIGGER_SUMMARY_INFO_DELETE = "summary_info_delete";
+    private static final String TRIGGER_SUMMARY_ITEM_DELETE = "summary_item_delete";
+    //Triggers that refresh the Item Sales Summary of the Item whose Inventory or Price was modified
+    private static final String CREATE_TRIGGER_SUMMARY_INVENTORY_INSERT = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INVENTORY_INSERT,
+            SqliteUtility.AFTER_INSERT_ON, SalesContract.ProductSupplierInventory.TABLE_NAME, SqliteUtility.TRIGGER_NEW_ROW);
+    private static final String CREATE_TRIGGER_SUMMARY_INVENTORY_UPDATE = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INVENTORY_UPDATE,
+            SqliteUtility.AFTER_UPDATE_ON, SalesContract.ProductSupplierInventory.TABLE_NAME, SqliteUtility.TRIGGER_OLD_ROW, SqliteUtility.TRIGGER_NEW_ROW);
+    private static final String CREATE_TRIGGER_SUMMARY_INVENTORY_DELETE = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INVENTORY_DELETE,
+            SqliteUtility.AFTER_DELETE_ON, SalesContract.ProductSupplierInventory.TABLE_NAME, SqliteUtility.TRIGGER_OLD_ROW);
+    private static final String CREATE_TRIGGER_SUMMARY_INFO_INSERT = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INFO_INSERT,
+            SqliteUtility.AFTER_INSERT_ON, SalesContract.ProductSupplierInfo.TABLE_NAME, SqliteUtility.TRIGGER_NEW_ROW);
+    private static final String CREATE_TRIGGER_SUMMARY_INFO_UPDATE = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INFO_UPDATE,
+            SqliteUtility.AFTER_UPDATE_ON, SalesContract.ProductSupplierInfo.TABLE_NAME, SqliteUtility.TRIGGER_OLD_ROW, SqliteUtility.TRIGGER_NEW_ROW);
+    private static final String CREATE_TRIGGER_SUMMARY_INFO_DELETE = buildSalesSummaryTrigger(TRIGGER_SUMMARY_INFO_DELETE,
+            SqliteUtility.AFTER_DELETE_ON, SalesContract.ProductSupplierInfo.TABLE_NAME, SqliteUtility.TRIGGER_OLD_ROW);
+    //Trigger that removes the Item Sales Summary of the Item deleted
+    private static final String CREATE_TRIGGER_SUMMARY_ITEM_DELETE
+            = SqliteUtility.CREATE_TRIGGER + TRIGGER_SUMMARY_ITEM_DELETE + SqliteUtility.AFTER_DELETE_ON + ProductContract.Product.TABLE_NAME
+            + SqliteUtility.FOR_EACH_ROW_BEGIN
+            + SqliteUtility.DELETE_FROM + SalesContract.ProductSalesSummary.TABLE_NAME
+            + SqliteUtility.WHERE + SalesContract.ProductSalesSummary.COLUMN_ITEM_ID + SqliteUtility.EQUALS + SqliteUtility.TRIGGER_OLD_ROW + ProductContract.Product._ID
+            + SqliteUtility.SEMICOLON
+            + SqliteUtility.END;
+    //Query that creates the Sales Event Table, the append-only Ledger of the quantities sold
+    private static final String CREATE_TABLE_SALES_EVENT
+            = SqliteUtility.CREATE_TABLE + SalesContract.SalesEvent.TABLE_NAME
+            + SqliteUtility.OPEN_BRACE
+            + SalesContract.SalesEvent._ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.SPACE + SqliteUtility.PRIMARY_KEY_AUTOINCREMENT + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_QUANTITY_DELTA + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_EVENT_TIME + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA
+            + SqliteUtility.CONSTRAINT + "fk_item_id"
+            + SqliteUtility.FOREIGN_KEY + SqliteUtility.OPEN_BRACE + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.REFERENCES + ProductContract.Product.TABLE_NAME + SqliteUtility.OPEN_BRACE + ProductContract.Product._ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.ON + SqliteUtility.DELETE_CASCADE + SqliteUtility.COMMA
+            + SqliteUtility.CONSTRAINT + "fk_supplier_id"
+            + SqliteUtility.FOREIGN_KEY + SqliteUtility.OPEN_BRACE + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.REFERENCES + SupplierContract.Supplier.TABLE_NAME + SqliteUtility.OPEN_BRACE + SupplierContract.Supplier._ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.ON + SqliteUtility.DELETE_CASCADE
+            + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "item_id" and "supplier_id" columns of "sales_event" table,
+    //for looking up the Sales of an Item and for its cascaded deletes
+    private static final String CREATE_INDEX_SALES_EVENT_ITEM
+            = SqliteUtility.CREATE_INDEX + "sales_event_item_idx" + SqliteUtility.ON + SalesContract.SalesEvent.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.CLOSE_BRACE;
+    //Query that creates the Sales Daily Rollup Table, that holds the Sales Events compacted by day
+    private static final String CREATE_TABLE_SALES_DAILY_ROLLUP
+            = SqliteUtility.CREATE_TABLE + SalesContract.SalesDailyRollup.TABLE_NAME
+            + SqliteUtility.OPEN_BRACE
+            + SalesContract.SalesDailyRollup.COLUMN_ITEM_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SALES_DAY + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_QUANTITY_DELTA + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + "0" + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_EVENT_COUNT + SqliteUtility.SPACE + SqliteUtility.INTEGER + SqliteUtility.NOT + SqliteUtility.NULL + SqliteUtility.DEFAULT + "0" + SqliteUtility.COMMA
+            + SqliteUtility.CONSTRAINT + "unique_record" + SqliteUtility.UNIQUE
+            + SqliteUtility.OPEN_BRACE + SalesContract.SalesDailyRollup.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SALES_DAY + SqliteUtility.CLOSE_BRACE + SqliteUtility.ON + SqliteUtility.CONFLICT_FAIL + SqliteUtility.COMMA
+            + SqliteUtility.CONSTRAINT + "fk_item_id"
+            + SqliteUtility.FOREIGN_KEY + SqliteUtility.OPEN_BRACE + SalesContract.SalesDailyRollup.COLUMN_ITEM_ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.REFERENCES + ProductContract.Product.TABLE_NAME + SqliteUtility.OPEN_BRACE + ProductContract.Product._ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.ON + SqliteUtility.DELETE_CASCADE + SqliteUtility.COMMA
+            + SqliteUtility.CONSTRAINT + "fk_supplier_id"
+            + SqliteUtility.FOREIGN_KEY + SqliteUtility.OPEN_BRACE + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.REFERENCES + SupplierContract.Supplier.TABLE_NAME + SqliteUtility.OPEN_BRACE + SupplierContract.Supplier._ID + SqliteUtility.CLOSE_BRACE
+            + SqliteUtility.ON + SqliteUtility.DELETE_CASCADE
+            + SqliteUtility.CLOSE_BRACE;
+    //Query that creates an Index on the "supplier_id" column of "sales_daily_rollup" table,
+    //for the cascaded deletes of a Supplier
+    private static final String CREATE_INDEX_SALES_DAILY_ROLLUP_SUPPLIER
+            = SqliteUtility.CREATE_INDEX + "sales_daily_rollup_supplier_idx" + SqliteUtility.ON + SalesContract.SalesDailyRollup.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.CLOSE_BRACE;
     //Stores the singleton instance of this class
     private static volatile StoreDbHelper INSTANCE;
 
@@ -186,12 +332,30 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      * @param context to use to open or create the database
      */
     private StoreDbHelper(Context context) {
+        this(context, DATABASE_NAME);
+    }
+
+    /**
+     * Create a helper object to create, open, and/or manage the database named {@code databaseName}.
+     * Used directly only by the tests, which need a database of their own.
+     *
+     * @param context      to use to open or create the database
+     * @param databaseName of the database file
+     */
+    @VisibleForTesting
+    StoreDbHelper(Context context, String databaseName) {
         //Propagating the call to super, to initialize the database
         super(context,
-                DATABASE_NAME,
+                databaseName,
                 new AppCursorFactory(), //Custom CursorFactory to log the queries fired
                 DATABASE_VERSION
         );
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            //For API Level 16 and above, enabling the Write-Ahead Logging, which opens a pool of
+            //connections for reading concurrently with the writes
+            setWriteAheadLoggingEnabled(true);
+        }
     }
 
     /**
@@ -239,6 +403,21 @@ public class StoreDbHelper extends SQLiteOpenHelper {
         //Creating an Index on the Available Quantity column of the table "item_supplier_inventory"
         db.execSQL(CREATE_INDEX_SUPPLIER_QUANTITY);
 
+        //Creating the Indexes that support the joins and lookups of the frequent queries
+        createCoveringIndexes(db);
+
+        //Creating the Index for counting the references to the shared Image files
+        db.execSQL(CREATE_INDEX_ITEM_IMAGE_URI);
+
+        //Creating the Index for joining the Items of each Category
+        db.execSQL(CREATE_INDEX_ITEM_CATEGORY);
+
+        //Creating the Item Sales Summary table with the triggers that keep it current
+        createSalesSummary(db);
+
+        //Creating the Sales Ledger tables
+        createSalesLedger(db);
+
         //Inserting predefined set of categories into the 'item_category' table
         insertPredefinedCategories();
 
@@ -246,17 +425,228 @@ public class StoreDbHelper extends SQLiteOpenHelper {
         insertPredefinedContactTypes();
     }
 
+    /**
+     * Method that creates the Indexes on the columns used by the joins and lookups of the frequent
+     * queries defined in {@link com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility}.
+     *
+     * @param db The database.
+     */
+    private void createCoveringIndexes(SQLiteDatabase db) {
+        db.execSQL(CREATE_INDEX_ITEM_IMAGE_DEFAULT);
+        db.execSQL(CREATE_INDEX_SUPPLIER_CONTACT_DEFAULT);
+        db.execSQL(CREATE_INDEX_SUPPLIER_INFO_SUPPLIER);
+        db.execSQL(CREATE_INDEX_SUPPLIER_INVENTORY_SUPPLIER);
+    }
+
+    /**
+     * Method that creates the 'item_sales_summary' table along with the triggers on the tables
+     * 'item_supplier_inventory', 'item_supplier_info' and 'item' that keep it current.
+     *
+     * @param db The database.
+     */
+    private void createSalesSummary(SQLiteDatabase db) {
+        db.execSQL(CREATE_TABLE_ITEM_SALES_SUMMARY);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INVENTORY_INSERT);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INVENTORY_UPDATE);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INVENTORY_DELETE);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INFO_INSERT);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INFO_UPDATE);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_INFO_DELETE);
+        db.execSQL(CREATE_TRIGGER_SUMMARY_ITEM_DELETE);
+    }
+
+    /**
+     * Method that drops the 'item_sales_summary' table along with the triggers that keep it current.
+     *
+     * @param db The database.
+     */
+    private void dropSalesSummary(SQLiteDatabase db) {
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INVENTORY_INSERT);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INVENTORY_UPDATE);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INVENTORY_DELETE);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INFO_INSERT);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INFO_UPDATE);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_INFO_DELETE);
+        db.execSQL(SqliteUtility.DROP_TRIGGER + TRIGGER_SUMMARY_ITEM_DELETE);
+        db.execSQL(SqliteUtility.DROP_TABLE + SalesContract.ProductSalesSummary.TABLE_NAME);
+    }
+
+    /**
+     * Method that summarizes all the existing Items into the 'item_sales_summary' table,
+     * by touching their Inventory which fires the refresh triggers.
+     *
+     * @param db The database.
+     */
+    private void refreshSalesSummary(SQLiteDatabase db) {
+        db.execSQL(SqliteUtility.UPDATE + SalesContract.ProductSupplierInventory.TABLE_NAME
+                + SqliteUtility.SET + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY
+                + SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY);
+    }
+
+    /**
+     * Method that converts the REAL Unit Prices of the 'item_supplier_info' table to INTEGER minor
+     * units of {@link Money}. Since SQLite cannot change the type of a column, the table is
+     * rebuilt with its data, and the 'item_sales_summary' that carries a copy of the
+     * Unit Price is rebuilt along with it.
+     *
+     * @param db The database.
+     */
+    private void migrateUnitPricesToMinorUnits(SQLiteDatabase db) {
+        //Name of the table holding the REAL Unit Prices during the migration
+        String legacyInfoTableName = SalesContract.ProductSupplierInfo.TABLE_NAME + "_legacy";
+
+        //Dropping the Item Sales Summary first, as its triggers refer to the table being rebuilt
+        dropSalesSummary(db);
+
+        //Moving the current table aside, along with its Index
+        db.execSQL(SqliteUtility.ALTER_TABLE + SalesContract.ProductSupplierInfo.TABLE_NAME
+                + SqliteUtility.RENAME_TO + legacyInfoTableName);
+
+        //Recreating the table with the INTEGER Unit Price column
+        db.execSQL(CREATE_TABLE_ITEM_SUPPLIER_INFO);
+
+        //Copying the records, rounding the Unit Prices to the nearest minor unit
+        db.execSQL(SqliteUtility.INSERT_INTO + SalesContract.ProductSupplierInfo.TABLE_NAME
+                + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.COMMA
+                + SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA
+                + SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + SqliteUtility.CLOSE_BRACE + SqliteUtility.SPACE
+                + SqliteUtility.SELECT + SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.COMMA
+                + SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA
+                + "CAST(ROUND(" + SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE + " * " + Money.MINOR_UNITS_PER_UNIT + ")" + SqliteUtility.AS + SqliteUtility.INTEGER + ")"
+                + SqliteUtility.FROM + legacyInfoTableName);
+
+        //Dropping the legacy table, which also drops its Index
+        db.execSQL(SqliteUtility.DROP_TABLE + legacyInfoTableName);
+        db.execSQL(CREATE_INDEX_SUPPLIER_INFO_SUPPLIER);
+
+        //Rebuilding the Item Sales Summary with the INTEGER Unit Price column
+        createSalesSummary(db);
+        refreshSalesSummary(db);
+    }
+
+    /**
+     * Method that creates the 'sales_event' Ledger table and the 'sales_daily_rollup' table
+     * it is compacted into, along with their Indexes.
+     *
+     * @param db The database.
+     */
+    private void createSalesLedger(SQLiteDatabase db) {
+        db.execSQL(CREATE_TABLE_SALES_EVENT);
+        db.execSQL(CREATE_INDEX_SALES_EVENT_ITEM);
+        db.execSQL(CREATE_TABLE_SALES_DAILY_ROLLUP);
+        db.execSQL(CREATE_INDEX_SALES_DAILY_ROLLUP_SUPPLIER);
+    }
+
+    /**
+     * Method that prepares the statement to create a Trigger on the {@code tableName} which refreshes
+     * the 'item_sales_summary' of the Items referred to by the rows affected.
+     *
+     * @param triggerName  The Name of the Trigger
+     * @param triggerEvent The event on which the Trigger fires, one of {@link SqliteUtility#AFTER_INSERT_ON},
+     *                     {@link SqliteUtility#AFTER_UPDATE_ON} or {@link SqliteUtility#AFTER_DELETE_ON}
+     * @param tableName    The Name of the Table ('item_supplier_inventory' or 'item_supplier_info')
+     *                     on which the Trigger is created
+     * @param rowQualifiers The qualifiers {@link SqliteUtility#TRIGGER_NEW_ROW} and/or {@link SqliteUtility#TRIGGER_OLD_ROW}
+     *                      of the rows whose Items are to be refreshed
+     * @return String containing the CREATE TRIGGER statement
+     */
+    private static String buildSalesSummaryTrigger(String triggerName, String triggerEvent,
+                                                   String tableName, String... rowQualifiers) {
+        StringBuilder triggerBuilder = new StringBuilder(SqliteUtility.CREATE_TRIGGER)
+                .append(triggerName).append(triggerEvent).append(tableName)
+                .append(SqliteUtility.FOR_EACH_ROW_BEGIN);
+        //Appending the refresh of the Item for each of the rows
+        for (String rowQualifier : rowQualifiers) {
+            appendSalesSummaryRefresh(triggerBuilder, rowQualifier + SalesContract.ProductSupplierColumns.COLUMN_ITEM_ID);
+        }
+        return triggerBuilder.append(SqliteUtility.END).toString();
+    }
+
+    /**
+     * Method that appends the statements which recompute the 'item_sales_summary' row of a single Item.
+     * The Top Supplier of the Item is the one having the most Available Quantity, and the row is
+     * not recreated when the Item itself is being deleted.
+     * <p>
+     * <pre>
+     *     DELETE FROM item_sales_summary WHERE item_id = NEW.item_id;
+     *     INSERT INTO item_sales_summary (item_id, total_available_quantity, top_supplier_id,
+     *     top_supplier_available_quantity, top_supplier_unit_price)
+     *     SELECT item_supplier_inventory.item_id,
+     *     (SELECT SUM(available_quantity) FROM item_supplier_inventory WHERE item_id = NEW.item_id),
+     *     item_supplier_inventory.supplier_id, item_supplier_inventory.available_quantity,
+     *     item_supplier_info.unit_price
+     *     FROM item_supplier_inventory JOIN item ON item._id = item_supplier_inventory.item_id
+     *     LEFT JOIN item_supplier_info ON item_supplier_info.item_id = item_supplier_inventory.item_id
+     *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id
+     *     WHERE item_supplier_inventory.item_id = NEW.item_id
+     *     ORDER BY item_supplier_inventory.available_quantity DESC, item_supplier_inventory.supplier_id
+     *     LIMIT 1;
+     * </pre>
+     *
+     * @param triggerBuilder The StringBuilder of the Trigger statement to append to
+     * @param itemIdRef      The reference to the Item ID in the Trigger, like "NEW.item_id"
+     */
+    private static void appendSalesSummaryRefresh(StringBuilder triggerBuilder, String itemIdRef) {
+        //Qualified Column Names of the tables involved
+        String inventoryItemId = SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID);
+        String inventorySupplierId = SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID);
+        String inventoryQuantity = SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY);
+
+        //Deleting the current Summary of the Item
+        triggerBuilder.append(SqliteUtility.DELETE_FROM).append(SalesContract.ProductSalesSummary.TABLE_NAME)
+                .append(SqliteUtility.WHERE).append(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID)
+                .append(SqliteUtility.EQUALS).append(itemIdRef)
+                .append(SqliteUtility.SEMICOLON).append(SqliteUtility.SPACE);
+
+        //Inserting the recomputed Summary of the Item
+        triggerBuilder.append(SqliteUtility.INSERT_INTO).append(SalesContract.ProductSalesSummary.TABLE_NAME)
+                .append(SqliteUtility.OPEN_BRACE)
+                .append(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID).append(SqliteUtility.COMMA)
+                .append(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY).append(SqliteUtility.COMMA)
+                .append(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID).append(SqliteUtility.COMMA)
+                .append(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_AVAIL_QUANTITY).append(SqliteUtility.COMMA)
+                .append(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_UNIT_PRICE)
+                .append(SqliteUtility.CLOSE_BRACE).append(SqliteUtility.SPACE)
+                .append(SqliteUtility.SELECT).append(inventoryItemId).append(SqliteUtility.COMMA)
+                //Sub query for the Total Available Quantity of the Item
+                .append(SqliteUtility.OPEN_BRACE).append(SqliteUtility.SELECT)
+                .append(SqliteUtility.SUM).append(SqliteUtility.OPEN_BRACE)
+                .append(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY).append(SqliteUtility.CLOSE_BRACE)
+                .append(SqliteUtility.FROM).append(SalesContract.ProductSupplierInventory.TABLE_NAME)
+                .append(SqliteUtility.WHERE).append(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
+                .append(SqliteUtility.EQUALS).append(itemIdRef).append(SqliteUtility.CLOSE_BRACE).append(SqliteUtility.COMMA)
+                .append(inventorySupplierId).append(SqliteUtility.COMMA)
+                .append(inventoryQuantity).append(SqliteUtility.COMMA)
+                .append(SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE))
+                .append(SqliteUtility.FROM).append(SalesContract.ProductSupplierInventory.TABLE_NAME)
+                //Joining with the Item to skip the Items being deleted
+                .append(SqliteUtility.JOIN).append(ProductContract.Product.TABLE_NAME).append(SqliteUtility.ON)
+                .append(ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID))
+                .append(SqliteUtility.EQUALS).append(inventoryItemId)
+                .append(SqliteUtility.LEFT_JOIN).append(SalesContract.ProductSupplierInfo.TABLE_NAME).append(SqliteUtility.ON)
+                .append(SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID))
+                .append(SqliteUtility.EQUALS).append(inventoryItemId)
+                .append(SqliteUtility.AND)
+                .append(SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID))
+                .append(SqliteUtility.EQUALS).append(inventorySupplierId)
+                .append(SqliteUtility.WHERE).append(inventoryItemId).append(SqliteUtility.EQUALS).append(itemIdRef)
+                .append(SqliteUtility.ORDER_BY).append(inventoryQuantity).append(SqliteUtility.DESC).append(SqliteUtility.COMMA)
+                .append(inventorySupplierId)
+                .append(SqliteUtility.LIMIT).append(1)
+                .append(SqliteUtility.SEMICOLON);
+    }
+
     /**
      * Method that loads a predefined set of categories into the 'item_category' table
      */
     private void insertPredefinedCategories() {
         //Executing in the background thread
-        AppExecutors.getInstance().getDiskIO().execute(() -> {
+        AppExecutors.getInstance().getDbWrite().execute(() -> {
             //Get the Categories to insert
             String[] preloadedCategories = ProductContract.ProductCategory.getPreloadedCategories();
 
             //Retrieving the database in write mode
-            SQLiteDatabase writableDatabase = INSTANCE.getWritableDatabase();
+            SQLiteDatabase writableDatabase = getWritableDatabase();
 
             //Stores the count of records inserted
             int noOfRecordsInserted = 0;
@@ -312,12 +702,12 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      */
     private void insertPredefinedContactTypes() {
         //Executing in the background thread
-        AppExecutors.getInstance().getDiskIO().execute(() -> {
+        AppExecutors.getInstance().getDbWrite().execute(() -> {
             //Get the Contact types to insert
             String[] preloadedContactTypes = SupplierContract.SupplierContactType.getPreloadedContactTypes();
 
             //Retrieving the database in write mode
-            SQLiteDatabase writableDatabase = INSTANCE.getWritableDatabase();
+            SQLiteDatabase writableDatabase = getWritableDatabase();
 
             //Stores the count of records inserted
             int noOfRecordsInserted = 0;
@@ -394,24 +784,58 @@ public class StoreDbHelper extends SQLiteOpenHelper {
      */
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-        //Dropping the Database tables and recreating it on Version Upgrade
-
-        //Dropping the tables
-        db.execSQL("DROP TABLE IF EXISTS " + ProductContract.Product.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductContract.ProductCategory.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductContract.ProductImage.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + ProductContract.ProductAttribute.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SupplierContract.Supplier.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SupplierContract.SupplierContactType.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SupplierContract.SupplierContact.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SalesContract.ProductSupplierInfo.TABLE_NAME);
-        db.execSQL("DROP TABLE IF EXISTS " + SalesContract.ProductSupplierInventory.TABLE_NAME);
-
-        //Dropping the Indexes manually created
-        db.execSQL("DROP INDEX quantity_idx");
-
-        //Recreating all the tables
-        onCreate(db);
+        //Migrating the database one Version at a time, so that the data is retained across the upgrades
+        for (int targetVersion = oldVersion + 1; targetVersion <= newVersion; targetVersion++) {
+            Log.i(LOG_TAG, "onUpgrade: Migrating the database to Version " + targetVersion);
+            migrateToVersion(db, targetVersion);
+        }
+    }
+
+    /**
+     * Method that migrates the database schema from the previous Version to the {@code targetVersion}.
+     * Every change to the schema needs to bump the {@link #DATABASE_VERSION} and add its step here,
+     * while {@link #onCreate(SQLiteDatabase)} creates the schema of the latest Version directly.
+     *
+     * @param db            The database.
+     * @param targetVersion The Version of the database to migrate to
+     * @throws IllegalStateException when there is no migration defined for the {@code targetVersion}
+     */
+    private void migrateToVersion(SQLiteDatabase db, int targetVersion) {
+        switch (targetVersion) {
+            case 2:
+                //Version 2: Item Sales Summary table with its triggers
+                createSalesSummary(db);
+                refreshSalesSummary(db);
+                break;
+            case 3:
+                //Version 3: Indexes for the joins and lookups of the frequent queries
+                createCoveringIndexes(db);
+                break;
+            case 4:
+                //Version 4: Index for counting the references to the Image files shared by the Items
+                db.execSQL(CREATE_INDEX_ITEM_IMAGE_URI);
+                break;
+            case 5:
+                //Version 5: Sales Ledger tables
+                createSalesLedger(db);
+                break;
+            case 6:
+                //Version 6: Unit Prices stored as Integer minor units
+                migrateUnitPricesToMinorUnits(db);
+                break;
+            case 7:
+                //Version 7: Reorder Level of the Items
+                db.execSQL(SqliteUtility.ALTER_TABLE + ProductContract.Product.TABLE_NAME
+                        + SqliteUtility.ADD_COLUMN + COLUMN_DEFINITION_ITEM_REORDER_LEVEL);
+                break;
+            case 8:
+                //Version 8: Index for joining the Items of each Category
+                db.execSQL(CREATE_INDEX_ITEM_CATEGORY);
+                break;
+            default:
+                //Failing the upgrade, which rolls back all the changes made, when a step is missing
+                throw new IllegalStateException("No migration defined for the database Version " + targetVersion);
+        }
     }
 
     /**
@@ -443,6 +867,147 @@ public class StoreDbHelper extends SQLiteOpenHelper {
             String foreignKeyPragmaStr = "PRAGMA foreign_keys = ON";
             db.execSQL(foreignKeyPragmaStr);
         }
+
+        //Applying the Checkpoint policy of the Write-Ahead Log
+        applyWalCheckpointPolicy(db);
+    }
+
+    /**
+     * Called when the database has been opened.  The implementation
+     * should check {@link SQLiteDatabase#isReadOnly} before updating the
+     * database.
+     * <p>
+     * This method is called after the database connection has been configured
+     * and after the database schema has been created, upgraded or downgraded as necessary.
+     * </p>
+     *
+     * @param db The database.
+     */
+    @Override
+    public void onOpen(SQLiteDatabase db) {
+        super.onOpen(db);
+
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN && !db.isReadOnly()) {
+            //For API Level below 16, where the connection is not configured through onConfigure,
+            //enabling the Write-Ahead Logging and its Checkpoint policy here
+            db.enableWriteAheadLogging();
+            applyWalCheckpointPolicy(db);
+        }
+
+        //Running the startup self-check of the database in the background
+        AppExecutors.getInstance().getDbRead().execute(() -> runSelfCheck(getReadableDatabase()));
+    }
+
+    /**
+     * Method that applies the Checkpoint policy of the Write-Ahead Log to the primary connection,
+     * which performs all the writes and hence the automatic checkpoints.
+     * <p>
+     * The Write-Ahead Log is checkpointed into the database automatically when it grows beyond
+     * {@link AppConstants#DB_WAL_AUTO_CHECKPOINT_PAGES} pages, and is truncated to
+     * {@link AppConstants#DB_WAL_JOURNAL_SIZE_LIMIT_BYTES} after a checkpoint. An explicit checkpoint
+     * can be requested with {@link #checkpointWal(String)} when the App is idle.
+     * </p>
+     *
+     * @param db The database.
+     */
+    private void applyWalCheckpointPolicy(SQLiteDatabase db) {
+        executePragma(db, "PRAGMA wal_autocheckpoint = " + AppConstants.DB_WAL_AUTO_CHECKPOINT_PAGES);
+        executePragma(db, "PRAGMA journal_size_limit = " + AppConstants.DB_WAL_JOURNAL_SIZE_LIMIT_BYTES);
+        //WAL is durable with NORMAL synchronous mode, which saves a sync on every commit
+        executePragma(db, "PRAGMA synchronous = NORMAL");
+    }
+
+    /**
+     * Method that checkpoints the Write-Ahead Log into the database in the {@code checkpointMode}
+     * requested. This should be called on the Database Write Thread, when the App is idle.
+     *
+     * @param checkpointMode The mode of the Checkpoint defined by {@link WalCheckpointModeDef}
+     */
+    @WorkerThread
+    public void checkpointWal(@WalCheckpointModeDef String checkpointMode) {
+        SQLiteDatabase writableDatabase = getWritableDatabase();
+        if (!JOURNAL_MODE_WAL.equalsIgnoreCase(executePragma(writableDatabase, "PRAGMA journal_mode"))) {
+            //Bail out when the database is not in Write-Ahead Logging mode
+            return;
+        }
+
+        //Result of the Checkpoint: Busy flag, Number of pages in the Log, Number of pages checkpointed
+        Cursor cursor = writableDatabase.rawQuery("PRAGMA wal_checkpoint(" + checkpointMode + ")", null);
+        try {
+            if (cursor.moveToFirst()) {
+                Log.i(LOG_TAG, "checkpointWal: " + checkpointMode + " busy=" + cursor.getInt(0)
+                        + ", logPages=" + cursor.getInt(1) + ", checkpointedPages=" + cursor.getInt(2));
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Method that runs a self-check of the database opened, which verifies that the database
+     * is in the Write-Ahead Logging mode with the Foreign Key Constraints enabled, and that
+     * the database is not corrupt.
+     *
+     * @param db The database.
+     * @return <b>TRUE</b> when all the checks passed; <b>FALSE</b> otherwise.
+     */
+    @WorkerThread
+    private boolean runSelfCheck(SQLiteDatabase db) {
+        boolean selfCheckPassed = true;
+
+        //Verifying the Journal Mode
+        String journalMode = executePragma(db, "PRAGMA journal_mode");
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN && !JOURNAL_MODE_WAL.equalsIgnoreCase(journalMode)) {
+            //When the database could not be switched to WAL (like on file systems not supporting it)
+            Log.w(LOG_TAG, "runSelfCheck: Database is not in WAL mode, journal_mode=" + journalMode);
+            selfCheckPassed = false;
+        }
+
+        //Verifying the Foreign Key Constraints
+        String foreignKeys = executePragma(db, "PRAGMA foreign_keys");
+        if (!"1".equals(foreignKeys)) {
+            Log.w(LOG_TAG, "runSelfCheck: Foreign Key Constraints are not enabled");
+            selfCheckPassed = false;
+        }
+
+        //Verifying the database structure for corruption
+        String integrityResult = executePragma(db, "PRAGMA quick_check");
+        if (!INTEGRITY_CHECK_OK.equalsIgnoreCase(integrityResult)) {
+            Log.e(LOG_TAG, "runSelfCheck: Database failed the integrity check: " + integrityResult);
+            selfCheckPassed = false;
+        }
+
+        if (selfCheckPassed) {
+            Log.i(LOG_TAG, "runSelfCheck: Database self-check passed, journal_mode=" + journalMode);
+        }
+
+        return selfCheckPassed;
+    }
+
+    /**
+     * Method that executes the {@code pragma} statement and returns the value of its
+     * first column in the first row if any. PRAGMA statements that return a value
+     * cannot be executed with {@link SQLiteDatabase#execSQL(String)}.
+     *
+     * @param db     The database.
+     * @param pragma The PRAGMA statement to execute
+     * @return The value of the first column in the first row of the result if any; or {@code null}
+     */
+    private static String executePragma(@NonNull SQLiteDatabase db, @NonNull String pragma) {
+        Cursor cursor = db.rawQuery(pragma, null);
+        try {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    //Defining Annotation interface for valid modes of WAL Checkpoint
+    //Enumerating Annotation with the valid modes of WAL Checkpoint
+    //Retains annotation till Compile Time
+    @StringDef({WAL_CHECKPOINT_PASSIVE, WAL_CHECKPOINT_FULL, WAL_CHECKPOINT_RESTART})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface WalCheckpointModeDef {
     }
 
     /**
@@ -19,19 +19,29 @@ package com.example.store_keeper.store_keeper.data.local;
 import android.content.ContentResolver;
 import android.content.Context;
 import android.content.Intent;
+import android.database.Cursor;
+import android.database.SQLException;
 import android.net.Uri;
 import android.os.Build;
 import android.support.annotation.NonNull;
+import android.support.annotation.StringRes;
 import android.util.Log;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.FileRepository;
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.utils.AppExecutors;
 import com.example.store_keeper.store_keeper.utils.FileStorageUtility;
 import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The File Repository class that implements {@link FileRepository} interface
@@ -47,6 +57,9 @@ public class StoreFileRepository implements FileRepository {
     //Singleton instance of StoreFileRepository
     private static volatile StoreFileRepository INSTANCE;
 
+    //The Application Context to locate the Image files saved by the App
+    private final Context mAppContext;
+
     //The ContentResolver instance to take URI permissions and to delete the files
     private final ContentResolver mContentResolver;
 
@@ -56,29 +69,32 @@ public class StoreFileRepository implements FileRepository {
     /**
      * Private Constructor of {@link StoreFileRepository}
      *
-     * @param contentResolver The {@link ContentResolver} instance to take URI permissions and to delete the files
-     * @param appExecutors    {@link AppExecutors} instance for threading requests
+     * @param context      A {@link Context} to derive the Application Context and
+     *                     the {@link ContentResolver} instance from
+     * @param appExecutors {@link AppExecutors} instance for threading requests
      */
-    private StoreFileRepository(@NonNull ContentResolver contentResolver, @NonNull AppExecutors appExecutors) {
-        mContentResolver = contentResolver;
+    private StoreFileRepository(@NonNull Context context, @NonNull AppExecutors appExecutors) {
+        mAppContext = context.getApplicationContext();
+        mContentResolver = mAppContext.getContentResolver();
         mAppExecutors = appExecutors;
     }
 
     /**
      * Singleton Constructor that creates a single instance of {@link StoreFileRepository}
      *
-     * @param contentResolver The {@link ContentResolver} instance to take URI permissions and to delete the files
-     * @param appExecutors    {@link AppExecutors} instance for threading requests
+     * @param context      A {@link Context} to derive the Application Context and
+     *                     the {@link ContentResolver} instance from
+     * @param appExecutors {@link AppExecutors} instance for threading requests
      * @return New or existing instance of {@link StoreFileRepository}
      */
-    public static StoreFileRepository getInstance(@NonNull ContentResolver contentResolver, @NonNull AppExecutors appExecutors) {
+    public static StoreFileRepository getInstance(@NonNull Context context, @NonNull AppExecutors appExecutors) {
         if (INSTANCE == null) {
             //When instance is not available
             synchronized (StoreFileRepository.class) {
                 //Apply lock and check for the instance again
                 if (INSTANCE == null) {
                     //When there is no instance, create a new one
-                    INSTANCE = new StoreFileRepository(contentResolver, appExecutors);
+                    INSTANCE = new StoreFileRepository(context, appExecutors);
                 }
             }
         }
@@ -88,7 +104,8 @@ public class StoreFileRepository implements FileRepository {
 
     /**
      * Method that saves the Image pointed to by the Content URI {@code fileContentUri}
-     * in a file located at the app's private external storage path.
+     * in a file located at the app's private external storage path, along with
+     * its smaller Thumbnail and Medium variants.
      *
      * @param context            The Context of the Activity/Fragment
      * @param fileContentUri     The Content Uri of the Temporary Image File
@@ -99,8 +116,8 @@ public class StoreFileRepository implements FileRepository {
         if (FileStorageUtility.isExternalStorageMounted()) {
             //When the external storage is mounted, begin the save process in the disk thread
 
-            //Executing on the Disk Thread
-            mAppExecutors.getDiskIO().execute(() -> {
+            //Executing on a File I/O Thread
+            mAppExecutors.getFileIO().execute(() -> {
                 //Stores the URI of the saved image
                 Uri savedImageFileUri = null;
                 try {
@@ -155,38 +172,277 @@ public class StoreFileRepository implements FileRepository {
      */
     @Override
     public void deleteImageFiles(List<String> fileContentUriList, FileOperationsCallback<Boolean> operationsCallback) {
-        if (FileStorageUtility.isExternalStorageMounted()) {
-            //When the external storage is mounted, begin the delete process in the disk thread
-
-            //Executing on the Disk Thread
-            mAppExecutors.getDiskIO().execute(() -> {
-                //Saves the final result of the operation
-                int noOfFilesDeleted = 0;
-
-                //Iterating over the list and deleting the files one by one
-                for (String fileContentUriStr : fileContentUriList) {
-                    boolean fileDeleted = ImageStorageUtility.deleteImageFile(
-                            Uri.parse(fileContentUriStr),
-                            mContentResolver
-                    );
-                    noOfFilesDeleted += fileDeleted ? 1 : 0;
+        //Deleting the files in parallel, and reporting the overall result
+        deleteImageFilesInBatch(fileContentUriList, new BatchFileOperationsCallback<String, Boolean>() {
+            /**
+             * Method invoked on the Main Thread once all the items of the batch are processed.
+             *
+             * @param itemResults List of {@link BatchItemResult} with the outcome of each item,
+             *                    in the order of the items of the batch.
+             */
+            @Override
+            public void onComplete(List<BatchItemResult<String, Boolean>> itemResults) {
+                for (BatchItemResult<String, Boolean> itemResult : itemResults) {
+                    if (!itemResult.isSuccess()) {
+                        //When not all files were deleted, dispatch the error to the callback
+                        operationsCallback.onFailure(R.string.product_image_delete_error);
+                        return;
+                    }
                 }
+                //When all files were deleted successfully
+                operationsCallback.onSuccess(true);
+            }
+        });
+    }
 
-                //Saving to pass the result to the callback
-                final int finalNoOfFilesDeleted = noOfFilesDeleted;
+    /**
+     * Method that saves the Images pointed to by the Content URIs {@code fileContentUris} in files
+     * located at the app's private external storage path, along with their smaller variants.
+     * The Images are saved in parallel, and the outcome of every Image is reported together
+     * once all of them are processed.
+     *
+     * @param context            The Context of the Activity/Fragment
+     * @param fileContentUris    List of Content Uris of the Image Files to be saved
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image, which is the Content URI of the Image saved.
+     */
+    @Override
+    public void saveImagesToFiles(Context context, List<Uri> fileContentUris,
+                                  BatchFileOperationsCallback<Uri, Uri> operationsCallback) {
+        if (!FileStorageUtility.isExternalStorageMounted()) {
+            //When the external storage is NOT mounted, fail all the Images
+            failBatch(fileContentUris, R.string.product_image_disk_not_mounted_save_error, operationsCallback);
+            return;
+        }
 
-                //Passing the results on the Main Thread
+        //Saving the Images in parallel. Limited to fewer Images at a time, as each decodes a large Bitmap
+        runBatch(fileContentUris, AppConstants.IMAGE_BATCH_SAVE_PARALLELISM, R.string.product_image_save_error, fileContentUri -> {
+            try {
+                //Saving the Image to a file and retrieving its Content URI
+                Uri savedImageFileUri = ImageStorageUtility.saveImage(context, fileContentUri);
+                if (savedImageFileUri != null) {
+                    return BatchItemResult.success(fileContentUri, savedImageFileUri);
+                }
+            } catch (IOException e) {
+                Log.e(LOG_TAG, "saveImagesToFiles: Error occurred while saving the image " + fileContentUri, e);
+            }
+            //When the Image failed to save
+            return BatchItemResult.failure(fileContentUri, R.string.product_image_save_error);
+        }, operationsCallback);
+    }
+
+    /**
+     * Method that deletes the Image files passed in {@code fileContentUriList} in parallel,
+     * and reports the outcome of every Image file together once all of them are processed.
+     * Image files that are still referred to by any Product are shared, and hence retained.
+     * <p>
+     * Image files modified within the grace period {@link AppConstants#IMAGE_ORPHAN_GRACE_PERIOD_MILLIS}
+     * may also be shared by an edit that is not saved yet, which is not visible in the references.
+     * Hence these are retained as well, and are reclaimed later by the
+     * {@link com.example.store_keeper.store_keeper.workers.OrphanImageSweeper} when no longer referenced.
+     * </p>
+     *
+     * @param fileContentUriList List of String URIs (Content URIs) of the Image Files to be deleted.
+     * @param operationsCallback The Callback to be implemented by the caller to receive the progress
+     *                           and the outcome of each Image file.
+     */
+    @Override
+    public void deleteImageFilesInBatch(List<String> fileContentUriList,
+                                        BatchFileOperationsCallback<String, Boolean> operationsCallback) {
+        if (!FileStorageUtility.isExternalStorageMounted()) {
+            //When the external storage is NOT mounted, fail all the Image files
+            failBatch(fileContentUriList, R.string.product_image_delete_error, operationsCallback);
+            return;
+        }
+
+        //Deleting the Image files in parallel
+        runBatch(fileContentUriList, AppConstants.IMAGE_BATCH_DELETE_PARALLELISM, R.string.product_image_delete_error, fileContentUriStr -> {
+            //Reading the number of Products still referring to the Image file
+            int imageRefCount = getImageRefCount(fileContentUriStr);
+            if (imageRefCount < 0) {
+                //When the references could not be read, do not delete as the file may still be in use
+                return BatchItemResult.failure(fileContentUriStr, R.string.product_image_delete_error);
+            } else if (imageRefCount > 0) {
+                //When the Image file is shared with other Products, retain it
+                Log.i(LOG_TAG, "deleteImageFilesInBatch: Retaining the image " + fileContentUriStr
+                        + " referenced by " + imageRefCount + " record(s)");
+                return BatchItemResult.success(fileContentUriStr, true);
+            }
+
+            Uri fileContentUri = Uri.parse(fileContentUriStr);
+            File imageFile = ImageStorageUtility.getImageFileForContentUri(mAppContext, fileContentUri);
+            if (imageFile == null) {
+                //When the file is not an Image shared by its content, delete it directly
+                return deleteImageFile(fileContentUri, fileContentUriStr);
+            }
+
+            //Excluding a save that shares the same Image, while the Image is being deleted
+            synchronized (ImageStorageUtility.getImageWriteLock(imageFile)) {
+                long graceCutoffMillis = System.currentTimeMillis() - AppConstants.IMAGE_ORPHAN_GRACE_PERIOD_MILLIS;
+                if (ImageStorageUtility.isImageModifiedAfter(imageFile, graceCutoffMillis)) {
+                    //When the Image was saved or shared recently, an unsaved edit may still refer to it.
+                    //Hence retain it for the OrphanImageSweeper to reclaim later
+                    Log.i(LOG_TAG, "deleteImageFilesInBatch: Retaining the recently modified image " + fileContentUriStr);
+                    return BatchItemResult.success(fileContentUriStr, true);
+                }
+
+                //Deleting the Image file when no longer referenced
+                return deleteImageFile(fileContentUri, fileContentUriStr);
+            }
+        }, operationsCallback);
+    }
+
+    /**
+     * Method that deletes the Image file pointed to by the Content URI {@code fileContentUri}
+     * along with its variants, and returns the outcome for the batch.
+     *
+     * @param fileContentUri    The Content URI of the Image File
+     * @param fileContentUriStr The String URI of the Image File, that identifies the item of the batch
+     * @return {@link BatchItemResult} with the outcome of deleting the Image file
+     */
+    private BatchItemResult<String, Boolean> deleteImageFile(Uri fileContentUri, String fileContentUriStr) {
+        boolean fileDeleted = ImageStorageUtility.deleteImageFile(fileContentUri, mContentResolver);
+        return fileDeleted ? BatchItemResult.success(fileContentUriStr, true)
+                : BatchItemResult.failure(fileContentUriStr, R.string.product_image_delete_error);
+        }, operationsCallback);
+    }
+
+    /**
+     * Method that reads the number of records in the 'item_image' table referring to the Image
+     * {@code fileContentUriStr}. Images saved by the App are shared by all the Products having
+     * the identical Image, hence the Image file can be deleted only when this count drops to 0.
+     *
+     * @param fileContentUriStr The String URI (Content URI) of the Image File
+     * @return The number of records referring to the Image file; or {@code -1} when the
+     * references could not be read.
+     */
+    private int getImageRefCount(String fileContentUriStr) {
+        //Cursor to the count of references
+        Cursor cursor = null;
+        try {
+            //Retrieving the cursor to the count of references
+            cursor = mContentResolver.query(
+                    ProductContract.ProductImage.buildImageRefsUri(fileContentUriStr),
+                    QueryArgsUtility.ItemImageRefsQuery.getProjection(),
+                    null,
+                    null,
+                    null
+            );
+            if (cursor != null && cursor.moveToFirst()) {
+                //Returning the count read
+                return cursor.getInt(QueryArgsUtility.ItemImageRefsQuery.COLUMN_REF_COUNT_INDEX);
+            }
+        } catch (SQLException e) {
+            Log.e(LOG_TAG, "getImageRefCount: Error occurred while reading the references of " + fileContentUriStr, e);
+        } finally {
+            //Closing the cursor
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+        //Returning -1 when the count could not be read
+        return -1;
+    }
+
+    /**
+     * Method that executes the {@code itemOperation} on all the {@code items} of a batch on the
+     * File I/O Threads, with upto {@code parallelism} items in progress at a time. Each item is queued
+     * as a separate task, so that the other File I/O tasks are not held up until the batch completes.
+     * Progress is reported on the Main Thread as each item completes, and the outcomes of all
+     * the items are reported once at the end.
+     *
+     * @param items              List of the items of the batch
+     * @param parallelism        The maximum number of items in progress at a time
+     * @param errorMessageId     The String resource of the error message of an item whose operation
+     *                           failed unexpectedly
+     * @param itemOperation      The operation to execute on each item
+     * @param operationsCallback The Callback to receive the progress and the outcome of each item
+     * @param <I>                The type of the items of the batch
+     * @param <R>                The type of the result of an item when successful
+     */
+    private <I, R> void runBatch(List<I> items, int parallelism, @StringRes int errorMessageId,
+                                 BatchItemOperation<I, R> itemOperation,
+                                 BatchFileOperationsCallback<I, R> operationsCallback) {
+        //Taking a copy to guard against the changes by the caller
+        final List<I> batchItems = new ArrayList<>(items);
+        final int totalCount = batchItems.size();
+        if (totalCount == 0) {
+            //Completing right away when there is nothing to process
+            mAppExecutors.getMainThread().execute(() -> operationsCallback.onComplete(new ArrayList<>()));
+            return;
+        }
+
+        //Outcomes of the items, in the order of the items
+        final AtomicReferenceArray<BatchItemResult<I, R>> itemResults = new AtomicReferenceArray<>(totalCount);
+        //Index of the next item to be processed
+        final AtomicInteger nextIndex = new AtomicInteger(0);
+        //Number of items processed
+        final AtomicInteger completedCount = new AtomicInteger(0);
+
+        //Task that processes the next item of the batch and queues itself again for the item after
+        Runnable batchTask = new Runnable() {
+            /**
+             * Processes the next item of the batch if any, and queues itself again.
+             */
+            @Override
+            public void run() {
+                int index = nextIndex.getAndIncrement();
+                if (index >= totalCount) {
+                    //Bail out when all the items are taken up
+                    return;
+                }
+
+                //Processing the item
+                I item = batchItems.get(index);
+                BatchItemResult<I, R> itemResult;
+                try {
+                    itemResult = itemOperation.execute(item);
+                } catch (RuntimeException e) {
+                    Log.e(LOG_TAG, "runBatch: Error occurred while processing the item " + item, e);
+                    itemResult = BatchItemResult.failure(item, errorMessageId);
+                }
+                itemResults.set(index, itemResult);
+
+                //Reporting the progress, and the outcomes when all the items are processed
+                final int finalCompletedCount = completedCount.incrementAndGet();
                 mAppExecutors.getMainThread().execute(() -> {
-                    if (finalNoOfFilesDeleted == fileContentUriList.size()) {
-                        //When all files were deleted successfully
-                        operationsCallback.onSuccess(true);
-                    } else {
-                        //When not all files were deleted, dispatch the error to the callback
-                        operationsCallback.onFailure(R.string.product_image_delete_error);
+                    operationsCallback.onProgress(finalCompletedCount, totalCount);
+                    if (finalCompletedCount == totalCount) {
+                        List<BatchItemResult<I, R>> itemResultList = new ArrayList<>(totalCount);
+                        for (int resultIndex = 0; resultIndex < totalCount; resultIndex++) {
+                            itemResultList.add(itemResults.get(resultIndex));
+                        }
+                        operationsCallback.onComplete(itemResultList);
                     }
                 });
-            });
+
+                //Queueing again for the next item
+                mAppExecutors.getFileIO().execute(this);
+            }
+        };
+
+        //Starting the batch with the parallelism allowed
+        for (int taskCount = Math.min(parallelism, totalCount); taskCount > 0; taskCount--) {
+            mAppExecutors.getFileIO().execute(batchTask);
+        }
+    }
+
+    /**
+     * Method that reports the failure of all the {@code items} of a batch on the Main Thread.
+     *
+     * @param items              List of the items of the batch
+     * @param errorMessageId     The String resource of the error message of each item
+     * @param operationsCallback The Callback to receive the outcome of each item
+     * @param <I>                The type of the items of the batch
+     * @param <R>                The type of the result of an item when successful
+     */
+    private <I, R> void failBatch(List<I> items, @StringRes int errorMessageId,
+                                  BatchFileOperationsCallback<I, R> operationsCallback) {
+        List<BatchItemResult<I, R>> itemResults = new ArrayList<>(items.size());
+        for (I item : items) {
+            itemResults.add(BatchItemResult.failure(item, errorMessageId));
         }
+        mAppExecutors.getMainThread().execute(() -> operationsCallback.onComplete(itemResults));
     }
 
     /**
@@ -201,5 +457,20 @@ public class StoreFileRepository implements FileRepository {
         //This is implemented by the StoreRepository
     }
 
+    /**
+     * Operation executed on each item of a batch by {@link #runBatch(List, int, int, BatchItemOperation, BatchFileOperationsCallback)}
+     *
+     * @param <I> The type of the items of the batch
+     * @param <R> The type of the result of an item when successful
+     */
+    private interface BatchItemOperation<I, R> {
+        /**
+         * Method that executes the operation on the {@code item}, on a File I/O Thread.
+         *
+         * @param item The item of the batch
+         * @return The {@link BatchItemResult} with the outcome of the item
+         */
+        BatchItemResult<I, R> execute(I item);
+    }
 
 }
@@ -16,37 +16,49 @@
 
 package com.example.store_keeper.store_keeper.data.local;
 
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentUris;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.database.ContentObserver;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.RemoteException;
 import android.support.annotation.MainThread;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 import android.support.v4.util.Pair;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.DataRepository;
 import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.CategoryStock;
+import com.example.store_keeper.store_keeper.data.local.models.Money;
 import com.example.store_keeper.store_keeper.data.local.models.Product;
 import com.example.store_keeper.store_keeper.data.local.models.ProductAttribute;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierInfo;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
+import com.example.store_keeper.store_keeper.data.local.models.StockLevels;
 import com.example.store_keeper.store_keeper.data.local.models.Supplier;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierContact;
+import com.example.store_keeper.store_keeper.data.local.models.SupplierStock;
+import com.example.store_keeper.store_keeper.data.local.utils.DiffUtility;
 import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
 import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
 import com.example.store_keeper.store_keeper.utils.AppExecutors;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -69,6 +81,12 @@ public class StoreLocalRepository implements DataRepository {
     //AppExecutors instance for threading requests
     private final AppExecutors mAppExecutors;
 
+    //Decreases of the available quantity of the Products sold, queued to be written in a single transaction
+    private final ArrayList<PendingInventoryDecrease> mPendingInventoryDecreases = new ArrayList<>();
+
+    //Whether a write of the queued decreases is already queued on the Database Write Thread
+    private boolean mInventoryDecreaseQueued;
+
     /**
      * Private Constructor of {@link StoreLocalRepository}
      *
@@ -109,8 +127,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void getAllCategories(@NonNull GetQueryCallback<List<String>> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Retrieving the cursor to the records, sorted by "category_name" column
             Cursor cursor = mContentResolver.query(
                     ProductContract.ProductCategory.CONTENT_URI,
@@ -160,8 +178,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void getCategoryByName(@NonNull String categoryName, @NonNull GetQueryCallback<Integer> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread, with UI blocking priority
+        mAppExecutors.getDbReadPriority().execute(() -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ProductContract.ProductCategory.buildCategoryNameUri(categoryName),
@@ -218,8 +236,8 @@ public class StoreLocalRepository implements DataRepository {
     @Override
     public void getProductDetailsById(int productId, @NonNull GetQueryCallback<Product> queryCallback) {
         //Retrieving the Product details for the Product ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, productId),
@@ -240,6 +258,7 @@ public class StoreLocalRepository implements DataRepository {
                     String itemSku = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_SKU_INDEX);
                     String itemDescription = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_DESCRIPTION_INDEX);
                     String itemCategoryName = cursor.getString(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_CATEGORY_NAME_INDEX);
+                    int itemReorderLevel = cursor.getInt(QueryArgsUtility.ItemByIdQuery.COLUMN_ITEM_REORDER_LEVEL_INDEX);
 
                     //Retrieving the Hang-off table data: START
                     //Retrieving the ProductAttribute for the Product ID passed
@@ -256,6 +275,7 @@ public class StoreLocalRepository implements DataRepository {
                             .setSku(itemSku)
                             .setDescription(itemDescription)
                             .setCategory(itemCategoryName)
+                            .setReorderLevel(itemReorderLevel)
                             .setProductAttributes(productAttributes)
                             .setProductImages(productImages)
                             .createProduct();
@@ -284,7 +304,7 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that retrieves the list of {@link ProductImage}s for the Product identified by its Id.
-     * This is called on the Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param productId The Integer Id of the Product to lookup for.
      * @return List of {@link ProductImage}s for the Product identified by its Id.
@@ -333,7 +353,7 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that retrieves the list of {@link ProductAttribute}s for the Product identified by its Id.
-     * This is called on the Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param productId The Integer Id of the Product to lookup for.
      * @return List of {@link ProductAttribute}s for the Product identified by its Id.
@@ -389,8 +409,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void getProductSkuUniqueness(@NonNull String productSku, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread, with UI blocking priority
+        mAppExecutors.getDbReadPriority().execute(() -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ProductContract.Product.buildItemSkuUri(productSku),
@@ -441,6 +461,8 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that adds a New {@link Product} entry into the database table 'item'.
+     * The Product along with its Category (when new), Attributes and Images are saved
+     * in a single transaction.
      *
      * @param newProduct         The New {@link Product} to be added to the database
      * @param operationsCallback The Callback to be implemented by the caller to
@@ -451,7 +473,7 @@ public class StoreLocalRepository implements DataRepository {
         //Get the Category Name
         String categoryName = newProduct.getCategory();
 
-        //Check if the Category exists (Executes on Disk Thread)
+        //Check if the Category exists (Executes on a Database Read Thread, with UI blocking priority)
         getCategoryByName(categoryName, new GetQueryCallback<Integer>() {
             /**
              * Method invoked when the results are obtained
@@ -465,8 +487,8 @@ public class StoreLocalRepository implements DataRepository {
                 //When Category was found
 
                 //Propagating the result to #proceedToSaveProduct
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> proceedToSaveProduct(categoryId));
+                //Executing on the Database Write Thread
+                mAppExecutors.getDbWrite().execute(() -> proceedToSaveProduct(categoryId));
             }
 
             /**
@@ -476,33 +498,11 @@ public class StoreLocalRepository implements DataRepository {
             @MainThread
             @Override
             public void onEmpty() {
-                //When Category does not exist, we insert the new Category to get the new record Id
-
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> {
-                    //Loading the Category Name for insert
-                    ContentValues categoryContentValues = new ContentValues();
-                    categoryContentValues.put(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, categoryName);
-
-                    //Executing insert
-                    Uri categoryInsertUri = mContentResolver.insert(
-                            ProductContract.ProductCategory.CONTENT_URI,
-                            categoryContentValues
-                    );
-
-                    //Checking the result URI
-                    if (categoryInsertUri == null) {
-                        //When Null, pass the error message
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_insert_category_error, categoryName));
-                    } else {
-                        //When NOT Null, parse for the Category Id
-
-                        //Parsing the Category Id and propagating the result to #proceedToSaveProduct
-                        proceedToSaveProduct((int) ContentUris.parseId(categoryInsertUri));
-                    }
-                });
+                //When Category does not exist, the new Category is inserted along with the Product
 
+                //Propagating to #proceedToSaveProduct without the Category Id
+                //Executing on the Database Write Thread
+                mAppExecutors.getDbWrite().execute(() -> proceedToSaveProduct(null));
             }
 
             /**
@@ -524,63 +524,37 @@ public class StoreLocalRepository implements DataRepository {
              * Method that saves the Product details after the {@code categoryId}
              * for the Product's category was determined.
              *
-             * @param categoryId The Id of the Category determined
+             * @param categoryId The Id of the Category determined. Can be {@code null} when the
+             *                   Category does not exist yet, in which case the Category is inserted too.
              */
             @WorkerThread
-            private void proceedToSaveProduct(final int categoryId) {
-                //Begin to save Product data
-
-                //Loading the values for 'item' table
-                ContentValues itemContentValues = new ContentValues();
-                itemContentValues.put(ProductContract.Product.COLUMN_ITEM_NAME, newProduct.getName());
-                itemContentValues.put(ProductContract.Product.COLUMN_ITEM_SKU, newProduct.getSku());
-                itemContentValues.put(ProductContract.Product.COLUMN_ITEM_DESCRIPTION, newProduct.getDescription());
-                itemContentValues.put(ProductContract.Product.COLUMN_ITEM_CATEGORY_ID, categoryId);
-
-                //Executing insert
-                Uri itemInsertUri = mContentResolver.insert(
-                        ProductContract.Product.CONTENT_URI,
-                        itemContentValues
-                );
-
-                //Checking the result URI
-                if (itemInsertUri == null) {
-                    //When Null, pass the error message
+            private void proceedToSaveProduct(@Nullable final Integer categoryId) {
+                //Preparing the Batch of operations that saves the entire Product in a single transaction
+                ArrayList<ContentProviderOperation> operations = new ArrayList<>();
+
+                //Adding the insert operation for the Category when it does not exist
+                int categoryOperationIndex = addProductCategoryOperation(operations, categoryId, categoryName);
+
+                //Adding the insert operation for the 'item' table
+                int itemOperationIndex = operations.size();
+                operations.add(withProductValues(
+                        ContentProviderOperation.newInsert(ProductContract.Product.CONTENT_URI),
+                        newProduct, categoryId, categoryOperationIndex
+                ).build());
+
+                //Adding the insert operations for the Product Attributes and Images,
+                //which refer to the 'item_id' of the Product inserted
+                addProductHangOffOperations(operations, newProduct, 0, itemOperationIndex);
+
+                //Executing the Batch and checking the result
+                if (applyProductBatch(operations)) {
+                    //When the Product was saved successfully, call the operation as successful
                     //Executing on Main Thread
-                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_insert_item_error, newProduct.getName()));
+                    mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
                 } else {
-                    //When NOT Null, parse for the Item Id
-
-                    //Parsing the Uri for the Item Id
-                    int itemId = (int) ContentUris.parseId(itemInsertUri);
-
-                    //bulk insert Product Attributes
-                    int noOfProductAttrsInserted = 0;
-                    int noOfProductAttrsPresent = newProduct.getProductAttributes().size();
-                    if (noOfProductAttrsPresent > 0) {
-                        noOfProductAttrsInserted = saveProductAttributes(itemId, newProduct.getProductAttributes());
-                    }
-
-                    //bulk insert Product Images
-                    int noOfProductImagesInserted = 0;
-                    int noOfProductImagesPresent = newProduct.getProductImages().size();
-                    if (noOfProductImagesPresent > 0) {
-                        noOfProductImagesInserted = saveProductImages(itemId, newProduct.getProductImages());
-                    }
-
-                    if (noOfProductAttrsPresent == noOfProductAttrsInserted
-                            && noOfProductImagesPresent == noOfProductImagesInserted) {
-                        //When the Product Hang off details were inserted successfully,
-                        //call the operation as successful
-
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
-                    } else {
-                        //When the Product Hang off details were not inserted, pass the error message
-
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_insert_item_addtnl_dtls_error, newProduct.getName(), newProduct.getSku()));
-                    }
+                    //When the Product could not be saved, none of its details were saved. Pass the error message
+                    //Executing on Main Thread
+                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_insert_item_error, newProduct.getName()));
                 }
             }
 
@@ -590,6 +564,8 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that updates an existing {@link Product} entry into the database table 'item'.
+     * The Product along with its Category (when new), Attributes and Images are updated
+     * in a single transaction.
      *
      * @param existingProduct    The Existing Product details for figuring out the required
      *                           CRUD operations
@@ -604,7 +580,7 @@ public class StoreLocalRepository implements DataRepository {
         //Get the Category Name
         String newCategoryName = newProduct.getCategory();
 
-        //Check if the Category exists (Executes on Disk Thread)
+        //Check if the Category exists (Executes on a Database Read Thread, with UI blocking priority)
         getCategoryByName(newCategoryName, new GetQueryCallback<Integer>() {
             /**
              * Method invoked when the results are obtained
@@ -618,8 +594,8 @@ public class StoreLocalRepository implements DataRepository {
                 //When Category was found
 
                 //Propagating the result to #proceedToUpdateProduct
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> proceedToUpdateProduct(categoryId));
+                //Executing on the Database Write Thread
+                mAppExecutors.getDbWrite().execute(() -> proceedToUpdateProduct(categoryId));
             }
 
             /**
@@ -629,32 +605,11 @@ public class StoreLocalRepository implements DataRepository {
             @MainThread
             @Override
             public void onEmpty() {
-                //When Category does not exist, we insert the new Category to get the new record Id
-
-                //Executing on Disk Thread
-                mAppExecutors.getDiskIO().execute(() -> {
-                    //Loading the Category Name for insert
-                    ContentValues categoryContentValues = new ContentValues();
-                    categoryContentValues.put(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, newCategoryName);
-
-                    //Executing insert
-                    Uri categoryInsertUri = mContentResolver.insert(
-                            ProductContract.ProductCategory.CONTENT_URI,
-                            categoryContentValues
-                    );
+                //When Category does not exist, the new Category is inserted along with the Product update
 
-                    //Checking the result URI
-                    if (categoryInsertUri == null) {
-                        //When Null, pass the error message
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_update_category_error, existingProduct.getSku(), newCategoryName));
-                    } else {
-                        //When NOT Null, parse for the Category Id
-
-                        //Parsing the Category Id and propagating the result to #proceedToUpdateProduct
-                        proceedToUpdateProduct((int) ContentUris.parseId(categoryInsertUri));
-                    }
-                });
+                //Propagating to #proceedToUpdateProduct without the Category Id
+                //Executing on the Database Write Thread
+                mAppExecutors.getDbWrite().execute(() -> proceedToUpdateProduct(null));
             }
 
             /**
@@ -676,97 +631,58 @@ public class StoreLocalRepository implements DataRepository {
              * Method that updates the existing Product details after the {@code categoryId}
              * for the Product's category was determined.
              *
-             * @param categoryId The Id of the Category determined
+             * @param categoryId The Id of the Category determined. Can be {@code null} when the
+             *                   Category does not exist yet, in which case the Category is inserted too.
              */
             @WorkerThread
-            private void proceedToUpdateProduct(final int categoryId) {
-                //Update the Product Hang off details by inserting them completely
-                //(The Content Provider deletes any existing data before inserting new data)
-
+            private void proceedToUpdateProduct(@Nullable final Integer categoryId) {
                 //Get the Item Id to update
                 int itemId = existingProduct.getId();
 
-                //bulk insert Product Attributes
-                int noOfProductAttrsInserted = 0;
-                int noOfProductAttrsPresent = newProduct.getProductAttributes().size();
-                if (noOfProductAttrsPresent > 0) {
-                    noOfProductAttrsInserted = saveProductAttributes(itemId, newProduct.getProductAttributes());
-                } else {
-                    mContentResolver.delete(
-                            ContentUris.withAppendedId(ProductContract.ProductAttribute.CONTENT_URI, existingProduct.getId()),
-                            null,
-                            null
-                    );
-                }
+                //Preparing the Batch of operations that updates the entire Product in a single transaction
+                ArrayList<ContentProviderOperation> operations = new ArrayList<>();
 
-                //bulk insert Product Images
-                int noOfProductImagesInserted = 0;
-                int noOfProductImagesPresent = newProduct.getProductImages().size();
-                if (noOfProductImagesPresent > 0) {
-                    noOfProductImagesInserted = saveProductImages(itemId, newProduct.getProductImages());
-                } else {
-                    mContentResolver.delete(
-                            ContentUris.withAppendedId(ProductContract.ProductImage.CONTENT_URI, existingProduct.getId()),
-                            null,
-                            null
-                    );
-                }
+                //Adding the insert operation for the Category when it does not exist
+                int categoryOperationIndex = addProductCategoryOperation(operations, categoryId, newCategoryName);
 
-                if (noOfProductAttrsPresent == noOfProductAttrsInserted
-                        && noOfProductImagesPresent == noOfProductImagesInserted) {
-                    //When the Product Hang off details were inserted successfully,
-                    //begin with the Product update
-
-                    //Compare the product details for update
-                    boolean isNameChanged = !newProduct.getName().equals(existingProduct.getName());
-                    boolean isSkuChanged = !newProduct.getSku().equals(existingProduct.getSku());
-                    boolean isDescriptionChanged = !newProduct.getDescription().equals(existingProduct.getDescription());
-                    boolean isCategoryChanged = !newProduct.getCategory().equals(existingProduct.getCategory());
-
-                    if (isNameChanged || isSkuChanged || isDescriptionChanged || isCategoryChanged) {
-                        //If any of the product details are changed, then we need to update the Product
-
-                        //Loading the values for 'item' table
-                        ContentValues itemContentValues = new ContentValues();
-                        itemContentValues.put(ProductContract.Product.COLUMN_ITEM_NAME, newProduct.getName());
-                        itemContentValues.put(ProductContract.Product.COLUMN_ITEM_SKU, newProduct.getSku());
-                        itemContentValues.put(ProductContract.Product.COLUMN_ITEM_DESCRIPTION, newProduct.getDescription());
-                        itemContentValues.put(ProductContract.Product.COLUMN_ITEM_CATEGORY_ID, categoryId);
-
-                        Uri contentUri = ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, itemId);
-
-                        //Executing update
-                        int noOfItemRecordsUpdated = mContentResolver.update(
-                                contentUri,
-                                itemContentValues,
-                                null,
-                                null
-                        );
-
-                        //Checking the number of records updated
-                        if (noOfItemRecordsUpdated == 0) {
-                            //When 0 rows were affected, pass the error message
-                            //Executing on Main Thread
-                            mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_update_item_error, existingProduct.getSku()));
-                        } else if (noOfItemRecordsUpdated == 1) {
-                            //When 1 row was affected, call the update operation as successful
-                            //Executing on Main Thread
-                            mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
-                        } else if (noOfItemRecordsUpdated > 1) {
-                            //When more than 1 row were affected, pass the error message
-                            //Executing on Main Thread
-                            mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_update_item_inconsistent_error, existingProduct.getSku()));
-                        }
-                    } else {
-                        //When none of the Product details were changed, call the update operation as successful
-                        //Executing on Main Thread
-                        mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
-                    }
+                //Update the Product Hang off details by replacing them completely
+
+                //Adding the delete operations for the existing Product Attributes and Images
+                operations.add(ContentProviderOperation.newDelete(
+                        ContentUris.withAppendedId(ProductContract.ProductAttribute.CONTENT_URI, itemId)
+                ).build());
+                operations.add(ContentProviderOperation.newDelete(
+                        ContentUris.withAppendedId(ProductContract.ProductImage.CONTENT_URI, itemId)
+                ).build());
+
+                //Adding the insert operations for the new Product Attributes and Images
+                addProductHangOffOperations(operations, newProduct, itemId, -1);
+
+                //Compare the product details for update
+                boolean isNameChanged = !newProduct.getName().equals(existingProduct.getName());
+                boolean isSkuChanged = !newProduct.getSku().equals(existingProduct.getSku());
+                boolean isDescriptionChanged = !newProduct.getDescription().equals(existingProduct.getDescription());
+                boolean isCategoryChanged = !newProduct.getCategory().equals(existingProduct.getCategory());
+
+                if (isNameChanged || isSkuChanged || isDescriptionChanged || isCategoryChanged) {
+                    //If any of the product details are changed, then we need to update the Product
 
+                    //Adding the update operation for the 'item' table, which should affect exactly one record
+                    operations.add(withProductValues(
+                            ContentProviderOperation.newUpdate(ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, itemId)),
+                            newProduct, categoryId, categoryOperationIndex
+                    ).withExpectedCount(1).build());
+                }
+
+                //Executing the Batch and checking the result
+                if (applyProductBatch(operations)) {
+                    //When the Product was updated successfully, call the update operation as successful
+                    //Executing on Main Thread
+                    mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
                 } else {
-                    //When the Product Hang off details were not inserted, pass the error message
+                    //When the Product could not be updated, none of its details were updated. Pass the error message
                     //Executing on Main Thread
-                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_update_item_addtnl_dtls_error, existingProduct.getSku()));
+                    mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.product_config_update_item_error, existingProduct.getSku()));
                 }
             }
         });
@@ -774,33 +690,140 @@ public class StoreLocalRepository implements DataRepository {
     }
 
     /**
-     * Method that saves the {@link ProductAttribute} details for the Product
-     * identified by the {@code productId} into the database table 'item_attr'.
+     * Method that adds the insert operation of a new Category {@code categoryName} to the Batch
+     * {@code operations} when the Category does not exist, that is, when the {@code categoryId} is {@code null}.
      *
-     * @param productId         The Product Id for which the Product Attributes are to be added.
-     * @param productAttributes The New {@link ProductAttribute} details to be added to the database
-     * @return The Number of records inserted.
+     * @param operations   The Batch of operations to add to
+     * @param categoryId   The Id of the existing Category if any; {@code null} otherwise
+     * @param categoryName The Name of the Category
+     * @return The index of the insert operation added to the Batch; {@code -1} when the Category exists.
      */
-    @WorkerThread
-    private int saveProductAttributes(int productId, ArrayList<ProductAttribute> productAttributes) {
-        //Number of Product Attributes to be inserted
-        int noOfProductAttrsPresent = productAttributes.size();
+    private int addProductCategoryOperation(ArrayList<ContentProviderOperation> operations,
+                                            @Nullable Integer categoryId, String categoryName) {
+        if (categoryId != null) {
+            //Returning -1 when the Category exists
+            return -1;
+        }
 
-        //Preparing an array of Content values for bulk insert
-        ContentValues[] valuesArray = new ContentValues[noOfProductAttrsPresent];
-        for (int index = 0; index < noOfProductAttrsPresent; index++) {
-            ProductAttribute productAttribute = productAttributes.get(index);
-            ContentValues contentValues = new ContentValues();
-            contentValues.put(ProductContract.ProductAttribute.COLUMN_ITEM_ATTR_NAME, productAttribute.getAttributeName());
-            contentValues.put(ProductContract.ProductAttribute.COLUMN_ITEM_ATTR_VALUE, productAttribute.getAttributeValue());
-            valuesArray[index] = contentValues;
+        //Adding the insert operation for the 'item_category' table
+        operations.add(ContentProviderOperation.newInsert(ProductContract.ProductCategory.CONTENT_URI)
+                .withValue(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME, categoryName)
+                .build());
+
+        //Returning the index of the operation added
+        return operations.size() - 1;
+    }
+
+    /**
+     * Method that loads the values of the 'item' table for the {@code product} into the
+     * operation {@code builder}. The Category Id is loaded either from the {@code categoryId} passed or
+     * as a back reference to the Category inserted by the operation at {@code categoryOperationIndex}.
+     *
+     * @param builder                The {@link ContentProviderOperation.Builder} of the insert/update operation
+     * @param product                The {@link Product} whose details are to be saved
+     * @param categoryId             The Id of the existing Category if any; {@code null} otherwise
+     * @param categoryOperationIndex The index of the Category insert operation in the Batch, used when
+     *                               the {@code categoryId} is {@code null}
+     * @return The {@code builder} passed, loaded with the values
+     */
+    private ContentProviderOperation.Builder withProductValues(ContentProviderOperation.Builder builder,
+                                                               Product product, @Nullable Integer categoryId,
+                                                               int categoryOperationIndex) {
+        //Loading the values for 'item' table
+        builder.withValue(ProductContract.Product.COLUMN_ITEM_NAME, product.getName())
+                .withValue(ProductContract.Product.COLUMN_ITEM_SKU, product.getSku())
+                .withValue(ProductContract.Product.COLUMN_ITEM_DESCRIPTION, product.getDescription());
+
+        if (categoryId != null) {
+            //When the Category exists, load its Id
+            builder.withValue(ProductContract.Product.COLUMN_ITEM_CATEGORY_ID, categoryId);
+        } else {
+            //Otherwise, refer to the Id of the Category inserted in the Batch
+            builder.withValueBackReference(ProductContract.Product.COLUMN_ITEM_CATEGORY_ID, categoryOperationIndex);
         }
 
-        //Executing the bulk insert
-        return mContentResolver.bulkInsert(
-                ContentUris.withAppendedId(ProductContract.ProductAttribute.CONTENT_URI, productId),
-                valuesArray
-        );
+        //Returning the builder loaded
+        return builder;
+    }
+
+    /**
+     * Method that adds the insert operations of the {@link ProductAttribute} and {@link ProductImage}
+     * details of the {@code product} to the Batch {@code operations}. The 'item_id' of the records is
+     * loaded either from the {@code productId} passed or as a back reference to the Product inserted by
+     * the operation at {@code productOperationIndex}.
+     *
+     * @param operations            The Batch of operations to add to
+     * @param product               The {@link Product} whose Attributes and Images are to be saved
+     * @param productId             The Id of the existing Product, used when {@code productOperationIndex} is negative
+     * @param productOperationIndex The index of the Product insert operation in the Batch; {@code -1}
+     *                              for an existing Product
+     */
+    private void addProductHangOffOperations(ArrayList<ContentProviderOperation> operations, Product product,
+                                             int productId, int productOperationIndex) {
+        //Adding the insert operations for the 'item_attr' table
+        for (ProductAttribute productAttribute : product.getProductAttributes()) {
+            ContentProviderOperation.Builder builder = ContentProviderOperation.newInsert(ProductContract.ProductAttribute.CONTENT_URI)
+                    .withValue(ProductContract.ProductAttribute.COLUMN_ITEM_ATTR_NAME, productAttribute.getAttributeName())
+                    .withValue(ProductContract.ProductAttribute.COLUMN_ITEM_ATTR_VALUE, productAttribute.getAttributeValue());
+            operations.add(withProductIdValue(builder, ProductContract.ProductAttribute.COLUMN_ITEM_ID,
+                    productId, productOperationIndex).build());
+        }
+
+        //Adding the insert operations for the 'item_image' table
+        for (ProductImage productImage : product.getProductImages()) {
+            ContentProviderOperation.Builder builder = ContentProviderOperation.newInsert(ProductContract.ProductImage.CONTENT_URI)
+                    .withValue(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI, productImage.getImageUri())
+                    .withValue(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_DEFAULT,
+                            productImage.isDefault() ? ProductContract.ProductImage.ITEM_IMAGE_DEFAULT : ProductContract.ProductImage.ITEM_IMAGE_NON_DEFAULT);
+            operations.add(withProductIdValue(builder, ProductContract.ProductImage.COLUMN_ITEM_ID,
+                    productId, productOperationIndex).build());
+        }
+    }
+
+    /**
+     * Method that loads the 'item_id' column {@code columnName} into the operation {@code builder}, either
+     * from the {@code productId} passed or as a back reference to the Product inserted by the
+     * operation at {@code productOperationIndex}.
+     *
+     * @param builder               The {@link ContentProviderOperation.Builder} of the operation
+     * @param columnName            The name of the 'item_id' column
+     * @param productId             The Id of the existing Product, used when {@code productOperationIndex} is negative
+     * @param productOperationIndex The index of the Product insert operation in the Batch; {@code -1}
+     *                              for an existing Product
+     * @return The {@code builder} passed, loaded with the 'item_id' value
+     */
+    private ContentProviderOperation.Builder withProductIdValue(ContentProviderOperation.Builder builder, String columnName,
+                                                                int productId, int productOperationIndex) {
+        if (productOperationIndex < 0) {
+            //When the Product exists, load its Id
+            return builder.withValue(columnName, productId);
+        } else {
+            //Otherwise, refer to the Id of the Product inserted in the Batch
+            return builder.withValueBackReference(columnName, productOperationIndex);
+        }
+    }
+
+    /**
+     * Method that applies the Batch of {@code operations} that saves a Product. The Batch is applied
+     * by the {@link StoreContentProvider} in a single transaction with a single change notification,
+     * hence either all of the Product details are saved or none of them are.
+     *
+     * @param operations The Batch of operations to apply
+     * @return <b>TRUE</b> when the Batch was applied successfully; <b>FALSE</b> otherwise.
+     */
+    @WorkerThread
+    private boolean applyProductBatch(ArrayList<ContentProviderOperation> operations) {
+        try {
+            //Executing the Batch
+            mContentResolver.applyBatch(StoreContract.CONTENT_AUTHORITY, operations);
+            //Returning True on Success
+            return true;
+        } catch (RemoteException | OperationApplicationException e) {
+            //Logging the error when any of the operations failed, which rolls back the entire Batch
+            Log.e(LOG_TAG, "applyProductBatch: Failed to save the Product", e);
+            //Returning False on Failure
+            return false;
+        }
     }
 
     /**
@@ -848,8 +871,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void saveProductImages(@NonNull Product existingProduct, @NonNull ArrayList<ProductImage> productImages, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
             //Bulk insert Product Images
             int noOfProductImagesInserted = 0;
             int noOfProductImagesPresent = productImages.size();
@@ -887,8 +910,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void deleteProductById(int productId, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
             //Executing Product Deletion for the Product ID passed
             final int noOfRecordsDeleted = mContentResolver.delete(
                     ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, productId),
@@ -947,8 +970,8 @@ public class StoreLocalRepository implements DataRepository {
     @Override
     public void getSupplierDetailsById(int supplierId, @NonNull GetQueryCallback<Supplier> queryCallback) {
         //Retrieving the Supplier details for the Supplier ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
@@ -1012,8 +1035,8 @@ public class StoreLocalRepository implements DataRepository {
     @Override
     public void getSupplierContactsById(int supplierId, @NonNull GetQueryCallback<List<SupplierContact>> queryCallback) {
         //Retrieving the Supplier's contacts for the Supplier ID passed
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Retrieving the Supplier's Contacts
             ArrayList<SupplierContact> supplierContacts = getSupplierContacts(supplierId);
 
@@ -1032,7 +1055,7 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that retrieves the list of {@link ProductSupplierInfo} for the Supplier identified by its id.
-     * This is called on Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param supplierId The Integer Id of the Supplier to lookup for.
      * @return List of {@link ProductSupplierInfo} for the Supplier identified by its id.
@@ -1056,7 +1079,7 @@ public class StoreLocalRepository implements DataRepository {
                 while (cursor.moveToNext()) {
                     //Retrieving the values from the record pointed to by the Cursor
                     int itemId = cursor.getInt(QueryArgsUtility.SupplierItemsQuery.COLUMN_ITEM_ID_INDEX);
-                    float unitPrice = cursor.getFloat(QueryArgsUtility.SupplierItemsQuery.COLUMN_ITEM_UNIT_PRICE_INDEX);
+                    Money unitPrice = Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.SupplierItemsQuery.COLUMN_ITEM_UNIT_PRICE_INDEX));
 
                     //Preparing the ProductSupplierInfo
                     ProductSupplierInfo productSupplierInfo = new ProductSupplierInfo.Builder()
@@ -1082,7 +1105,7 @@ public class StoreLocalRepository implements DataRepository {
 
     /**
      * Method that retrieves the list of {@link SupplierContact} for the Supplier identified by its id.
-     * This is called on Disk Thread.
+     * This is called on a Database Read Thread.
      *
      * @param supplierId The Integer Id of the Supplier to lookup for.
      * @return List of {@link SupplierContact} for the Supplier identified by its id.
@@ -1139,8 +1162,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void getSupplierCodeUniqueness(@NonNull String supplierCode, @NonNull GetQueryCallback<Boolean> queryCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread, with UI blocking priority
+        mAppExecutors.getDbReadPriority().execute(() -> {
             //Retrieving the cursor to the record
             Cursor cursor = mContentResolver.query(
                     SupplierContract.Supplier.buildSupplierCodeUri(supplierCode),
@@ -1198,8 +1221,8 @@ public class StoreLocalRepository implements DataRepository {
     @Override
     public void getShortProductInfoForProducts(@Nullable List<String> productIds,
                                                @NonNull GetQueryCallback<List<ProductLite>> queryCallback) {
-        //Executing on the Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Building the Selection and its Arguments Pair for the list of Products passed
             Pair<String, String[]> selectionPairs = SqliteUtility.makeSelectionForInClause(
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID),
@@ -1257,8 +1280,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void saveNewSupplier(@NonNull Supplier newSupplier, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
             //Loading values for 'supplier' table
             ContentValues supplierContentValues = new ContentValues();
             supplierContentValues.put(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME, newSupplier.getName());
@@ -1385,7 +1408,7 @@ public class StoreLocalRepository implements DataRepository {
             //Building Content Value for the ProductSupplierInfo
             ContentValues contentValues = new ContentValues();
             contentValues.put(SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID, productSupplierInfo.getItemId());
-            contentValues.put(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE, productSupplierInfo.getUnitPrice());
+            contentValues.put(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE, productSupplierInfo.getUnitPrice().getMinorUnits());
             //Loading into the array of ContentValues
             valuesArray[index] = contentValues;
         }
@@ -1476,8 +1499,8 @@ public class StoreLocalRepository implements DataRepository {
     public void saveUpdatedSupplier(@NonNull Supplier existingSupplier,
                                     @NonNull Supplier newSupplier,
                                     @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
             //Get the Supplier Id to update
             int supplierId = existingSupplier.getId();
 
@@ -1485,11 +1508,11 @@ public class StoreLocalRepository implements DataRepository {
             ArrayList<SupplierContact> existingSupplierContacts = existingSupplier.getContacts();
             ArrayList<SupplierContact> newSupplierContacts = newSupplier.getContacts();
 
-            //Evaluating for the Supplier Contacts that were removed in order to issue delete
-            //Adding all existing first
-            ArrayList<SupplierContact> removedSupplierContacts = new ArrayList<>(existingSupplierContacts);
-            //Removing what is present in the new list
-            removeSimilarSupplierContacts(removedSupplierContacts, newSupplierContacts);
+            //Evaluating the Supplier Contacts that were added, removed or changed
+            DiffUtility.ChangeSet<SupplierContact> supplierContactsChangeSet
+                    = DiffUtility.diffSupplierContacts(existingSupplierContacts, newSupplierContacts);
+            //Supplier Contacts that were removed in order to issue delete
+            ArrayList<SupplierContact> removedSupplierContacts = supplierContactsChangeSet.getRemoved();
 
             //Stores the number of Contacts deleted
             int noOfSupplierContactsDeleted = 0;
@@ -1500,24 +1523,27 @@ public class StoreLocalRepository implements DataRepository {
                 noOfSupplierContactsDeleted = deleteSupplierContacts(supplierId, removedSupplierContacts);
             }
 
+            //Supplier Contacts that were added or changed in order to issue insert
+            ArrayList<SupplierContact> upsertSupplierContacts = supplierContactsChangeSet.getAddedOrChanged();
+
             //Stores the number of Contacts inserted
             int noOfSupplierContactsInserted = 0;
-            int noOfSupplierContactsToInsert = newSupplierContacts.size();
+            int noOfSupplierContactsToInsert = upsertSupplierContacts.size();
             if (noOfSupplierContactsToInsert > 0) {
                 //When there are Contacts to be inserted, bulk insert the contacts
-                //(Existing Contacts data will be updated because of CONFLICT REPLACE Strategy)
-                noOfSupplierContactsInserted = saveSupplierContacts(supplierId, newSupplierContacts);
+                //(Changed Contacts data will be updated because of CONFLICT REPLACE Strategy)
+                noOfSupplierContactsInserted = saveSupplierContacts(supplierId, upsertSupplierContacts);
             }
 
             //Retrieving the Supplier Items with their Price info
             ArrayList<ProductSupplierInfo> existingProductSupplierInfoList = existingSupplier.getProductSupplierInfoList();
             ArrayList<ProductSupplierInfo> newProductSupplierInfoList = newSupplier.getProductSupplierInfoList();
 
-            //Evaluating the Supplier Items that were removed in order to issue delete
-            //Adding all existing Supplier Items first
-            ArrayList<ProductSupplierInfo> removedProductSupplierInfoList = new ArrayList<>(existingProductSupplierInfoList);
-            //Removing what is present in the new list
-            removeSimilarProductSupplierInfo(removedProductSupplierInfoList, newProductSupplierInfoList);
+            //Evaluating the Supplier Items that were added, removed or changed
+            DiffUtility.ChangeSet<ProductSupplierInfo> productSupplierInfoChangeSet
+                    = DiffUtility.diffProductSupplierInfo(existingProductSupplierInfoList, newProductSupplierInfoList);
+            //Supplier Items that were removed in order to issue delete
+            ArrayList<ProductSupplierInfo> removedProductSupplierInfoList = productSupplierInfoChangeSet.getRemoved();
 
             //Stores the number of Supplier Items removed from the Supplier
             int noOfSupplierItemsRemoved = 0;
@@ -1534,11 +1560,8 @@ public class StoreLocalRepository implements DataRepository {
                 noOfSupplierItemsInventoryRemoved = unlinkSupplierItemsInventory(supplierId, removedProductSupplierInfoList);
             }
 
-            //Evaluating the Supplier Items that were newly added in order to insert Zero Inventory record
-            //Adding all new Supplier Items first
-            ArrayList<ProductSupplierInfo> addedProductSupplierInfoList = new ArrayList<>(newProductSupplierInfoList);
-            //Removing what is present in the existing list
-            removeSimilarProductSupplierInfo(addedProductSupplierInfoList, existingProductSupplierInfoList);
+            //Supplier Items that were newly added in order to insert Zero Inventory record
+            ArrayList<ProductSupplierInfo> addedProductSupplierInfoList = productSupplierInfoChangeSet.getAdded();
 
             //Stores the number of Supplier Items inventory added to the Supplier
             int noOfSupplierItemsInventoryInserted = 0;
@@ -1548,13 +1571,16 @@ public class StoreLocalRepository implements DataRepository {
                 noOfSupplierItemsInventoryInserted = insertZeroSupplierInventoryForItems(supplierId, addedProductSupplierInfoList);
             }
 
+            //Supplier Items that were added or changed in order to issue insert
+            ArrayList<ProductSupplierInfo> upsertProductSupplierInfoList = productSupplierInfoChangeSet.getAddedOrChanged();
+
             //Stores the number of Supplier Items inserted
             int noOfSupplierItemsInserted = 0;
-            int noOfSupplierItemsToInsert = newProductSupplierInfoList.size();
+            int noOfSupplierItemsToInsert = upsertProductSupplierInfoList.size();
             if (noOfSupplierItemsToInsert > 0) {
                 //When there are Supplier Items to be inserted, bulk insert the Supplier Items
-                //(Existing Supplier Items data will be updated because of CONFLICT REPLACE Strategy)
-                noOfSupplierItemsInserted = saveSupplierItems(supplierId, newProductSupplierInfoList);
+                //(Changed Supplier Items data will be updated because of CONFLICT REPLACE Strategy)
+                noOfSupplierItemsInserted = saveSupplierItems(supplierId, upsertProductSupplierInfoList);
             }
 
             if (noOfSupplierContactsDeleted == noOfSupplierContactsToDelete
@@ -1626,8 +1652,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void deleteSupplierById(int supplierId, @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
             //Executing Supplier Deletion for the Supplier ID passed
             final int noOfRecordsDeleted = mContentResolver.delete(
                     ContentUris.withAppendedId(SupplierContract.Supplier.CONTENT_URI, supplierId),
@@ -1658,25 +1684,17 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int unlinkSupplierItemsInventory(int supplierId, ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
-        //Stores the number of Supplier Items inventory removed from the Supplier
-        int noOfSupplierItemsInventoryRemoved = 0;
-
-        //Iterating over the Supplier Items to remove their inventory
+        //Collecting the Item Ids of the Supplier Items whose inventory is to be removed
+        List<String> itemIds = new ArrayList<>(removedProductSupplierInfoList.size());
         for (ProductSupplierInfo productSupplierInfo : removedProductSupplierInfoList) {
-            //Specifying the WHERE Clause filter
-            String selection = SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            //Specifying the values of the columns involved in the WHERE Clause filter
-            String[] selectionArgs = new String[]{String.valueOf(productSupplierInfo.getItemId())};
-            //Executing delete
-            noOfSupplierItemsInventoryRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
-                    selection,
-                    selectionArgs
-            );
+            itemIds.add(String.valueOf(productSupplierInfo.getItemId()));
         }
 
-        //Returning the number of Supplier Items inventory removed
-        return noOfSupplierItemsInventoryRemoved;
+        //Executing a single delete for all the Item Ids, and returning the number of Supplier Items inventory removed
+        return deleteWithKeys(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_SUPPLIER, supplierId),
+                itemIds
+        );
     }
 
     /**
@@ -1690,25 +1708,17 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int unlinkItemSuppliersInventory(int productId, List<ProductSupplierSales> removedProductSupplierSalesList) {
-        //Stores the number of Suppliers' inventory removed for the Item
-        int noOfItemSuppliersInventoryRemoved = 0;
-
-        //Iterating over the Item's Suppliers to remove their inventory
+        //Collecting the Supplier Ids of the Item's Suppliers whose inventory is to be removed
+        List<String> supplierIds = new ArrayList<>(removedProductSupplierSalesList.size());
         for (ProductSupplierSales productSupplierSales : removedProductSupplierSalesList) {
-            //Specifying the WHERE Clause filter
-            String selection = SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            //Specifying the values of the columns involved in the WHERE Clause filter
-            String[] selectionArgs = new String[]{String.valueOf(productSupplierSales.getSupplierId())};
-            //Executing delete
-            noOfItemSuppliersInventoryRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
-                    selection,
-                    selectionArgs
-            );
+            supplierIds.add(String.valueOf(productSupplierSales.getSupplierId()));
         }
 
-        //Returning the number of Suppliers' inventory removed
-        return noOfItemSuppliersInventoryRemoved;
+        //Executing a single delete for all the Supplier Ids, and returning the number of Suppliers' inventory removed
+        return deleteWithKeys(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
+                supplierIds
+        );
     }
 
     /**
@@ -1722,25 +1732,17 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int unlinkSupplierItems(int supplierId, ArrayList<ProductSupplierInfo> removedProductSupplierInfoList) {
-        //Stores the number of Supplier Items removed from the Supplier
-        int noOfSupplierItemsRemoved = 0;
-
-        //Iterating over the Supplier Items to unlink them
+        //Collecting the Item Ids of the Supplier Items to unlink
+        List<String> itemIds = new ArrayList<>(removedProductSupplierInfoList.size());
         for (ProductSupplierInfo productSupplierInfo : removedProductSupplierInfoList) {
-            //Specifying the WHERE Clause filter
-            String selection = SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            //Specifying the values of the columns involved in the WHERE Clause filter
-            String[] selectionArgs = new String[]{String.valueOf(productSupplierInfo.getItemId())};
-            //Executing delete
-            noOfSupplierItemsRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
-                    selection,
-                    selectionArgs
-            );
+            itemIds.add(String.valueOf(productSupplierInfo.getItemId()));
         }
 
-        //Returning the Number of Supplier Items removed
-        return noOfSupplierItemsRemoved;
+        //Executing a single delete for all the Item Ids, and returning the Number of Supplier Items removed
+        return deleteWithKeys(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_SUPPLIER_ITEMS, supplierId),
+                itemIds
+        );
     }
 
     /**
@@ -1754,25 +1756,17 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int unlinkItemSuppliers(int productId, List<ProductSupplierSales> removedProductSupplierSalesList) {
-        //Stores the number of Suppliers removed from the item
-        int noOfItemSuppliersRemoved = 0;
-
-        //Iterating over the Item's Suppliers to unlink them
+        //Collecting the Supplier Ids of the Item's Suppliers to unlink
+        List<String> supplierIds = new ArrayList<>(removedProductSupplierSalesList.size());
         for (ProductSupplierSales productSupplierSales : removedProductSupplierSalesList) {
-            //Specifying the WHERE Clause filter
-            String selection = SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            //Specifying the values of the columns involved in the WHERE Clause filter
-            String[] selectionArgs = new String[]{String.valueOf(productSupplierSales.getSupplierId())};
-            //Executing delete
-            noOfItemSuppliersRemoved += mContentResolver.delete(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_ITEM_SUPPLIERS, productId),
-                    selection,
-                    selectionArgs
-            );
+            supplierIds.add(String.valueOf(productSupplierSales.getSupplierId()));
         }
 
-        //Returning the number of Item's Suppliers removed
-        return noOfItemSuppliersRemoved;
+        //Executing a single delete for all the Supplier Ids, and returning the number of Item's Suppliers removed
+        return deleteWithKeys(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInfo.CONTENT_URI_ITEM_SUPPLIERS, productId),
+                supplierIds
+        );
     }
 
     /**
@@ -1784,167 +1778,202 @@ public class StoreLocalRepository implements DataRepository {
      */
     @WorkerThread
     private int deleteSupplierContacts(int supplierId, ArrayList<SupplierContact> removedSupplierContacts) {
-        //Stores the number of Records deleted
-        int noOfRecordsDeleted = 0;
-
-        //Iterating over the Supplier Contacts to delete them
+        //Collecting the Contact Values of the Supplier Contacts to delete
+        //(Contact Values are unique for a Supplier, hence identify the Contacts irrespective of their Type)
+        List<String> contactValues = new ArrayList<>(removedSupplierContacts.size());
         for (SupplierContact supplierContact : removedSupplierContacts) {
-            //Specifying the WHERE Clause filter
-            String selection = SupplierContract.SupplierContact.COLUMN_SUPPLIER_CONTACT_TYPE_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER
-                    + SqliteUtility.AND + SupplierContract.SupplierContact.COLUMN_SUPPLIER_CONTACT_VALUE + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            //Retrieving the Contact Type Id
-            int contactTypeId = supplierContact.getType().equals(
-                    SupplierContract.SupplierContactType.CONTACT_TYPE_PHONE) ?
-                    SupplierContract.SupplierContactType.CONTACT_TYPE_ID_PHONE :
-                    SupplierContract.SupplierContactType.CONTACT_TYPE_ID_EMAIL;
-            //Specifying the values of the columns involved in the WHERE Clause filter
-            String[] selectionArgs = new String[]{String.valueOf(contactTypeId), supplierContact.getValue()};
-            //Executing delete
-            noOfRecordsDeleted += mContentResolver.delete(
-                    ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
-                    selection,
-                    selectionArgs
-            );
+            contactValues.add(supplierContact.getValue());
         }
 
-        //Returning the Number of Supplier Contacts deleted
-        return noOfRecordsDeleted;
+        //Executing a single delete for all the Contact Values, and returning the Number of Supplier Contacts deleted
+        return deleteWithKeys(
+                ContentUris.withAppendedId(SupplierContract.SupplierContact.CONTENT_URI, supplierId),
+                contactValues
+        );
     }
 
     /**
-     * Method that removes similar {@link SupplierContact} from {@code sourceSupplierContacts}
-     * by comparing only the contact value.
+     * Method that deletes the records of a hang off table identified by the {@code contentUri},
+     * restricted to the records identified by the {@code keys}, in a single request and transaction.
      *
-     * @param sourceSupplierContacts   The Source List of {@link SupplierContact} to remove from.
-     * @param supplierContactsToRemove The List of {@link SupplierContact} to be removed.
+     * @param contentUri The Content URI of the hang off table records to delete from
+     * @param keys       List of Keys that identify the records to be deleted
+     * @return The Number of records deleted.
      */
     @WorkerThread
-    private void removeSimilarSupplierContacts(ArrayList<SupplierContact> sourceSupplierContacts,
-                                               ArrayList<SupplierContact> supplierContactsToRemove) {
-        //Creating a list to store the SupplierContact Values that needs to be removed
-        ArrayList<String> contactsToRemove = new ArrayList<>();
-        for (SupplierContact supplierContact : supplierContactsToRemove) {
-            contactsToRemove.add(supplierContact.getValue());
+    private int deleteWithKeys(Uri contentUri, List<String> keys) {
+        if (keys.isEmpty()) {
+            //Returning 0 when there are no records to delete (as the URI without Keys would delete them all)
+            return 0;
         }
 
-        //Iterating over the source list to find and remove the Supplier Contact
-        Iterator<SupplierContact> sourceSupplierContactsIterator = sourceSupplierContacts.iterator();
-        while (sourceSupplierContactsIterator.hasNext()) {
-            //Retrieving the SupplierContact from the source list
-            SupplierContact supplierContact = sourceSupplierContactsIterator.next();
-            if (contactsToRemove.contains(supplierContact.getValue())) {
-                //When the Contact value is present in the list to be removed, then remove from the source
-                sourceSupplierContactsIterator.remove();
-            }
+        //Appending each of the Keys as a Query Parameter
+        Uri.Builder uriBuilder = contentUri.buildUpon();
+        for (String key : keys) {
+            uriBuilder.appendQueryParameter(StoreContract.QUERY_PARAMETER_KEY, key);
         }
+
+        //Executing delete and returning the Number of records deleted
+        return mContentResolver.delete(uriBuilder.build(), null, null);
     }
 
     /**
-     * Method that removes similar {@link ProductSupplierInfo} from {@code sourceProductSupplierInfoList}
-     * by comparing the ItemId-SupplierId pair.
+     * Method that decreases the available quantity of a Product sold by the Supplier,
+     * by the specified quantity {@code decreaseQuantityBy}. The quantity is decreased relative to
+     * the quantity currently stored, and is never decreased below zero.
+     * <p>
+     * The decreases requested while a previous write is in progress are queued, and written
+     * together in a single transaction by the next write, in the order requested.
      *
-     * @param sourceProductSupplierInfoList   The Source List of {@link ProductSupplierInfo} to remove from.
-     * @param productSupplierInfoListToRemove The List of {@link ProductSupplierInfo} to be removed.
+     * @param productId          The Product Id of the Product.
+     * @param productSku         The Product SKU of the Product.
+     * @param supplierId         The Supplier Id of the Supplier for the Product.
+     * @param supplierCode       The Supplier Code of the Supplier for the Product.
+     * @param decreaseQuantityBy The amount to decrease the available quantity by.
+     * @param decreaseCallback   The Callback to be implemented by the caller to
+     *                           receive the operation result with the resulting available quantity.
      */
-    @WorkerThread
-    private void removeSimilarProductSupplierInfo(ArrayList<ProductSupplierInfo> sourceProductSupplierInfoList,
-                                                  ArrayList<ProductSupplierInfo> productSupplierInfoListToRemove) {
-        //Creating a List to store the Pairs of ItemId-SupplierId for the list of ProductSupplierInfos to be removed.
-        ArrayList<Pair<Integer, Integer>> productSupplierPairsToRemove = new ArrayList<>();
-        for (ProductSupplierInfo productSupplierInfo : productSupplierInfoListToRemove) {
-            productSupplierPairsToRemove.add(Pair.create(productSupplierInfo.getItemId(), productSupplierInfo.getSupplierId()));
-        }
-
-        //Iterating over the source list to find and remove the ProductSupplierInfos
-        Iterator<ProductSupplierInfo> sourceProductSupplierInfoIterator = sourceProductSupplierInfoList.iterator();
-        while (sourceProductSupplierInfoIterator.hasNext()) {
-            //Retrieving the ProductSupplierInfo from the source list
-            ProductSupplierInfo productSupplierInfo = sourceProductSupplierInfoIterator.next();
-            //Creating the ItemId-SupplierId pair for the current ProductSupplierInfo read
-            Pair<Integer, Integer> productSupplierPair = Pair.create(productSupplierInfo.getItemId(), productSupplierInfo.getSupplierId());
-            if (productSupplierPairsToRemove.contains(productSupplierPair)) {
-                //If the Pair exists in the list of ItemId-SupplierId pairs to be removed, then remove from the source
-                sourceProductSupplierInfoIterator.remove();
+    @Override
+    public void decreaseProductSupplierInventory(int productId, String productSku,
+                                                 int supplierId, String supplierCode,
+                                                 int decreaseQuantityBy,
+                                                 @NonNull InventoryDecreaseCallback decreaseCallback) {
+        synchronized (mPendingInventoryDecreases) {
+            //Queuing the decrease to be written
+            mPendingInventoryDecreases.add(new PendingInventoryDecrease(productId, productSku,
+                    supplierId, supplierCode, decreaseQuantityBy, decreaseCallback));
+
+            if (mInventoryDecreaseQueued) {
+                //When a write is already queued, the decrease will be written along with it
+                return;
             }
+            mInventoryDecreaseQueued = true;
         }
+
+        //Executing the write of the queued decreases on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(this::writePendingInventoryDecreases);
     }
 
     /**
-     * Method that removes similar {@link ProductSupplierSales} from {@code sourceProductSupplierSalesList}
-     * by comparing the ItemId-SupplierId pair.
-     *
-     * @param sourceProductSupplierSalesList   The Source List of {@link ProductSupplierSales} to remove from.
-     * @param productSupplierSalesListToRemove The List of {@link ProductSupplierSales} to be removed.
+     * Method that writes all the decreases of the available quantity queued so far, in a single
+     * Batch that is applied in a single transaction, and reports the available quantity resulting
+     * from each of the decreases to its caller, as if the decreases were written one after the other.
      */
     @WorkerThread
-    private void removeSimilarProductSupplierSales(List<ProductSupplierSales> sourceProductSupplierSalesList,
-                                                   List<ProductSupplierSales> productSupplierSalesListToRemove) {
-        //Creating a List to store the Pairs of ItemId-SupplierId for the list of ProductSupplierSales to be removed.
-        ArrayList<Pair<Integer, Integer>> productSupplierPairsToRemove = new ArrayList<>();
-        for (ProductSupplierSales productSupplierSales : productSupplierSalesListToRemove) {
-            productSupplierPairsToRemove.add(Pair.create(productSupplierSales.getItemId(), productSupplierSales.getSupplierId()));
+    private void writePendingInventoryDecreases() {
+        //Taking all the decreases queued so far, leaving the queue for the decreases requested later
+        final ArrayList<PendingInventoryDecrease> inventoryDecreases;
+        synchronized (mPendingInventoryDecreases) {
+            inventoryDecreases = new ArrayList<>(mPendingInventoryDecreases);
+            mPendingInventoryDecreases.clear();
+            mInventoryDecreaseQueued = false;
+        }
+
+        //Preparing an operation for each of the decreases, in the order requested
+        int noOfDecreases = inventoryDecreases.size();
+        ArrayList<ContentProviderOperation> operations = new ArrayList<>(noOfDecreases);
+        for (PendingInventoryDecrease inventoryDecrease : inventoryDecreases) {
+            operations.add(
+                    ContentProviderOperation.newUpdate(ContentUris.withAppendedId(
+                            SalesContract.ProductSupplierInventory.CONTENT_URI_DECREASE_INV_ITEM, inventoryDecrease.mProductId))
+                            .withValue(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY, inventoryDecrease.mDecreaseQuantityBy)
+                            .withSelection(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER,
+                                    new String[]{String.valueOf(inventoryDecrease.mSupplierId)})
+                            .build()
+            );
         }
 
-        //Iterating over the source list to find and remove the ProductSupplierSales
-        Iterator<ProductSupplierSales> sourceProductSupplierSalesIterator = sourceProductSupplierSalesList.iterator();
-        while (sourceProductSupplierSalesIterator.hasNext()) {
-            //Retrieving the ProductSupplierSales from the source list
-            ProductSupplierSales productSupplierSales = sourceProductSupplierSalesIterator.next();
-            //Creating the ItemId-SupplierId pair for the current ProductSupplierSales read
-            Pair<Integer, Integer> productSupplierPair = Pair.create(productSupplierSales.getItemId(), productSupplierSales.getSupplierId());
-            if (productSupplierPairsToRemove.contains(productSupplierPair)) {
-                //If the Pair exists in the list of ItemId-SupplierId pairs to be removed, then remove from the source
-                sourceProductSupplierSalesIterator.remove();
+        //Executing the Batch
+        ContentProviderResult[] results = null;
+        try {
+            results = mContentResolver.applyBatch(StoreContract.CONTENT_AUTHORITY, operations);
+        } catch (RemoteException | OperationApplicationException e) {
+            //Logging the error when the Batch failed, which rolls back all the decreases
+            Log.e(LOG_TAG, "writePendingInventoryDecreases: Failed to decrease the available quantities", e);
+        }
+
+        //Reading the final available quantities of the Suppliers, once for each Product decreased
+        final SparseArray<SparseIntArray> productAvailableQuantities = new SparseArray<>();
+        //Stores the available quantity resulting from each of the decreases
+        final int[] resultingQuantities = new int[noOfDecreases];
+        if (results != null) {
+            for (PendingInventoryDecrease inventoryDecrease : inventoryDecreases) {
+                if (productAvailableQuantities.get(inventoryDecrease.mProductId) == null) {
+                    productAvailableQuantities.put(inventoryDecrease.mProductId,
+                            getSupplierAvailableQuantities(inventoryDecrease.mProductId));
+                }
+            }
+
+            //Walking back from the last decrease, to work out the quantity that resulted from each decrease
+            //by adding back the later decreases of the same Product and Supplier that were written
+            for (int index = noOfDecreases - 1; index >= 0; index--) {
+                if (results[index].count != null && results[index].count > 0) {
+                    PendingInventoryDecrease inventoryDecrease = inventoryDecreases.get(index);
+                    SparseIntArray supplierAvailableQuantities = productAvailableQuantities.get(inventoryDecrease.mProductId);
+                    resultingQuantities[index] = supplierAvailableQuantities.get(inventoryDecrease.mSupplierId);
+                    supplierAvailableQuantities.put(inventoryDecrease.mSupplierId,
+                            resultingQuantities[index] + inventoryDecrease.mDecreaseQuantityBy);
+                }
             }
         }
+
+        final ContentProviderResult[] finalResults = results;
+        //Executing on Main Thread
+        mAppExecutors.getMainThread().execute(() -> {
+            for (int index = 0; index < noOfDecreases; index++) {
+                PendingInventoryDecrease inventoryDecrease = inventoryDecreases.get(index);
+                if (finalResults == null) {
+                    //When the Batch failed, pass the error message
+                    inventoryDecrease.mDecreaseCallback.onFailure(R.string.sales_list_item_decrease_availability_error,
+                            inventoryDecrease.mProductSku, inventoryDecrease.mSupplierCode);
+                } else if (finalResults[index].count != null && finalResults[index].count > 0) {
+                    //When the record was updated, pass the available quantity resulting from this decrease
+                    inventoryDecrease.mDecreaseCallback.onSuccess(resultingQuantities[index]);
+                } else {
+                    //When the record was not updated, the Supplier does not have enough quantity to sell
+                    inventoryDecrease.mDecreaseCallback.onFailure(R.string.sales_list_item_sell_out_of_stock_error,
+                            inventoryDecrease.mProductSku, inventoryDecrease.mSupplierCode);
+                }
+            }
+        });
     }
 
     /**
-     * Method that decreases the available quantity {@code availableQuantity} of a Product sold
-     * by the Supplier, by the specified quantity {@code decreaseQuantityBy}.
+     * Method that retrieves the available quantities of a Product at its Suppliers.
      *
-     * @param productId          The Product Id of the Product.
-     * @param productSku         The Product SKU of the Product.
-     * @param supplierId         The Supplier Id of the Supplier for the Product.
-     * @param supplierCode       The Supplier Code of the Supplier for the Product.
-     * @param availableQuantity  The current available Quantity of the Product at the Supplier.
-     * @param decreaseQuantityBy The amount to decrease the available quantity by.
-     * @param operationsCallback The Callback to be implemented by the caller to
+     * @param productId The Product Id of the Product.
+     * @return {@link SparseIntArray} of the available quantities keyed by the Supplier Id.
      */
-    @Override
-    public void decreaseProductSupplierInventory(int productId, String productSku,
-                                                 int supplierId, String supplierCode,
-                                                 int availableQuantity, int decreaseQuantityBy,
-                                                 @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
-            //Preparing the ContentValue to update the available quantity
-            ContentValues contentValues = new ContentValues();
-            contentValues.put(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY, availableQuantity - decreaseQuantityBy);
-
-            //Preparing the WHERE Clause to pass the Supplier Id
-            String selection = SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
-            String[] selectionArgs = new String[]{String.valueOf(supplierId)};
-
-            //Executing update for the Product Id passed
-            final int noOfRecordsUpdated = mContentResolver.update(
-                    ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
-                    contentValues,
-                    selection,
-                    selectionArgs
-            );
+    @WorkerThread
+    @NonNull
+    private SparseIntArray getSupplierAvailableQuantities(int productId) {
+        //Retrieving the cursor to the records
+        Cursor cursor = mContentResolver.query(
+                ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
+                QueryArgsUtility.ItemSuppliersSalesQuery.getProjection(),
+                null,
+                null,
+                null
+        );
 
-            //Executing on Main Thread
-            mAppExecutors.getMainThread().execute(() -> {
-                if (noOfRecordsUpdated > 0) {
-                    //When some records were updated successfully, call the update operation as successful
-                    operationsCallback.onSuccess();
-                } else {
-                    //When no record was updated, pass the error message
-                    operationsCallback.onFailure(R.string.sales_list_item_decrease_availability_error, productSku, supplierCode);
+        //Reading the available quantities from the Cursor
+        SparseIntArray availableQuantities = new SparseIntArray();
+        try {
+            if (cursor != null) {
+                while (cursor.moveToNext()) {
+                    availableQuantities.put(cursor.getInt(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_SUPPLIER_ID_INDEX),
+                            cursor.getInt(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_AVAIL_QUANTITY_INDEX));
                 }
-            });
-        });
+            }
+        } finally {
+            //Closing the cursor to release its resources
+            if (cursor != null && !cursor.isClosed()) {
+                cursor.close();
+            }
+        }
+
+        //Returning the available quantities read
+        return availableQuantities;
     }
 
     /**
@@ -1956,8 +1985,8 @@ public class StoreLocalRepository implements DataRepository {
      */
     @Override
     public void getProductSuppliersSalesInfo(int productId, @NonNull GetQueryCallback<List<ProductSupplierSales>> queryCallback) {
-        //Executing on the Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
             //Retrieving the cursor to the records
             Cursor cursor = mContentResolver.query(
                     ContentUris.withAppendedId(SalesContract.ProductSupplierInventory.CONTENT_URI_INV_ITEM, productId),
@@ -1980,7 +2009,7 @@ public class StoreLocalRepository implements DataRepository {
                                 .setSupplierId(cursor.getInt(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_SUPPLIER_ID_INDEX))
                                 .setSupplierName(cursor.getString(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_SUPPLIER_NAME_INDEX))
                                 .setSupplierCode(cursor.getString(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_SUPPLIER_CODE_INDEX))
-                                .setUnitPrice(cursor.getFloat(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_ITEM_UNIT_PRICE_INDEX))
+                                .setUnitPrice(Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_ITEM_UNIT_PRICE_INDEX)))
                                 .setAvailableQuantity(cursor.getInt(QueryArgsUtility.ItemSuppliersSalesQuery.COLUMN_AVAIL_QUANTITY_INDEX))
                                 .createProductSupplierSales();
 
@@ -2009,6 +2038,155 @@ public class StoreLocalRepository implements DataRepository {
         });
     }
 
+    /**
+     * Method that retrieves the Stock of every Supplier, aggregated over all its Products.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    @Override
+    public void getSupplierStocks(@NonNull GetQueryCallback<List<SupplierStock>> queryCallback) {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
+            //Retrieving the cursor to the records
+            Cursor cursor = mContentResolver.query(
+                    SalesContract.SalesAggregate.CONTENT_URI_SUPPLIER_STOCK,
+                    QueryArgsUtility.SupplierStockQuery.getProjection(),
+                    null,
+                    null,
+                    SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE)
+            );
+
+            //Retrieving List of SupplierStock from the Cursor
+            ArrayList<SupplierStock> supplierStockList = new ArrayList<>();
+            try {
+                if (cursor != null && cursor.getCount() > 0) {
+                    //When the query returned results
+                    while (cursor.moveToNext()) {
+                        //Adding the SupplierStock prepared from the record pointed to by the Cursor
+                        supplierStockList.add(SupplierStock.from(cursor));
+                    }
+                }
+            } finally {
+                //Closing the cursor to release its resources
+                if (cursor != null && !cursor.isClosed()) {
+                    cursor.close();
+                }
+            }
+
+            //Executing on the Main Thread
+            mAppExecutors.getMainThread().execute(() -> {
+                if (supplierStockList.size() > 0) {
+                    //Pass the results to the callback
+                    queryCallback.onResults(supplierStockList);
+                } else {
+                    //Return to the caller when there are no results
+                    queryCallback.onEmpty();
+                }
+            });
+
+        });
+    }
+
+    /**
+     * Method that retrieves the Stock of every Category, aggregated over all its Products.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the results.
+     */
+    @Override
+    public void getCategoryStocks(@NonNull GetQueryCallback<List<CategoryStock>> queryCallback) {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
+            //Retrieving the cursor to the records
+            Cursor cursor = mContentResolver.query(
+                    SalesContract.SalesAggregate.CONTENT_URI_CATEGORY_STOCK,
+                    QueryArgsUtility.CategoryStockQuery.getProjection(),
+                    null,
+                    null,
+                    ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME)
+            );
+
+            //Retrieving List of CategoryStock from the Cursor
+            ArrayList<CategoryStock> categoryStockList = new ArrayList<>();
+            try {
+                if (cursor != null && cursor.getCount() > 0) {
+                    //When the query returned results
+                    while (cursor.moveToNext()) {
+                        //Adding the CategoryStock prepared from the record pointed to by the Cursor
+                        categoryStockList.add(CategoryStock.from(cursor));
+                    }
+                }
+            } finally {
+                //Closing the cursor to release its resources
+                if (cursor != null && !cursor.isClosed()) {
+                    cursor.close();
+                }
+            }
+
+            //Executing on the Main Thread
+            mAppExecutors.getMainThread().execute(() -> {
+                if (categoryStockList.size() > 0) {
+                    //Pass the results to the callback
+                    queryCallback.onResults(categoryStockList);
+                } else {
+                    //Return to the caller when there are no results
+                    queryCallback.onEmpty();
+                }
+            });
+
+        });
+    }
+
+    /**
+     * Method that retrieves the Stock Levels of the Store, aggregated over all the Products.
+     * Products are counted as Low on Stock when their total available quantity is at or below
+     * their own Reorder Level, same as the Products reported by the
+     * {@link com.example.store_keeper.store_keeper.workers.LowStockMonitor}.
+     *
+     * @param queryCallback The Callback to be implemented by the caller to receive the result.
+     */
+    @Override
+    public void getStockLevels(@NonNull GetQueryCallback<StockLevels> queryCallback) {
+        //Executing on a Database Read Thread
+        mAppExecutors.getDbRead().execute(() -> {
+            //Retrieving the cursor to the single aggregated record
+            Cursor cursor = mContentResolver.query(
+                    SalesContract.SalesAggregate.CONTENT_URI_STOCK_LEVELS,
+                    QueryArgsUtility.StockLevelsQuery.getProjection(),
+                    null,
+                    null,
+                    null
+            );
+
+            //Retrieving the StockLevels from the Cursor
+            StockLevels stockLevels = null;
+            try {
+                if (cursor != null && cursor.moveToFirst()) {
+                    //When the query returned the aggregated record
+                    stockLevels = StockLevels.from(cursor);
+                }
+            } finally {
+                //Closing the cursor to release its resources
+                if (cursor != null && !cursor.isClosed()) {
+                    cursor.close();
+                }
+            }
+
+            //Final reference for use in the lambda
+            final StockLevels finalStockLevels = stockLevels;
+            //Executing on the Main Thread
+            mAppExecutors.getMainThread().execute(() -> {
+                if (finalStockLevels != null && finalStockLevels.getItemCount() > 0) {
+                    //Pass the result to the callback
+                    queryCallback.onResults(finalStockLevels);
+                } else {
+                    //Return to the caller when there are no Products
+                    queryCallback.onEmpty();
+                }
+            });
+
+        });
+    }
+
     /**
      * Method that updates the inventory of the Product identified by the Product Id {@code productId}
      * at all its registered suppliers.
@@ -2026,14 +2204,14 @@ public class StoreLocalRepository implements DataRepository {
                                             @NonNull List<ProductSupplierSales> existingProductSupplierSales,
                                             @NonNull List<ProductSupplierSales> updatedProductSupplierSales,
                                             @NonNull DataOperationsCallback operationsCallback) {
-        //Executing on Disk Thread
-        mAppExecutors.getDiskIO().execute(() -> {
-            //Evaluating the Item's Suppliers that were removed in order to
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
+            //Evaluating the Item's Suppliers that were added, removed or changed
+            DiffUtility.ChangeSet<ProductSupplierSales> productSupplierSalesChangeSet
+                    = DiffUtility.diffProductSupplierSales(existingProductSupplierSales, updatedProductSupplierSales);
+            //Item's Suppliers that were removed in order to
             //unlink the Item from the Supplier and also its Price and Inventory details
-            //Adding the existing list first
-            ArrayList<ProductSupplierSales> removedProductSupplierSalesList = new ArrayList<>(existingProductSupplierSales);
-            //Removing what is present in the new updated list to find the Suppliers unlinked from the Item
-            removeSimilarProductSupplierSales(removedProductSupplierSalesList, updatedProductSupplierSales);
+            ArrayList<ProductSupplierSales> removedProductSupplierSalesList = productSupplierSalesChangeSet.getRemoved();
 
             //Stores the number of Item's Suppliers removed
             int noOfItemSuppliersRemoved = 0;
@@ -2050,13 +2228,16 @@ public class StoreLocalRepository implements DataRepository {
                 noOfItemSuppliersInventoryRemoved = unlinkItemSuppliersInventory(productId, removedProductSupplierSalesList);
             }
 
+            //Item's Suppliers that were added or changed in order to insert/update their inventory records
+            ArrayList<ProductSupplierSales> upsertProductSupplierSalesList = productSupplierSalesChangeSet.getAddedOrChanged();
+
             //Stores the number of Item's Suppliers inventory records to be inserted/updated
             int noOfItemSuppliersInventoryInserted = 0;
-            int noOfItemSuppliersInventoryToInsert = updatedProductSupplierSales.size();
+            int noOfItemSuppliersInventoryToInsert = upsertProductSupplierSalesList.size();
             if (noOfItemSuppliersInventoryToInsert > 0) {
                 //When there are Item's Suppliers inventory records, bulk insert to add/update them to the database
-                //(Existing inventory records will be updated because of CONFLICT REPLACE Strategy)
-                noOfItemSuppliersInventoryInserted = saveItemSuppliersInventory(productId, updatedProductSupplierSales);
+                //(Changed inventory records will be updated because of CONFLICT REPLACE Strategy)
+                noOfItemSuppliersInventoryInserted = saveItemSuppliersInventory(productId, upsertProductSupplierSalesList);
             }
 
             //Evaluating the records inserted/deleted successfully
@@ -2081,4 +2262,81 @@ public class StoreLocalRepository implements DataRepository {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Method that updates the Reorder Level of the Product identified by the Product Id {@code productId},
+     * which is the Total Available Quantity at or below which the Product is reported as low on stock.
+     *
+     * @param productId          The Product Id of the Product whose Reorder Level is being updated.
+     * @param productSku         The Product SKU of the Product.
+     * @param reorderLevel       The new Reorder Level of the Product.
+     * @param operationsCallback The Callback to be implemented by the caller to
+     *                           receive the operation result.
+     */
+    @Override
+    public void updateProductReorderLevel(int productId, String productSku, int reorderLevel,
+                                          @NonNull DataOperationsCallback operationsCallback) {
+        //Executing on the Database Write Thread
+        mAppExecutors.getDbWrite().execute(() -> {
+            //Building the Reorder Level value to update
+            ContentValues productContentValues = new ContentValues();
+            productContentValues.put(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL, reorderLevel);
+
+            //Executing update on the Item identified by its Id
+            final int noOfRecordsUpdated = mContentResolver.update(
+                    ContentUris.withAppendedId(ProductContract.Product.CONTENT_URI, productId),
+                    productContentValues,
+                    null,
+                    null
+            );
+
+            if (noOfRecordsUpdated > 0) {
+                //When the Item record was updated successfully, call the operation as successful
+
+                //Executing on Main Thread
+                mAppExecutors.getMainThread().execute(operationsCallback::onSuccess);
+            } else {
+                //When the Item record was not updated, pass the error message
+
+                //Executing on Main Thread
+                mAppExecutors.getMainThread().execute(() -> operationsCallback.onFailure(R.string.sales_config_reorder_level_update_error, productSku));
+            }
+        });
+    }
+
+    /**
+     * Class that holds a decrease of the available quantity of a Product sold by a Supplier,
+     * queued to be written.
+     */
+    private static class PendingInventoryDecrease {
+        //The Product Id and SKU of the Product sold
+        final int mProductId;
+        final String mProductSku;
+        //The Supplier Id and Code of the Supplier for the Product
+        final int mSupplierId;
+        final String mSupplierCode;
+        //The amount to decrease the available quantity by
+        final int mDecreaseQuantityBy;
+        //The Callback to receive the result of the decrease
+        final InventoryDecreaseCallback mDecreaseCallback;
+
+        /**
+         * Constructor of {@link PendingInventoryDecrease}
+         *
+         * @param productId          The Product Id of the Product.
+         * @param productSku         The Product SKU of the Product.
+         * @param supplierId         The Supplier Id of the Supplier for the Product.
+         * @param supplierCode       The Supplier Code of the Supplier for the Product.
+         * @param decreaseQuantityBy The amount to decrease the available quantity by.
+         * @param decreaseCallback   The Callback to receive the result of the decrease.
+         */
+        PendingInventoryDecrease(int productId, String productSku, int supplierId, String supplierCode,
+                                 int decreaseQuantityBy, InventoryDecreaseCallback decreaseCallback) {
+            mProductId = productId;
+            mProductSku = productSku;
+            mSupplierId = supplierId;
+            mSupplierCode = supplierCode;
+            mDecreaseQuantityBy = decreaseQuantityBy;
+            mDecreaseCallback = decreaseCallback;
+        }
+    }
+}
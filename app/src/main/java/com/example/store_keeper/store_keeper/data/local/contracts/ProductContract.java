@@ -130,6 +130,18 @@ public class ProductContract implements StoreContract {
          */
         public static final String COLUMN_ITEM_CATEGORY_ID = "category_id";
 
+        /**
+         * The Reorder Level of the Item, which is the Total Available Quantity at or below
+         * which the Item is Low on Stock and needs to be reordered
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_ITEM_REORDER_LEVEL = "reorder_level";
+
+        /**
+         * Default value of "Reorder Level of the Item"
+         */
+        public static final int DEFAULT_ITEM_REORDER_LEVEL = 5;
+
         /**
          * Method that prepares and returns the URI for the 'item' Table
          * whose record is identified by the 'item_sku' value passed.
@@ -263,6 +275,12 @@ public class ProductContract implements StoreContract {
                 = ContentResolver.CURSOR_ITEM_BASE_TYPE
                 + "/" + CONTENT_AUTHORITY + "." + PATH_ITEM + "." + PATH_ITEM_IMAGE;
 
+        //Identifier for the count of references to an Image in the 'item_image' table
+        public static final String PATH_IMAGE_REFS = "refs";
+
+        //The Content URI to access the count of references to an Image in the 'item_image' Table in the provider
+        public static final Uri CONTENT_URI_IMAGE_REFS = Uri.withAppendedPath(CONTENT_URI, PATH_IMAGE_REFS);
+
         /**
          * Name of the Table
          */
@@ -294,6 +312,17 @@ public class ProductContract implements StoreContract {
         public static final int ITEM_IMAGE_DEFAULT = 1;
         public static final int ITEM_IMAGE_NON_DEFAULT = 0;
 
+        /**
+         * Method that prepares and returns the URI for the count of references to the Image
+         * identified by the 'image_uri' value passed, in the 'item_image' Table.
+         *
+         * @param imageUri The URI of the Image
+         * @return The {@link #CONTENT_URI_IMAGE_REFS} with the {@code imageUri} value appended.
+         */
+        public static Uri buildImageRefsUri(String imageUri) {
+            return CONTENT_URI_IMAGE_REFS.buildUpon().appendPath(imageUri).build();
+        }
+
         /**
          * Method that prepares and returns a fully qualified Column Name
          * for the given Column with the current Table Name.
@@ -36,6 +36,9 @@ public class SalesContract implements StoreContract {
     //Identifier for the table 'item_supplier_inventory' associated with the Base URI
     public static final String PATH_ITEM_SUPPLIER_INVENTORY = "salesinventory";
 
+    //Identifier for the aggregates of the Inventory and Price data associated with the Base URI
+    public static final String PATH_SALES_AGGREGATE = "salesaggregate";
+
     /**
      * Private Constructor to avoid instantiating the {@link SalesContract}
      */
@@ -117,15 +120,16 @@ public class SalesContract implements StoreContract {
         public static final String TABLE_NAME = "item_supplier_info";
 
         /**
-         * The Unit Selling Price of the Item
-         * <P>Type: REAL</P>
+         * The Unit Selling Price of the Item, in minor units of the Currency
+         * (see {@link com.example.store_keeper.store_keeper.data.local.models.Money})
+         * <P>Type: INTEGER</P>
          */
         public static final String COLUMN_ITEM_UNIT_PRICE = "unit_price";
 
         /**
-         * The Default value of "Unit Selling Price of the Item"
+         * The Default value of "Unit Selling Price of the Item", in minor units
          */
-        public static final float DEFAULT_ITEM_UNIT_PRICE = 0.0f;
+        public static final long DEFAULT_ITEM_UNIT_PRICE = 0L;
 
         /**
          * Method that prepares and returns a fully qualified Column Name
@@ -200,6 +204,17 @@ public class SalesContract implements StoreContract {
         public static final String CONTENT_LIST_TYPE_SHORT_INFO
                 = CONTENT_LIST_TYPE + "." + PATH_SHORT_INFO;
 
+        //Identifier for decreasing the available quantity relative to the quantity in the 'item_supplier_inventory' Table
+        public static final String PATH_DECREASE = "decrease";
+
+        //The Content URI to decrease the available quantity of the 'supplier' relationship data from
+        //'item_supplier_inventory' Table for a given item in the provider. The quantity to decrease by
+        //is passed as the value of the {@link #COLUMN_ITEM_AVAIL_QUANTITY}, and is never decreased below zero
+        public static final Uri CONTENT_URI_DECREASE_INV_ITEM = CONTENT_URI.buildUpon()
+                .appendPath(PATH_DECREASE)
+                .appendPath(ProductContract.PATH_ITEM)
+                .build();
+
         /**
          * Name of the Table
          */
@@ -229,4 +244,215 @@ public class SalesContract implements StoreContract {
             return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
         }
     }
+
+    /**
+     * Inner class that defines the constants for the database 'item_sales_summary' Table.
+     * This table maintains the denormalized Sales summary of each item, that is, its total available
+     * quantity across the suppliers and its Top Supplier (the supplier with the most available quantity)
+     * with the supplier's price. The table is kept current by the triggers on the tables
+     * 'item_supplier_inventory' and 'item_supplier_info', and is not written to directly.
+     */
+    public static final class ProductSalesSummary {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "item_sales_summary";
+
+        /**
+         * The Key of the Item
+         * <P>Type: INTEGER</P>
+         * <P>Primary Key</P>
+         */
+        public static final String COLUMN_ITEM_ID = "item_id";
+
+        /**
+         * The Total Quantity of the Item available to Sell across all its Suppliers
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOTAL_AVAIL_QUANTITY = "total_available_quantity";
+
+        /**
+         * The Key of the Top Supplier of the Item
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOP_SUPPLIER_ID = "top_supplier_id";
+
+        /**
+         * The Quantity of the Item available to Sell at its Top Supplier
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOP_SUPPLIER_AVAIL_QUANTITY = "top_supplier_available_quantity";
+
+        /**
+         * The Unit Price of the Item at its Top Supplier. Can be NULL when the
+         * price is not configured for the Top Supplier. Stored in minor units of the Currency.
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOP_SUPPLIER_UNIT_PRICE = "top_supplier_unit_price";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
+    /**
+     * Inner class that defines the constants for the aggregates of the Inventory and Price data,
+     * which are computed with GROUP BY in the database and are not backed by a Table of their own.
+     * The Stock Value is the sum of the Available Quantity at its Unit Price across the Suppliers,
+     * computed in INTEGER minor units of the Currency so that it stays exact.
+     */
+    public static final class SalesAggregate {
+
+        //The Content URI to access the aggregates in the provider
+        public static final Uri CONTENT_URI = Uri.withAppendedPath(BASE_CONTENT_URI, PATH_SALES_AGGREGATE);
+
+        /**
+         * The MIME Type of the {@link #CONTENT_URI} for the list of aggregates
+         * 'vnd.android.cursor.dir/com.example.store_keeper.storeapp.provider.salesaggregate
+         */
+        public static final String CONTENT_LIST_TYPE
+                = ContentResolver.CURSOR_DIR_BASE_TYPE + "/" + CONTENT_AUTHORITY + "." + PATH_SALES_AGGREGATE;
+
+        //The Content URI to access the Stock aggregated per Supplier
+        public static final Uri CONTENT_URI_SUPPLIER_STOCK = Uri.withAppendedPath(CONTENT_URI, SupplierContract.PATH_SUPPLIER);
+
+        //The Content URI to access the Stock aggregated per Category
+        public static final Uri CONTENT_URI_CATEGORY_STOCK = Uri.withAppendedPath(CONTENT_URI, ProductContract.PATH_CATEGORY);
+
+        //Identifier for the Stock Levels aggregated over all the Items
+        public static final String PATH_STOCK_LEVELS = "levels";
+
+        //The Content URI to access the Stock Levels aggregated over all the Items, as a single record
+        public static final Uri CONTENT_URI_STOCK_LEVELS = Uri.withAppendedPath(CONTENT_URI, PATH_STOCK_LEVELS);
+
+        //Identifier for the Items that are Low on Stock as per their own Reorder Level
+        public static final String PATH_LOW_STOCK = "lowstock";
+
+        //The Content URI to access the Items whose Total Available Quantity is at or below their Reorder Level
+        public static final Uri CONTENT_URI_LOW_STOCK = Uri.withAppendedPath(CONTENT_URI, PATH_LOW_STOCK);
+
+        /**
+         * The Number of Items aggregated
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_ITEM_COUNT = "item_count";
+
+        /**
+         * The Total Quantity of the Items available to Sell
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_TOTAL_QUANTITY = "total_quantity";
+
+        /**
+         * The Stock Value of the Items available to Sell, in minor units of the Currency
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_STOCK_VALUE = "stock_value";
+
+        /**
+         * The Number of Items with no Quantity available to Sell
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_OUT_OF_STOCK_COUNT = "out_of_stock_count";
+
+        /**
+         * The Number of Items whose Total Available Quantity is at or below their Reorder Level
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_LOW_STOCK_COUNT = "low_stock_count";
+    }
+
+    /**
+     * Inner class that defines the constants for the database 'sales_event' Table.
+     * This table is the append-only Ledger of the quantities sold, with a record for every sale
+     * of an item by a supplier. The records are written along with the decrease of the available
+     * quantity in 'item_supplier_inventory', and the records past the retention period are
+     * compacted into the daily rollups of 'sales_daily_rollup'.
+     */
+    public static final class SalesEvent implements ProductSupplierColumns {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "sales_event";
+
+        /**
+         * The change in the available quantity of the Item at the Supplier, negative for a sale
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_QUANTITY_DELTA = "quantity_delta";
+
+        /**
+         * The time of the event in milliseconds since epoch
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_EVENT_TIME = "event_time";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
+
+    /**
+     * Inner class that defines the constants for the database 'sales_daily_rollup' Table.
+     * This table maintains the total change in the available quantity of the item at the supplier
+     * for each day, compacted from the records of 'sales_event' past the retention period.
+     */
+    public static final class SalesDailyRollup implements ProductSupplierColumns {
+
+        /**
+         * Name of the Table
+         */
+        public static final String TABLE_NAME = "sales_daily_rollup";
+
+        /**
+         * The Day of the events rolled up, as the number of days since epoch in the local time zone
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_SALES_DAY = "sales_day";
+
+        /**
+         * The total change in the available quantity of the Item at the Supplier on the day
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_QUANTITY_DELTA = "quantity_delta";
+
+        /**
+         * The number of events rolled up for the day
+         * <P>Type: INTEGER</P>
+         */
+        public static final String COLUMN_EVENT_COUNT = "event_count";
+
+        /**
+         * Method that prepares and returns a fully qualified Column Name
+         * for the given Column with the current Table Name.
+         *
+         * @param columnNameStr The Name of the Column
+         * @return String containing the Fully qualified Column Name with its Table Name
+         * in the format TableName.ColumnName
+         */
+        @NonNull
+        public static String getQualifiedColumnName(String columnNameStr) {
+            return TextUtils.concat(TABLE_NAME, ".", columnNameStr).toString();
+        }
+    }
 }
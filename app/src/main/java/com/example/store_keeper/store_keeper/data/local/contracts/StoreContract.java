@@ -30,4 +30,10 @@ public interface StoreContract {
 
     //The Base URI constant to contact the content provider
     Uri BASE_CONTENT_URI = Uri.parse("content://" + CONTENT_AUTHORITY);
+
+    //The Query Parameter constant used for limiting the number of rows returned by a paged query
+    String QUERY_PARAMETER_LIMIT = "limit";
+
+    //The Query Parameter constant repeated for each of the Keys that restrict the records deleted by a multi-key delete
+    String QUERY_PARAMETER_KEY = "key";
 }
@@ -0,0 +1,139 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.models;
+
+import android.database.Cursor;
+
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+
+/**
+ * Read-only Model Class for the Stock of a Category, aggregated over all its Products.
+ * <p>
+ * This model class is built using the data read from the {@link Cursor}
+ * of the {@link QueryArgsUtility.CategoryStockQuery}
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class CategoryStock {
+
+    //The Primary Key/ID of the Category
+    private final int mCategoryId;
+    //The Name of the Category
+    private final String mCategoryName;
+    //The Number of Products in the Category
+    private final int mItemCount;
+    //The Total Quantity of the Products in the Category available to Sell
+    private final int mTotalQuantity;
+    //The Value of the Products in the Category available to Sell
+    private final Money mStockValue;
+
+    /**
+     * Private Constructor of {@link CategoryStock}
+     *
+     * @param categoryId    The Integer Primary Key/ID of the Category
+     * @param categoryName  The Name of the Category
+     * @param itemCount     The Number of Products in the Category
+     * @param totalQuantity The Total Quantity of the Products in the Category available to Sell
+     * @param stockValue    The Value of the Products in the Category available to Sell
+     */
+    private CategoryStock(int categoryId, String categoryName, int itemCount, int totalQuantity, Money stockValue) {
+        mCategoryId = categoryId;
+        mCategoryName = categoryName;
+        mItemCount = itemCount;
+        mTotalQuantity = totalQuantity;
+        mStockValue = stockValue;
+    }
+
+    /**
+     * Static Factory constructor that creates an instance of {@link CategoryStock}
+     * using the data from the {@link Cursor}
+     *
+     * @param cursor The {@link Cursor} to this data
+     * @return Instance of {@link CategoryStock}
+     */
+    public static CategoryStock from(Cursor cursor) {
+        return new CategoryStock(
+                cursor.getInt(QueryArgsUtility.CategoryStockQuery.COLUMN_CATEGORY_ID_INDEX),
+                cursor.getString(QueryArgsUtility.CategoryStockQuery.COLUMN_CATEGORY_NAME_INDEX),
+                cursor.getInt(QueryArgsUtility.CategoryStockQuery.COLUMN_ITEM_COUNT_INDEX),
+                cursor.getInt(QueryArgsUtility.CategoryStockQuery.COLUMN_TOTAL_QUANTITY_INDEX),
+                Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.CategoryStockQuery.COLUMN_STOCK_VALUE_INDEX))
+        );
+    }
+
+    /**
+     * Getter Method for Primary Key/ID of the Category
+     *
+     * @return The Integer Primary Key/ID of the Category
+     */
+    public int getCategoryId() {
+        return mCategoryId;
+    }
+
+    /**
+     * Getter Method for the Name of the Category
+     *
+     * @return The Name of the Category
+     */
+    public String getCategoryName() {
+        return mCategoryName;
+    }
+
+    /**
+     * Getter Method for the Number of Products in the Category
+     *
+     * @return The Number of Products in the Category
+     */
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * Getter Method for the Total Quantity of the Products in the Category available to Sell
+     *
+     * @return The Total Quantity of the Products in the Category available to Sell
+     */
+    public int getTotalQuantity() {
+        return mTotalQuantity;
+    }
+
+    /**
+     * Getter Method for the Value of the Products in the Category available to Sell
+     *
+     * @return The {@link Money} value of the Products in the Category available to Sell
+     */
+    public Money getStockValue() {
+        return mStockValue;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation of the {@link CategoryStock}
+     */
+    @Override
+    public String toString() {
+        return "CategoryStock{" +
+                "mCategoryId=" + mCategoryId +
+                ", mCategoryName='" + mCategoryName + '\'' +
+                ", mItemCount=" + mItemCount +
+                ", mTotalQuantity=" + mTotalQuantity +
+                ", mStockValue=" + mStockValue +
+                '}';
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.models;
+
+import android.database.Cursor;
+
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+
+/**
+ * Read-only Model Class for a Product whose Total Available Quantity is at or below its Reorder Level.
+ * <p>
+ * This model class is built using the data read from the {@link Cursor}
+ * of the {@link QueryArgsUtility.LowStockQuery}
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class LowStockProduct {
+
+    //The Id of the Product
+    private final int mProductId;
+    //The Name of the Product
+    private final String mProductName;
+    //The SKU of the Product
+    private final String mProductSku;
+    //The Total Available Quantity at or below which the Product is Low on Stock
+    private final int mReorderLevel;
+    //The Total Quantity of the Product available to Sell across its Suppliers
+    private final int mAvailableQuantity;
+
+    /**
+     * Private Constructor of {@link LowStockProduct}
+     *
+     * @param productId         The Id of the Product
+     * @param productName       The Name of the Product
+     * @param productSku        The SKU of the Product
+     * @param reorderLevel      The Total Available Quantity at or below which the Product is Low on Stock
+     * @param availableQuantity The Total Quantity of the Product available to Sell across its Suppliers
+     */
+    private LowStockProduct(int productId, String productName, String productSku, int reorderLevel, int availableQuantity) {
+        mProductId = productId;
+        mProductName = productName;
+        mProductSku = productSku;
+        mReorderLevel = reorderLevel;
+        mAvailableQuantity = availableQuantity;
+    }
+
+    /**
+     * Static Factory constructor that creates an instance of {@link LowStockProduct}
+     * using the data from the {@link Cursor}
+     *
+     * @param cursor The {@link Cursor} to this data
+     * @return Instance of {@link LowStockProduct}
+     */
+    public static LowStockProduct from(Cursor cursor) {
+        return new LowStockProduct(
+                cursor.getInt(QueryArgsUtility.LowStockQuery.COLUMN_ITEM_ID_INDEX),
+                cursor.getString(QueryArgsUtility.LowStockQuery.COLUMN_ITEM_NAME_INDEX),
+                cursor.getString(QueryArgsUtility.LowStockQuery.COLUMN_ITEM_SKU_INDEX),
+                cursor.getInt(QueryArgsUtility.LowStockQuery.COLUMN_ITEM_REORDER_LEVEL_INDEX),
+                cursor.getInt(QueryArgsUtility.LowStockQuery.COLUMN_ITEM_TOTAL_AVAIL_QUANTITY_INDEX)
+        );
+    }
+
+    /**
+     * Getter Method for the Id of the Product
+     *
+     * @return The Id of the Product
+     */
+    public int getProductId() {
+        return mProductId;
+    }
+
+    /**
+     * Getter Method for the Name of the Product
+     *
+     * @return The Name of the Product
+     */
+    public String getProductName() {
+        return mProductName;
+    }
+
+    /**
+     * Getter Method for the SKU of the Product
+     *
+     * @return The SKU of the Product
+     */
+    public String getProductSku() {
+        return mProductSku;
+    }
+
+    /**
+     * Getter Method for the Reorder Level of the Product
+     *
+     * @return The Total Available Quantity at or below which the Product is Low on Stock
+     */
+    public int getReorderLevel() {
+        return mReorderLevel;
+    }
+
+    /**
+     * Getter Method for the Total Quantity of the Product available to Sell
+     *
+     * @return The Total Quantity of the Product available to Sell across its Suppliers
+     */
+    public int getAvailableQuantity() {
+        return mAvailableQuantity;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation of the {@link LowStockProduct}
+     */
+    @Override
+    public String toString() {
+        return "LowStockProduct{" +
+                "mProductId=" + mProductId +
+                ", mProductName='" + mProductName + '\'' +
+                ", mProductSku='" + mProductSku + '\'' +
+                ", mReorderLevel=" + mReorderLevel +
+                ", mAvailableQuantity=" + mAvailableQuantity +
+                '}';
+    }
+}
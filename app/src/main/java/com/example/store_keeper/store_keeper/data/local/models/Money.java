@@ -0,0 +1,198 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.models;
+
+import android.support.annotation.NonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable Model Class for a Price, held as a whole number of minor units (1/100 of the Currency unit).
+ * <p>
+ * Prices are persisted in the same minor units as an INTEGER column, so that the totals computed
+ * in SQL and in Java stay exact. The scale is fixed at {@link #FRACTION_DIGITS}, independent of the
+ * Currency of the Locale, so that a change in the Locale does not rescale the stored values.
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public final class Money implements Comparable<Money> {
+
+    //The number of decimal places held by the minor units
+    public static final int FRACTION_DIGITS = 2;
+    //The number of minor units that make up one unit of the Currency
+    public static final int MINOR_UNITS_PER_UNIT = 100;
+    //The Money for a zero amount
+    public static final Money ZERO = new Money(0L);
+
+    //The Amount in minor units
+    private final long mMinorUnits;
+
+    /**
+     * Private Constructor of {@link Money}
+     *
+     * @param minorUnits The Amount in minor units
+     */
+    private Money(long minorUnits) {
+        mMinorUnits = minorUnits;
+    }
+
+    /**
+     * Static Factory method that returns the {@link Money} for the Amount in minor units.
+     *
+     * @param minorUnits The Amount in minor units, as read from the database
+     * @return Instance of {@link Money}
+     */
+    @NonNull
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Static Factory method that parses the decimal Amount entered by the user, like "12.5",
+     * rounding it half-up to the {@link #FRACTION_DIGITS}.
+     *
+     * @param amountStr The decimal Amount to parse
+     * @return Instance of {@link Money}
+     * @throws NumberFormatException when {@code amountStr} is not a valid decimal number
+     */
+    @NonNull
+    public static Money parse(@NonNull String amountStr) {
+        return ofMinorUnits(new BigDecimal(amountStr.trim())
+                .setScale(FRACTION_DIGITS, RoundingMode.HALF_UP)
+                .movePointRight(FRACTION_DIGITS)
+                .longValue());
+    }
+
+    /**
+     * Getter method for the Amount in minor units
+     *
+     * @return The Amount in minor units, as stored in the database
+     */
+    public long getMinorUnits() {
+        return mMinorUnits;
+    }
+
+    /**
+     * Method that checks whether the Amount is greater than zero.
+     *
+     * @return <b>TRUE</b> when the Amount is greater than zero; <b>FALSE</b> otherwise
+     */
+    public boolean isPositive() {
+        return mMinorUnits > 0L;
+    }
+
+    /**
+     * Method that returns the sum of this Amount and the {@code other} Amount.
+     *
+     * @param other The {@link Money} to add
+     * @return New instance of {@link Money} with the sum
+     */
+    @NonNull
+    public Money plus(@NonNull Money other) {
+        return ofMinorUnits(mMinorUnits + other.mMinorUnits);
+    }
+
+    /**
+     * Method that returns this Amount multiplied by the {@code quantity}, like the value
+     * of the Available Quantity of a Product at its Unit Price.
+     *
+     * @param quantity The Quantity to multiply by
+     * @return New instance of {@link Money} with the product
+     */
+    @NonNull
+    public Money times(int quantity) {
+        return ofMinorUnits(mMinorUnits * quantity);
+    }
+
+    /**
+     * Method that formats the Amount as a plain decimal number with {@link #FRACTION_DIGITS}
+     * decimal places, like "12.50", without going through a floating point value.
+     *
+     * @return String containing the decimal Amount
+     */
+    @NonNull
+    public String toPlainString() {
+        //Splitting the Amount into its units and the remaining minor units
+        long units = Math.abs(mMinorUnits / MINOR_UNITS_PER_UNIT);
+        long fraction = Math.abs(mMinorUnits % MINOR_UNITS_PER_UNIT);
+
+        StringBuilder amountBuilder = new StringBuilder();
+        if (mMinorUnits < 0L) {
+            //Prefixing the sign for negative Amounts
+            amountBuilder.append('-');
+        }
+        amountBuilder.append(units).append('.');
+        if (fraction < 10L) {
+            //Padding the minor units to two digits
+            amountBuilder.append('0');
+        }
+        return amountBuilder.append(fraction).toString();
+    }
+
+    /**
+     * Compares this Amount with the specified Amount for order.
+     *
+     * @param other The {@link Money} to be compared.
+     * @return A negative integer, zero, or a positive integer as this Amount is less than,
+     * equal to, or greater than the {@code other} Amount.
+     */
+    @Override
+    public int compareTo(@NonNull Money other) {
+        return mMinorUnits < other.mMinorUnits ? -1 : (mMinorUnits == other.mMinorUnits ? 0 : 1);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     *
+     * @param o The reference object with which to compare.
+     * @return <b>TRUE</b> if this object is the same as the {@code o}
+     * argument; <b>FALSE</b> otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Money money = (Money) o;
+
+        return mMinorUnits == money.mMinorUnits;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return (int) (mMinorUnits ^ (mMinorUnits >>> 32));
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation of the {@link Money}
+     */
+    @Override
+    public String toString() {
+        return "Money{" +
+                "mMinorUnits=" + mMinorUnits +
+                '}';
+    }
+}
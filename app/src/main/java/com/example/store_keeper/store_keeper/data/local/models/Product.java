@@ -19,6 +19,8 @@ package com.example.store_keeper.store_keeper.data.local.models;
 import android.os.Parcel;
 import android.os.Parcelable;
 
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+
 import java.util.ArrayList;
 
 /**
@@ -71,6 +73,8 @@ public class Product implements Parcelable {
     private ArrayList<ProductImage> mProductImages;
     //List of Additional Attributes of the Product
     private ArrayList<ProductAttribute> mProductAttributes;
+    //The Reorder Level of the Product
+    private int mReorderLevel;
 
     /**
      * Private Constructor of {@link Product}
@@ -82,10 +86,11 @@ public class Product implements Parcelable {
      * @param category          The Category of the Product
      * @param productImages     List of Product Images {@link ProductImage}
      * @param productAttributes List of Product Attributes {@link ProductAttribute}
+     * @param reorderLevel      The Total Available Quantity at or below which the Product is Low on Stock
      */
     private Product(int id, String name, String sku, String description, String category,
                     ArrayList<ProductImage> productImages,
-                    ArrayList<ProductAttribute> productAttributes) {
+                    ArrayList<ProductAttribute> productAttributes, int reorderLevel) {
         mId = id;
         mName = name;
         mSku = sku;
@@ -93,6 +98,7 @@ public class Product implements Parcelable {
         mCategory = category;
         mProductImages = productImages;
         mProductAttributes = productAttributes;
+        mReorderLevel = reorderLevel;
     }
 
     /**
@@ -108,6 +114,7 @@ public class Product implements Parcelable {
         mCategory = in.readString();
         mProductImages = in.createTypedArrayList(ProductImage.CREATOR);
         mProductAttributes = in.createTypedArrayList(ProductAttribute.CREATOR);
+        mReorderLevel = in.readInt();
     }
 
     /**
@@ -126,6 +133,7 @@ public class Product implements Parcelable {
         dest.writeString(mCategory);
         dest.writeTypedList(mProductImages);
         dest.writeTypedList(mProductAttributes);
+        dest.writeInt(mReorderLevel);
     }
 
     /**
@@ -257,6 +265,24 @@ public class Product implements Parcelable {
         mProductAttributes = productAttributes;
     }
 
+    /**
+     * Getter Method for the Reorder Level of the Product
+     *
+     * @return The Total Available Quantity at or below which the Product is Low on Stock
+     */
+    public int getReorderLevel() {
+        return mReorderLevel;
+    }
+
+    /**
+     * Setter Method to set the Reorder Level of the Product
+     *
+     * @param reorderLevel The Total Available Quantity at or below which the Product is Low on Stock
+     */
+    public void setReorderLevel(int reorderLevel) {
+        mReorderLevel = reorderLevel;
+    }
+
     /**
      * Static Builder class that constructs {@link Product}
      */
@@ -268,6 +294,7 @@ public class Product implements Parcelable {
         private String mCategory;
         private ArrayList<ProductImage> mProductImages;
         private ArrayList<ProductAttribute> mProductAttributes;
+        private int mReorderLevel = ProductContract.Product.DEFAULT_ITEM_REORDER_LEVEL;
 
         /**
          * Setter for Integer Primary Key/ID of the Product
@@ -346,6 +373,17 @@ public class Product implements Parcelable {
             return this;
         }
 
+        /**
+         * Setter for the Reorder Level of the Product
+         *
+         * @param reorderLevel The Total Available Quantity at or below which the Product is Low on Stock
+         * @return Instance of {@link Builder} for chaining method calls.
+         */
+        public Builder setReorderLevel(int reorderLevel) {
+            mReorderLevel = reorderLevel;
+            return this;
+        }
+
         /**
          * Terminal Method that constructs the {@link Product}
          *
@@ -357,7 +395,7 @@ public class Product implements Parcelable {
             //Initializing Product Attributes List of not initialized
             if (mProductAttributes == null) mProductAttributes = new ArrayList<>();
             //Returning the instance built
-            return new Product(mId, mName, mSku, mDescription, mCategory, mProductImages, mProductAttributes);
+            return new Product(mId, mName, mSku, mDescription, mCategory, mProductImages, mProductAttributes, mReorderLevel);
         }
     }
 }
@@ -63,7 +63,7 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
     //The Primary Key/ID of the Supplier
     private final int mSupplierId;
     //The Selling Price of the Product by the Supplier
-    private float mUnitPrice;
+    private Money mUnitPrice;
 
     /**
      * Private Constructor of {@link ProductSupplierInfo}
@@ -72,7 +72,7 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
      * @param supplierId The Integer Primary Key/ID of the Supplier
      * @param unitPrice  The Selling Price of the Product by the Supplier
      */
-    private ProductSupplierInfo(final int itemId, final int supplierId, float unitPrice) {
+    private ProductSupplierInfo(final int itemId, final int supplierId, Money unitPrice) {
         mItemId = itemId;
         mSupplierId = supplierId;
         mUnitPrice = unitPrice;
@@ -86,7 +86,7 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
     protected ProductSupplierInfo(Parcel in) {
         mItemId = in.readInt();
         mSupplierId = in.readInt();
-        mUnitPrice = in.readFloat();
+        mUnitPrice = Money.ofMinorUnits(in.readLong());
     }
 
     /**
@@ -100,7 +100,7 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
     public void writeToParcel(Parcel dest, int flags) {
         dest.writeInt(mItemId);
         dest.writeInt(mSupplierId);
-        dest.writeFloat(mUnitPrice);
+        dest.writeLong(mUnitPrice.getMinorUnits());
     }
 
     /**
@@ -136,18 +136,18 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
     /**
      * Getter method for the Selling Price of the Product by the Supplier
      *
-     * @return The Float value of the Selling Price of the Product by the Supplier
+     * @return The {@link Money} value of the Selling Price of the Product by the Supplier
      */
-    public float getUnitPrice() {
+    public Money getUnitPrice() {
         return mUnitPrice;
     }
 
     /**
      * Setter Method to set the Selling Price of the Product by the Supplier
      *
-     * @param unitPrice The Float value of the Selling Price of the Product by the Supplier
+     * @param unitPrice The {@link Money} value of the Selling Price of the Product by the Supplier
      */
-    public void setUnitPrice(float unitPrice) {
+    public void setUnitPrice(Money unitPrice) {
         mUnitPrice = unitPrice;
     }
 
@@ -188,7 +188,7 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
 
         private int mItemId;
         private int mSupplierId;
-        private float mUnitPrice = SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE;
+        private Money mUnitPrice = Money.ofMinorUnits(SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE);
 
         /**
          * Setter for Integer Primary Key/ID of the Product
@@ -213,12 +213,12 @@ public class ProductSupplierInfo implements Parcelable, Cloneable {
         }
 
         /**
-         * Setter for the float value of the Selling Price of the Product by the Supplier
+         * Setter for the {@link Money} value of the Selling Price of the Product by the Supplier
          *
-         * @param unitPrice The Float value of the Selling Price of the Product by the Supplier
+         * @param unitPrice The {@link Money} value of the Selling Price of the Product by the Supplier
          * @return Instance of {@link Builder} for chaining method calls.
          */
-        public Builder setUnitPrice(float unitPrice) {
+        public Builder setUnitPrice(Money unitPrice) {
             mUnitPrice = unitPrice;
             return this;
         }
@@ -67,7 +67,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
     //The Unique Code of the Supplier
     private final String mSupplierCode;
     //The Selling Price of the Product by the Supplier
-    private final float mUnitPrice;
+    private final Money mUnitPrice;
     //The Available Quantity to Sell at the Supplier
     private int mAvailableQuantity;
 
@@ -81,7 +81,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
      * @param unitPrice         The Selling Price of the Product by the Supplier
      * @param availableQuantity The Available Quantity to Sell at the Supplier
      */
-    private ProductSupplierSales(int itemId, int supplierId, String supplierName, String supplierCode, float unitPrice, int availableQuantity) {
+    private ProductSupplierSales(int itemId, int supplierId, String supplierName, String supplierCode, Money unitPrice, int availableQuantity) {
         mItemId = itemId;
         mSupplierId = supplierId;
         mSupplierName = supplierName;
@@ -100,7 +100,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
         mSupplierId = in.readInt();
         mSupplierName = in.readString();
         mSupplierCode = in.readString();
-        mUnitPrice = in.readFloat();
+        mUnitPrice = Money.ofMinorUnits(in.readLong());
         mAvailableQuantity = in.readInt();
     }
 
@@ -117,7 +117,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
         dest.writeInt(mSupplierId);
         dest.writeString(mSupplierName);
         dest.writeString(mSupplierCode);
-        dest.writeFloat(mUnitPrice);
+        dest.writeLong(mUnitPrice.getMinorUnits());
         dest.writeInt(mAvailableQuantity);
     }
 
@@ -172,9 +172,9 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
     /**
      * Getter Method for the Selling Price of the Product by the Supplier
      *
-     * @return The Float value of the Selling Price of the Product by the Supplier
+     * @return The {@link Money} value of the Selling Price of the Product by the Supplier
      */
-    public float getUnitPrice() {
+    public Money getUnitPrice() {
         return mUnitPrice;
     }
 
@@ -212,9 +212,9 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
 
         if (mItemId != that.mItemId) return false;
         if (mSupplierId != that.mSupplierId) return false;
-        if (Float.compare(that.mUnitPrice, mUnitPrice) != 0) return false;
         if (mAvailableQuantity != that.mAvailableQuantity) return false;
         if (!mSupplierName.equals(that.mSupplierName)) return false;
+        if (!mUnitPrice.equals(that.mUnitPrice)) return false;
         return mSupplierCode.equals(that.mSupplierCode);
     }
 
@@ -229,7 +229,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
         result = 31 * result + mSupplierId;
         result = 31 * result + mSupplierName.hashCode();
         result = 31 * result + mSupplierCode.hashCode();
-        result = 31 * result + (mUnitPrice != +0.0f ? Float.floatToIntBits(mUnitPrice) : 0);
+        result = 31 * result + mUnitPrice.hashCode();
         result = 31 * result + mAvailableQuantity;
         return result;
     }
@@ -279,7 +279,7 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
         private int mSupplierId;
         private String mSupplierName;
         private String mSupplierCode;
-        private float mUnitPrice = SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE;
+        private Money mUnitPrice = Money.ofMinorUnits(SalesContract.ProductSupplierInfo.DEFAULT_ITEM_UNIT_PRICE);
         private int mAvailableQuantity = SalesContract.ProductSupplierInventory.DEFAULT_ITEM_AVAIL_QUANTITY;
 
         /**
@@ -327,12 +327,12 @@ public class ProductSupplierSales implements Parcelable, Cloneable {
         }
 
         /**
-         * Setter for the float value of the Selling Price of the Product by the Supplier
+         * Setter for the {@link Money} value of the Selling Price of the Product by the Supplier
          *
-         * @param unitPrice The Float value of the Selling Price of the Product by the Supplier
+         * @param unitPrice The {@link Money} value of the Selling Price of the Product by the Supplier
          * @return Instance of {@link Builder} for chaining method calls.
          */
-        public Builder setUnitPrice(float unitPrice) {
+        public Builder setUnitPrice(Money unitPrice) {
             mUnitPrice = unitPrice;
             return this;
         }
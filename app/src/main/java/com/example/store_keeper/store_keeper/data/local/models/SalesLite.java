@@ -76,7 +76,7 @@ public class SalesLite implements Parcelable {
     //The Unique Code of the Top Supplier for the Product
     private final String mTopSupplierCode;
     //The Selling Price of the Product by the Top Supplier
-    private final float mSupplierUnitPrice;
+    private final Money mSupplierUnitPrice;
     //The Available Quantity to Sell at the Top Supplier
     private final int mSupplierAvailableQuantity;
     //The Total Available to Sell Quantity of the Product
@@ -99,7 +99,7 @@ public class SalesLite implements Parcelable {
      */
     private SalesLite(int productId, int supplierId, String productName, String productSku,
                       String categoryName, String defaultImageUri, String topSupplierName,
-                      String topSupplierCode, float supplierUnitPrice,
+                      String topSupplierCode, Money supplierUnitPrice,
                       int supplierAvailableQuantity, int totalAvailableQuantity) {
         mProductId = productId;
         mSupplierId = supplierId;
@@ -128,7 +128,7 @@ public class SalesLite implements Parcelable {
         mDefaultImageUri = in.readString();
         mTopSupplierName = in.readString();
         mTopSupplierCode = in.readString();
-        mSupplierUnitPrice = in.readFloat();
+        mSupplierUnitPrice = Money.ofMinorUnits(in.readLong());
         mSupplierAvailableQuantity = in.readInt();
         mTotalAvailableQuantity = in.readInt();
     }
@@ -150,7 +150,7 @@ public class SalesLite implements Parcelable {
                 cursor.getString(QueryArgsUtility.SalesShortInfoQuery.COLUMN_ITEM_IMAGE_URI_INDEX),
                 cursor.getString(QueryArgsUtility.SalesShortInfoQuery.COLUMN_SUPPLIER_NAME_INDEX),
                 cursor.getString(QueryArgsUtility.SalesShortInfoQuery.COLUMN_SUPPLIER_CODE_INDEX),
-                cursor.getFloat(QueryArgsUtility.SalesShortInfoQuery.COLUMN_ITEM_UNIT_PRICE_INDEX),
+                Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.SalesShortInfoQuery.COLUMN_ITEM_UNIT_PRICE_INDEX)),
                 cursor.getInt(QueryArgsUtility.SalesShortInfoQuery.COLUMN_SUPPLIER_AVAIL_QUANTITY_INDEX),
                 cursor.getInt(QueryArgsUtility.SalesShortInfoQuery.COLUMN_TOTAL_AVAIL_QUANTITY_INDEX)
         );
@@ -173,7 +173,7 @@ public class SalesLite implements Parcelable {
         dest.writeString(mDefaultImageUri);
         dest.writeString(mTopSupplierName);
         dest.writeString(mTopSupplierCode);
-        dest.writeFloat(mSupplierUnitPrice);
+        dest.writeLong(mSupplierUnitPrice.getMinorUnits());
         dest.writeInt(mSupplierAvailableQuantity);
         dest.writeInt(mTotalAvailableQuantity);
     }
@@ -265,9 +265,9 @@ public class SalesLite implements Parcelable {
     /**
      * Getter method for the Selling Price of the Product by the Top Supplier
      *
-     * @return The Float value of the Selling Price of the Product by the Top Supplier
+     * @return The {@link Money} value of the Selling Price of the Product by the Top Supplier
      */
-    public float getSupplierUnitPrice() {
+    public Money getSupplierUnitPrice() {
         return mSupplierUnitPrice;
     }
 
@@ -305,7 +305,6 @@ public class SalesLite implements Parcelable {
 
         if (mProductId != salesLite.mProductId) return false;
         if (mSupplierId != salesLite.mSupplierId) return false;
-        if (Float.compare(salesLite.mSupplierUnitPrice, mSupplierUnitPrice) != 0) return false;
         if (mSupplierAvailableQuantity != salesLite.mSupplierAvailableQuantity) return false;
         if (mTotalAvailableQuantity != salesLite.mTotalAvailableQuantity) return false;
         if (!mProductName.equals(salesLite.mProductName)) return false;
@@ -314,6 +313,7 @@ public class SalesLite implements Parcelable {
         if (mDefaultImageUri != null ? !mDefaultImageUri.equals(salesLite.mDefaultImageUri) : salesLite.mDefaultImageUri != null)
             return false;
         if (!mTopSupplierName.equals(salesLite.mTopSupplierName)) return false;
+        if (!mSupplierUnitPrice.equals(salesLite.mSupplierUnitPrice)) return false;
         return mTopSupplierCode.equals(salesLite.mTopSupplierCode);
     }
 
@@ -332,7 +332,7 @@ public class SalesLite implements Parcelable {
         result = 31 * result + (mDefaultImageUri != null ? mDefaultImageUri.hashCode() : 0);
         result = 31 * result + mTopSupplierName.hashCode();
         result = 31 * result + mTopSupplierCode.hashCode();
-        result = 31 * result + (mSupplierUnitPrice != +0.0f ? Float.floatToIntBits(mSupplierUnitPrice) : 0);
+        result = 31 * result + mSupplierUnitPrice.hashCode();
         result = 31 * result + mSupplierAvailableQuantity;
         result = 31 * result + mTotalAvailableQuantity;
         return result;
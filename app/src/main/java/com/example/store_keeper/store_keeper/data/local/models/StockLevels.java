@@ -0,0 +1,139 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.models;
+
+import android.database.Cursor;
+
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+
+/**
+ * Read-only Model Class for the Stock Levels of the Store, aggregated over all the Products.
+ * <p>
+ * This model class is built using the data read from the {@link Cursor}
+ * of the {@link QueryArgsUtility.StockLevelsQuery}
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class StockLevels {
+
+    //The Number of Products in the Store
+    private final int mItemCount;
+    //The Total Quantity of the Products available to Sell
+    private final int mTotalQuantity;
+    //The Value of the Products available to Sell
+    private final Money mStockValue;
+    //The Number of Products with no Quantity available to Sell
+    private final int mOutOfStockCount;
+    //The Number of Products that are Low on Stock
+    private final int mLowStockCount;
+
+    /**
+     * Private Constructor of {@link StockLevels}
+     *
+     * @param itemCount       The Number of Products in the Store
+     * @param totalQuantity   The Total Quantity of the Products available to Sell
+     * @param stockValue      The Value of the Products available to Sell
+     * @param outOfStockCount The Number of Products with no Quantity available to Sell
+     * @param lowStockCount   The Number of Products that are Low on Stock
+     */
+    private StockLevels(int itemCount, int totalQuantity, Money stockValue, int outOfStockCount, int lowStockCount) {
+        mItemCount = itemCount;
+        mTotalQuantity = totalQuantity;
+        mStockValue = stockValue;
+        mOutOfStockCount = outOfStockCount;
+        mLowStockCount = lowStockCount;
+    }
+
+    /**
+     * Static Factory constructor that creates an instance of {@link StockLevels}
+     * using the data from the {@link Cursor}
+     *
+     * @param cursor The {@link Cursor} to this data
+     * @return Instance of {@link StockLevels}
+     */
+    public static StockLevels from(Cursor cursor) {
+        return new StockLevels(
+                cursor.getInt(QueryArgsUtility.StockLevelsQuery.COLUMN_ITEM_COUNT_INDEX),
+                cursor.getInt(QueryArgsUtility.StockLevelsQuery.COLUMN_TOTAL_QUANTITY_INDEX),
+                Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.StockLevelsQuery.COLUMN_STOCK_VALUE_INDEX)),
+                cursor.getInt(QueryArgsUtility.StockLevelsQuery.COLUMN_OUT_OF_STOCK_COUNT_INDEX),
+                cursor.getInt(QueryArgsUtility.StockLevelsQuery.COLUMN_LOW_STOCK_COUNT_INDEX)
+        );
+    }
+
+    /**
+     * Getter Method for the Number of Products in the Store
+     *
+     * @return The Number of Products in the Store
+     */
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * Getter Method for the Total Quantity of the Products available to Sell
+     *
+     * @return The Total Quantity of the Products available to Sell
+     */
+    public int getTotalQuantity() {
+        return mTotalQuantity;
+    }
+
+    /**
+     * Getter Method for the Value of the Products available to Sell
+     *
+     * @return The {@link Money} value of the Products available to Sell
+     */
+    public Money getStockValue() {
+        return mStockValue;
+    }
+
+    /**
+     * Getter Method for the Number of Products with no Quantity available to Sell
+     *
+     * @return The Number of Products with no Quantity available to Sell
+     */
+    public int getOutOfStockCount() {
+        return mOutOfStockCount;
+    }
+
+    /**
+     * Getter Method for the Number of Products that are Low on Stock
+     *
+     * @return The Number of Products that are Low on Stock
+     */
+    public int getLowStockCount() {
+        return mLowStockCount;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation of the {@link StockLevels}
+     */
+    @Override
+    public String toString() {
+        return "StockLevels{" +
+                "mItemCount=" + mItemCount +
+                ", mTotalQuantity=" + mTotalQuantity +
+                ", mStockValue=" + mStockValue +
+                ", mOutOfStockCount=" + mOutOfStockCount +
+                ", mLowStockCount=" + mLowStockCount +
+                '}';
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.models;
+
+import android.database.Cursor;
+
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+
+/**
+ * Read-only Model Class for the Stock of a Supplier, aggregated over all its Products.
+ * <p>
+ * This model class is built using the data read from the {@link Cursor}
+ * of the {@link QueryArgsUtility.SupplierStockQuery}
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class SupplierStock {
+
+    //The Primary Key/ID of the Supplier
+    private final int mSupplierId;
+    //The Name of the Supplier
+    private final String mSupplierName;
+    //The Unique Code of the Supplier
+    private final String mSupplierCode;
+    //The Number of Products stocked by the Supplier
+    private final int mItemCount;
+    //The Total Quantity of the Products available to Sell at the Supplier
+    private final int mTotalQuantity;
+    //The Value of the Products available to Sell at the Supplier
+    private final Money mStockValue;
+
+    /**
+     * Private Constructor of {@link SupplierStock}
+     *
+     * @param supplierId    The Integer Primary Key/ID of the Supplier
+     * @param supplierName  The Name of the Supplier
+     * @param supplierCode  The Unique Code of the Supplier
+     * @param itemCount     The Number of Products stocked by the Supplier
+     * @param totalQuantity The Total Quantity of the Products available to Sell at the Supplier
+     * @param stockValue    The Value of the Products available to Sell at the Supplier
+     */
+    private SupplierStock(int supplierId, String supplierName, String supplierCode,
+                          int itemCount, int totalQuantity, Money stockValue) {
+        mSupplierId = supplierId;
+        mSupplierName = supplierName;
+        mSupplierCode = supplierCode;
+        mItemCount = itemCount;
+        mTotalQuantity = totalQuantity;
+        mStockValue = stockValue;
+    }
+
+    /**
+     * Static Factory constructor that creates an instance of {@link SupplierStock}
+     * using the data from the {@link Cursor}
+     *
+     * @param cursor The {@link Cursor} to this data
+     * @return Instance of {@link SupplierStock}
+     */
+    public static SupplierStock from(Cursor cursor) {
+        return new SupplierStock(
+                cursor.getInt(QueryArgsUtility.SupplierStockQuery.COLUMN_SUPPLIER_ID_INDEX),
+                cursor.getString(QueryArgsUtility.SupplierStockQuery.COLUMN_SUPPLIER_NAME_INDEX),
+                cursor.getString(QueryArgsUtility.SupplierStockQuery.COLUMN_SUPPLIER_CODE_INDEX),
+                cursor.getInt(QueryArgsUtility.SupplierStockQuery.COLUMN_ITEM_COUNT_INDEX),
+                cursor.getInt(QueryArgsUtility.SupplierStockQuery.COLUMN_TOTAL_QUANTITY_INDEX),
+                Money.ofMinorUnits(cursor.getLong(QueryArgsUtility.SupplierStockQuery.COLUMN_STOCK_VALUE_INDEX))
+        );
+    }
+
+    /**
+     * Getter Method for Primary Key/ID of the Supplier
+     *
+     * @return The Integer Primary Key/ID of the Supplier
+     */
+    public int getSupplierId() {
+        return mSupplierId;
+    }
+
+    /**
+     * Getter Method for the Name of the Supplier
+     *
+     * @return The Name of the Supplier
+     */
+    public String getSupplierName() {
+        return mSupplierName;
+    }
+
+    /**
+     * Getter Method for the Code of the Supplier
+     *
+     * @return The Code of the Supplier
+     */
+    public String getSupplierCode() {
+        return mSupplierCode;
+    }
+
+    /**
+     * Getter Method for the Number of Products stocked by the Supplier
+     *
+     * @return The Number of Products stocked by the Supplier
+     */
+    public int getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * Getter Method for the Total Quantity of the Products available to Sell at the Supplier
+     *
+     * @return The Total Quantity of the Products available to Sell at the Supplier
+     */
+    public int getTotalQuantity() {
+        return mTotalQuantity;
+    }
+
+    /**
+     * Getter Method for the Value of the Products available to Sell at the Supplier
+     *
+     * @return The {@link Money} value of the Products available to Sell at the Supplier
+     */
+    public Money getStockValue() {
+        return mStockValue;
+    }
+
+    /**
+     * Returns a string representation of the object.
+     *
+     * @return String representation of the {@link SupplierStock}
+     */
+    @Override
+    public String toString() {
+        return "SupplierStock{" +
+                "mSupplierId=" + mSupplierId +
+                ", mSupplierName='" + mSupplierName + '\'' +
+                ", mSupplierCode='" + mSupplierCode + '\'' +
+                ", mItemCount=" + mItemCount +
+                ", mTotalQuantity=" + mTotalQuantity +
+                ", mStockValue=" + mStockValue +
+                '}';
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.data.local.utils;
+
+import android.support.annotation.NonNull;
+import android.support.v4.util.LongSparseArray;
+
+import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierInfo;
+import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
+import com.example.store_keeper.store_keeper.data.local.models.SupplierContact;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Utility class that provides methods to compute the differences between the existing
+ * and the updated lists of the models saved in the hang off tables, as a {@link ChangeSet}
+ * of the records added, removed and changed. The records are matched by their keys
+ * in a single pass over each list, instead of searching one list for every record of the other.
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public final class DiffUtility {
+
+    /**
+     * Private Constructor to prevent instantiation of {@link DiffUtility}
+     */
+    private DiffUtility() {
+        //Suppressing with an error to enforce noninstantiability
+        throw new AssertionError("No " + this.getClass().getCanonicalName() + " instances for you!");
+    }
+
+    /**
+     * Method that packs the ItemId-SupplierId pair into a single primitive long key,
+     * with the Item Id in the high 32 bits and the Supplier Id in the low 32 bits.
+     *
+     * @param itemId     The Item Id of the pair
+     * @param supplierId The Supplier Id of the pair
+     * @return The long key that uniquely identifies the ItemId-SupplierId pair
+     */
+    public static long packItemSupplierKey(int itemId, int supplierId) {
+        return ((long) itemId << 32) | (supplierId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Method that computes the {@link ChangeSet} of the {@link ProductSupplierInfo} records
+     * matched by their ItemId-SupplierId pair. Records are considered changed when their Unit Price differs.
+     *
+     * @param existingList The List of {@link ProductSupplierInfo} currently persisted in the database
+     * @param updatedList  The List of {@link ProductSupplierInfo} to be saved
+     * @return The {@link ChangeSet} of the {@link ProductSupplierInfo} records
+     */
+    @NonNull
+    public static ChangeSet<ProductSupplierInfo> diffProductSupplierInfo(@NonNull List<ProductSupplierInfo> existingList,
+                                                                        @NonNull List<ProductSupplierInfo> updatedList) {
+        return diffByLongKey(existingList, updatedList,
+                productSupplierInfo -> packItemSupplierKey(productSupplierInfo.getItemId(), productSupplierInfo.getSupplierId()),
+                (existing, updated) -> existing.getUnitPrice().equals(updated.getUnitPrice())
+        );
+    }
+
+    /**
+     * Method that computes the {@link ChangeSet} of the {@link ProductSupplierSales} records
+     * matched by their ItemId-SupplierId pair. Records are considered changed when they are not equal.
+     *
+     * @param existingList The List of {@link ProductSupplierSales} currently persisted in the database
+     * @param updatedList  The List of {@link ProductSupplierSales} to be saved
+     * @return The {@link ChangeSet} of the {@link ProductSupplierSales} records
+     */
+    @NonNull
+    public static ChangeSet<ProductSupplierSales> diffProductSupplierSales(@NonNull List<ProductSupplierSales> existingList,
+                                                                          @NonNull List<ProductSupplierSales> updatedList) {
+        return diffByLongKey(existingList, updatedList,
+                productSupplierSales -> packItemSupplierKey(productSupplierSales.getItemId(), productSupplierSales.getSupplierId()),
+                ProductSupplierSales::equals
+        );
+    }
+
+    /**
+     * Method that computes the {@link ChangeSet} of the {@link SupplierContact} records of a Supplier
+     * matched by their Contact value, which is unique for a Supplier. Records are considered changed
+     * when they are not equal (like when the Contact is made the default one).
+     *
+     * @param existingList The List of {@link SupplierContact} currently persisted in the database
+     * @param updatedList  The List of {@link SupplierContact} to be saved
+     * @return The {@link ChangeSet} of the {@link SupplierContact} records
+     */
+    @NonNull
+    public static ChangeSet<SupplierContact> diffSupplierContacts(@NonNull List<SupplierContact> existingList,
+                                                                  @NonNull List<SupplierContact> updatedList) {
+        //Building the map of existing records by their Contact value
+        HashMap<String, SupplierContact> existingByValue = new HashMap<>(existingList.size() * 2);
+        for (SupplierContact supplierContact : existingList) {
+            existingByValue.put(supplierContact.getValue(), supplierContact);
+        }
+
+        //Creating the ChangeSet to load
+        ChangeSet<SupplierContact> changeSet = new ChangeSet<>();
+
+        //Matching the updated records with the existing ones
+        for (SupplierContact updatedContact : updatedList) {
+            //Looking up the existing record, removing it from the map as it is matched
+            SupplierContact existingContact = existingByValue.remove(updatedContact.getValue());
+            if (existingContact == null) {
+                //When there is no existing record, the record was added
+                changeSet.mAdded.add(updatedContact);
+            } else if (!existingContact.equals(updatedContact)) {
+                //When the existing record differs, the record was changed
+                changeSet.mChanged.add(updatedContact);
+            }
+        }
+
+        //The existing records left unmatched were removed
+        changeSet.mRemoved.addAll(existingByValue.values());
+
+        //Returning the ChangeSet computed
+        return changeSet;
+    }
+
+    /**
+     * Method that computes the {@link ChangeSet} of the records matched by their primitive long keys.
+     *
+     * @param existingList    The List of records currently persisted in the database
+     * @param updatedList     The List of records to be saved
+     * @param keyProvider     The {@link LongKeyProvider} that provides the key of a record
+     * @param contentComparer The {@link ContentComparer} that checks whether the matched records are the same
+     * @param <T>             The type of the records
+     * @return The {@link ChangeSet} of the records
+     */
+    @NonNull
+    private static <T> ChangeSet<T> diffByLongKey(@NonNull List<T> existingList, @NonNull List<T> updatedList,
+                                                  @NonNull LongKeyProvider<T> keyProvider,
+                                                  @NonNull ContentComparer<T> contentComparer) {
+        //Building the map of existing records by their keys, without boxing the keys
+        LongSparseArray<T> existingByKey = new LongSparseArray<>(existingList.size());
+        for (T existing : existingList) {
+            existingByKey.put(keyProvider.getKey(existing), existing);
+        }
+
+        //Creating the ChangeSet to load
+        ChangeSet<T> changeSet = new ChangeSet<>();
+
+        //Matching the updated records with the existing ones
+        for (T updated : updatedList) {
+            long key = keyProvider.getKey(updated);
+            //Looking up the existing record
+            T existing = existingByKey.get(key);
+            if (existing == null) {
+                //When there is no existing record, the record was added
+                changeSet.mAdded.add(updated);
+            } else {
+                //Removing the existing record from the map as it is matched
+                existingByKey.remove(key);
+                if (!contentComparer.isSameContent(existing, updated)) {
+                    //When the existing record differs, the record was changed
+                    changeSet.mChanged.add(updated);
+                }
+            }
+        }
+
+        //The existing records left unmatched were removed
+        int noOfRemoved = existingByKey.size();
+        for (int index = 0; index < noOfRemoved; index++) {
+            changeSet.mRemoved.add(existingByKey.valueAt(index));
+        }
+
+        //Returning the ChangeSet computed
+        return changeSet;
+    }
+
+    /**
+     * Interface that provides the primitive long key of a record.
+     *
+     * @param <T> The type of the records
+     */
+    private interface LongKeyProvider<T> {
+        /**
+         * Method that returns the key of the {@code record}
+         *
+         * @param record The record
+         * @return The long key that uniquely identifies the {@code record}
+         */
+        long getKey(T record);
+    }
+
+    /**
+     * Interface that checks whether two records with the same key have the same content.
+     *
+     * @param <T> The type of the records
+     */
+    private interface ContentComparer<T> {
+        /**
+         * Method that checks whether the {@code existing} record and its {@code updated} record
+         * have the same content.
+         *
+         * @param existing The record currently persisted in the database
+         * @param updated  The record to be saved
+         * @return <b>TRUE</b> when both records have the same content; <b>FALSE</b> otherwise.
+         */
+        boolean isSameContent(T existing, T updated);
+    }
+
+    /**
+     * Class that holds the differences between the existing and the updated lists of records,
+     * computed by the methods of {@link DiffUtility}.
+     *
+     * @param <T> The type of the records
+     */
+    public static final class ChangeSet<T> {
+        //Records present only in the updated list
+        private final ArrayList<T> mAdded = new ArrayList<>();
+        //Records present only in the existing list
+        private final ArrayList<T> mRemoved = new ArrayList<>();
+        //Records present in both the lists but with different content (as in the updated list)
+        private final ArrayList<T> mChanged = new ArrayList<>();
+
+        /**
+         * Private Constructor of {@link ChangeSet}, loaded by the methods of {@link DiffUtility}
+         */
+        private ChangeSet() {
+        }
+
+        /**
+         * Method that returns the records present only in the updated list.
+         *
+         * @return List of records to be inserted
+         */
+        public ArrayList<T> getAdded() {
+            return mAdded;
+        }
+
+        /**
+         * Method that returns the records present only in the existing list.
+         *
+         * @return List of records to be deleted
+         */
+        public ArrayList<T> getRemoved() {
+            return mRemoved;
+        }
+
+        /**
+         * Method that returns the records present in both the lists but with different content.
+         *
+         * @return List of records, as in the updated list, to be updated
+         */
+        public ArrayList<T> getChanged() {
+            return mChanged;
+        }
+
+        /**
+         * Method that returns the records that are to be upserted, that is, the records
+         * added along with the records changed.
+         *
+         * @return New List of records to be inserted or replaced
+         */
+        public ArrayList<T> getAddedOrChanged() {
+            ArrayList<T> addedOrChanged = new ArrayList<>(mAdded.size() + mChanged.size());
+            addedOrChanged.addAll(mAdded);
+            addedOrChanged.addAll(mChanged);
+            return addedOrChanged;
+        }
+
+        /**
+         * Method that returns whether there are no differences between the lists.
+         *
+         * @return <b>TRUE</b> when there are no records added, removed or changed; <b>FALSE</b> otherwise.
+         */
+        public boolean isEmpty() {
+            return mAdded.isEmpty() && mRemoved.isEmpty() && mChanged.isEmpty();
+        }
+    }
+}
@@ -20,12 +20,14 @@ import android.content.ContentUris;
 import android.database.sqlite.SQLiteQueryBuilder;
 import android.net.Uri;
 import android.support.annotation.NonNull;
+import android.support.v4.util.Pair;
 
 import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -373,6 +375,7 @@ public final class QueryArgsUtility {
         public static final int COLUMN_ITEM_SKU_INDEX = 2;
         public static final int COLUMN_ITEM_DESCRIPTION_INDEX = 3;
         public static final int COLUMN_ITEM_CATEGORY_NAME_INDEX = 4;
+        public static final int COLUMN_ITEM_REORDER_LEVEL_INDEX = 5;
 
         /**
          * Method that builds the relationship tables involved in the join.
@@ -408,6 +411,8 @@ public final class QueryArgsUtility {
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_DESCRIPTION));
             columnMap.put(ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME),
                     ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME));
+            columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL));
             queryBuilder.setProjectionMap(columnMap);
         }
 
@@ -423,7 +428,8 @@ public final class QueryArgsUtility {
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME),
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_DESCRIPTION),
-                    ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME)
+                    ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL)
             };
         }
 
@@ -558,6 +564,57 @@ public final class QueryArgsUtility {
 
     }
 
+    /**
+     * Class that provides all the necessities
+     * for building the query to retrieve the number of Items referring to an Image
+     * identified by the 'image_uri'
+     * <p>
+     * <pre>
+     *     SELECT COUNT(*)
+     *     FROM item_image
+     *     WHERE image_uri = ?;
+     * </pre>
+     */
+    public static final class ItemImageRefsQuery {
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_REF_COUNT_INDEX = 0;
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            return new String[]{
+                    "COUNT(*)"
+            };
+        }
+
+        /**
+         * Method that returns the Where Clause of the query
+         *
+         * @return String containing the Where Clause required
+         */
+        public static String getSelection() {
+            //Where clause is only the 'item_image' table's image_uri column
+            return ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
+        }
+
+        /**
+         * Method that returns the Where Clause arguments of the query
+         *
+         * @param uri is the URI for the query
+         * @return An Array of Strings which are the Where Clause arguments of the query
+         */
+        public static String[] getSelectionArgs(@NonNull Uri uri) {
+            return new String[]{
+                    //Where clause value is the 'image_uri' passed in the URI
+                    uri.getLastPathSegment()
+            };
+        }
+    }
+
     /**
      * Class that provides all the necessities
      * for building the query to retrieve the Id and Name of the Item
@@ -1090,36 +1147,27 @@ public final class QueryArgsUtility {
     /**
      * Class that provides all the necessities
      * for building the query to retrieve and display the Sales data
-     * for all the Products in the Store.
+     * for all the Products in the Store. The Total Available Quantity and the Top Supplier
+     * of each Product are read from the summary table 'item_sales_summary', which is kept current
+     * by the triggers of {@link com.example.store_keeper.store_keeper.data.local.StoreDbHelper}.
      * <p>
      * <pre>
-     *     SELECT item_supplier_inventory.item_id, item_supplier_inventory.supplier_id, item.item_name, item.item_sku,
+     *     SELECT item_sales_summary.item_id, item_sales_summary.top_supplier_id, item.item_name, item.item_sku,
      *     item_category.category_name, item_image.image_uri,
      *     supplier.supplier_name, supplier.supplier_code,
-     *     item_supplier_info.unit_price,
-     *     item_supplier_inventory.available_quantity AS supplier_available_quantity,
-     *     (SELECT sum(available_quantity) AS total_available_quantity
-     *     FROM item_supplier_inventory
-     *     WHERE item_supplier_inventory.item_id = item._id) AS total_available_quantity
+     *     item_sales_summary.top_supplier_unit_price AS unit_price,
+     *     item_sales_summary.top_supplier_available_quantity AS supplier_available_quantity,
+     *     item_sales_summary.total_available_quantity
      *     FROM item JOIN item_category
      *     ON item.category_id = item_category._id
      *     LEFT JOIN item_image
      *     ON item_image.item_id = item._id
-     *     JOIN item_supplier_info
-     *     ON item_supplier_info.item_id = item._id
-     *     JOIN item_supplier_inventory
-     *     ON item_supplier_inventory.item_id = item._id
+     *     JOIN item_sales_summary
+     *     ON item_sales_summary.item_id = item._id
      *     JOIN supplier
-     *     ON supplier._id = item_supplier_inventory.supplier_id
+     *     ON supplier._id = item_sales_summary.top_supplier_id
      *     WHERE (item_image.is_default IS NULL OR item_image.is_default = 1)
-     *     AND item_supplier_inventory.supplier_id = (
-     *     SELECT supplier._id
-     *     FROM supplier JOIN item_supplier_inventory
-     *     ON item_supplier_inventory.supplier_id = supplier._id
-     *     WHERE item_supplier_inventory.item_id = item._id
-     *     ORDER BY item_supplier_inventory.available_quantity DESC
-     *     LIMIT 1)
-     *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id;
+     *     AND item_sales_summary.top_supplier_unit_price IS NOT NULL;
      * </pre>
      */
     public static final class SalesShortInfoQuery {
@@ -1137,77 +1185,6 @@ public final class QueryArgsUtility {
         public static final int COLUMN_TOTAL_AVAIL_QUANTITY_INDEX = 10;
         //Column Name constants for the custom columns
         private static final String COLUMN_SUPPLIER_AVAIL_QUANTITY = "supplier_available_quantity";
-        private static final String COLUMN_TOTAL_AVAIL_QUANTITY = "total_available_quantity";
-
-        /**
-         * Method that prepares and returns the sub query for "total_available_quantity" column.
-         *
-         * @return Sub query for the "total_available_quantity" column.
-         */
-        private static String getTotalAvailQuantitySubQuery() {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(COLUMN_TOTAL_AVAIL_QUANTITY, SqliteUtility.SUM + SqliteUtility.OPEN_BRACE + SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + COLUMN_TOTAL_AVAIL_QUANTITY);
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    COLUMN_TOTAL_AVAIL_QUANTITY
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = SalesContract.ProductSupplierInventory.TABLE_NAME;
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
-                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID);
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null, null, null);
-        }
-
-        /**
-         * Method that prepares and returns the sub query for retrieving the Supplier ID
-         * of the Top Supplier of an Item, which is used in the WHERE Clause of the main query.
-         *
-         * @return Sub query for retrieving the Supplier ID of the Top Supplier of an Item.
-         */
-        private static String getTopSupplierIdSubQuery() {
-            //Initializing the QueryBuilder
-            SQLiteQueryBuilder queryBuilder = new SQLiteQueryBuilder();
-
-            //Constructing the Projection Map
-            Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID));
-            queryBuilder.setProjectionMap(columnMap);
-
-            //Setting the Projection
-            String[] projection = new String[]{
-                    SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID)
-            };
-
-            //Constructing the relationship between Tables involved
-            String inTables = SupplierContract.Supplier.TABLE_NAME + SqliteUtility.JOIN
-                    + SalesContract.ProductSupplierInventory.TABLE_NAME + SqliteUtility.ON
-                    + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID)
-                    + SqliteUtility.EQUALS
-                    + SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID);
-            queryBuilder.setTables(inTables);
-
-            //Constructing the WHERE Clause
-            String selection = SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
-                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID);
-
-            //Returning the Sub Query built
-            return queryBuilder.buildQuery(projection, selection, null, null,
-                    SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY) + SqliteUtility.DESC,
-                    "1"
-            );
-        }
 
         /**
          * Method that builds the relationship tables involved in the join.
@@ -1222,15 +1199,12 @@ public final class QueryArgsUtility {
                     + SqliteUtility.LEFT_JOIN + ProductContract.ProductImage.TABLE_NAME + SqliteUtility.ON
                     + ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_ID)
                     + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
-                    + SqliteUtility.JOIN + SalesContract.ProductSupplierInfo.TABLE_NAME + SqliteUtility.ON
-                    + SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID)
-                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
-                    + SqliteUtility.JOIN + SalesContract.ProductSupplierInventory.TABLE_NAME + SqliteUtility.ON
-                    + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
+                    + SqliteUtility.JOIN + SalesContract.ProductSalesSummary.TABLE_NAME + SqliteUtility.ON
+                    + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID)
                     + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
                     + SqliteUtility.JOIN + SupplierContract.Supplier.TABLE_NAME + SqliteUtility.ON
                     + SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID)
-                    + SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID);
+                    + SqliteUtility.EQUALS + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID);
             queryBuilder.setTables(inTables);
         }
 
@@ -1244,17 +1218,17 @@ public final class QueryArgsUtility {
          */
         public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
             Map<String, String> columnMap = new HashMap<>();
-            columnMap.put(SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID), SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID));
-            columnMap.put(SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID), SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID));
+            columnMap.put(SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID), SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID));
+            columnMap.put(SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID), SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID));
             columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME), ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME));
             columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU), ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU));
             columnMap.put(ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME), ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME));
             columnMap.put(ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI), ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI));
             columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME));
             columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE));
-            columnMap.put(SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE), SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE));
-            columnMap.put(COLUMN_SUPPLIER_AVAIL_QUANTITY, SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY) + SqliteUtility.AS + COLUMN_SUPPLIER_AVAIL_QUANTITY);
-            columnMap.put(COLUMN_TOTAL_AVAIL_QUANTITY, SqliteUtility.OPEN_BRACE + getTotalAvailQuantitySubQuery() + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + COLUMN_TOTAL_AVAIL_QUANTITY);
+            columnMap.put(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE, SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_UNIT_PRICE) + SqliteUtility.AS + SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE);
+            columnMap.put(COLUMN_SUPPLIER_AVAIL_QUANTITY, SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_AVAIL_QUANTITY) + SqliteUtility.AS + COLUMN_SUPPLIER_AVAIL_QUANTITY);
+            columnMap.put(SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY), SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY));
             queryBuilder.setProjectionMap(columnMap);
         }
 
@@ -1266,31 +1240,31 @@ public final class QueryArgsUtility {
          */
         public static String[] getProjection() {
             return new String[]{
-                    SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID),
-                    SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID),
+                    SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID),
+                    SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_ID),
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME),
                     ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
                     ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME),
                     ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI),
                     SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME),
                     SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE),
-                    SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE),
+                    SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE,
                     COLUMN_SUPPLIER_AVAIL_QUANTITY,
-                    COLUMN_TOTAL_AVAIL_QUANTITY
+                    SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY)
             };
         }
 
         /**
-         * Method that returns the Where Clause of the query
+         * Method that returns the Where Clause of the query. Products whose Top Supplier
+         * has no price configured are excluded, as they cannot be sold yet.
          *
          * @return String containing the Where Clause required
          */
         public static String getSelection() {
             return SqliteUtility.OPEN_BRACE + ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_DEFAULT) + SqliteUtility.IS + SqliteUtility.NULL +
                     SqliteUtility.OR + ProductContract.ProductImage.getQualifiedColumnName(ProductContract.ProductImage.COLUMN_ITEM_IMAGE_DEFAULT) + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER + SqliteUtility.CLOSE_BRACE +
-                    SqliteUtility.AND + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID) + SqliteUtility.EQUALS + SqliteUtility.OPEN_BRACE + getTopSupplierIdSubQuery() + SqliteUtility.CLOSE_BRACE +
-                    SqliteUtility.AND + SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID) +
-                    SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID);
+                    SqliteUtility.AND + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOP_SUPPLIER_UNIT_PRICE)
+                    + SqliteUtility.IS + SqliteUtility.NOT + SqliteUtility.NULL;
         }
 
         /**
@@ -1415,4 +1389,475 @@ public final class QueryArgsUtility {
             };
         }
     }
+
+    /**
+     * Method that prepares the aggregate expression for the Stock Value of the Items available to Sell,
+     * which is the sum of the Available Quantity at its Unit Price. The Unit Prices are INTEGER
+     * minor units, hence the sum is computed exactly. The Inventory without a Price is ignored.
+     * <p>
+     * <pre>
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity * item_supplier_info.unit_price), 0)
+     * </pre>
+     *
+     * @return String containing the aggregate expression of the Stock Value
+     */
+    private static String getStockValueAggregate() {
+        return SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE + SqliteUtility.SUM + SqliteUtility.OPEN_BRACE
+                + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY)
+                + SqliteUtility.MULTIPLY
+                + SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_UNIT_PRICE)
+                + SqliteUtility.CLOSE_BRACE + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE;
+    }
+
+    /**
+     * Method that prepares the aggregate expression for the Total Quantity of the Items available to Sell.
+     * <p>
+     * <pre>
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity), 0)
+     * </pre>
+     *
+     * @return String containing the aggregate expression of the Total Quantity
+     */
+    private static String getTotalQuantityAggregate() {
+        return SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE + SqliteUtility.SUM + SqliteUtility.OPEN_BRACE
+                + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_AVAIL_QUANTITY)
+                + SqliteUtility.CLOSE_BRACE + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE;
+    }
+
+    /**
+     * Method that prepares the join of the 'item_supplier_info' table with the 'item_supplier_inventory'
+     * table, for reading the Unit Price of the Inventory.
+     *
+     * @return String containing the LEFT JOIN of the 'item_supplier_info' table
+     */
+    private static String getInventoryPriceJoin() {
+        return SqliteUtility.LEFT_JOIN + SalesContract.ProductSupplierInfo.TABLE_NAME + SqliteUtility.ON
+                + SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_ITEM_ID)
+                + SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
+                + SqliteUtility.AND
+                + SalesContract.ProductSupplierInfo.getQualifiedColumnName(SalesContract.ProductSupplierInfo.COLUMN_SUPPLIER_ID)
+                + SqliteUtility.EQUALS + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID);
+    }
+
+    /**
+     * Class that provides all the necessities
+     * for building the query to retrieve the Stock aggregated per Supplier.
+     * <p>
+     * <pre>
+     *     SELECT supplier._id, supplier.supplier_name, supplier.supplier_code,
+     *     COUNT(item_supplier_inventory.item_id) AS item_count,
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity), 0) AS total_quantity,
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity * item_supplier_info.unit_price), 0) AS stock_value
+     *     FROM supplier LEFT JOIN item_supplier_inventory
+     *     ON item_supplier_inventory.supplier_id = supplier._id
+     *     LEFT JOIN item_supplier_info
+     *     ON item_supplier_info.item_id = item_supplier_inventory.item_id
+     *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id
+     *     GROUP BY supplier.supplier_code;
+     * </pre>
+     */
+    public static final class SupplierStockQuery {
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_SUPPLIER_ID_INDEX = 0;
+        public static final int COLUMN_SUPPLIER_NAME_INDEX = 1;
+        public static final int COLUMN_SUPPLIER_CODE_INDEX = 2;
+        public static final int COLUMN_ITEM_COUNT_INDEX = 3;
+        public static final int COLUMN_TOTAL_QUANTITY_INDEX = 4;
+        public static final int COLUMN_STOCK_VALUE_INDEX = 5;
+
+        /**
+         * Method that builds the relationship tables involved in the join.
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
+         */
+        public static void setTables(SQLiteQueryBuilder queryBuilder) {
+            String inTables = SupplierContract.Supplier.TABLE_NAME
+                    + SqliteUtility.LEFT_JOIN + SalesContract.ProductSupplierInventory.TABLE_NAME + SqliteUtility.ON
+                    + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_SUPPLIER_ID)
+                    + SqliteUtility.EQUALS + SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID)
+                    + getInventoryPriceJoin();
+            queryBuilder.setTables(inTables);
+        }
+
+        /**
+         * Method that builds a map of Projection columns used in the Select clause
+         * with the appropriate column qualifiers or aliases such that there is no ambiguity in the
+         * column names
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance
+         *                     to set the ProjectionMap on.
+         */
+        public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
+            Map<String, String> columnMap = new HashMap<>();
+            columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID));
+            columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME));
+            columnMap.put(SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE), SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE));
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_ITEM_COUNT, SqliteUtility.COUNT + SqliteUtility.OPEN_BRACE
+                    + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
+                    + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_ITEM_COUNT);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY, getTotalQuantityAggregate() + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_STOCK_VALUE, getStockValueAggregate() + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_STOCK_VALUE);
+            queryBuilder.setProjectionMap(columnMap);
+        }
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            return new String[]{
+                    SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier._ID),
+                    SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_NAME),
+                    SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE),
+                    SalesContract.SalesAggregate.COLUMN_ITEM_COUNT,
+                    SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY,
+                    SalesContract.SalesAggregate.COLUMN_STOCK_VALUE
+            };
+        }
+
+        /**
+         * Method that returns the Group By Clause of the query. Groups by the unique Supplier Code,
+         * which is also the Sort Order of the list, so that the Suppliers are read in order from its Index.
+         *
+         * @return String containing the Group By Clause required
+         */
+        public static String getGroupBy() {
+            return SupplierContract.Supplier.getQualifiedColumnName(SupplierContract.Supplier.COLUMN_SUPPLIER_CODE);
+        }
+    }
+
+    /**
+     * Class that provides all the necessities
+     * for building the query to retrieve the Stock aggregated per Category of the Items.
+     * <p>
+     * <pre>
+     *     SELECT item_category._id, item_category.category_name,
+     *     COUNT(DISTINCT item._id) AS item_count,
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity), 0) AS total_quantity,
+     *     IFNULL(SUM(item_supplier_inventory.available_quantity * item_supplier_info.unit_price), 0) AS stock_value
+     *     FROM item_category JOIN item
+     *     ON item.category_id = item_category._id
+     *     LEFT JOIN item_supplier_inventory
+     *     ON item_supplier_inventory.item_id = item._id
+     *     LEFT JOIN item_supplier_info
+     *     ON item_supplier_info.item_id = item_supplier_inventory.item_id
+     *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id
+     *     GROUP BY item_category.category_name;
+     * </pre>
+     */
+    public static final class CategoryStockQuery {
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_CATEGORY_ID_INDEX = 0;
+        public static final int COLUMN_CATEGORY_NAME_INDEX = 1;
+        public static final int COLUMN_ITEM_COUNT_INDEX = 2;
+        public static final int COLUMN_TOTAL_QUANTITY_INDEX = 3;
+        public static final int COLUMN_STOCK_VALUE_INDEX = 4;
+
+        /**
+         * Method that builds the relationship tables involved in the join.
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
+         */
+        public static void setTables(SQLiteQueryBuilder queryBuilder) {
+            String inTables = ProductContract.ProductCategory.TABLE_NAME
+                    + SqliteUtility.JOIN + ProductContract.Product.TABLE_NAME + SqliteUtility.ON
+                    + ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_CATEGORY_ID)
+                    + SqliteUtility.EQUALS + ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory._ID)
+                    + SqliteUtility.LEFT_JOIN + SalesContract.ProductSupplierInventory.TABLE_NAME + SqliteUtility.ON
+                    + SalesContract.ProductSupplierInventory.getQualifiedColumnName(SalesContract.ProductSupplierInventory.COLUMN_ITEM_ID)
+                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
+                    + getInventoryPriceJoin();
+            queryBuilder.setTables(inTables);
+        }
+
+        /**
+         * Method that builds a map of Projection columns used in the Select clause
+         * with the appropriate column qualifiers or aliases such that there is no ambiguity in the
+         * column names
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance
+         *                     to set the ProjectionMap on.
+         */
+        public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
+            Map<String, String> columnMap = new HashMap<>();
+            columnMap.put(ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory._ID), ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory._ID));
+            columnMap.put(ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME), ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME));
+            //Counting the distinct Items, since each Item repeats for each of its Suppliers in the join
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_ITEM_COUNT, SqliteUtility.COUNT + SqliteUtility.OPEN_BRACE + SqliteUtility.DISTINCT
+                    + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
+                    + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_ITEM_COUNT);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY, getTotalQuantityAggregate() + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_STOCK_VALUE, getStockValueAggregate() + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_STOCK_VALUE);
+            queryBuilder.setProjectionMap(columnMap);
+        }
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            return new String[]{
+                    ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory._ID),
+                    ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME),
+                    SalesContract.SalesAggregate.COLUMN_ITEM_COUNT,
+                    SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY,
+                    SalesContract.SalesAggregate.COLUMN_STOCK_VALUE
+            };
+        }
+
+        /**
+         * Method that returns the Group By Clause of the query. Groups by the unique Category Name,
+         * which is also the Sort Order of the list, so that the Categories are read in order from its Index.
+         *
+         * @return String containing the Group By Clause required
+         */
+        public static String getGroupBy() {
+            return ProductContract.ProductCategory.getQualifiedColumnName(ProductContract.ProductCategory.COLUMN_ITEM_CATEGORY_NAME);
+        }
+    }
+
+    /**
+     * Class that provides all the necessities
+     * for building the query to retrieve the Stock Levels aggregated over all the Items, as a single record.
+     * The Total Available Quantity of each Item is read from the summary table 'item_sales_summary',
+     * where an Item without any Inventory has no record. An Item is counted as Low on Stock when its
+     * Total Available Quantity is at or below its own Reorder Level, same as in {@link LowStockQuery}.
+     * <p>
+     * <pre>
+     *     SELECT COUNT(item._id) AS item_count,
+     *     IFNULL(SUM(item_sales_summary.total_available_quantity), 0) AS total_quantity,
+     *     (SELECT IFNULL(SUM(item_supplier_inventory.available_quantity * item_supplier_info.unit_price), 0)
+     *     FROM item_supplier_inventory LEFT JOIN item_supplier_info
+     *     ON item_supplier_info.item_id = item_supplier_inventory.item_id
+     *     AND item_supplier_info.supplier_id = item_supplier_inventory.supplier_id) AS stock_value,
+     *     IFNULL(SUM(CASE WHEN IFNULL(item_sales_summary.total_available_quantity, 0) = 0 THEN 1 ELSE 0 END), 0) AS out_of_stock_count,
+     *     IFNULL(SUM(CASE WHEN IFNULL(item_sales_summary.total_available_quantity, 0) <= item.reorder_level
+     *     THEN 1 ELSE 0 END), 0) AS low_stock_count
+     *     FROM item LEFT JOIN item_sales_summary
+     *     ON item_sales_summary.item_id = item._id;
+     * </pre>
+     */
+    public static final class StockLevelsQuery {
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_ITEM_COUNT_INDEX = 0;
+        public static final int COLUMN_TOTAL_QUANTITY_INDEX = 1;
+        public static final int COLUMN_STOCK_VALUE_INDEX = 2;
+        public static final int COLUMN_OUT_OF_STOCK_COUNT_INDEX = 3;
+        public static final int COLUMN_LOW_STOCK_COUNT_INDEX = 4;
+
+        /**
+         * Method that prepares the aggregate expression that counts the Items satisfying the {@code condition}.
+         *
+         * @param condition The condition on the Item to count
+         * @return String containing the aggregate expression of the count
+         */
+        private static String getCountIfAggregate(String condition) {
+            return SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE + SqliteUtility.SUM + SqliteUtility.OPEN_BRACE
+                    + SqliteUtility.CASE_WHEN + condition + SqliteUtility.THEN + "1" + SqliteUtility.ELSE + "0" + SqliteUtility.END
+                    + SqliteUtility.CLOSE_BRACE + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE;
+        }
+
+        /**
+         * Method that prepares and returns the sub query for the "stock_value" column.
+         *
+         * @return The Sub Query for the "stock_value" column.
+         */
+        private static String getStockValueSubQuery() {
+            return SqliteUtility.SELECT + getStockValueAggregate()
+                    + SqliteUtility.FROM + SalesContract.ProductSupplierInventory.TABLE_NAME
+                    + getInventoryPriceJoin();
+        }
+
+        /**
+         * Method that builds the relationship tables involved in the join.
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
+         */
+        public static void setTables(SQLiteQueryBuilder queryBuilder) {
+            String inTables = ProductContract.Product.TABLE_NAME
+                    + SqliteUtility.LEFT_JOIN + SalesContract.ProductSalesSummary.TABLE_NAME + SqliteUtility.ON
+                    + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID)
+                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID);
+            queryBuilder.setTables(inTables);
+        }
+
+        /**
+         * Method that builds a map of Projection columns used in the Select clause
+         * with the appropriate column qualifiers or aliases such that there is no ambiguity in the
+         * column names
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance
+         *                     to set the ProjectionMap on.
+         */
+        public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
+            String totalQuantity = SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY);
+
+            Map<String, String> columnMap = new HashMap<>();
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_ITEM_COUNT, SqliteUtility.COUNT + SqliteUtility.OPEN_BRACE
+                    + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID)
+                    + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_ITEM_COUNT);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY, SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE
+                    + SqliteUtility.SUM + SqliteUtility.OPEN_BRACE + totalQuantity + SqliteUtility.CLOSE_BRACE
+                    + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_STOCK_VALUE, SqliteUtility.OPEN_BRACE + getStockValueSubQuery()
+                    + SqliteUtility.CLOSE_BRACE + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_STOCK_VALUE);
+            String totalQuantityOrZero = SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE + totalQuantity
+                    + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE;
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_OUT_OF_STOCK_COUNT, getCountIfAggregate(
+                    totalQuantityOrZero + SqliteUtility.EQUALS + "0"
+            ) + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_OUT_OF_STOCK_COUNT);
+            columnMap.put(SalesContract.SalesAggregate.COLUMN_LOW_STOCK_COUNT, getCountIfAggregate(
+                    totalQuantityOrZero + SqliteUtility.LESS_THAN_OR_EQUALS
+                            + ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL)
+            ) + SqliteUtility.AS + SalesContract.SalesAggregate.COLUMN_LOW_STOCK_COUNT);
+            queryBuilder.setProjectionMap(columnMap);
+        }
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            return new String[]{
+                    SalesContract.SalesAggregate.COLUMN_ITEM_COUNT,
+                    SalesContract.SalesAggregate.COLUMN_TOTAL_QUANTITY,
+                    SalesContract.SalesAggregate.COLUMN_STOCK_VALUE,
+                    SalesContract.SalesAggregate.COLUMN_OUT_OF_STOCK_COUNT,
+                    SalesContract.SalesAggregate.COLUMN_LOW_STOCK_COUNT
+            };
+        }
+    }
+
+    /**
+     * Class that provides the arguments required for querying the Items whose Total Available Quantity
+     * is at or below their own Reorder Level, from the relationship between the tables 'item'
+     * and 'item_sales_summary'. An Item without any Inventory has no record in 'item_sales_summary',
+     * and is read with a Total Available Quantity of 0.
+     * <p>
+     * <pre>
+     *     SELECT item._id, item.item_name, item.item_sku, item.reorder_level,
+     *     IFNULL(item_sales_summary.total_available_quantity, 0) AS total_available_quantity
+     *     FROM item LEFT JOIN item_sales_summary
+     *     ON item_sales_summary.item_id = item._id
+     *     WHERE IFNULL(item_sales_summary.total_available_quantity, 0) <= item.reorder_level
+     *     ORDER BY IFNULL(item_sales_summary.total_available_quantity, 0), item.item_name;
+     * </pre>
+     */
+    public static final class LowStockQuery {
+        //Constants of Column Index as they would appear in the Select clause
+        public static final int COLUMN_ITEM_ID_INDEX = 0;
+        public static final int COLUMN_ITEM_NAME_INDEX = 1;
+        public static final int COLUMN_ITEM_SKU_INDEX = 2;
+        public static final int COLUMN_ITEM_REORDER_LEVEL_INDEX = 3;
+        public static final int COLUMN_ITEM_TOTAL_AVAIL_QUANTITY_INDEX = 4;
+
+        /**
+         * Method that prepares the expression of the Total Available Quantity of the Item,
+         * which is 0 for the Items without a record in 'item_sales_summary'.
+         *
+         * @return String containing the expression of the Total Available Quantity
+         */
+        private static String getTotalAvailQuantityOrZero() {
+            return SqliteUtility.IFNULL + SqliteUtility.OPEN_BRACE
+                    + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY)
+                    + SqliteUtility.COMMA + "0" + SqliteUtility.CLOSE_BRACE;
+        }
+
+        /**
+         * Method that builds the relationship tables involved in the join.
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance to set the Tables on
+         */
+        public static void setTables(SQLiteQueryBuilder queryBuilder) {
+            String inTables = ProductContract.Product.TABLE_NAME
+                    + SqliteUtility.LEFT_JOIN + SalesContract.ProductSalesSummary.TABLE_NAME + SqliteUtility.ON
+                    + SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_ITEM_ID)
+                    + SqliteUtility.EQUALS + ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID);
+            queryBuilder.setTables(inTables);
+        }
+
+        /**
+         * Method that builds a map of Projection columns used in the Select clause
+         * with the appropriate column qualifiers or aliases such that there is no ambiguity in the
+         * column names
+         *
+         * @param queryBuilder Query Builder {@link SQLiteQueryBuilder} instance
+         *                     to set the ProjectionMap on.
+         */
+        public static void setProjectionMap(SQLiteQueryBuilder queryBuilder) {
+            Map<String, String> columnMap = new HashMap<>();
+            columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID));
+            columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME));
+            columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU));
+            columnMap.put(ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL));
+            columnMap.put(SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY),
+                    getTotalAvailQuantityOrZero() + SqliteUtility.AS + SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY);
+            queryBuilder.setProjectionMap(columnMap);
+        }
+
+        /**
+         * Method that returns the Columns for use in the Select clause of the query
+         *
+         * @return An Array of Strings which are the Columns to use in the Select clause
+         * of the query
+         */
+        public static String[] getProjection() {
+            return new String[]{
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_SKU),
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL),
+                    SalesContract.ProductSalesSummary.getQualifiedColumnName(SalesContract.ProductSalesSummary.COLUMN_TOTAL_AVAIL_QUANTITY)
+            };
+        }
+
+        /**
+         * Method that returns the Where Clause of the query
+         *
+         * @return String containing the Where Clause required
+         */
+        public static String getSelection() {
+            //Where the Total Available Quantity of the Item is at or below its Reorder Level
+            return getTotalAvailQuantityOrZero()
+                    + SqliteUtility.LESS_THAN_OR_EQUALS
+                    + ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_REORDER_LEVEL);
+        }
+
+        /**
+         * Method that returns the Where Clause restricting the query to the Items identified by
+         * the {@code productIds} passed, along with its arguments.
+         *
+         * @param productIds List of Product Ids of the Items to restrict the query to.
+         * @return A Pair of Selection with its Selection Arguments. Can be {@code null}
+         * when the {@code productIds} passed is {@code null} or empty.
+         */
+        public static Pair<String, String[]> getSelectionForProductIds(List<String> productIds) {
+            return SqliteUtility.makeSelectionForBoundInClause(
+                    ProductContract.Product.getQualifiedColumnName(ProductContract.Product._ID),
+                    productIds
+            );
+        }
+
+        /**
+         * Method that returns the Sort Order of the query, listing the Items with the
+         * least Total Available Quantity first.
+         *
+         * @return String containing the Sort Order required
+         */
+        public static String getSortOrder() {
+            return getTotalAvailQuantityOrZero()
+                    + SqliteUtility.COMMA
+                    + ProductContract.Product.getQualifiedColumnName(ProductContract.Product.COLUMN_ITEM_NAME);
+        }
+    }
 }
\ No newline at end of file
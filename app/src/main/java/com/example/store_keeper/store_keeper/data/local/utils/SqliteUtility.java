@@ -43,21 +43,58 @@ public final class SqliteUtility {
     public static final String ON = " ON ";
     public static final String LEFT_JOIN = " LEFT JOIN ";
     public static final String EQUALS = " = ";
+    public static final String GREATER_THAN = " > ";
+    public static final String GREATER_THAN_OR_EQUALS = " >= ";
+    public static final String LESS_THAN = " < ";
+    public static final String LESS_THAN_OR_EQUALS = " <= ";
     public static final String IS = " IS ";
+    public static final String IN = " IN ";
     public static final String DESC = " DESC ";
+    public static final String SELECT = "SELECT ";
+    public static final String FROM = " FROM ";
+    public static final String WHERE = " WHERE ";
+    public static final String ORDER_BY = " ORDER BY ";
+    public static final String LIMIT = " LIMIT ";
+    public static final String INSERT_INTO = "INSERT INTO ";
+    public static final String DELETE_FROM = "DELETE FROM ";
+    public static final String UPDATE = "UPDATE ";
+    public static final String SET = " SET ";
+    public static final String MINUS = " - ";
+    public static final String MULTIPLY = " * ";
+    public static final String SEMICOLON = ";";
     public static final String PLACEHOLDER = "?";
     public static final String NULL = "NULL";
     public static final String COUNT = "COUNT";
     public static final String SUM = "SUM";
+    public static final String IFNULL = "IFNULL";
+    public static final String DISTINCT = "DISTINCT ";
+    public static final String CASE_WHEN = "CASE WHEN ";
+    public static final String THEN = " THEN ";
+    public static final String ELSE = " ELSE ";
     public static final String AS = " AS ";
     public static final String OPEN_BRACE = "(";
     public static final String CLOSE_BRACE = ")";
     public static final String SPACE = " ";
     public static final String COMMA = ",";
+    //The maximum number of parameters that can be bound to a single SQL statement (SQLITE_MAX_VARIABLE_NUMBER)
+    public static final int MAX_BOUND_PARAMETERS = 999;
 
     //Schema construction related constants
     public static final String CREATE_TABLE = "CREATE TABLE ";
     public static final String CREATE_INDEX = "CREATE INDEX ";
+    public static final String CREATE_TRIGGER = "CREATE TRIGGER ";
+    public static final String DROP_TABLE = "DROP TABLE ";
+    public static final String DROP_TRIGGER = "DROP TRIGGER ";
+    public static final String ALTER_TABLE = "ALTER TABLE ";
+    public static final String RENAME_TO = " RENAME TO ";
+    public static final String ADD_COLUMN = " ADD COLUMN ";
+    public static final String AFTER_INSERT_ON = " AFTER INSERT ON ";
+    public static final String AFTER_UPDATE_ON = " AFTER UPDATE ON ";
+    public static final String AFTER_DELETE_ON = " AFTER DELETE ON ";
+    public static final String FOR_EACH_ROW_BEGIN = " FOR EACH ROW BEGIN ";
+    public static final String END = " END";
+    public static final String TRIGGER_NEW_ROW = "NEW.";
+    public static final String TRIGGER_OLD_ROW = "OLD.";
     public static final String INTEGER = "INTEGER";
     public static final String TEXT = "TEXT";
     public static final String REAL = "REAL";
@@ -132,6 +169,46 @@ public final class SqliteUtility {
         return null;
     }
 
+    /**
+     * Method that prepares the Selection and Selection Arguments of the WHERE clause
+     * for the regular IN Clause query "columnName IN (?,?,...)", with a placeholder bound to each
+     * of the {@code columnValues}. Callers need to keep the number of {@code columnValues}
+     * within the {@link #MAX_BOUND_PARAMETERS} allowed per statement.
+     *
+     * @param columnName   The Name of the Column involved in the IN Clause
+     * @param columnValues List Of String Values possible for the column {@code columnName} involved.
+     * @return A Pair of Selection with its Selection Arguments for the parameters passed. Can be {@code null}
+     * when the input parameters are {@code null} or empty.
+     */
+    @Nullable
+    public static Pair<String, String[]> makeSelectionForBoundInClause(String columnName,
+                                                                       List<String> columnValues) {
+
+        if (columnValues != null && columnValues.size() > 0 && !TextUtils.isEmpty(columnName)) {
+            //When the parameters passed are not null or empty
+
+            //Building the Selection Clause "ColumnName IN (?,?,...)"
+            StringBuilder selectionClauseBuilder = new StringBuilder(columnName).append(IN).append(OPEN_BRACE);
+            for (int index = 0; index < columnValues.size(); index++) {
+                if (index > 0) {
+                    //Separating the placeholders with ","
+                    selectionClauseBuilder.append(COMMA);
+                }
+                selectionClauseBuilder.append(PLACEHOLDER);
+            }
+            selectionClauseBuilder.append(CLOSE_BRACE);
+
+            //Returning the Pair for Selection with the values as Selection Arguments
+            return Pair.create(
+                    selectionClauseBuilder.toString(),
+                    columnValues.toArray(new String[0])
+            );
+        }
+
+        //Returning Null when the parameters passed is either Null or empty
+        return null;
+    }
+
     /**
      * Method that combines the Selection clauses {@code selectionPair1} and {@code selectionPair2}
      * and generates a combined Pair for Selection Clause with its Selection arguments.
@@ -32,10 +32,14 @@ import android.view.View;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.cache.BitmapImageCache;
+import com.example.store_keeper.store_keeper.data.local.models.LowStockProduct;
 import com.example.store_keeper.store_keeper.ui.about.AboutActivity;
 import com.example.store_keeper.store_keeper.ui.inventory.SalesListFragment;
 import com.example.store_keeper.store_keeper.ui.products.ProductListFragment;
 import com.example.store_keeper.store_keeper.ui.suppliers.SupplierListFragment;
+import com.example.store_keeper.store_keeper.workers.LowStockMonitor;
+
+import java.util.List;
 
 /**
  * The Main Activity of the App that inflates the layout 'R.layout.activity_main'
@@ -44,7 +48,7 @@ import com.example.store_keeper.store_keeper.ui.suppliers.SupplierListFragment;
  * @author Rajat Gupta And Harshita Joshi 
  */
 public class MainActivity extends AppCompatActivity
-        implements TabLayout.OnTabSelectedListener, View.OnClickListener {
+        implements TabLayout.OnTabSelectedListener, View.OnClickListener, LowStockMonitor.LowStockListener {
 
     //For the ViewPager that displays the fragments for Products, Suppliers and Sales information
     private ViewPager mViewPager;
@@ -229,6 +233,8 @@ public class MainActivity extends AppCompatActivity
 
         //Registering the Listener on TabLayout
         mTabLayout.addOnTabSelectedListener(this);
+        //Registering the Listener for the Products that are Low on Stock
+        LowStockMonitor.getInstance(this).addListener(this);
     }
 
     /**
@@ -240,6 +246,20 @@ public class MainActivity extends AppCompatActivity
 
         //UnRegistering the Listener on TabLayout
         mTabLayout.removeOnTabSelectedListener(this);
+        //UnRegistering the Listener for the Products that are Low on Stock
+        LowStockMonitor.getInstance(this).removeListener(this);
+    }
+
+    /**
+     * Method invoked on the Main thread when the Products that are Low on Stock have changed.
+     * Updates the count shown as a Badge on the "Sales" Tab.
+     *
+     * @param lowStockProducts List of Products that are Low on Stock, ordered by their
+     *                         Total Available Quantity
+     */
+    @Override
+    public void onLowStockChanged(List<LowStockProduct> lowStockProducts) {
+        mPagerAdapter.updateSalesTabBadge(mTabLayout, lowStockProducts.size());
     }
 
     /**
@@ -43,6 +43,7 @@ import com.example.store_keeper.store_keeper.ui.products.ProductListPresenter;
 import com.example.store_keeper.store_keeper.ui.suppliers.SupplierListFragment;
 import com.example.store_keeper.store_keeper.ui.suppliers.SupplierListPresenter;
 import com.example.store_keeper.store_keeper.utils.InjectorUtility;
+import com.example.store_keeper.store_keeper.workers.LowStockMonitor;
 
 import java.util.Set;
 
@@ -172,6 +173,7 @@ public class MainPagerAdapter extends FragmentStatePagerAdapter {
                     LoaderProvider.getInstance(mContext),
                     ((FragmentActivity) mContext).getSupportLoaderManager(),
                     InjectorUtility.provideStoreRepository(mContext),
+                    LowStockMonitor.getInstance(mContext),
                     (SalesListFragment) fragment
             );
         }
@@ -347,4 +349,34 @@ public class MainPagerAdapter extends FragmentStatePagerAdapter {
         }
     }
 
+    /**
+     * Method that shows the count of Products that are Low on Stock as a Badge on the "Sales" Tab,
+     * or hides the Badge when there are none.
+     *
+     * @param tabLayout     The {@link TabLayout} of the ViewPager having the Tabs.
+     * @param lowStockCount The count of Products that are Low on Stock.
+     */
+    void updateSalesTabBadge(TabLayout tabLayout, int lowStockCount) {
+        //Retrieving the "Sales" Tab
+        TabLayout.Tab tab = tabLayout.getTabAt(SALES_PAGE_POSITION);
+        if (tab == null || tab.getCustomView() == null) {
+            //Returning when the Tab or its Custom View is not yet available
+            return;
+        }
+
+        //Finding the Badge TextView
+        TextView textViewTabBadge = tab.getCustomView().findViewById(R.id.text_main_tab_badge);
+
+        if (lowStockCount > 0) {
+            //When there are Products Low on Stock, show the Badge with the count
+            textViewTabBadge.setText(String.valueOf(lowStockCount));
+            textViewTabBadge.setContentDescription(mContext.getString(
+                    R.string.main_tab_badge_low_stock_content_description, lowStockCount));
+            textViewTabBadge.setVisibility(View.VISIBLE);
+        } else {
+            //When there are none, hide the Badge
+            textViewTabBadge.setVisibility(View.GONE);
+        }
+    }
+
 }
@@ -17,14 +17,22 @@
 package com.example.store_keeper.store_keeper.ui;
 
 import android.app.Application;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 
+import com.example.store_keeper.store_keeper.cache.BitmapImageCache;
+import com.example.store_keeper.store_keeper.data.local.StoreDbHelper;
 import com.example.store_keeper.store_keeper.utils.AppConstants;
+import com.example.store_keeper.store_keeper.utils.AppExecutors;
+import com.example.store_keeper.store_keeper.workers.OrphanImageSweeper;
+import com.example.store_keeper.store_keeper.workers.SalesLedgerCompactor;
 import com.facebook.stetho.Stetho;
 
 /**
  * Custom {@link Application} of the App that is used
- * for initializing Stetho in Debug mode.
+ * for initializing Stetho in Debug mode, for sizing the Bitmap Memory Cache to the device, and for compacting
+ * the Sales Ledger, checkpointing the database, sweeping the orphaned Image files and logging the Executor metrics
+ * when the App goes to the background.
  *
  * @author Rajat Gupta And Harshita Joshi 
  */
@@ -43,12 +51,47 @@ public class StoreApplication extends Application {
     public void onCreate() {
         super.onCreate();
 
+        //Initializing the Bitmap Memory Cache sized for the device, to be trimmed on Memory pressure
+        BitmapImageCache.init(this);
+
         if (AppConstants.LOG_STETHO) {
             //When Stetho Logging is enabled (Debug mode only), initialise Stetho
             initializeStetho(this);
         }
     }
 
+    /**
+     * Called when the operating system has determined that it is a good
+     * time for a process to trim unneeded memory from its process.
+     *
+     * @param level The context of the trim, giving a hint of the amount of
+     *              trimming the application may like to perform.
+     */
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        if (level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+            //When the App UI is hidden, compact the Sales Events past their retention into the daily rollups,
+            //when the last compaction was long enough ago
+            SalesLedgerCompactor.compactIfDue(this);
+
+            //Checkpoint the Write-Ahead Log of the database
+            //on the Database Write Thread, so that the Log does not grow while the App is idle
+            AppExecutors.getInstance().getDbWrite().execute(() ->
+                    StoreDbHelper.getInstance(this).checkpointWal(StoreDbHelper.WAL_CHECKPOINT_RESTART)
+            );
+
+            //Reclaiming the storage of the Image files no longer referenced by any Product,
+            //when the last sweep was long enough ago
+            OrphanImageSweeper.sweepIfDue(this);
+
+            //Logging the metrics of the Background Executors accumulated over the session,
+            //to observe the queueing delays and the contention of each Executor lane
+            AppExecutors.getInstance().logLaneStats();
+        }
+    }
+
     /**
      * Method that Initializes Stetho logging
      *
@@ -0,0 +1,215 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.ui.common;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.widget.ImageView;
+
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
+
+/**
+ * RecyclerView {@link android.support.v7.widget.RecyclerView.OnScrollListener} class
+ * that prefetches the Images of the items ahead of the user's scroll in the list managed by
+ * {@link LinearLayoutManager}, so that they are already in the Memory Cache when their
+ * items are bound.
+ * <p>
+ * Prefetches are queued in the direction of the scroll through {@link ImageLoader#prefetch(String, ImageView, int)}
+ * at a lower priority than the Images being shown. They are cancelled when the scroll changes its
+ * direction, and paused during a fling as the items flung past would never be seen.
+ * </p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class ListImagePrefetcher extends RecyclerView.OnScrollListener {
+
+    //Constants for the direction of the scroll
+    private static final int DIRECTION_NONE = 0;
+    private static final int DIRECTION_DOWN = 1;
+    private static final int DIRECTION_UP = -1;
+
+    //Loader of the Images prefetched
+    private final ImageLoader mImageLoader;
+    //Provides the Image URLs of the list items
+    private final ImageUrlProvider mImageUrlProvider;
+    //The number of items ahead of the user's scroll whose Images are prefetched
+    private final int mPrefetchCount;
+    //The profile of the Bitmaps decoded, which is the same as the one the list loads its Images with
+    private final int mDecodeProfile;
+    //The current direction of the scroll
+    private int mDirection = DIRECTION_NONE;
+    //The position of the visible item at the edge in the direction of the scroll, when last prefetched
+    private int mEdgePosition = RecyclerView.NO_POSITION;
+    //Flag that indicates whether the prefetches are paused during a fling
+    private boolean mPaused;
+
+    /**
+     * Constructor of {@link ListImagePrefetcher}
+     *
+     * @param context          A {@link Context} to retrieve the {@link ImageLoader}
+     * @param imageUrlProvider Instance of {@link ImageUrlProvider} that provides the Image URLs of the list items
+     * @param prefetchCount    The number of items ahead of the user's scroll whose Images are prefetched
+     * @param decodeProfile    The profile of the Bitmaps decoded, which needs to be the same as the one
+     *                         the list loads its Images with, for the prefetches to be found in the Memory Cache
+     */
+    public ListImagePrefetcher(@NonNull Context context, @NonNull ImageUrlProvider imageUrlProvider, int prefetchCount,
+                               @ImageStorageUtility.DecodeProfileDef int decodeProfile) {
+        mImageLoader = ImageLoader.getInstance(context);
+        mImageUrlProvider = imageUrlProvider;
+        mPrefetchCount = prefetchCount;
+        mDecodeProfile = decodeProfile;
+    }
+
+    /**
+     * Callback method to be invoked when RecyclerView's scroll state changes.
+     *
+     * @param recyclerView The RecyclerView whose scroll state has changed.
+     * @param newState     The updated scroll state. One of {@link RecyclerView#SCROLL_STATE_IDLE},
+     *                     {@link RecyclerView#SCROLL_STATE_DRAGGING} or {@link RecyclerView#SCROLL_STATE_SETTLING}.
+     */
+    @Override
+    public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+        if (newState == RecyclerView.SCROLL_STATE_SETTLING) {
+            //Pausing the prefetches during a fling, and cancelling the ones queued
+            mPaused = true;
+            mImageLoader.cancelPrefetches();
+            mEdgePosition = RecyclerView.NO_POSITION;
+        } else if (mPaused) {
+            //Resuming the prefetches from where the fling has settled
+            mPaused = false;
+            prefetchAhead(recyclerView);
+        }
+    }
+
+    /**
+     * Callback method to be invoked when the RecyclerView has been scrolled. This will be
+     * called after the scroll has completed.
+     *
+     * @param recyclerView The RecyclerView which scrolled.
+     * @param dx           The amount of horizontal scroll.
+     * @param dy           The amount of vertical scroll.
+     */
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        if (dy == 0) {
+            //Bail out when there was no vertical scroll
+            return;
+        }
+
+        int direction = dy > 0 ? DIRECTION_DOWN : DIRECTION_UP;
+        if (direction != mDirection) {
+            //When the scroll changes its direction, cancel the prefetches queued for the previous direction
+            mImageLoader.cancelPrefetches();
+            mEdgePosition = RecyclerView.NO_POSITION;
+            mDirection = direction;
+        }
+
+        if (!mPaused) {
+            //Prefetching the Images ahead of the scroll when not flinging
+            prefetchAhead(recyclerView);
+        }
+    }
+
+    /**
+     * Method that prefetches the Images of the items ahead of the visible items
+     * in the current direction of the scroll. Images already loaded or being loaded are
+     * skipped by {@link ImageLoader#prefetch(String, ImageView, int)}.
+     *
+     * @param recyclerView The RecyclerView being scrolled
+     */
+    private void prefetchAhead(@NonNull RecyclerView recyclerView) {
+        LinearLayoutManager linearLayoutManager = getLinearLayoutManager(recyclerView);
+        if (linearLayoutManager == null || mDirection == DIRECTION_NONE) {
+            //Bail out when the LayoutManager is not supported or the list was not scrolled yet
+            return;
+        }
+
+        //Reading the visible item at the edge in the direction of the scroll
+        int edgePosition = mDirection == DIRECTION_DOWN
+                ? linearLayoutManager.findLastVisibleItemPosition()
+                : linearLayoutManager.findFirstVisibleItemPosition();
+        if (edgePosition == RecyclerView.NO_POSITION || edgePosition == mEdgePosition) {
+            //Bail out when there are no items visible, or the items ahead were already prefetched
+            return;
+        }
+        //Reading the ImageView of the item at the edge, for the size of the Images to prefetch
+        RecyclerView.ViewHolder edgeViewHolder = recyclerView.findViewHolderForAdapterPosition(edgePosition);
+        ImageView edgeImageView = edgeViewHolder != null ? mImageUrlProvider.getImageView(edgeViewHolder) : null;
+        if (edgeImageView == null) {
+            //Bail out when the item at the edge is not bound yet
+            return;
+        }
+        mEdgePosition = edgePosition;
+
+        //Prefetching the Images of the items ahead of the edge, nearest first
+        int itemCount = mImageUrlProvider.getItemCount();
+        for (int offset = 1; offset <= mPrefetchCount; offset++) {
+            int position = edgePosition + offset * mDirection;
+            if (position < 0 || position >= itemCount) {
+                break;
+            }
+            mImageLoader.prefetch(mImageUrlProvider.getImageUrl(position), edgeImageView, mDecodeProfile);
+        }
+    }
+
+    /**
+     * Method that returns the {@link LinearLayoutManager} of the {@code recyclerView} if any.
+     *
+     * @param recyclerView The RecyclerView being scrolled
+     * @return The {@link LinearLayoutManager} of the RecyclerView; or {@code null} when it uses a different LayoutManager
+     */
+    @Nullable
+    private static LinearLayoutManager getLinearLayoutManager(@NonNull RecyclerView recyclerView) {
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        return layoutManager instanceof LinearLayoutManager ? (LinearLayoutManager) layoutManager : null;
+    }
+
+    /**
+     * Interface to be implemented by the Adapters of the lists
+     * to provide the Image URLs of their items for prefetching.
+     */
+    public interface ImageUrlProvider {
+        /**
+         * Method that returns the number of items in the list.
+         *
+         * @return The number of items in the list
+         */
+        int getItemCount();
+
+        /**
+         * Method that returns the Image URL of the item at the {@code position}.
+         *
+         * @param position The adapter position of the item
+         * @return String containing the Image URL of the item. Can be {@code null} when the item has no Image.
+         */
+        @Nullable
+        String getImageUrl(int position);
+
+        /**
+         * Method that returns the ImageView showing the Image of the item bound to the {@code viewHolder}.
+         *
+         * @param viewHolder The ViewHolder of an item of the list
+         * @return The ImageView showing the Image of the item
+         */
+        @NonNull
+        ImageView getImageView(@NonNull RecyclerView.ViewHolder viewHolder);
+    }
+}
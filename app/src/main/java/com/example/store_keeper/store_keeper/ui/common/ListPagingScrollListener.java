@@ -0,0 +1,82 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.ui.common;
+
+import android.support.annotation.NonNull;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+
+/**
+ * RecyclerView {@link android.support.v7.widget.RecyclerView.OnScrollListener} class
+ * that reports the range of items visible in the list managed by {@link LinearLayoutManager},
+ * for loading the Pages of a {@link PagedListWindow} ahead of the user's scroll.
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class ListPagingScrollListener extends RecyclerView.OnScrollListener {
+
+    //Listener to be notified of the range of items visible
+    private final VisibleRangeListener mVisibleRangeListener;
+
+    /**
+     * Constructor of {@link ListPagingScrollListener}
+     *
+     * @param visibleRangeListener Instance of {@link VisibleRangeListener} to be notified
+     *                             of the range of items visible
+     */
+    public ListPagingScrollListener(@NonNull VisibleRangeListener visibleRangeListener) {
+        mVisibleRangeListener = visibleRangeListener;
+    }
+
+    /**
+     * Callback method to be invoked when the RecyclerView has been scrolled. This will be
+     * called after the scroll has completed.
+     *
+     * @param recyclerView The RecyclerView which scrolled.
+     * @param dx           The amount of horizontal scroll.
+     * @param dy           The amount of vertical scroll.
+     */
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (dy == 0 || !(layoutManager instanceof LinearLayoutManager)) {
+            //Bail out when there was no vertical scroll or the LayoutManager is not supported
+            return;
+        }
+
+        LinearLayoutManager linearLayoutManager = (LinearLayoutManager) layoutManager;
+        //Notifying the range of items visible
+        mVisibleRangeListener.onVisibleRangeChanged(
+                linearLayoutManager.findFirstVisibleItemPosition(),
+                linearLayoutManager.findLastVisibleItemPosition()
+        );
+    }
+
+    /**
+     * Interface to be implemented by the Views of the paged lists
+     * to receive the range of items visible to the user.
+     */
+    public interface VisibleRangeListener {
+        /**
+         * Callback Method of {@link VisibleRangeListener} invoked when the list was scrolled.
+         *
+         * @param firstVisiblePosition The adapter position of the first item visible
+         * @param lastVisiblePosition  The adapter position of the last item visible
+         */
+        void onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition);
+    }
+}
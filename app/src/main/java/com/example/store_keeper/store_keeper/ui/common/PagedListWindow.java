@@ -0,0 +1,251 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.ui.common;
+
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.example.store_keeper.store_keeper.data.local.LoaderProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that maintains a bounded in-memory Window of a large list which is loaded in Pages
+ * by the keyset paged CursorLoaders of {@link LoaderProvider}. The Window is defined by the Page Key
+ * of its first item and the number of items it holds. The Window grows by a Page as the user scrolls
+ * within the prefetch distance of its ends, and slides ahead by dropping the items farthest from
+ * the user's scroll position when it grows beyond its maximum size.
+ * <p>
+ * Since the Window is always (re)loaded as a whole by a single CursorLoader, the reloads triggered
+ * by the content changes reload the same Window that the user is viewing.
+ * </p>
+ *
+ * @param <T> The type of the list items held by the Window
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class PagedListWindow<T> {
+
+    //Constants for the type of load required by the Window
+    public static final int LOAD_NONE = 0;
+    public static final int LOAD_WINDOW = 1;
+    public static final int LOAD_PREVIOUS_PAGE = 2;
+
+    //Provides the Page Key of an item
+    private final PageKeyProvider<T> mPageKeyProvider;
+    //The number of items to load per Page
+    private final int mPageSize;
+    //The number of items from either end of the Window at which the next Page is requested
+    private final int mPrefetchDistance;
+    //The maximum number of items held in the Window
+    private final int mMaxWindowSize;
+    //The items currently held in the Window, ordered by their Page Key
+    private List<T> mItems = new ArrayList<>();
+    //The Page Key of the first item of the Window. NULL when the Window begins at the start of the list
+    private String mStartKey;
+    //The number of items requested for the Window
+    private int mWindowLimit;
+    //Flag that indicates whether there are more items after the end of the Window
+    private boolean mHasMoreAfter;
+    //Flags that indicate whether the Window or the Page before the Window is being loaded currently
+    private boolean mWindowLoadPending;
+    private boolean mPreviousPagePending;
+
+    /**
+     * Constructor of {@link PagedListWindow}
+     *
+     * @param pageKeyProvider  Instance of {@link PageKeyProvider} that provides the Page Key of an item
+     * @param pageSize         The number of items to load per Page
+     * @param prefetchDistance The number of items from either end of the Window at which the next Page is requested
+     * @param maxWindowSize    The maximum number of items held in the Window
+     */
+    public PagedListWindow(@NonNull PageKeyProvider<T> pageKeyProvider, int pageSize,
+                           int prefetchDistance, int maxWindowSize) {
+        mPageKeyProvider = pageKeyProvider;
+        mPageSize = pageSize;
+        mPrefetchDistance = prefetchDistance;
+        //Window should at least hold a couple of Pages to slide smoothly
+        mMaxWindowSize = Math.max(maxWindowSize, pageSize * 2);
+        mWindowLimit = pageSize;
+    }
+
+    /**
+     * Method that returns the arguments for (re)loading the current Window of items.
+     *
+     * @return Bundle of Page arguments prepared by {@link LoaderProvider#createPageArgs(int, String, int)}
+     */
+    public Bundle getWindowArgs() {
+        mWindowLoadPending = true;
+        return LoaderProvider.createPageArgs(LoaderProvider.PAGE_FROM_KEY, mStartKey, mWindowLimit);
+    }
+
+    /**
+     * Method that returns the arguments for loading the Page of items before the start of the Window.
+     *
+     * @return Bundle of Page arguments prepared by {@link LoaderProvider#createPageArgs(int, String, int)}
+     */
+    public Bundle getPreviousPageArgs() {
+        return LoaderProvider.createPageArgs(LoaderProvider.PAGE_BEFORE_KEY,
+                mItems.isEmpty() ? mStartKey : mPageKeyProvider.getPageKey(mItems.get(0)), mPageSize);
+    }
+
+    /**
+     * Method that replaces the items of the Window with the items {@code windowItems}
+     * loaded for the arguments of {@link #getWindowArgs()}
+     *
+     * @param windowItems The list of items loaded, ordered by their Page Key
+     */
+    public void onWindowLoaded(@NonNull List<T> windowItems) {
+        mItems = windowItems;
+        mWindowLoadPending = false;
+        //When the load returned less than requested, we have reached the end of the list
+        mHasMoreAfter = windowItems.size() >= mWindowLimit;
+    }
+
+    /**
+     * Method that adjusts the Window with the items {@code pageItems} loaded for the arguments
+     * of {@link #getPreviousPageArgs()}, such that the Window now begins from the first of these items.
+     *
+     * @param pageItems The list of items loaded before the start of the Window,
+     *                  in the reverse order of their Page Key
+     * @return <b>TRUE</b> when the Window was adjusted and needs to be reloaded with {@link #getWindowArgs()};
+     * <b>FALSE</b> when the Page was not requested (like the ones reloaded on content change).
+     */
+    public boolean onPreviousPageLoaded(@NonNull List<T> pageItems) {
+        if (!mPreviousPagePending) {
+            //Ignoring the Page that is no longer awaited
+            return false;
+        }
+        mPreviousPagePending = false;
+
+        if (pageItems.size() < mPageSize) {
+            //When the Page returned less than requested, the Window now begins at the start of the list
+            mStartKey = null;
+        } else {
+            //Otherwise, the Window begins from the farthest item of the Page
+            mStartKey = mPageKeyProvider.getPageKey(pageItems.get(pageItems.size() - 1));
+        }
+        //Growing the Window by the Page, dropping the items at the end of the Window when required
+        mWindowLimit = Math.min(mWindowLimit + pageItems.size(), mMaxWindowSize);
+        return true;
+    }
+
+    /**
+     * Method that checks whether the Window needs to grow or slide for the range of items visible
+     * to the user, and returns the type of load required for the same.
+     *
+     * @param firstVisiblePosition The position of the first item visible
+     * @param lastVisiblePosition  The position of the last item visible
+     * @return {@link #LOAD_WINDOW} when the Window needs to be reloaded with {@link #getWindowArgs()};
+     * {@link #LOAD_PREVIOUS_PAGE} when the Page before the Window needs to be loaded with
+     * {@link #getPreviousPageArgs()}; or {@link #LOAD_NONE} when there is nothing to be loaded.
+     */
+    public int onVisibleRangeChanged(int firstVisiblePosition, int lastVisiblePosition) {
+        if (mWindowLoadPending || mPreviousPagePending || mItems.isEmpty()) {
+            //Bail out when a load is already in progress or when the Window is not loaded yet
+            return LOAD_NONE;
+        }
+
+        if (mHasMoreAfter && lastVisiblePosition >= mItems.size() - 1 - mPrefetchDistance) {
+            //When the user is within the prefetch distance of the end of the Window
+            int newWindowLimit = mItems.size() + mPageSize;
+            int excessCount = newWindowLimit - mMaxWindowSize;
+            if (excessCount > 0 && excessCount < mItems.size()) {
+                //Sliding the Window ahead by dropping the items at its start
+                mStartKey = mPageKeyProvider.getPageKey(mItems.get(excessCount));
+                newWindowLimit = mMaxWindowSize;
+            }
+            mWindowLimit = newWindowLimit;
+            return LOAD_WINDOW;
+        } else if (mStartKey != null && firstVisiblePosition >= 0 && firstVisiblePosition <= mPrefetchDistance) {
+            //When the user is within the prefetch distance of the start of the Window
+            mPreviousPagePending = true;
+            return LOAD_PREVIOUS_PAGE;
+        }
+
+        //Returning LOAD_NONE when there is nothing to be loaded
+        return LOAD_NONE;
+    }
+
+    /**
+     * Method that rewinds the Window to the start of the list, when the Window that began
+     * from a Page Key was found empty (like when all its items were deleted).
+     *
+     * @return <b>TRUE</b> when the Window was rewound and needs to be reloaded with {@link #getWindowArgs()};
+     * <b>FALSE</b> when the Window already begins at the start of the list.
+     */
+    public boolean rewindWhenEmpty() {
+        if (mStartKey == null) {
+            return false;
+        }
+        mStartKey = null;
+        mWindowLimit = mPageSize;
+        return true;
+    }
+
+    /**
+     * Method that returns whether the Window is being (re)loaded currently.
+     *
+     * @return <b>TRUE</b> when the Window is being loaded; <b>FALSE</b> otherwise.
+     */
+    public boolean isWindowLoadPending() {
+        return mWindowLoadPending;
+    }
+
+    /**
+     * Method that clears the Page in progress if any, so that it can be requested again later.
+     */
+    public void cancelPreviousPage() {
+        mPreviousPagePending = false;
+    }
+
+    /**
+     * Method that clears the items of the Window.
+     */
+    public void clear() {
+        mItems = new ArrayList<>();
+        mWindowLoadPending = false;
+        mPreviousPagePending = false;
+    }
+
+    /**
+     * Method that returns a copy of the items currently held in the Window, for submitting
+     * to the {@link android.support.v7.recyclerview.extensions.ListAdapter}
+     *
+     * @return New list of items currently held in the Window
+     */
+    public ArrayList<T> getItems() {
+        return new ArrayList<>(mItems);
+    }
+
+    /**
+     * Interface that provides the Page Key of an item, which is the value of the
+     * unique Sort Key column of the list.
+     *
+     * @param <T> The type of the list items
+     */
+    public interface PageKeyProvider<T> {
+        /**
+         * Method that returns the Page Key of the {@code item}
+         *
+         * @param item The list item
+         * @return The value of the unique Sort Key column of the {@code item}
+         */
+        String getPageKey(T item);
+    }
+}
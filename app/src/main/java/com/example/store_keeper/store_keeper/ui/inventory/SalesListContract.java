@@ -21,6 +21,7 @@ import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.support.v4.app.ActivityOptionsCompat;
 
+import com.example.store_keeper.store_keeper.data.local.models.LowStockProduct;
 import com.example.store_keeper.store_keeper.data.local.models.SalesLite;
 import com.example.store_keeper.store_keeper.ui.PagerPresenter;
 import com.example.store_keeper.store_keeper.ui.PagerView;
@@ -92,10 +93,11 @@ public interface SalesListContract {
          * Method that displays a message on Success of Selling a quantity of the Product
          * from the Top Supplier.
          *
-         * @param productSku   The Product SKU of the Product sold.
-         * @param supplierCode The Supplier Code of the Top Supplier for the Product sold.
+         * @param productSku        The Product SKU of the Product sold.
+         * @param supplierCode      The Supplier Code of the Top Supplier for the Product sold.
+         * @param availableQuantity The Quantity of the Product left with the Supplier after the sale.
          */
-        void showSellQuantitySuccess(String productSku, String supplierCode);
+        void showSellQuantitySuccess(String productSku, String supplierCode, int availableQuantity);
 
         /**
          * Method that displays a message on Success of updating the Inventory of the Product.
@@ -116,6 +118,20 @@ public interface SalesListContract {
          */
         void launchEditProductSales(int productId, ActivityOptionsCompat activityOptionsCompat);
 
+        /**
+         * Method that displays the list of Products that are Low on Stock, from which the user
+         * can pick a Product to edit its Sales data.
+         *
+         * @param lowStockProducts List of Products whose Total Available Quantity is at or
+         *                         below their Reorder Level.
+         */
+        void showLowStockProducts(ArrayList<LowStockProduct> lowStockProducts);
+
+        /**
+         * Method that displays a message when there are no Products Low on Stock.
+         */
+        void showNoLowStockProducts();
+
     }
 
     /**
@@ -132,6 +148,15 @@ public interface SalesListContract {
          */
         void triggerProductSalesLoad(boolean forceLoad);
 
+        /**
+         * Method invoked when the list of Products with Sales data was scrolled by the user. This loads the
+         * Pages of Products with Sales data ahead of the user's scroll, in either direction.
+         *
+         * @param firstVisiblePosition The adapter position of the first item visible
+         * @param lastVisiblePosition  The adapter position of the last item visible
+         */
+        void onListScrolled(int firstVisiblePosition, int lastVisiblePosition);
+
         /**
          * Method invoked when there is a change in the data pointed to by the Products URI
          * {@link ProductContract.Product#CONTENT_URI}
@@ -189,5 +214,11 @@ public interface SalesListContract {
          *                              details for Shared Element Transition
          */
         void editProductSales(int productId, ActivityOptionsCompat activityOptionsCompat);
+
+        /**
+         * Method invoked when the user clicks on the "Low Stock" Menu. This should display the
+         * list of Products whose Total Available Quantity is at or below their Reorder Level.
+         */
+        void showLowStockProducts();
     }
 }
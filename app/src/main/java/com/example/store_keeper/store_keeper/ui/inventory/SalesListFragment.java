@@ -29,10 +29,10 @@ import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v4.content.ContextCompat;
 import android.support.v4.content.res.ResourcesCompat;
 import android.support.v4.widget.SwipeRefreshLayout;
+import android.support.v7.app.AlertDialog;
 import android.support.v7.content.res.AppCompatResources;
 import android.support.v7.recyclerview.extensions.ListAdapter;
 import android.support.v7.util.DiffUtil;
@@ -40,6 +40,9 @@ import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 import android.text.TextUtils;
 import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
@@ -47,13 +50,18 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import com.example.store_keeper.storeapp.R;
+import com.example.store_keeper.store_keeper.data.local.models.LowStockProduct;
 import com.example.store_keeper.store_keeper.data.local.models.SalesLite;
+import com.example.store_keeper.store_keeper.ui.common.ListImagePrefetcher;
 import com.example.store_keeper.store_keeper.ui.common.ListItemSpacingDecoration;
+import com.example.store_keeper.store_keeper.ui.common.ListPagingScrollListener;
 import com.example.store_keeper.store_keeper.ui.inventory.config.SalesConfigActivity;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.utils.ColorUtility;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 import com.example.store_keeper.store_keeper.utils.SnackbarUtility;
 import com.example.store_keeper.store_keeper.utils.TextAppearanceUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 import com.example.store_keeper.store_keeper.ui.BasePresenter;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 import com.example.store_keeper.store_keeper.ui.MainActivity;
@@ -104,6 +112,21 @@ public class SalesListFragment extends Fragment
         return new SalesListFragment();
     }
 
+    /**
+     * Called to do initial creation of a fragment.  This is called after
+     * {@link #onAttach(Activity)} and before
+     * {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)}.
+     *
+     * @param savedInstanceState If the fragment is being re-created from
+     *                           a previous saved state, this is the state.
+     */
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        //Indicating that this fragment has menu options to show
+        setHasOptionsMenu(true);
+    }
+
     /**
      * Called to have the fragment instantiate its user interface view.
      * This is optional, and non-graphical fragments can return null (which
@@ -212,6 +235,17 @@ public class SalesListFragment extends Fragment
         //Setting the Adapter on the RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Setting the Scroll Listener to load the Pages of Products ahead of the user's scroll
+        mRecyclerViewContentList.addOnScrollListener(new ListPagingScrollListener(
+                (firstVisiblePosition, lastVisiblePosition) -> mPresenter.onListScrolled(firstVisiblePosition, lastVisiblePosition)
+        ));
+
+        //Setting the Scroll Listener to prefetch the Product Images ahead of the user's scroll
+        mRecyclerViewContentList.addOnScrollListener(new ListImagePrefetcher(
+                requireContext(), mAdapter, AppConstants.LIST_IMAGE_PREFETCH_COUNT,
+                ImageStorageUtility.DECODE_PROFILE_OPAQUE
+        ));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.sales_list_items_spacing);
 
@@ -410,13 +444,14 @@ public class SalesListFragment extends Fragment
      * Method that displays a message on Success of Selling a quantity of the Product
      * from the Top Supplier.
      *
-     * @param productSku   The Product SKU of the Product sold.
-     * @param supplierCode The Supplier Code of the Top Supplier for the Product sold.
+     * @param productSku        The Product SKU of the Product sold.
+     * @param supplierCode      The Supplier Code of the Top Supplier for the Product sold.
+     * @param availableQuantity The Quantity of the Product left with the Supplier after the sale.
      */
     @Override
-    public void showSellQuantitySuccess(String productSku, String supplierCode) {
+    public void showSellQuantitySuccess(String productSku, String supplierCode, int availableQuantity) {
         if (getView() != null) {
-            Snackbar.make(getView(), getString(R.string.sales_list_item_sell_success, productSku, supplierCode), Snackbar.LENGTH_LONG).show();
+            Snackbar.make(getView(), getString(R.string.sales_list_item_sell_success, productSku, supplierCode, availableQuantity), Snackbar.LENGTH_LONG).show();
         }
     }
 
@@ -452,10 +487,91 @@ public class SalesListFragment extends Fragment
         startActivityForResult(salesConfigIntent, SalesConfigActivity.REQUEST_EDIT_SALES, activityOptionsCompat.toBundle());
     }
 
+    /**
+     * Initialize the contents of the Fragment host's standard options menu.  You
+     * should place your menu items in to <var>menu</var>.
+     *
+     * @param menu     The options menu in which you place your items.
+     * @param inflater The LayoutInflater object that can be used to inflate the Menu options
+     */
+    @Override
+    public void onCreateOptionsMenu(Menu menu, MenuInflater inflater) {
+        //Inflating the Menu options from 'R.menu.menu_fragment_sales_list'
+        inflater.inflate(R.menu.menu_fragment_sales_list, menu);
+    }
+
+    /**
+     * This hook is called whenever an item in your options menu is selected.
+     * The default implementation simply returns false to have the normal
+     * processing happen.
+     *
+     * @param item The menu item that was selected.
+     * @return boolean Return false to allow normal menu processing to
+     * proceed, true to consume it here.
+     */
+    @Override
+    public boolean onOptionsItemSelected(MenuItem item) {
+        //Handling based on the Menu item selected
+        switch (item.getItemId()) {
+            case R.id.action_low_stock:
+                //On Click of Low Stock Menu
+
+                //Delegating to the Presenter to show the Products Low on Stock
+                mPresenter.showLowStockProducts();
+                return true;
+            default:
+                //On other cases, do the default menu handling
+                return super.onOptionsItemSelected(item);
+        }
+    }
+
+    /**
+     * Method that displays the list of Products that are Low on Stock, from which the user
+     * can pick a Product to edit its Sales data.
+     *
+     * @param lowStockProducts List of Products whose Total Available Quantity is at or
+     *                         below their Reorder Level.
+     */
+    @Override
+    public void showLowStockProducts(ArrayList<LowStockProduct> lowStockProducts) {
+        //Preparing the text of each Product Low on Stock
+        int noOfLowStockProducts = lowStockProducts.size();
+        CharSequence[] lowStockItems = new CharSequence[noOfLowStockProducts];
+        for (int index = 0; index < noOfLowStockProducts; index++) {
+            LowStockProduct lowStockProduct = lowStockProducts.get(index);
+            lowStockItems[index] = getString(R.string.sales_list_low_stock_item,
+                    lowStockProduct.getProductName(), lowStockProduct.getProductSku(),
+                    lowStockProduct.getAvailableQuantity(), lowStockProduct.getReorderLevel());
+        }
+
+        //Creating an AlertDialog with the list of Products Low on Stock
+        AlertDialog.Builder builder = new AlertDialog.Builder(requireActivity());
+        //Set the Title
+        builder.setTitle(R.string.sales_list_low_stock_dialog_title);
+        //Set the Items and its listener, which launches the edit of the Sales data of the Product picked
+        builder.setItems(lowStockItems, (dialog, which) ->
+                mPresenter.editProductSales(lowStockProducts.get(which).getProductId(), ActivityOptionsCompat.makeBasic()));
+        //Set the Negative Button to close the dialog
+        builder.setNegativeButton(android.R.string.cancel, null);
+        //Create and display the AlertDialog
+        builder.create().show();
+    }
+
+    /**
+     * Method that displays a message when there are no Products Low on Stock.
+     */
+    @Override
+    public void showNoLowStockProducts() {
+        if (getView() != null) {
+            Snackbar.make(getView(), R.string.sales_list_no_low_stock, Snackbar.LENGTH_SHORT).show();
+        }
+    }
+
     /**
      * {@link ListAdapter} class for RecyclerView to load the list of Products for Selling.
      */
-    private static class SalesListAdapter extends ListAdapter<SalesLite, SalesListAdapter.ViewHolder> {
+    private static class SalesListAdapter extends ListAdapter<SalesLite, SalesListAdapter.ViewHolder>
+            implements ListImagePrefetcher.ImageUrlProvider {
 
         /**
          * {@link DiffUtil.ItemCallback} for calculating the difference between two {@link SalesLite} objects.
@@ -564,6 +680,43 @@ public class SalesListFragment extends Fragment
             holder.bind(position, salesLite);
         }
 
+        /**
+         * Method that returns the Image URL of the Product at the {@code position}, for prefetching its Image.
+         *
+         * @param position The adapter position of the Product
+         * @return String containing the URL of the default Image of the Product. Can be {@code null}.
+         */
+        @Nullable
+        @Override
+        public String getImageUrl(int position) {
+            return getItem(position).getDefaultImageUri();
+        }
+
+        /**
+         * Method that returns the ImageView showing the Image of the Product bound to the {@code viewHolder}.
+         *
+         * @param viewHolder The ViewHolder of a Product of the list
+         * @return The ImageView showing the Image of the Product
+         */
+        @NonNull
+        @Override
+        public ImageView getImageView(@NonNull RecyclerView.ViewHolder viewHolder) {
+            return ((ViewHolder) viewHolder).mImageViewProductPhoto;
+        }
+
+        /**
+         * Called when a view created by this adapter has been recycled.
+         * Cancels the Image load of the recycled item, so that its decode is skipped
+         * when no longer required.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            ImageLoader.getInstance(holder.itemView.getContext()).cancel(holder.mImageViewProductPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view 'R.layout.item_sales_list'
          */
@@ -626,9 +779,8 @@ public class SalesListFragment extends Fragment
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
                 //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, salesLite.getDefaultImageUri(), position);
+                ImageLoader.getInstance(mImageViewProductPhoto.getContext()).load(mImageViewProductPhoto, salesLite.getDefaultImageUri(),
+                        ImageStorageUtility.DECODE_PROFILE_OPAQUE, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(salesLite.getCategoryName());
 
@@ -652,7 +804,7 @@ public class SalesListFragment extends Fragment
                     mTextViewSupplierNameCode.setText(resources.getString(R.string.sales_list_item_supplier_name_code_format, salesLite.getTopSupplierName(), salesLite.getTopSupplierCode()));
                     //Setting the Selling Price of the Item
                     mTextViewSupplierPrice.setText(resources.getString(R.string.sales_list_item_supplier_selling_price,
-                            Currency.getInstance(Locale.getDefault()).getSymbol() + " " + salesLite.getSupplierUnitPrice()));
+                            Currency.getInstance(Locale.getDefault()).getSymbol() + " " + salesLite.getSupplierUnitPrice().toPlainString()));
                     //Setting the Availability at the Supplier
                     mTextViewSupplierAvailability.setText(String.valueOf(salesLite.getSupplierAvailableQuantity()));
                 } else {
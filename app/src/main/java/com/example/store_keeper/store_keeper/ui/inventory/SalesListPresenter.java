@@ -41,14 +41,18 @@ import com.example.store_keeper.store_keeper.data.local.contracts.ProductContrac
 import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.LowStockProduct;
 import com.example.store_keeper.store_keeper.data.local.models.SalesLite;
 import com.example.store_keeper.store_keeper.ui.inventory.config.SalesConfigActivity;
 import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigActivity;
+import com.example.store_keeper.store_keeper.ui.common.PagedListWindow;
 import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 import com.example.store_keeper.store_keeper.ui.MainActivity;
+import com.example.store_keeper.store_keeper.workers.LowStockMonitor;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -75,9 +79,15 @@ public class SalesListPresenter implements SalesListContract.Presenter,
     //The LoaderManager instance
     @NonNull
     private final LoaderManager mLoaderManager;
+    //The bounded Window of the paged list of Products with Sales data loaded
+    @NonNull
+    private final PagedListWindow<SalesLite> mPagedListWindow;
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
+    //The Monitor of the Products that are Low on Stock
+    @NonNull
+    private final LowStockMonitor mLowStockMonitor;
     //The Thread used by the Content Observer to observe and notify the changes
     private final HandlerThread mContentObserverHandlerThread;
     //Boolean to control multiple Content Observer notifications from being issued
@@ -97,17 +107,24 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      * @param loaderProvider  Instance of {@link LoaderProvider} that provides the CursorLoader instance
      * @param loaderManager   Instance of {@link LoaderManager}
      * @param storeRepository Instance of {@link StoreRepository} for accessing/manipulating the data
+     * @param lowStockMonitor Instance of {@link LowStockMonitor} that maintains the Products Low on Stock
      * @param salesListView   The View instance {@link SalesListContract.View} of this Presenter
      */
     public SalesListPresenter(@NonNull LoaderProvider loaderProvider,
                               @NonNull LoaderManager loaderManager,
                               @NonNull StoreRepository storeRepository,
+                              @NonNull LowStockMonitor lowStockMonitor,
                               @NonNull SalesListContract.View salesListView) {
         mLoaderProvider = loaderProvider;
         mLoaderManager = loaderManager;
         mStoreRepository = storeRepository;
+        mLowStockMonitor = lowStockMonitor;
         mSalesListView = salesListView;
 
+        //Initializing the bounded Window for the paged list of Products with Sales data, keyed by their SKU
+        mPagedListWindow = new PagedListWindow<>(SalesLite::getProductSku, AppConstants.LIST_PAGE_SIZE,
+                AppConstants.LIST_PREFETCH_DISTANCE, AppConstants.LIST_MAX_WINDOW_SIZE);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -245,10 +262,10 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         mSalesListView.showProgressIndicator();
         if (forceLoad) {
             //When forcefully triggered, restart the loader
-            mLoaderManager.restartLoader(AppConstants.SALES_LOADER, null, this);
+            mLoaderManager.restartLoader(AppConstants.SALES_LOADER, mPagedListWindow.getWindowArgs(), this);
         } else {
             //When triggered, start a new loader or load the existing loader
-            mLoaderManager.initLoader(AppConstants.SALES_LOADER, null, this);
+            mLoaderManager.initLoader(AppConstants.SALES_LOADER, mPagedListWindow.getWindowArgs(), this);
         }
     }
 
@@ -265,7 +282,7 @@ public class SalesListPresenter implements SalesListContract.Presenter,
     @Override
     public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         //Returning the Loader instance for the Sales List
-        return mLoaderProvider.createCursorLoader(LoaderProvider.SALES_LIST_TYPE);
+        return mLoaderProvider.createCursorLoader(LoaderProvider.SALES_LIST_TYPE, args);
     }
 
     /**
@@ -278,6 +295,12 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onLoadFinished(@NonNull Loader<Cursor> loader, Cursor data) {
+        if (loader.getId() == AppConstants.SALES_PAGE_LOADER) {
+            //When the Page before the Window of Products with Sales data was loaded
+            onPreviousPageLoaded(data);
+            return;
+        }
+
         if (data != null) {
             //When Cursor is NOT Null
             if (data.getCount() > 0) {
@@ -304,10 +327,67 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onLoaderReset(@NonNull Loader<Cursor> loader) {
+        if (loader.getId() == AppConstants.SALES_PAGE_LOADER || mPagedListWindow.isWindowLoadPending()) {
+            //Ignoring the reset of the Page Loader, and the reset of the previous Loader
+            //when the Window is being reloaded
+            return;
+        }
+
         //When previous Loader was reset
         onDataReset();
     }
 
+    /**
+     * Method that reads the Page of Products with Sales data loaded before the Window, and reloads the Window
+     * to begin from this Page.
+     *
+     * @param data The {@link Cursor} to the Page of Products with Sales data loaded before the Window,
+     *             in the reverse order of their SKU. Can be {@code null}.
+     */
+    private void onPreviousPageLoaded(@Nullable Cursor data) {
+        //Initializing the ArrayList to load the SalesLite data from the Cursor
+        ArrayList<SalesLite> pageList = new ArrayList<>();
+        if (data != null) {
+            //Iterating over the Cursor data from the start and building the list
+            data.moveToPosition(-1);
+            while (data.moveToNext()) {
+                pageList.add(SalesLite.from(data));
+            }
+        }
+
+        //Destroying the Page Loader as the Page was read, to prevent its reload on content changes
+        mLoaderManager.destroyLoader(AppConstants.SALES_PAGE_LOADER);
+
+        if (data == null) {
+            //When Cursor is Null, allow the Page to be requested again
+            mPagedListWindow.cancelPreviousPage();
+        } else if (mPagedListWindow.onPreviousPageLoaded(pageList)) {
+            //When the Window was adjusted to begin from this Page, reload the Window
+            mLoaderManager.restartLoader(AppConstants.SALES_LOADER, mPagedListWindow.getWindowArgs(), this);
+        }
+    }
+
+    /**
+     * Method invoked when the list of Products with Sales data was scrolled by the user. This loads the
+     * Pages of Products with Sales data ahead of the user's scroll, in either direction.
+     *
+     * @param firstVisiblePosition The adapter position of the first item visible
+     * @param lastVisiblePosition  The adapter position of the last item visible
+     */
+    @Override
+    public void onListScrolled(int firstVisiblePosition, int lastVisiblePosition) {
+        switch (mPagedListWindow.onVisibleRangeChanged(firstVisiblePosition, lastVisiblePosition)) {
+            case PagedListWindow.LOAD_WINDOW:
+                //Reload the Window that was grown by a Page
+                mLoaderManager.restartLoader(AppConstants.SALES_LOADER, mPagedListWindow.getWindowArgs(), this);
+                break;
+            case PagedListWindow.LOAD_PREVIOUS_PAGE:
+                //Load the Page before the Window
+                mLoaderManager.restartLoader(AppConstants.SALES_PAGE_LOADER, mPagedListWindow.getPreviousPageArgs(), this);
+                break;
+        }
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when data is present
      * in the Cursor {@code data}
@@ -329,8 +409,10 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         while (data.moveToNext()) {
             salesList.add(SalesLite.from(data));
         }
+        //Replacing the Window with the new data
+        mPagedListWindow.onWindowLoaded(salesList);
         //Updating the View with the new data
-        mSalesListView.loadSalesList(salesList);
+        mSalesListView.loadSalesList(mPagedListWindow.getItems());
         //Hide the Progress Indicator
         mSalesListView.hideProgressIndicator();
     }
@@ -342,6 +424,13 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onDataEmpty() {
+        if (mPagedListWindow.rewindWhenEmpty()) {
+            //When the Window beyond the start of the list was found empty, reload from the start of the list
+            mLoaderManager.restartLoader(AppConstants.SALES_LOADER, mPagedListWindow.getWindowArgs(), this);
+            return;
+        }
+        //Clearing the Window
+        mPagedListWindow.onWindowLoaded(new ArrayList<>());
         //Hide the Progress Indicator
         mSalesListView.hideProgressIndicator();
         //Show empty view
@@ -367,6 +456,8 @@ public class SalesListPresenter implements SalesListContract.Presenter,
      */
     @Override
     public void onDataReset() {
+        //Clearing the Window
+        mPagedListWindow.clear();
         //Updating the View with an empty list
         mSalesListView.loadSalesList(new ArrayList<>());
         //Show empty view
@@ -484,26 +575,28 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         //Reset observers
         resetObservers();
 
-        //Updating the Quantity via the Repository
+        //Decreasing the Quantity via the Repository, relative to the Quantity currently stored
+        //(as the Quantity shown may be stale when the user sells in quick succession)
         mStoreRepository.decreaseProductSupplierInventory(salesLite.getProductId(),
                 salesLite.getProductSku(), salesLite.getSupplierId(), salesLite.getTopSupplierCode(),
-                salesLite.getSupplierAvailableQuantity(), 1, new DataRepository.DataOperationsCallback() {
+                1, new DataRepository.InventoryDecreaseCallback() {
                     /**
-                     * Method invoked when the database operations like insert/update/delete
-                     * was successful.
+                     * Method invoked when the available quantity was decreased successfully.
+                     *
+                     * @param availableQuantity The available quantity of the Product at the Supplier after the decrease
                      */
                     @Override
-                    public void onSuccess() {
+                    public void onSuccess(int availableQuantity) {
                         //Hide Progress Indicator
                         mSalesListView.hideProgressIndicator();
 
-                        //Show the success message
-                        mSalesListView.showSellQuantitySuccess(salesLite.getProductSku(), salesLite.getTopSupplierCode());
+                        //Show the success message with the Quantity left
+                        mSalesListView.showSellQuantitySuccess(salesLite.getProductSku(), salesLite.getTopSupplierCode(), availableQuantity);
                     }
 
                     /**
-                     * Method invoked when the database operations like insert/update/delete
-                     * failed to complete.
+                     * Method invoked when the available quantity could not be decreased, either due to
+                     * insufficient quantity or a failure of the database operation.
                      *
                      * @param messageId The String resource of the error message
                      *                  for the database operation failure
@@ -572,6 +665,23 @@ public class SalesListPresenter implements SalesListContract.Presenter,
         mSalesListView.launchEditProductSales(productId, activityOptionsCompat);
     }
 
+    /**
+     * Method invoked when the user clicks on the "Low Stock" Menu. This should display the
+     * list of Products whose Total Available Quantity is at or below their Reorder Level.
+     */
+    @Override
+    public void showLowStockProducts() {
+        //Retrieving the Products Low on Stock, as last evaluated by the Monitor
+        List<LowStockProduct> lowStockProducts = mLowStockMonitor.getLowStockProducts();
+        if (lowStockProducts.isEmpty()) {
+            //When there are none, show the message for the same
+            mSalesListView.showNoLowStockProducts();
+        } else {
+            //Otherwise, show the list of Products Low on Stock
+            mSalesListView.showLowStockProducts(new ArrayList<>(lowStockProducts));
+        }
+    }
+
     /**
      * {@link ContentObserver} class that observes and notifies changes in the
      * 'item' table, 'item_image' table, 'item_supplier_info' table and 'item_supplier_inventory' table
@@ -39,7 +39,7 @@ import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigAct
 import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigContract;
 import com.example.store_keeper.store_keeper.ui.suppliers.config.SupplierConfigActivity;
 import com.example.store_keeper.store_keeper.utils.InjectorUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 
 /**
  * Activity that inflates the layout 'R.layout.activity_sales_config' which
@@ -357,14 +357,12 @@ public class SalesConfigActivity extends AppCompatActivity implements SalesConfi
         //Setting the Transition Name on the ImageView for Shared Element Transition
         ViewCompat.setTransitionName(mImageViewItemPhoto, imageUri);
         //Load the Selected Image for the Product
-        ImageDownloaderFragment.newInstance(getSupportFragmentManager(), mImageViewItemPhoto.getId())
-                .setOnSuccessListener(bitmap -> {
-                    if (mIsEnterTransitionPostponed) {
-                        //Start the Postponed transition if it was postponed
-                        supportStartPostponedEnterTransition();
-                    }
-                })
-                .executeAndUpdate(mImageViewItemPhoto, imageUri, mImageViewItemPhoto.getId(), getSupportLoaderManager());
+        ImageLoader.getInstance(this).load(mImageViewItemPhoto, imageUri, bitmap -> {
+            if (mIsEnterTransitionPostponed) {
+                //Start the Postponed transition if it was postponed
+                supportStartPostponedEnterTransition();
+            }
+        });
     }
 
     /**
@@ -45,6 +45,7 @@ import android.widget.TableRow;
 import android.widget.TextView;
 
 import com.example.store_keeper.storeapp.R;
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.models.ProductAttribute;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
@@ -85,6 +86,7 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
     private static final String BUNDLE_PRODUCT_DESCRIPTION_KEY = "SalesConfig.ProductDescription";
     private static final String BUNDLE_PRODUCT_CATEGORY_KEY = "SalesConfig.ProductCategory";
     private static final String BUNDLE_PRODUCT_ORIGINAL_TOTAL_AVAIL_QTY_INT_KEY = "SalesConfig.OriginalTotalAvailableQuantity";
+    private static final String BUNDLE_PRODUCT_ORIGINAL_REORDER_LEVEL_INT_KEY = "SalesConfig.OriginalReorderLevel";
     private static final String BUNDLE_PRODUCT_IMAGES_LIST_KEY = "SalesConfig.ProductImages";
     private static final String BUNDLE_PRODUCT_ATTRS_LIST_KEY = "SalesConfig.ProductAttributes";
     private static final String BUNDLE_PRODUCT_SUPPLIERS_LIST_KEY = "SalesConfig.ProductSuppliers";
@@ -100,6 +102,7 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
     private TextView mTextViewProductDesc;
     private TextView mTextViewProductCategory;
     private TextView mTextViewProductAvailableQuantity;
+    private EditText mEditTextReorderLevel;
     private TableLayout mTableLayoutProductAttrs;
     private RecyclerView mRecyclerViewProductSuppliers;
 
@@ -123,6 +126,9 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
 
     //Stores the value of the Original Total Available Quantity of the Product
     private int mOldTotalAvailableQuantity;
+
+    //Stores the value of the Original Reorder Level of the Product
+    private int mOldReorderLevel;
     /**
      * The {@link AlertDialog} Click Listener for the Product Delete Menu.
      */
@@ -279,6 +285,7 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
         mTextViewProductDesc = rootView.findViewById(R.id.text_sales_config_product_desc);
         mTextViewProductCategory = rootView.findViewById(R.id.text_sales_config_product_category);
         mTextViewProductAvailableQuantity = rootView.findViewById(R.id.text_sales_config_total_available_quantity);
+        mEditTextReorderLevel = rootView.findViewById(R.id.edittext_sales_config_reorder_level);
         mTableLayoutProductAttrs = rootView.findViewById(R.id.tablelayout_sales_config_product_attrs);
         mRecyclerViewProductSuppliers = rootView.findViewById(R.id.recyclerview_sales_config_suppliers);
 
@@ -362,6 +369,10 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
             //to overwrite with the corrected value
             mPresenter.updateAndSyncOldTotalAvailability(savedInstanceState.getInt(BUNDLE_PRODUCT_ORIGINAL_TOTAL_AVAIL_QTY_INT_KEY));
 
+            //Restoring the Original Reorder Level
+            mPresenter.updateAndSyncOldReorderLevel(savedInstanceState.getInt(BUNDLE_PRODUCT_ORIGINAL_REORDER_LEVEL_INT_KEY,
+                    ProductContract.Product.DEFAULT_ITEM_REORDER_LEVEL));
+
             //Restoring the state of Product data restored
             mPresenter.updateAndSyncProductState(savedInstanceState.getBoolean(BUNDLE_PRODUCT_RESTORED_BOOL_KEY, false));
 
@@ -398,6 +409,7 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
         outState.putString(BUNDLE_PRODUCT_DESCRIPTION_KEY, mTextViewProductDesc.getText().toString());
         outState.putString(BUNDLE_PRODUCT_CATEGORY_KEY, mTextViewProductCategory.getText().toString());
         outState.putInt(BUNDLE_PRODUCT_ORIGINAL_TOTAL_AVAIL_QTY_INT_KEY, mOldTotalAvailableQuantity);
+        outState.putInt(BUNDLE_PRODUCT_ORIGINAL_REORDER_LEVEL_INT_KEY, mOldReorderLevel);
         outState.putParcelableArrayList(BUNDLE_PRODUCT_IMAGES_LIST_KEY, mProductImages);
         outState.putParcelableArrayList(BUNDLE_PRODUCT_ATTRS_LIST_KEY, mProductAttributes);
         outState.putParcelableArrayList(BUNDLE_PRODUCT_SUPPLIERS_LIST_KEY, mProductSuppliersAdapter.getProductSupplierSalesList());
@@ -469,7 +481,8 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
         mPresenter.triggerFocusLost();
 
         //Delegating to the Presenter to initiate the Save process
-        mPresenter.onSave(mProductSuppliersAdapter.getProductSupplierSalesList());
+        mPresenter.onSave(mProductSuppliersAdapter.getProductSupplierSalesList(),
+                mEditTextReorderLevel.getText().toString().trim());
     }
 
     /**
@@ -530,6 +543,18 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
         mOldTotalAvailableQuantity = oldTotalAvailableQuantity;
     }
 
+    /**
+     * Method invoked to keep the original Reorder Level of the Product,
+     * in sync with the Presenter.
+     *
+     * @param oldReorderLevel Integer value of the original Reorder Level of the Product.
+     */
+    @Override
+    public void syncOldReorderLevel(int oldReorderLevel) {
+        //Saving the original Reorder Level
+        mOldReorderLevel = oldReorderLevel;
+    }
+
     /**
      * Method that displays the Progress indicator
      *
@@ -721,6 +746,18 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
         mTextViewProductAvailableQuantity.setTextColor(ContextCompat.getColor(requireContext(), android.R.color.holo_green_dark));
     }
 
+    /**
+     * Method that updates the Reorder Level of the Product to the View.
+     *
+     * @param reorderLevel Integer value of the Total Available quantity at or below which
+     *                     the Product is Low on Stock.
+     */
+    @Override
+    public void updateReorderLevel(int reorderLevel) {
+        //Set the Reorder Level value
+        mEditTextReorderLevel.setText(String.valueOf(reorderLevel));
+    }
+
     /**
      * Method invoked to show the "Out Of Stock!" alert when the Total Available quantity
      * of the Product is 0.
@@ -1390,7 +1427,7 @@ public class SalesConfigActivityFragment extends Fragment implements SalesConfig
 
                     //Bind the Supplier Selling Price
                     mTextViewSupplierPrice.setText(resources.getString(R.string.sales_config_item_supplier_selling_price,
-                            productSupplierSales.getUnitPrice() + " " + Currency.getInstance(Locale.getDefault()).getCurrencyCode()));
+                            productSupplierSales.getUnitPrice().toPlainString() + " " + Currency.getInstance(Locale.getDefault()).getCurrencyCode()));
 
                     //Bind the Available Quantity
                     int availableQuantity = productSupplierSales.getAvailableQuantity();
@@ -70,6 +70,14 @@ public interface SalesConfigContract {
          */
         void syncOldTotalAvailability(int oldTotalAvailableQuantity);
 
+        /**
+         * Method invoked to keep the original Reorder Level of the Product,
+         * in sync with the Presenter.
+         *
+         * @param oldReorderLevel Integer value of the original Reorder Level of the Product.
+         */
+        void syncOldReorderLevel(int oldReorderLevel);
+
         /**
          * Method that displays the Progress indicator
          *
@@ -150,6 +158,14 @@ public interface SalesConfigContract {
          */
         void updateAvailability(int totalAvailableQuantity);
 
+        /**
+         * Method that updates the Reorder Level of the Product to the View.
+         *
+         * @param reorderLevel Integer value of the Total Available quantity at or below which
+         *                     the Product is Low on Stock.
+         */
+        void updateReorderLevel(int reorderLevel);
+
         /**
          * Method invoked to show the "Out Of Stock!" alert when the Total Available quantity
          * of the Product is 0.
@@ -237,6 +253,14 @@ public interface SalesConfigContract {
          */
         void updateAndSyncOldTotalAvailability(int oldTotalAvailableQuantity);
 
+        /**
+         * Method that updates the original Reorder Level of the Product, and keeps
+         * it in sync with the View.
+         *
+         * @param oldReorderLevel Integer value of the original Reorder Level of the Product.
+         */
+        void updateAndSyncOldReorderLevel(int oldReorderLevel);
+
         /**
          * Method that updates the Product Name {@code productName} to the View.
          *
@@ -365,8 +389,9 @@ public interface SalesConfigContract {
          *
          * @param updatedProductSupplierSalesList The Updated list of Product's Suppliers with
          *                                        their Price and Inventory details.
+         * @param reorderLevelStr                 String containing the Reorder Level of the Product entered.
          */
-        void onSave(ArrayList<ProductSupplierSales> updatedProductSupplierSalesList);
+        void onSave(ArrayList<ProductSupplierSales> updatedProductSupplierSalesList, String reorderLevelStr);
 
         /**
          * Method invoked when the user clicks on the Delete Menu Action to delete the Product.
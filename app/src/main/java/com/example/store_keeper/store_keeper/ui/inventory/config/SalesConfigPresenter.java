@@ -21,11 +21,13 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.support.v4.app.FragmentActivity;
+import android.text.TextUtils;
 import android.util.Log;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.DataRepository;
 import com.example.store_keeper.store_keeper.data.StoreRepository;
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
 import com.example.store_keeper.store_keeper.data.local.models.Product;
 import com.example.store_keeper.store_keeper.data.local.models.ProductAttribute;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
@@ -95,6 +97,9 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
     //Stores the Updated value of the Total Available Quantity of the Product
     private int mNewTotalAvailableQuantity;
 
+    //Stores the value of the Original Reorder Level of the Product
+    private int mOldReorderLevel = ProductContract.Product.DEFAULT_ITEM_REORDER_LEVEL;
+
     //Stores the ProductImage to be shown
     private ProductImage mProductImageToBeShown;
 
@@ -184,6 +189,20 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
         mSalesConfigView.syncOldTotalAvailability(mOldTotalAvailableQuantity);
     }
 
+    /**
+     * Method that updates the original Reorder Level of the Product, and keeps
+     * it in sync with the View.
+     *
+     * @param oldReorderLevel Integer value of the original Reorder Level of the Product.
+     */
+    @Override
+    public void updateAndSyncOldReorderLevel(int oldReorderLevel) {
+        //Saving to the Original Reorder Level member
+        mOldReorderLevel = oldReorderLevel;
+        //Publishing the value to the View to keep it in sync with the Presenter
+        mSalesConfigView.syncOldReorderLevel(mOldReorderLevel);
+    }
+
     /**
      * Method that downloads the Product details to update the View components with the
      * product data.
@@ -223,6 +242,10 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                     //Update the Product Attributes
                     updateProductAttributes(product.getProductAttributes());
 
+                    //Update the Product Reorder Level, and save it as the Original value
+                    mSalesConfigView.updateReorderLevel(product.getReorderLevel());
+                    updateAndSyncOldReorderLevel(product.getReorderLevel());
+
                     //Marking as downloaded/restored
                     updateAndSyncProductState(true);
 
@@ -609,9 +632,21 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
      *
      * @param updatedProductSupplierSalesList The Updated list of Product's Suppliers with
      *                                        their Price and Inventory details.
+     * @param reorderLevelStr                 String containing the Reorder Level of the Product entered.
      */
     @Override
-    public void onSave(ArrayList<ProductSupplierSales> updatedProductSupplierSalesList) {
+    public void onSave(ArrayList<ProductSupplierSales> updatedProductSupplierSalesList, String reorderLevelStr) {
+        //Reading the Reorder Level entered, retaining the Original value when not entered or invalid
+        int reorderLevel = mOldReorderLevel;
+        if (!TextUtils.isEmpty(reorderLevelStr)) {
+            try {
+                reorderLevel = Integer.parseInt(reorderLevelStr);
+            } catch (NumberFormatException e) {
+                Log.e(LOG_TAG, "onSave: Invalid Reorder Level " + reorderLevelStr, e);
+            }
+        }
+        final int newReorderLevel = reorderLevel;
+
         //Display save progress indicator
         mSalesConfigView.showProgressIndicator(R.string.sales_config_status_saving);
 
@@ -619,6 +654,54 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
         mStoreRepository.saveUpdatedProductSalesInfo(mProductId, mProductSku,
                 mExistingProductSupplierSalesList,
                 updatedProductSupplierSalesList, new DataRepository.DataOperationsCallback() {
+                    /**
+                     * Method invoked when the database operations like insert/update/delete
+                     * was successful.
+                     */
+                    @Override
+                    public void onSuccess() {
+                        if (newReorderLevel != mOldReorderLevel) {
+                            //When the Reorder Level was changed, save it before finishing
+                            saveReorderLevel(newReorderLevel);
+                        } else {
+                            //Hide progress indicator
+                            mSalesConfigView.hideProgressIndicator();
+
+                            //Set the result and finish on successful insert/update
+                            doSetResult(SalesConfigActivity.RESULT_EDIT_SALES, mProductId, mProductSku);
+                        }
+                    }
+
+                    /**
+                     * Method invoked when the database operations like insert/update/delete
+                     * failed to complete.
+                     *
+                     * @param messageId The String resource of the error message
+                     *                  for the database operation failure
+                     * @param args Variable number of arguments to replace the format specifiers
+                     *             in the String resource if any
+                     */
+                    @Override
+                    public void onFailure(int messageId, @Nullable Object... args) {
+                        //Hide progress indicator
+                        mSalesConfigView.hideProgressIndicator();
+
+                        //Show message for Insert/Update Failure
+                        mSalesConfigView.showError(messageId, args);
+                    }
+                });
+    }
+
+    /**
+     * Method that saves the updated Reorder Level {@code reorderLevel} of the Product,
+     * and finishes on success.
+     *
+     * @param reorderLevel Integer value of the updated Reorder Level of the Product.
+     */
+    private void saveReorderLevel(int reorderLevel) {
+        //Saving the Item's Reorder Level via the Repository
+        mStoreRepository.updateProductReorderLevel(mProductId, mProductSku, reorderLevel,
+                new DataRepository.DataOperationsCallback() {
                     /**
                      * Method invoked when the database operations like insert/update/delete
                      * was successful.
@@ -628,7 +711,10 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                         //Hide progress indicator
                         mSalesConfigView.hideProgressIndicator();
 
-                        //Set the result and finish on successful insert/update
+                        //Saving as the Original value
+                        updateAndSyncOldReorderLevel(reorderLevel);
+
+                        //Set the result and finish on successful update
                         doSetResult(SalesConfigActivity.RESULT_EDIT_SALES, mProductId, mProductSku);
                     }
 
@@ -646,7 +732,7 @@ public class SalesConfigPresenter implements SalesConfigContract.Presenter {
                         //Hide progress indicator
                         mSalesConfigView.hideProgressIndicator();
 
-                        //Show message for Insert/Update Failure
+                        //Show message for Update Failure
                         mSalesConfigView.showError(messageId, args);
                     }
                 });
@@ -32,7 +32,7 @@ import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierSales;
 import com.example.store_keeper.store_keeper.ui.products.config.DefaultPhotoChangeListener;
 import com.example.store_keeper.store_keeper.utils.InjectorUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 
 /**
  * Activity that inflates the layout 'R.layout.activity_sales_procurement' which
@@ -253,13 +253,11 @@ public class SalesProcurementActivity extends AppCompatActivity implements Sales
         //Setting the Transition Name on the ImageView for Shared Element Transition
         ViewCompat.setTransitionName(mImageViewItemPhoto, imageUri);
         //Load the Selected Image for the Product
-        ImageDownloaderFragment.newInstance(getSupportFragmentManager(), mImageViewItemPhoto.getId())
-                .setOnSuccessListener(bitmap -> {
-                    if (mIsEnterTransitionPostponed) {
-                        //Start the Postponed transition if it was postponed
-                        supportStartPostponedEnterTransition();
-                    }
-                })
-                .executeAndUpdate(mImageViewItemPhoto, imageUri, mImageViewItemPhoto.getId(), getSupportLoaderManager());
+        ImageLoader.getInstance(this).load(mImageViewItemPhoto, imageUri, bitmap -> {
+            if (mIsEnterTransitionPostponed) {
+                //Start the Postponed transition if it was postponed
+                supportStartPostponedEnterTransition();
+            }
+        });
     }
 }
@@ -137,6 +137,15 @@ public interface ProductListContract {
          */
         void triggerProductsLoad(boolean forceLoad);
 
+        /**
+         * Method invoked when the list of Products was scrolled by the user. This loads the
+         * Pages of Products ahead of the user's scroll, in either direction.
+         *
+         * @param firstVisiblePosition The adapter position of the first item visible
+         * @param lastVisiblePosition  The adapter position of the last item visible
+         */
+        void onListScrolled(int firstVisiblePosition, int lastVisiblePosition);
+
         /**
          * Method invoked when the user clicks on the "Edit" button on the Item View or the Item View itself
          * to edit the Product details. This should
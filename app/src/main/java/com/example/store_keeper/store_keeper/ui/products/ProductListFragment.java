@@ -28,7 +28,6 @@ import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v4.content.res.ResourcesCompat;
 import android.support.v4.widget.SwipeRefreshLayout;
 import android.support.v7.content.res.AppCompatResources;
@@ -46,11 +45,15 @@ import android.widget.TextView;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
+import com.example.store_keeper.store_keeper.ui.common.ListImagePrefetcher;
 import com.example.store_keeper.store_keeper.ui.common.ListItemSpacingDecoration;
+import com.example.store_keeper.store_keeper.ui.common.ListPagingScrollListener;
 import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigActivity;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.utils.ColorUtility;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 import com.example.store_keeper.store_keeper.utils.SnackbarUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 import com.example.store_keeper.store_keeper.ui.BasePresenter;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 import com.example.store_keeper.store_keeper.ui.MainActivity;
@@ -225,6 +228,17 @@ public class ProductListFragment extends Fragment
         //Setting the Adapter for RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Setting the Scroll Listener to load the Pages of Products ahead of the user's scroll
+        mRecyclerViewContentList.addOnScrollListener(new ListPagingScrollListener(
+                (firstVisiblePosition, lastVisiblePosition) -> mPresenter.onListScrolled(firstVisiblePosition, lastVisiblePosition)
+        ));
+
+        //Setting the Scroll Listener to prefetch the Product Images ahead of the user's scroll
+        mRecyclerViewContentList.addOnScrollListener(new ListImagePrefetcher(
+                requireContext(), mAdapter, AppConstants.LIST_IMAGE_PREFETCH_COUNT,
+                ImageStorageUtility.DECODE_PROFILE_OPAQUE
+        ));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.product_list_items_spacing);
 
@@ -480,7 +494,8 @@ public class ProductListFragment extends Fragment
     /**
      * {@link ListAdapter} class for RecyclerView to load the list of Products to be displayed.
      */
-    private static class ProductListAdapter extends ListAdapter<ProductLite, ProductListAdapter.ViewHolder> {
+    private static class ProductListAdapter extends ListAdapter<ProductLite, ProductListAdapter.ViewHolder>
+            implements ListImagePrefetcher.ImageUrlProvider {
 
         /**
          * {@link DiffUtil.ItemCallback} for calculating the difference between two {@link ProductLite} objects
@@ -587,6 +602,43 @@ public class ProductListFragment extends Fragment
             holder.bind(position, productLite);
         }
 
+        /**
+         * Method that returns the Image URL of the Product at the {@code position}, for prefetching its Image.
+         *
+         * @param position The adapter position of the Product
+         * @return String containing the URL of the default Image of the Product. Can be {@code null}.
+         */
+        @Nullable
+        @Override
+        public String getImageUrl(int position) {
+            return getItem(position).getDefaultImageUri();
+        }
+
+        /**
+         * Method that returns the ImageView showing the Image of the Product bound to the {@code viewHolder}.
+         *
+         * @param viewHolder The ViewHolder of a Product of the list
+         * @return The ImageView showing the Image of the Product
+         */
+        @NonNull
+        @Override
+        public ImageView getImageView(@NonNull RecyclerView.ViewHolder viewHolder) {
+            return ((ViewHolder) viewHolder).mImageViewProductPhoto;
+        }
+
+        /**
+         * Called when a view created by this adapter has been recycled.
+         * Cancels the Image load of the recycled item, so that its decode is skipped
+         * when no longer required.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            ImageLoader.getInstance(holder.itemView.getContext()).cancel(holder.mImageViewProductPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view 'R.layout.item_product_list'
          */
@@ -635,9 +687,8 @@ public class ProductListFragment extends Fragment
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
                 //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), position);
+                ImageLoader.getInstance(mImageViewProductPhoto.getContext()).load(mImageViewProductPhoto, productLite.getDefaultImageUri(),
+                        ImageStorageUtility.DECODE_PROFILE_OPAQUE, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(productLite.getCategory());
             }
@@ -41,6 +41,7 @@ import com.example.store_keeper.store_keeper.data.local.contracts.ProductContrac
 import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigActivity;
+import com.example.store_keeper.store_keeper.ui.common.PagedListWindow;
 import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 import com.example.store_keeper.store_keeper.ui.MainActivity;
@@ -72,6 +73,9 @@ public class ProductListPresenter
     //The LoaderManager instance
     @NonNull
     private final LoaderManager mLoaderManager;
+    //The bounded Window of the paged list of Products loaded
+    @NonNull
+    private final PagedListWindow<ProductLite> mPagedListWindow;
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
@@ -97,6 +101,10 @@ public class ProductListPresenter
         mStoreRepository = storeRepository;
         mProductListView = productListView;
 
+        //Initializing the bounded Window for the paged list of Products, keyed by their SKU
+        mPagedListWindow = new PagedListWindow<>(ProductLite::getSku, AppConstants.LIST_PAGE_SIZE,
+                AppConstants.LIST_PREFETCH_DISTANCE, AppConstants.LIST_MAX_WINDOW_SIZE);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -190,10 +198,10 @@ public class ProductListPresenter
         mProductListView.showProgressIndicator();
         if (forceLoad) {
             //When forcefully triggered, restart the loader
-            mLoaderManager.restartLoader(AppConstants.PRODUCTS_LOADER, null, this);
+            mLoaderManager.restartLoader(AppConstants.PRODUCTS_LOADER, mPagedListWindow.getWindowArgs(), this);
         } else {
             //When triggered, start a new loader or load the existing loader
-            mLoaderManager.initLoader(AppConstants.PRODUCTS_LOADER, null, this);
+            mLoaderManager.initLoader(AppConstants.PRODUCTS_LOADER, mPagedListWindow.getWindowArgs(), this);
         }
     }
 
@@ -210,7 +218,7 @@ public class ProductListPresenter
     @Override
     public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         //Returning the Loader instance for the Product List
-        return mLoaderProvider.createCursorLoader(LoaderProvider.PRODUCT_LIST_TYPE);
+        return mLoaderProvider.createCursorLoader(LoaderProvider.PRODUCT_LIST_TYPE, args);
     }
 
     /**
@@ -223,6 +231,12 @@ public class ProductListPresenter
      */
     @Override
     public void onLoadFinished(@NonNull Loader<Cursor> loader, Cursor data) {
+        if (loader.getId() == AppConstants.PRODUCTS_PAGE_LOADER) {
+            //When the Page before the Window of Products was loaded
+            onPreviousPageLoaded(data);
+            return;
+        }
+
         if (data != null) {
             //When Cursor is NOT Null
             if (data.getCount() > 0) {
@@ -249,10 +263,67 @@ public class ProductListPresenter
      */
     @Override
     public void onLoaderReset(@NonNull Loader<Cursor> loader) {
+        if (loader.getId() == AppConstants.PRODUCTS_PAGE_LOADER || mPagedListWindow.isWindowLoadPending()) {
+            //Ignoring the reset of the Page Loader, and the reset of the previous Loader
+            //when the Window is being reloaded
+            return;
+        }
+
         //When previous Loader was reset
         onDataReset();
     }
 
+    /**
+     * Method that reads the Page of Products loaded before the Window, and reloads the Window
+     * to begin from this Page.
+     *
+     * @param data The {@link Cursor} to the Page of Products loaded before the Window,
+     *             in the reverse order of their SKU. Can be {@code null}.
+     */
+    private void onPreviousPageLoaded(@Nullable Cursor data) {
+        //Initializing the ArrayList to load the ProductLite data from the Cursor
+        ArrayList<ProductLite> pageList = new ArrayList<>();
+        if (data != null) {
+            //Iterating over the Cursor data from the start and building the list
+            data.moveToPosition(-1);
+            while (data.moveToNext()) {
+                pageList.add(ProductLite.from(data));
+            }
+        }
+
+        //Destroying the Page Loader as the Page was read, to prevent its reload on content changes
+        mLoaderManager.destroyLoader(AppConstants.PRODUCTS_PAGE_LOADER);
+
+        if (data == null) {
+            //When Cursor is Null, allow the Page to be requested again
+            mPagedListWindow.cancelPreviousPage();
+        } else if (mPagedListWindow.onPreviousPageLoaded(pageList)) {
+            //When the Window was adjusted to begin from this Page, reload the Window
+            mLoaderManager.restartLoader(AppConstants.PRODUCTS_LOADER, mPagedListWindow.getWindowArgs(), this);
+        }
+    }
+
+    /**
+     * Method invoked when the list of Products was scrolled by the user. This loads the
+     * Pages of Products ahead of the user's scroll, in either direction.
+     *
+     * @param firstVisiblePosition The adapter position of the first item visible
+     * @param lastVisiblePosition  The adapter position of the last item visible
+     */
+    @Override
+    public void onListScrolled(int firstVisiblePosition, int lastVisiblePosition) {
+        switch (mPagedListWindow.onVisibleRangeChanged(firstVisiblePosition, lastVisiblePosition)) {
+            case PagedListWindow.LOAD_WINDOW:
+                //Reload the Window that was grown by a Page
+                mLoaderManager.restartLoader(AppConstants.PRODUCTS_LOADER, mPagedListWindow.getWindowArgs(), this);
+                break;
+            case PagedListWindow.LOAD_PREVIOUS_PAGE:
+                //Load the Page before the Window
+                mLoaderManager.restartLoader(AppConstants.PRODUCTS_PAGE_LOADER, mPagedListWindow.getPreviousPageArgs(), this);
+                break;
+        }
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when data is present
      * in the Cursor {@code data}
@@ -274,8 +345,10 @@ public class ProductListPresenter
         while (data.moveToNext()) {
             productList.add(ProductLite.from(data));
         }
+        //Replacing the Window with the new data
+        mPagedListWindow.onWindowLoaded(productList);
         //Updating the View with the new data
-        mProductListView.loadProducts(productList);
+        mProductListView.loadProducts(mPagedListWindow.getItems());
         //Hide the Progress Indicator
         mProductListView.hideProgressIndicator();
     }
@@ -287,6 +360,13 @@ public class ProductListPresenter
      */
     @Override
     public void onDataEmpty() {
+        if (mPagedListWindow.rewindWhenEmpty()) {
+            //When the Window beyond the start of the list was found empty, reload from the start of the list
+            mLoaderManager.restartLoader(AppConstants.PRODUCTS_LOADER, mPagedListWindow.getWindowArgs(), this);
+            return;
+        }
+        //Clearing the Window
+        mPagedListWindow.onWindowLoaded(new ArrayList<>());
         //Hide the Progress Indicator
         mProductListView.hideProgressIndicator();
         //Show empty view
@@ -312,6 +392,8 @@ public class ProductListPresenter
      */
     @Override
     public void onDataReset() {
+        //Clearing the Window
+        mPagedListWindow.clear();
         //Updating the View with an empty list
         mProductListView.loadProducts(new ArrayList<>());
         //Show empty view
@@ -36,7 +36,7 @@ import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.local.models.ProductImage;
 import com.example.store_keeper.store_keeper.ui.products.image.ProductImageActivity;
 import com.example.store_keeper.store_keeper.utils.InjectorUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 
 import java.util.ArrayList;
 
@@ -331,14 +331,12 @@ public class ProductConfigActivity extends AppCompatActivity
         //Setting the Transition Name on the ImageView for Shared Element Transition
         ViewCompat.setTransitionName(mImageViewItemPhoto, imageUri);
         //Load the Selected Image for the Product
-        ImageDownloaderFragment.newInstance(getSupportFragmentManager(), mImageViewItemPhoto.getId())
-                .setOnSuccessListener(bitmap -> {
-                    if (mIsEnterTransitionPostponed) {
-                        //Start the Postponed transition if it was postponed
-                        supportStartPostponedEnterTransition();
-                    }
-                })
-                .executeAndUpdate(mImageViewItemPhoto, imageUri, mImageViewItemPhoto.getId(), getSupportLoaderManager());
+        ImageLoader.getInstance(this).load(mImageViewItemPhoto, imageUri, bitmap -> {
+            if (mIsEnterTransitionPostponed) {
+                //Start the Postponed transition if it was postponed
+                supportStartPostponedEnterTransition();
+            }
+        });
         //Expanding the AppBar to reveal the Photo
         mAppBarLayout.setExpanded(true);
     }
@@ -35,7 +35,6 @@ import android.support.annotation.StringRes;
 import android.support.constraint.Group;
 import android.support.design.widget.Snackbar;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v7.app.AlertDialog;
 import android.support.v7.recyclerview.extensions.ListAdapter;
 import android.support.v7.util.DiffUtil;
@@ -61,7 +60,7 @@ import com.example.store_keeper.store_keeper.utils.FileStorageUtility;
 import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 import com.example.store_keeper.store_keeper.utils.OrientationUtility;
 import com.example.store_keeper.store_keeper.utils.SnackbarUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 import com.example.store_keeper.store_keeper.ui.BasePresenter;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 
@@ -797,24 +796,21 @@ public class ProductImageActivityFragment extends Fragment
             Context context = holder.itemView.getContext();
 
             //Load the Image for the item
-            ImageDownloaderFragment.newInstance(((FragmentActivity) context).getSupportFragmentManager(), position)
-                    .setOnSuccessListener(bitmap -> {
-                        //Checking if any selections were made to update the item state
-                        if (mImageSelectionTrackerMap != null && mImageSelectionTrackerMap.size() > 0 && mGridMode.equals(ProductImageContract.MODE_SELECT)) {
-                            //Lookup the tracker for the current item to update the state
-                            ImageSelectionTracker currentItemTracker = mImageSelectionTrackerMap.get(position);
-                            //Checking if the adapter's mode is SELECT and the current item tracker is selected to proceed
-                            if (currentItemTracker != null && currentItemTracker.getPhotoGridMode().equals(mGridMode)
-                                    && currentItemTracker.isSelected()) {
-                                //When the Mode is SELECT and the current item tracker is selected,
-                                //update the downloaded bitmap to ImageView 'R.id.image_product_selected_item_photo'
-                                mActionsListener.showSelectedImage(bitmap, itemProductImage);
-                            }
-                        }
-                    })
-                    .executeAndUpdate(holder.mImageViewItemPhoto,
-                            itemProductImage.getImageUri(),
-                            position);
+            ImageLoader.getInstance(context).load(holder.mImageViewItemPhoto, itemProductImage.getImageUri(),
+                    ImageStorageUtility.DECODE_PROFILE_OPAQUE, bitmap -> {
+                //Checking if any selections were made to update the item state
+                if (mImageSelectionTrackerMap != null && mImageSelectionTrackerMap.size() > 0 && mGridMode.equals(ProductImageContract.MODE_SELECT)) {
+                    //Lookup the tracker for the current item to update the state
+                    ImageSelectionTracker currentItemTracker = mImageSelectionTrackerMap.get(position);
+                    //Checking if the adapter's mode is SELECT and the current item tracker is selected to proceed
+                    if (currentItemTracker != null && currentItemTracker.getPhotoGridMode().equals(mGridMode)
+                            && currentItemTracker.isSelected()) {
+                        //When the Mode is SELECT and the current item tracker is selected,
+                        //update the downloaded bitmap to ImageView 'R.id.image_product_selected_item_photo'
+                        mActionsListener.showSelectedImage(bitmap, itemProductImage);
+                    }
+                }
+            });
 
 
             //Checking if any selections were made to update the item state
@@ -901,14 +897,11 @@ public class ProductImageActivityFragment extends Fragment
                                             mActionsListener.showSelectedImage(bitmapDrawable.getBitmap(), itemProductImage);
                                         } else {
                                             //When the ImageView of the adapter item does not have the bitmap yet, load the Image for the item
-                                            ImageDownloaderFragment.newInstance(((FragmentActivity) context).getSupportFragmentManager(), position)
-                                                    .setOnSuccessListener(bitmap -> {
-                                                        //Update the downloaded bitmap to ImageView 'R.id.image_product_selected_item_photo'
-                                                        mActionsListener.showSelectedImage(bitmap, itemProductImage);
-                                                    })
-                                                    .executeAndUpdate(imageViewItemPhoto,
-                                                            itemProductImage.getImageUri(),
-                                                            position);
+                                            ImageLoader.getInstance(context).load(imageViewItemPhoto, itemProductImage.getImageUri(),
+                                                    ImageStorageUtility.DECODE_PROFILE_OPAQUE, bitmap -> {
+                                                //Update the downloaded bitmap to ImageView 'R.id.image_product_selected_item_photo'
+                                                mActionsListener.showSelectedImage(bitmap, itemProductImage);
+                                            });
                                         }
                                     }
                                 }
@@ -1023,6 +1016,19 @@ public class ProductImageActivityFragment extends Fragment
             }
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled.
+         * Cancels the Image load of the recycled item, so that its decode is skipped
+         * when no longer required.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            ImageLoader.getInstance(holder.itemView.getContext()).cancel(holder.mImageViewItemPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view
          * 'R.layout.item_product_image'
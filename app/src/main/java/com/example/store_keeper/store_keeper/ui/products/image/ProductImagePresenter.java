@@ -360,6 +360,19 @@ public class ProductImagePresenter implements ProductImageContract.Presenter {
                 //Get the String URI of the URI
                 String fileContentUriStr = results.toString();
 
+                //Images are saved by their content, hence a capture identical to an Image
+                //already in the list resolves to the same URI
+                int existingImageIndex = mProductImageUris.indexOf(fileContentUriStr);
+                if (existingImageIndex > -1) {
+                    //When the Image is already part of the list, show it as selected instead of adding it again
+                    mGridMode = ProductImageContract.MODE_SELECT;
+                    showProductImageAsSelected(existingImageIndex, mProductImages.get(existingImageIndex), mGridMode);
+
+                    //Hide the Progress indicator
+                    mProductImageView.hideProgressIndicator();
+                    return;
+                }
+
                 //Add the URI to the list
                 mProductImageUris.add(fileContentUriStr);
 
@@ -149,6 +149,15 @@ public interface SupplierListContract {
          */
         void triggerSuppliersLoad(boolean forceLoad);
 
+        /**
+         * Method invoked when the list of Suppliers was scrolled by the user. This loads the
+         * Pages of Suppliers ahead of the user's scroll, in either direction.
+         *
+         * @param firstVisiblePosition The adapter position of the first item visible
+         * @param lastVisiblePosition  The adapter position of the last item visible
+         */
+        void onListScrolled(int firstVisiblePosition, int lastVisiblePosition);
+
         /**
          * Method invoked when the user clicks on "Edit" button or the Item View itself. This should
          * launch the {@link SupplierConfigActivity}
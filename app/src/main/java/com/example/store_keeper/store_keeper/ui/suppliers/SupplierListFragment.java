@@ -45,6 +45,7 @@ import android.widget.TextView;
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierLite;
 import com.example.store_keeper.store_keeper.ui.common.ListItemSpacingDecoration;
+import com.example.store_keeper.store_keeper.ui.common.ListPagingScrollListener;
 import com.example.store_keeper.store_keeper.ui.suppliers.config.SupplierConfigActivity;
 import com.example.store_keeper.store_keeper.utils.ColorUtility;
 import com.example.store_keeper.store_keeper.utils.IntentUtility;
@@ -222,6 +223,11 @@ public class SupplierListFragment extends Fragment
         //Setting the Adapter on the RecyclerView
         mRecyclerViewContentList.setAdapter(mAdapter);
 
+        //Setting the Scroll Listener to load the Pages of Suppliers ahead of the user's scroll
+        mRecyclerViewContentList.addOnScrollListener(new ListPagingScrollListener(
+                (firstVisiblePosition, lastVisiblePosition) -> mPresenter.onListScrolled(firstVisiblePosition, lastVisiblePosition)
+        ));
+
         //Retrieving the Item spacing to use
         int itemSpacing = getResources().getDimensionPixelSize(R.dimen.supplier_list_items_spacing);
 
@@ -41,6 +41,7 @@ import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierLite;
 import com.example.store_keeper.store_keeper.ui.suppliers.config.SupplierConfigActivity;
+import com.example.store_keeper.store_keeper.ui.common.PagedListWindow;
 import com.example.store_keeper.store_keeper.utils.AppConstants;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 import com.example.store_keeper.store_keeper.ui.MainActivity;
@@ -71,6 +72,9 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
     //The LoaderManager instance
     @NonNull
     private final LoaderManager mLoaderManager;
+    //The bounded Window of the paged list of Suppliers loaded
+    @NonNull
+    private final PagedListWindow<SupplierLite> mPagedListWindow;
     //Instance of the App Repository
     @NonNull
     private final StoreRepository mStoreRepository;
@@ -100,6 +104,10 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
         mStoreRepository = storeRepository;
         mSupplierListView = supplierListView;
 
+        //Initializing the bounded Window for the paged list of Suppliers, keyed by their Code
+        mPagedListWindow = new PagedListWindow<>(SupplierLite::getCode, AppConstants.LIST_PAGE_SIZE,
+                AppConstants.LIST_PREFETCH_DISTANCE, AppConstants.LIST_MAX_WINDOW_SIZE);
+
         //Creating and starting the Content Observer Thread
         mContentObserverHandlerThread = new HandlerThread(CONTENT_OBSERVER_THREAD_NAME);
         mContentObserverHandlerThread.start();
@@ -191,10 +199,10 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
         mSupplierListView.showProgressIndicator();
         if (forceLoad) {
             //When forcefully triggered, restart the loader
-            mLoaderManager.restartLoader(AppConstants.SUPPLIERS_LOADER, null, this);
+            mLoaderManager.restartLoader(AppConstants.SUPPLIERS_LOADER, mPagedListWindow.getWindowArgs(), this);
         } else {
             //When triggered, start a new loader or load the existing loader
-            mLoaderManager.initLoader(AppConstants.SUPPLIERS_LOADER, null, this);
+            mLoaderManager.initLoader(AppConstants.SUPPLIERS_LOADER, mPagedListWindow.getWindowArgs(), this);
         }
     }
 
@@ -377,7 +385,7 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
     @Override
     public Loader<Cursor> onCreateLoader(int id, @Nullable Bundle args) {
         //Returning the Loader instance for the Supplier List
-        return mLoaderProvider.createCursorLoader(LoaderProvider.SUPPLIER_LIST_TYPE);
+        return mLoaderProvider.createCursorLoader(LoaderProvider.SUPPLIER_LIST_TYPE, args);
     }
 
     /**
@@ -390,6 +398,12 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onLoadFinished(@NonNull Loader<Cursor> loader, Cursor data) {
+        if (loader.getId() == AppConstants.SUPPLIERS_PAGE_LOADER) {
+            //When the Page before the Window of Suppliers was loaded
+            onPreviousPageLoaded(data);
+            return;
+        }
+
         if (data != null) {
             //When Cursor is NOT Null
             if (data.getCount() > 0) {
@@ -416,10 +430,67 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onLoaderReset(@NonNull Loader<Cursor> loader) {
+        if (loader.getId() == AppConstants.SUPPLIERS_PAGE_LOADER || mPagedListWindow.isWindowLoadPending()) {
+            //Ignoring the reset of the Page Loader, and the reset of the previous Loader
+            //when the Window is being reloaded
+            return;
+        }
+
         //When previous Loader was reset
         onDataReset();
     }
 
+    /**
+     * Method that reads the Page of Suppliers loaded before the Window, and reloads the Window
+     * to begin from this Page.
+     *
+     * @param data The {@link Cursor} to the Page of Suppliers loaded before the Window,
+     *             in the reverse order of their Code. Can be {@code null}.
+     */
+    private void onPreviousPageLoaded(@Nullable Cursor data) {
+        //Initializing the ArrayList to load the SupplierLite data from the Cursor
+        ArrayList<SupplierLite> pageList = new ArrayList<>();
+        if (data != null) {
+            //Iterating over the Cursor data from the start and building the list
+            data.moveToPosition(-1);
+            while (data.moveToNext()) {
+                pageList.add(SupplierLite.from(data));
+            }
+        }
+
+        //Destroying the Page Loader as the Page was read, to prevent its reload on content changes
+        mLoaderManager.destroyLoader(AppConstants.SUPPLIERS_PAGE_LOADER);
+
+        if (data == null) {
+            //When Cursor is Null, allow the Page to be requested again
+            mPagedListWindow.cancelPreviousPage();
+        } else if (mPagedListWindow.onPreviousPageLoaded(pageList)) {
+            //When the Window was adjusted to begin from this Page, reload the Window
+            mLoaderManager.restartLoader(AppConstants.SUPPLIERS_LOADER, mPagedListWindow.getWindowArgs(), this);
+        }
+    }
+
+    /**
+     * Method invoked when the list of Suppliers was scrolled by the user. This loads the
+     * Pages of Suppliers ahead of the user's scroll, in either direction.
+     *
+     * @param firstVisiblePosition The adapter position of the first item visible
+     * @param lastVisiblePosition  The adapter position of the last item visible
+     */
+    @Override
+    public void onListScrolled(int firstVisiblePosition, int lastVisiblePosition) {
+        switch (mPagedListWindow.onVisibleRangeChanged(firstVisiblePosition, lastVisiblePosition)) {
+            case PagedListWindow.LOAD_WINDOW:
+                //Reload the Window that was grown by a Page
+                mLoaderManager.restartLoader(AppConstants.SUPPLIERS_LOADER, mPagedListWindow.getWindowArgs(), this);
+                break;
+            case PagedListWindow.LOAD_PREVIOUS_PAGE:
+                //Load the Page before the Window
+                mLoaderManager.restartLoader(AppConstants.SUPPLIERS_PAGE_LOADER, mPagedListWindow.getPreviousPageArgs(), this);
+                break;
+        }
+    }
+
     /**
      * Callback Method of {@link DataRepository.CursorDataLoaderCallback} invoked when data is present
      * in the Cursor {@code data}
@@ -441,8 +512,10 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
         while (data.moveToNext()) {
             supplierList.add(SupplierLite.from(data));
         }
+        //Replacing the Window with the new data
+        mPagedListWindow.onWindowLoaded(supplierList);
         //Updating the View with the new data
-        mSupplierListView.loadSuppliers(supplierList);
+        mSupplierListView.loadSuppliers(mPagedListWindow.getItems());
         //Hide the Progress Indicator
         mSupplierListView.hideProgressIndicator();
     }
@@ -454,6 +527,13 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onDataEmpty() {
+        if (mPagedListWindow.rewindWhenEmpty()) {
+            //When the Window beyond the start of the list was found empty, reload from the start of the list
+            mLoaderManager.restartLoader(AppConstants.SUPPLIERS_LOADER, mPagedListWindow.getWindowArgs(), this);
+            return;
+        }
+        //Clearing the Window
+        mPagedListWindow.onWindowLoaded(new ArrayList<>());
         //Hide the Progress Indicator
         mSupplierListView.hideProgressIndicator();
         //Show empty view
@@ -479,6 +559,8 @@ public class SupplierListPresenter implements SupplierListContract.Presenter,
      */
     @Override
     public void onDataReset() {
+        //Clearing the Window
+        mPagedListWindow.clear();
         //Updating the View with an empty list
         mSupplierListView.loadSuppliers(new ArrayList<>());
         //Show empty view
@@ -30,7 +30,6 @@ import android.support.design.widget.TextInputEditText;
 import android.support.design.widget.TextInputLayout;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.support.v4.app.Fragment;
-import android.support.v4.app.FragmentActivity;
 import android.support.v4.content.res.ResourcesCompat;
 import android.support.v7.app.AlertDialog;
 import android.support.v7.recyclerview.extensions.ListAdapter;
@@ -59,15 +58,17 @@ import android.widget.TextView;
 
 import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.Money;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.data.local.models.ProductSupplierInfo;
 import com.example.store_keeper.store_keeper.data.local.models.SupplierContact;
 import com.example.store_keeper.store_keeper.ui.common.ProgressDialogFragment;
 import com.example.store_keeper.store_keeper.ui.products.config.ProductConfigActivity;
 import com.example.store_keeper.store_keeper.utils.ContactUtility;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 import com.example.store_keeper.store_keeper.utils.OrientationUtility;
 import com.example.store_keeper.store_keeper.utils.SnackbarUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 import com.example.store_keeper.store_keeper.ui.BasePresenter;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 
@@ -1739,7 +1740,7 @@ public class SupplierConfigActivityFragment extends Fragment
             @Override
             public boolean areContentsTheSame(ProductSupplierInfo oldItem, ProductSupplierInfo newItem) {
                 //Returning the comparison of Unit Price of the Products
-                return oldItem.getUnitPrice() == newItem.getUnitPrice();
+                return oldItem.getUnitPrice().equals(newItem.getUnitPrice());
             }
         };
         //Stores the Typeface used for Product SKU text
@@ -2012,6 +2013,19 @@ public class SupplierConfigActivityFragment extends Fragment
             }
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled.
+         * Cancels the Image load of the recycled item, so that its decode is skipped
+         * when no longer required.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            ImageLoader.getInstance(holder.itemView.getContext()).cancel(holder.mImageViewProductPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view
          * 'R.layout.item_supplier_config_product'
@@ -2083,15 +2097,14 @@ public class SupplierConfigActivityFragment extends Fragment
                     //Set Barcode typeface for the SKU
                     mTextViewProductSku.setTypeface(mProductSkuTypeface);
                     //Download and Bind the Product Photo at the position
-                    ImageDownloaderFragment.newInstance(
-                            ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                            .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), position);
+                    ImageLoader.getInstance(mImageViewProductPhoto.getContext()).load(mImageViewProductPhoto, productLite.getDefaultImageUri(),
+                            ImageStorageUtility.DECODE_PROFILE_OPAQUE, null);
                     //Bind the Product Category
                     mTextViewProductCategory.setText(productLite.getCategory());
                 }
                 //Bind the Product Price if supplied
-                if (productSupplierInfo.getUnitPrice() > 0.0f) {
-                    mEditTextProductPrice.setText(String.valueOf(productSupplierInfo.getUnitPrice()));
+                if (productSupplierInfo.getUnitPrice().isPositive()) {
+                    mEditTextProductPrice.setText(productSupplierInfo.getUnitPrice().toPlainString());
                 } else {
                     //Clear when the Unit Price is 0
                     mEditTextProductPrice.setText("");
@@ -2132,7 +2145,7 @@ public class SupplierConfigActivityFragment extends Fragment
                                     //When we have the Product Price value
 
                                     //Update it to the current ProductSupplierInfo
-                                    productSupplierInfo.setUnitPrice(Float.parseFloat(priceStr));
+                                    productSupplierInfo.setUnitPrice(Money.parse(priceStr));
                                 }
                                 break;
                         }
@@ -49,9 +49,10 @@ import com.example.store_keeper.storeapp.R;
 import com.example.store_keeper.store_keeper.data.local.models.ProductLite;
 import com.example.store_keeper.store_keeper.ui.common.ListItemSpacingDecoration;
 import com.example.store_keeper.store_keeper.ui.common.ProgressDialogFragment;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
 import com.example.store_keeper.store_keeper.utils.OrientationUtility;
 import com.example.store_keeper.store_keeper.utils.SnackbarUtility;
-import com.example.store_keeper.store_keeper.workers.ImageDownloaderFragment;
+import com.example.store_keeper.store_keeper.workers.ImageLoader;
 import com.example.store_keeper.store_keeper.ui.BasePresenter;
 import com.example.store_keeper.store_keeper.ui.BaseView;
 
@@ -901,6 +902,19 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
             mActionsListener.onItemClicked(position);
         }
 
+        /**
+         * Called when a view created by this adapter has been recycled.
+         * Cancels the Image load of the recycled item, so that its decode is skipped
+         * when no longer required.
+         *
+         * @param holder The ViewHolder for the view being recycled
+         */
+        @Override
+        public void onViewRecycled(@NonNull ViewHolder holder) {
+            super.onViewRecycled(holder);
+            ImageLoader.getInstance(holder.itemView.getContext()).cancel(holder.mImageViewProductPhoto);
+        }
+
         /**
          * ViewHolder class for caching View components of the template item view
          * 'R.layout.item_supplier_product_picker'
@@ -950,9 +964,8 @@ public class SupplierProductPickerActivityFragment extends Fragment implements S
                 //Set Barcode typeface for the SKU
                 mTextViewProductSku.setTypeface(mProductSkuTypeface);
                 //Download and Bind the Product Photo at the position
-                ImageDownloaderFragment.newInstance(
-                        ((FragmentActivity) mImageViewProductPhoto.getContext()).getSupportFragmentManager(), position)
-                        .executeAndUpdate(mImageViewProductPhoto, productLite.getDefaultImageUri(), position);
+                ImageLoader.getInstance(mImageViewProductPhoto.getContext()).load(mImageViewProductPhoto, productLite.getDefaultImageUri(),
+                        ImageStorageUtility.DECODE_PROFILE_HARDWARE, null);
                 //Bind the Product Category
                 mTextViewProductCategory.setText(productLite.getCategory());
             }
@@ -42,6 +42,56 @@ public final class AppConstants {
     //Constant for Logging Stetho
     public static final boolean LOG_STETHO = BuildConfig.LOG_STETHO;
 
+    //Constant for the number of pages in the Write-Ahead Log of the database, beyond which
+    //the Log is automatically checkpointed into the database
+    public static final int DB_WAL_AUTO_CHECKPOINT_PAGES = 1000;
+
+    //Constant for the size in bytes, to which the Write-Ahead Log of the database is truncated after a checkpoint
+    public static final long DB_WAL_JOURNAL_SIZE_LIMIT_BYTES = 4L * 1024L * 1024L;
+
+    //Constant for the age in milliseconds, beyond which the Sales Events are compacted into the daily rollups
+    public static final long SALES_EVENT_RETENTION_MILLIS = 7L * 24L * 60L * 60L * 1000L; //7 days
+
+    //Constant for the minimum interval in milliseconds between the compactions of the Sales Events
+    public static final long SALES_EVENT_COMPACTION_INTERVAL_MILLIS = 24L * 60L * 60L * 1000L; //1 day
+
+    //Constant for the number of Sales Events compacted per transaction of the compaction
+    public static final int SALES_EVENT_COMPACTION_BATCH_SIZE = 500;
+
+    //Constant for the maximum number of changed Products re-checked individually for Low Stock,
+    //beyond which all the Products are re-checked in a single scan
+    public static final int LOW_STOCK_MAX_INCREMENTAL_CHECKS = 200;
+
+    //Constant for the maximum size in bytes of the Disk Cache of the Image Thumbnails
+    public static final long DISK_THUMBNAIL_CACHE_SIZE_BYTES = 20L * 1024L * 1024L;
+
+    //Constant for the maximum size in bytes of the Pool of the Bitmaps reused for decoding the Images
+    public static final long BITMAP_POOL_SIZE_BYTES = 8L * 1024L * 1024L;
+
+    //Constant for the maximum width/height in pixels of the Images imported for the Products
+    public static final int IMAGE_IMPORT_MAX_DIMENSION = 2048;
+
+    //Constant for the JPEG quality (0-100) with which the Images imported for the Products are written
+    public static final int IMAGE_IMPORT_JPEG_QUALITY = 90;
+
+    //Constants for the maximum width/height in pixels of the Thumbnail and Medium variants of the Images imported
+    public static final int IMAGE_VARIANT_THUMBNAIL_MAX_DIMENSION = 400;
+    public static final int IMAGE_VARIANT_MEDIUM_MAX_DIMENSION = 1024;
+
+    //Constants for the maximum number of Images saved/deleted at a time by the batch operations
+    public static final int IMAGE_BATCH_SAVE_PARALLELISM = 2;
+    public static final int IMAGE_BATCH_DELETE_PARALLELISM = 3;
+
+    //Constant for the age in milliseconds, below which an Image file not referenced by any Product is
+    //never deleted, so that the Images of an edit session that is not yet saved are left untouched
+    public static final long IMAGE_ORPHAN_GRACE_PERIOD_MILLIS = 24L * 60L * 60L * 1000L; //1 day
+
+    //Constant for the minimum interval in milliseconds between the sweeps of the orphaned Image files
+    public static final long IMAGE_ORPHAN_SWEEP_INTERVAL_MILLIS = 24L * 60L * 60L * 1000L; //1 day
+
+    //Constant for the number of orphaned Image files deleted per task of the sweep
+    public static final int IMAGE_ORPHAN_SWEEP_BATCH_SIZE = 20;
+
     //Constant used for the CursorLoader to load the list of Products from the database
     public static final int PRODUCTS_LOADER = 1;
 
@@ -50,4 +100,21 @@ public final class AppConstants {
 
     //Constant used for the CursorLoader to load the list of Products for Selling from the database
     public static final int SALES_LOADER = 3;
+
+    //Constants used for the CursorLoaders that load the Page of items before the Window of the paged lists
+    public static final int PRODUCTS_PAGE_LOADER = 4;
+    public static final int SUPPLIERS_PAGE_LOADER = 5;
+    public static final int SALES_PAGE_LOADER = 6;
+
+    //Constant for the number of items loaded per Page of the paged lists
+    public static final int LIST_PAGE_SIZE = 50;
+
+    //Constant for the number of items from either end of the loaded Window, at which the next Page is loaded
+    public static final int LIST_PREFETCH_DISTANCE = 15;
+
+    //Constant for the maximum number of items held in the Window of the paged lists
+    public static final int LIST_MAX_WINDOW_SIZE = 300;
+
+    //Constant for the number of items ahead of the user's scroll, whose Images are prefetched in the lists
+    public static final int LIST_IMAGE_PREFETCH_COUNT = 6;
 }
@@ -18,10 +18,21 @@ package com.example.store_keeper.store_keeper.utils;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.util.Log;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Global executor pools for whole application.
@@ -29,26 +40,69 @@ import java.util.concurrent.Executors;
  * Grouping tasks like this avoids the effect of task starvation
  * (Example: Disk reads do not need to wait behind webservice requests)
  * </p>
+ * <p>
+ * Database reads run on a bounded pool of threads, where the lookups that block the UI
+ * are queued ahead of the regular reads. Database writes run serially on a single thread
+ * to preserve their order, and the File/Image operations run on their own bounded pool,
+ * so that a slow Image save never delays a database lookup. The Images shown in the lists
+ * are decoded on a separate bounded pool, so that the decodes of a fast scroll never delay an Image save.
+ * The Images prefetched ahead of the user's scroll share the same pool, but are queued behind the
+ * Images to be shown.
+ * </p>
  *
  * @author Rajat Gupta And Harshita Joshi 
  */
 public final class AppExecutors {
 
+    //Constant used for logs
+    private static final String LOG_TAG = AppExecutors.class.getSimpleName();
+
+    //Number of CPU Cores available, used for sizing the Thread pools
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+    //Number of Threads for the Database reads
+    private static final int DB_READ_POOL_SIZE = Math.max(2, Math.min(CPU_COUNT - 1, 4));
+    //Number of Threads for the File/Image operations
+    private static final int FILE_IO_POOL_SIZE = Math.max(2, Math.min(CPU_COUNT - 1, 3));
+    //Number of Threads for the Image decodes
+    private static final int IMAGE_DECODE_POOL_SIZE = Math.max(2, Math.min(CPU_COUNT - 1, 3));
+    //Time in seconds for which the idle Threads are kept alive
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    //Constants for the priority of the tasks queued in a Thread pool
+    private static final int PRIORITY_PREFETCH = -1;
+    private static final int PRIORITY_NORMAL = 0;
+    private static final int PRIORITY_UI_BLOCKING = 1;
+
     //Singleton instance
     private static volatile AppExecutors INSTANCE;
 
     //Executors for various needs
-    private final Executor diskIO;
+    private final LaneExecutor dbRead;
+    private final LaneExecutor dbReadPriority;
+    private final LaneExecutor dbWrite;
+    private final LaneExecutor fileIO;
+    private final LaneExecutor imageDecode;
+    private final LaneExecutor imagePrefetch;
     private final Executor mainThread;
 
     /**
      * Private Constructor to avoid direct instantiation of {@link AppExecutors}
      *
-     * @param diskIO     Executor for database/disk operations
      * @param mainThread Executor for running task on UI Thread
      */
-    private AppExecutors(Executor diskIO, Executor mainThread) {
-        this.diskIO = diskIO;
+    private AppExecutors(Executor mainThread) {
+        //Bounded Thread pool shared by the regular and UI blocking Database reads
+        ThreadPoolExecutor dbReadPool = createThreadPool("db-read", DB_READ_POOL_SIZE);
+        this.dbRead = new LaneExecutor("DbRead", dbReadPool, PRIORITY_NORMAL);
+        this.dbReadPriority = new LaneExecutor("DbReadPriority", dbReadPool, PRIORITY_UI_BLOCKING);
+        //Single Thread for the Database writes to keep them serial
+        this.dbWrite = new LaneExecutor("DbWrite", createThreadPool("db-write", 1), PRIORITY_NORMAL);
+        //Bounded Thread pool for the File/Image operations
+        this.fileIO = new LaneExecutor("FileIO", createThreadPool("file-io", FILE_IO_POOL_SIZE), PRIORITY_NORMAL);
+        //Bounded Thread pool shared by the Image decodes and the Image prefetches
+        ThreadPoolExecutor imageDecodePool = createThreadPool("image-decode", IMAGE_DECODE_POOL_SIZE);
+        this.imageDecode = new LaneExecutor("ImageDecode", imageDecodePool, PRIORITY_NORMAL);
+        this.imagePrefetch = new LaneExecutor("ImagePrefetch", imageDecodePool, PRIORITY_PREFETCH);
         this.mainThread = mainThread;
     }
 
@@ -65,8 +119,6 @@ public final class AppExecutors {
                 if (INSTANCE == null) {
                     //When there is no instance, create a new one
                     INSTANCE = new AppExecutors(
-                            //Single Thread Executor for Database/Disk operations
-                            Executors.newSingleThreadExecutor(),
                             //MainThreadExecutor for UI Thread
                             new MainThreadExecutor()
                     );
@@ -78,12 +130,80 @@ public final class AppExecutors {
     }
 
     /**
-     * Method that returns the Executor for Database/Disk operations
+     * Method that creates a fixed size Thread pool whose tasks are ordered by their priority,
+     * and then by the order in which they were queued.
+     *
+     * @param poolName The name of the Thread pool, used for naming its Threads
+     * @param poolSize The number of Threads in the pool
+     * @return Instance of {@link ThreadPoolExecutor} created
+     */
+    private static ThreadPoolExecutor createThreadPool(String poolName, int poolSize) {
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                new BackgroundThreadFactory(poolName)
+        );
+        //Allowing the idle Threads to terminate
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        return threadPoolExecutor;
+    }
+
+    /**
+     * Method that returns the Executor for Database reads
      *
-     * @return Executor for Database/Disk operations
+     * @return Executor for Database reads
      */
-    public Executor getDiskIO() {
-        return diskIO;
+    public Executor getDbRead() {
+        return dbRead;
+    }
+
+    /**
+     * Method that returns the Executor for Database lookups that block the UI
+     * (like the uniqueness checks of the SKU/Code being entered). These are queued ahead of
+     * the regular Database reads.
+     *
+     * @return Executor for Database lookups that block the UI
+     */
+    public Executor getDbReadPriority() {
+        return dbReadPriority;
+    }
+
+    /**
+     * Method that returns the Executor for Database writes, which are executed serially
+     *
+     * @return Executor for Database writes
+     */
+    public Executor getDbWrite() {
+        return dbWrite;
+    }
+
+    /**
+     * Method that returns the Executor for File/Image operations
+     *
+     * @return Executor for File/Image operations
+     */
+    public Executor getFileIO() {
+        return fileIO;
+    }
+
+    /**
+     * Method that returns the Executor for decoding the Images to be shown
+     *
+     * @return Executor for decoding the Images to be shown
+     */
+    public Executor getImageDecode() {
+        return imageDecode;
+    }
+
+    /**
+     * Method that returns the Executor for decoding the Images ahead of the user's scroll.
+     * These are queued behind the Images to be shown.
+     *
+     * @return Executor for decoding the Images ahead of the user's scroll
+     */
+    public Executor getImagePrefetch() {
+        return imagePrefetch;
     }
 
     /**
@@ -95,6 +215,32 @@ public final class AppExecutors {
         return mainThread;
     }
 
+    /**
+     * Method that returns the snapshot of the metrics of all the Background Executors
+     *
+     * @return List of {@link LaneStats} with the metrics of each Background Executor
+     */
+    public List<LaneStats> getLaneStats() {
+        List<LaneStats> laneStatsList = new ArrayList<>(6);
+        laneStatsList.add(dbReadPriority.getStats());
+        laneStatsList.add(dbRead.getStats());
+        laneStatsList.add(dbWrite.getStats());
+        laneStatsList.add(fileIO.getStats());
+        laneStatsList.add(imageDecode.getStats());
+        laneStatsList.add(imagePrefetch.getStats());
+        return laneStatsList;
+    }
+
+    /**
+     * Method that logs the metrics of all the Background Executors.
+     * Called when the App goes to the background, from {@code StoreApplication#onTrimMemory(int)}.
+     */
+    public void logLaneStats() {
+        for (LaneStats laneStats : getLaneStats()) {
+            Log.i(LOG_TAG, "logLaneStats: " + laneStats);
+        }
+    }
+
     /**
      * Executor implementation for executing tasks on Main Thread
      * using a Handler attached to the Main Looper
@@ -117,4 +263,279 @@ public final class AppExecutors {
             mainThreadHandler.post(command);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@link ThreadFactory} implementation that creates named Threads
+     * running at the Background priority.
+     */
+    private static class BackgroundThreadFactory implements ThreadFactory {
+        //The name of the Thread pool
+        private final String mPoolName;
+        //Counter for numbering the Threads created
+        private final AtomicInteger mThreadCount = new AtomicInteger(0);
+
+        /**
+         * Constructor of {@link BackgroundThreadFactory}
+         *
+         * @param poolName The name of the Thread pool, used for naming its Threads
+         */
+        BackgroundThreadFactory(String poolName) {
+            mPoolName = poolName;
+        }
+
+        /**
+         * Constructs a new {@code Thread}.
+         *
+         * @param runnable a runnable to be executed by new thread instance
+         * @return constructed thread
+         */
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(() -> {
+                //Running the Thread at the Background priority so that it does not compete with the UI Thread
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }, mPoolName + "-" + mThreadCount.incrementAndGet());
+        }
+    }
+
+    /**
+     * Executor implementation for a lane of tasks with the same priority, executed on a Thread pool
+     * that could be shared with other lanes. Records the queue depth and the time spent
+     * by the tasks waiting in the queue.
+     */
+    private static class LaneExecutor implements Executor {
+        //Sequence shared by all the lanes to keep the tasks of the same priority in their queued order
+        private static final AtomicLong SEQUENCE = new AtomicLong(0);
+
+        //The name of the lane
+        private final String mLaneName;
+        //The Thread pool that executes the tasks of this lane
+        private final ThreadPoolExecutor mThreadPool;
+        //The priority of the tasks of this lane
+        private final int mPriority;
+        //Metrics of the lane
+        private final AtomicLong mSubmittedCount = new AtomicLong(0);
+        private final AtomicLong mCompletedCount = new AtomicLong(0);
+        private final AtomicInteger mQueueDepth = new AtomicInteger(0);
+        private final AtomicInteger mMaxQueueDepth = new AtomicInteger(0);
+        private final AtomicLong mTotalWaitMillis = new AtomicLong(0);
+        private final AtomicLong mMaxWaitMillis = new AtomicLong(0);
+
+        /**
+         * Constructor of {@link LaneExecutor}
+         *
+         * @param laneName   The name of the lane
+         * @param threadPool The Thread pool that executes the tasks of this lane
+         * @param priority   The priority of the tasks of this lane
+         */
+        LaneExecutor(String laneName, ThreadPoolExecutor threadPool, int priority) {
+            mLaneName = laneName;
+            mThreadPool = threadPool;
+            mPriority = priority;
+        }
+
+        /**
+         * Executes the given command at some time in the future, on the Thread pool of this lane.
+         *
+         * @param command the runnable task
+         * @throws java.util.concurrent.RejectedExecutionException if this task cannot be
+         *                                                         accepted for execution
+         * @throws NullPointerException                            if command is null
+         */
+        @Override
+        public void execute(@NonNull Runnable command) {
+            //Updating the queue metrics
+            mSubmittedCount.incrementAndGet();
+            updateMax(mMaxQueueDepth, mQueueDepth.incrementAndGet());
+            //Queueing the task with the priority of this lane
+            mThreadPool.execute(new LaneTask(command, SystemClock.elapsedRealtime()));
+        }
+
+        /**
+         * Method that updates the {@code maxValue} with the {@code newValue} when greater
+         *
+         * @param maxValue The {@link AtomicInteger} holding the maximum value
+         * @param newValue The new value to compare with
+         */
+        private static void updateMax(AtomicInteger maxValue, int newValue) {
+            int currentMax;
+            while (newValue > (currentMax = maxValue.get())) {
+                if (maxValue.compareAndSet(currentMax, newValue)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Method that updates the {@code maxValue} with the {@code newValue} when greater
+         *
+         * @param maxValue The {@link AtomicLong} holding the maximum value
+         * @param newValue The new value to compare with
+         */
+        private static void updateMax(AtomicLong maxValue, long newValue) {
+            long currentMax;
+            while (newValue > (currentMax = maxValue.get())) {
+                if (maxValue.compareAndSet(currentMax, newValue)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Method that returns the snapshot of the metrics of this lane
+         *
+         * @return Instance of {@link LaneStats} with the metrics of this lane
+         */
+        LaneStats getStats() {
+            return new LaneStats(mLaneName, mSubmittedCount.get(), mCompletedCount.get(),
+                    mQueueDepth.get(), mMaxQueueDepth.get(), mTotalWaitMillis.get(), mMaxWaitMillis.get());
+        }
+
+        /**
+         * Task wrapper that orders the tasks in the Thread pool queue by their priority
+         * and queued order, and records their wait time.
+         */
+        private class LaneTask implements Runnable, Comparable<LaneTask> {
+            //The actual task to be executed
+            private final Runnable mCommand;
+            //The time at which the task was queued
+            private final long mQueuedAtMillis;
+            //The order in which the task was queued
+            private final long mSequence = SEQUENCE.getAndIncrement();
+
+            /**
+             * Constructor of {@link LaneTask}
+             *
+             * @param command        The actual task to be executed
+             * @param queuedAtMillis The time at which the task was queued
+             */
+            LaneTask(Runnable command, long queuedAtMillis) {
+                mCommand = command;
+                mQueuedAtMillis = queuedAtMillis;
+            }
+
+            /**
+             * Executes the actual task after recording the time it spent waiting in the queue.
+             */
+            @Override
+            public void run() {
+                //Updating the wait metrics
+                long waitMillis = SystemClock.elapsedRealtime() - mQueuedAtMillis;
+                mQueueDepth.decrementAndGet();
+                mTotalWaitMillis.addAndGet(waitMillis);
+                updateMax(mMaxWaitMillis, waitMillis);
+                try {
+                    mCommand.run();
+                } finally {
+                    mCompletedCount.incrementAndGet();
+                }
+            }
+
+            /**
+             * Compares this task with the {@code other} task for their order of execution.
+             * Tasks with higher priority are executed first, and the tasks of the same priority
+             * are executed in the order they were queued.
+             *
+             * @param other The other task to be compared.
+             * @return a negative integer, zero, or a positive integer as this task
+             * is to be executed before, same as, or after the {@code other} task.
+             */
+            @Override
+            public int compareTo(@NonNull LaneTask other) {
+                int priorityCompare = Integer.compare(other.getPriority(), getPriority());
+                if (priorityCompare != 0) {
+                    return priorityCompare;
+                }
+                return Long.compare(mSequence, other.mSequence);
+            }
+
+            /**
+             * Method that returns the priority of this task, which is the priority of its lane
+             *
+             * @return The priority of this task
+             */
+            private int getPriority() {
+                return mPriority;
+            }
+        }
+    }
+
+    /**
+     * Class that holds the snapshot of the metrics of a lane of Background Executor
+     */
+    public static final class LaneStats {
+        //The name of the lane
+        private final String mLaneName;
+        //The number of tasks submitted and completed
+        private final long mSubmittedCount;
+        private final long mCompletedCount;
+        //The current and maximum number of tasks waiting in the queue
+        private final int mQueueDepth;
+        private final int mMaxQueueDepth;
+        //The total and maximum time in milliseconds spent by the tasks waiting in the queue
+        private final long mTotalWaitMillis;
+        private final long mMaxWaitMillis;
+
+        /**
+         * Constructor of {@link LaneStats}
+         */
+        LaneStats(String laneName, long submittedCount, long completedCount, int queueDepth,
+                  int maxQueueDepth, long totalWaitMillis, long maxWaitMillis) {
+            mLaneName = laneName;
+            mSubmittedCount = submittedCount;
+            mCompletedCount = completedCount;
+            mQueueDepth = queueDepth;
+            mMaxQueueDepth = maxQueueDepth;
+            mTotalWaitMillis = totalWaitMillis;
+            mMaxWaitMillis = maxWaitMillis;
+        }
+
+        public String getLaneName() {
+            return mLaneName;
+        }
+
+        public long getSubmittedCount() {
+            return mSubmittedCount;
+        }
+
+        public long getCompletedCount() {
+            return mCompletedCount;
+        }
+
+        public int getQueueDepth() {
+            return mQueueDepth;
+        }
+
+        public int getMaxQueueDepth() {
+            return mMaxQueueDepth;
+        }
+
+        public long getMaxWaitMillis() {
+            return mMaxWaitMillis;
+        }
+
+        /**
+         * Method that returns the average time in milliseconds spent by the tasks waiting in the queue
+         *
+         * @return The average wait time in milliseconds
+         */
+        public long getAverageWaitMillis() {
+            long startedCount = mSubmittedCount - mQueueDepth;
+            return startedCount > 0 ? mTotalWaitMillis / startedCount : 0L;
+        }
+
+        /**
+         * Returns a string representation of the object.
+         *
+         * @return a string representation of the object.
+         */
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "LaneStats{lane=%s, submitted=%d, completed=%d, queueDepth=%d, maxQueueDepth=%d, avgWaitMs=%d, maxWaitMs=%d}",
+                    mLaneName, mSubmittedCount, mCompletedCount, mQueueDepth, mMaxQueueDepth,
+                    getAverageWaitMillis(), mMaxWaitMillis);
+        }
+    }
+}
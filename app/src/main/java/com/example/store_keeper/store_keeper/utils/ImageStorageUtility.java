@@ -23,16 +23,27 @@ import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.graphics.Matrix;
 import android.net.Uri;
+import android.os.Build;
 import android.os.Environment;
+import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.media.ExifInterface;
 import android.support.v4.content.ContextCompat;
+import android.text.TextUtils;
+import android.util.Log;
 
+import com.example.store_keeper.store_keeper.cache.BitmapPool;
+
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -44,6 +55,9 @@ import java.util.Locale;
  */
 public final class ImageStorageUtility {
 
+    //Constant used for logs
+    private static final String LOG_TAG = ImageStorageUtility.class.getSimpleName();
+
     //Constant for the Image File Provider
     private static final String IMAGE_FILE_PROVIDER_AUTHORITY
             = AppConstants.APPLICATION_ID + ".fileprovider";
@@ -60,6 +74,51 @@ public final class ImageStorageUtility {
     //Filename Suffix constant which is a timestamp to make the filename unique
     private static final String FILE_TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss";
 
+    //Filename Suffix constant for an Image being written, which is renamed once written completely
+    private static final String PARTIAL_FILE_NAME_SUFFIX = "_partial";
+
+    //Constant for the Digest algorithm of the hash of the Image content, that names the permanent Image files
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+    //Digits of the Hex String of the hash of the Image content
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    //Locks that serialize the writes of the identical Images, striped by the hash of their content
+    private static final Object[] IMAGE_WRITE_LOCKS = new Object[16];
+
+    static {
+        for (int index = 0; index < IMAGE_WRITE_LOCKS.length; index++) {
+            IMAGE_WRITE_LOCKS[index] = new Object();
+        }
+    }
+
+    //Constants for the variants of the Images saved, in the increasing order of their size
+    public static final int IMAGE_VARIANT_THUMBNAIL = 0;
+    public static final int IMAGE_VARIANT_MEDIUM = 1;
+    public static final int IMAGE_VARIANT_ORIGINAL = 2;
+
+    //Filename Suffixes of the variants of the Images saved, indexed by the variant
+    private static final String[] IMAGE_VARIANT_FILE_SUFFIXES = {"_thumb", "_medium", ""};
+
+    //Constants for the profiles of the Bitmaps decoded, that trade off the color depth and mutability
+    //for the memory footprint:
+    //Full Color decodes in ARGB_8888, and is for the Images shown large.
+    public static final int DECODE_PROFILE_FULL_COLOR = 0;
+    //Opaque decodes the opaque (JPEG) Images in RGB_565 at half the memory, and is for the Thumbnails.
+    public static final int DECODE_PROFILE_OPAQUE = 1;
+    //Hardware decodes in graphics memory only (Android O and above), and is for the Thumbnails
+    //that are only drawn on screen. Falls back to Opaque below Android O.
+    public static final int DECODE_PROFILE_HARDWARE = 2;
+
+    //MIME Type of the JPEG Images, which are always opaque
+    private static final String JPEG_MIME_TYPE = "image/jpeg";
+
+    //Constant for the size of the buffer of the stream to the Image being imported
+    private static final int IMPORT_STREAM_BUFFER_SIZE = 64 * 1024; //64KB in bytes
+    //Constant for the number of bytes of the Image being imported, that can be read for its EXIF and
+    //dimensions before rewinding the stream to decode it. Beyond this, the stream is opened again
+    private static final int IMPORT_STREAM_MARK_LIMIT = 1024 * 1024; //1MB in bytes
+
     /**
      * Private Constructor to avoid direct instantiation of {@link ImageStorageUtility}
      */
@@ -91,27 +150,276 @@ public final class ImageStorageUtility {
         return FileStorageUtility.createTempFile(context, IMAGE_FILE_PROVIDER_AUTHORITY,
                 TEMP_FILE_NAME_PREFIX + getCurrentTimestampPattern(),
                 JPEG_FILE_EXT,
-                ContextCompat.getExternalCacheDirs(context)
+                getTempImageStorageDirs(context)
         );
     }
 
     /**
-     * Method that creates and returns an Image File for writing an Image.
+     * Method that creates and returns an Image File for writing an Image, named by the
+     * hash of its content {@code contentHash}.
      *
-     * @param context {@link Context} used for checking Content URI possibility
-     *                and for retrieving the App's External File Directories
+     * @param context     {@link Context} used for checking Content URI possibility
+     *                    and for retrieving the App's External File Directories
+     * @param contentHash The hash of the content of the Image, as generated by
+     *                    {@link #hashImageContent(ContentResolver, Uri)}
      * @return A Permanent Image {@link File} in the App's External Files Directory.
      * @throws IOException when the App's External Files directory could not be created or accessed.
      */
     @NonNull
-    public static File createImageFile(Context context) throws IOException {
+    public static File createImageFile(Context context, String contentHash) throws IOException {
         return FileStorageUtility.createFile(context, IMAGE_FILE_PROVIDER_AUTHORITY,
-                FILE_NAME_PREFIX + getCurrentTimestampPattern(),
+                FILE_NAME_PREFIX + contentHash,
                 JPEG_FILE_EXT,
-                ContextCompat.getExternalFilesDirs(context, Environment.DIRECTORY_PICTURES)
+                getImageStorageDirs(context)
         );
     }
 
+    /**
+     * Method that looks up the Image File named {@code imageFileName} in all the
+     * App's Image Directories.
+     *
+     * @param context       {@link Context} for retrieving the App's External File Directories
+     * @param imageFileName The name of the Image File
+     * @return The Image {@link File} when present in any of the Image Directories; {@code null} otherwise.
+     */
+    @Nullable
+    private static File findImageFile(Context context, String imageFileName) {
+        for (File imageStorageDir : getImageStorageDirs(context)) {
+            if (imageStorageDir == null) {
+                //Skipping the storage not mounted
+                continue;
+            }
+
+            File imageFile = new File(imageStorageDir, imageFileName);
+            if (imageFile.isFile()) {
+                //Returning the Image File when present
+                return imageFile;
+            }
+        }
+        //Returning NULL when the Image File is not present
+        return null;
+    }
+
+    /**
+     * Method that computes the hash of the content of the Image pointed to by the Content URI
+     * {@code fileContentUri}, which identifies the identical Images for sharing a single Image File.
+     *
+     * @param contentResolver The {@link ContentResolver} to open the Image file
+     * @param fileContentUri  Content URI of the Image File
+     * @return Hex String of the SHA-256 digest of the Image content; or {@code null} when the
+     * Image could not be opened.
+     * @throws IOException when reading the Image file or when the digest algorithm is not available.
+     */
+    @Nullable
+    private static String hashImageContent(ContentResolver contentResolver, Uri fileContentUri) throws IOException {
+        //Retrieving the Digest instance for the hash
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(CONTENT_HASH_ALGORITHM + " is not available", e);
+        }
+
+        //Reading the whole content of the Image into the Digest
+        try (InputStream hashInputStream = contentResolver.openInputStream(fileContentUri)) {
+            if (hashInputStream == null) {
+                //Returning NULL when the stream could not be opened
+                return null;
+            }
+
+            byte[] buffer = new byte[IMPORT_STREAM_BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = hashInputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, bytesRead);
+            }
+        }
+
+        //Converting the Digest to its Hex String
+        byte[] digestBytes = messageDigest.digest();
+        char[] hexChars = new char[digestBytes.length * 2];
+        for (int index = 0; index < digestBytes.length; index++) {
+            hexChars[index * 2] = HEX_DIGITS[(digestBytes[index] >> 4) & 0x0F];
+            hexChars[index * 2 + 1] = HEX_DIGITS[digestBytes[index] & 0x0F];
+        }
+        return new String(hexChars);
+    }
+
+    /**
+     * Method that returns the lock that serializes the writes of the Image identified
+     * by its {@code contentHash}, so that the identical Images saved in parallel are written once.
+     *
+     * @param contentHash The hash of the content of the Image
+     * @return The lock {@link Object} of the Image
+     */
+    private static Object getImageWriteLock(String contentHash) {
+        return IMAGE_WRITE_LOCKS[(contentHash.hashCode() & Integer.MAX_VALUE) % IMAGE_WRITE_LOCKS.length];
+    }
+
+    /**
+     * Method that returns the lock that serializes the writes of the Image saved in the {@code imageFile}
+     * or any of its variants. Holding this lock while deleting the Image excludes a save that
+     * shares the same Image.
+     *
+     * @param imageFile The Image {@link File} or any of its variant files
+     * @return The lock {@link Object} of the Image
+     */
+    @NonNull
+    public static Object getImageWriteLock(File imageFile) {
+        //Reading the hash of the content from the name of the original Image file
+        String originalImageFileName = getOriginalImageFileName(imageFile.getName());
+        String contentHash = originalImageFileName.substring(
+                originalImageFileName.startsWith(FILE_NAME_PREFIX) ? FILE_NAME_PREFIX.length() : 0,
+                originalImageFileName.endsWith(JPEG_FILE_EXT)
+                        ? originalImageFileName.length() - JPEG_FILE_EXT.length() : originalImageFileName.length()
+        );
+        return getImageWriteLock(contentHash);
+    }
+
+    /**
+     * Method that refreshes the last modified time of the Image File {@code imageFile} and its variants,
+     * when the Image File is being shared by a new reference. This keeps it from being deemed an
+     * orphan by the {@link com.example.store_keeper.store_keeper.workers.OrphanImageSweeper}
+     * while the new reference is not yet saved.
+     *
+     * @param imageFile The Image {@link File} being shared
+     */
+    private static void touchImageFile(File imageFile) {
+        long nowMillis = System.currentTimeMillis();
+        for (int variant = IMAGE_VARIANT_THUMBNAIL; variant <= IMAGE_VARIANT_ORIGINAL; variant++) {
+            File variantFile = getImageVariantFile(imageFile, variant);
+            if (variantFile.isFile() && !variantFile.setLastModified(nowMillis)) {
+                Log.w(LOG_TAG, "touchImageFile: Failed to update the last modified time of " + variantFile);
+            }
+        }
+    }
+
+    /**
+     * Method that returns the App's External Files Directories in which the Images are saved.
+     *
+     * @param context {@link Context} for retrieving the App's External File Directories
+     * @return Array of the Image Directories, with {@code null} entries for the storage not mounted.
+     */
+    @NonNull
+    public static File[] getImageStorageDirs(Context context) {
+        return ContextCompat.getExternalFilesDirs(context, Environment.DIRECTORY_PICTURES);
+    }
+
+    /**
+     * Method that returns the App's External Cache Directories in which the Temporary Images are written.
+     *
+     * @param context {@link Context} for retrieving the App's External Cache Directories
+     * @return Array of the Cache Directories, with {@code null} entries for the storage not mounted.
+     */
+    @NonNull
+    public static File[] getTempImageStorageDirs(Context context) {
+        return ContextCompat.getExternalCacheDirs(context);
+    }
+
+    /**
+     * Method that checks whether the {@code file} is an Image or an Image variant saved by the App.
+     *
+     * @param file The {@link File} to check
+     * @return {@code true} when the {@code file} is an Image saved by the App; {@code false} otherwise.
+     */
+    public static boolean isImageFile(File file) {
+        String fileName = file.getName();
+        return file.isFile() && fileName.startsWith(FILE_NAME_PREFIX) && fileName.endsWith(JPEG_FILE_EXT);
+    }
+
+    /**
+     * Method that checks whether the {@code file} is a Temporary Image written by the App.
+     *
+     * @param file The {@link File} to check
+     * @return {@code true} when the {@code file} is a Temporary Image; {@code false} otherwise.
+     */
+    public static boolean isTempImageFile(File file) {
+        String fileName = file.getName();
+        return file.isFile() && fileName.startsWith(TEMP_FILE_NAME_PREFIX) && fileName.endsWith(JPEG_FILE_EXT);
+    }
+
+    /**
+     * Method that returns the name of the original Image file for the Image or Image variant
+     * file named {@code imageFileName}.
+     *
+     * @param imageFileName The name of the Image or Image variant file
+     * @return The name of the original Image file, which is the {@code imageFileName} itself
+     * when it is not a variant.
+     */
+    @NonNull
+    public static String getOriginalImageFileName(String imageFileName) {
+        if (!imageFileName.endsWith(JPEG_FILE_EXT)) {
+            //Returning as-is when not a JPEG Image
+            return imageFileName;
+        }
+
+        //Removing the Suffix of the variant if any
+        String baseFileName = imageFileName.substring(0, imageFileName.length() - JPEG_FILE_EXT.length());
+        for (String variantSuffix : IMAGE_VARIANT_FILE_SUFFIXES) {
+            if (!TextUtils.isEmpty(variantSuffix) && baseFileName.endsWith(variantSuffix)) {
+                return baseFileName.substring(0, baseFileName.length() - variantSuffix.length()) + JPEG_FILE_EXT;
+            }
+        }
+        return imageFileName;
+    }
+
+    /**
+     * Method that returns the name of the Image file saved by the App, that is pointed to by
+     * the Content URI {@code imageContentUri}.
+     *
+     * @param imageContentUri The Content URI of the Image
+     * @return The name of the Image file; or {@code null} when the Image was not saved by the App.
+     */
+    @Nullable
+    public static String getImageFileNameForContentUri(Uri imageContentUri) {
+        if (imageContentUri.getAuthority() == null
+                || !imageContentUri.getAuthority().contains(IMAGE_FILE_PROVIDER_AUTHORITY)) {
+            //Returning NULL for the Images not saved by the App
+            return null;
+        }
+        //Returning the last segment of the path which is the name of the file
+        return imageContentUri.getLastPathSegment();
+    }
+
+    /**
+     * Method that looks up the {@link File} of the Image saved by the App, that is pointed to by
+     * the Content URI {@code imageContentUri}.
+     *
+     * @param context         {@link Context} for retrieving the App's External File Directories
+     * @param imageContentUri The Content URI of the Image
+     * @return The Image {@link File}; or {@code null} when the Image was not saved by the App
+     * or its file is not present.
+     */
+    @Nullable
+    public static File getImageFileForContentUri(Context context, Uri imageContentUri) {
+        String imageFileName = getImageFileNameForContentUri(imageContentUri);
+        if (imageFileName == null || !imageFileName.startsWith(FILE_NAME_PREFIX)) {
+            //Returning NULL for the Images not saved permanently by the App
+            return null;
+        }
+        //Looking up the Image File in all the Image Directories
+        return findImageFile(context, imageFileName);
+    }
+
+    /**
+     * Method that checks whether the Image saved in the {@code imageFile} or any of its variants
+     * was modified after {@code cutoffMillis}. An Image is modified when saved, and also when
+     * shared by a new reference that may not be saved yet.
+     *
+     * @param imageFile    The Image {@link File} of the original Image
+     * @param cutoffMillis The time in millis to compare the last modified time of the files against
+     * @return {@code true} when any of the files of the Image was modified after {@code cutoffMillis};
+     * {@code false} otherwise.
+     */
+    public static boolean isImageModifiedAfter(File imageFile, long cutoffMillis) {
+        for (int variant = IMAGE_VARIANT_THUMBNAIL; variant <= IMAGE_VARIANT_ORIGINAL; variant++) {
+            File variantFile = getImageVariantFile(imageFile, variant);
+            if (variantFile.lastModified() > cutoffMillis) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Method that decodes and returns the {@link Bitmap} from the file pointed to by
      * the Content URI {@code fileContentUri}.
@@ -142,6 +450,28 @@ public final class ImageStorageUtility {
         return decodedBitmap;
     }
 
+    /**
+     * Method that returns the target width of the Optimized {@link Bitmap} decoded by
+     * {@link #getOptimizedBitmapFromContentUri(Context, Uri)}, which is half the width of the display.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target width of the Optimized Bitmap in pixels
+     */
+    public static int getOptimizedTargetWidth(Context context) {
+        return (int) (WindowDimensionsUtility.getDisplayWindowWidth(context) * 0.5);
+    }
+
+    /**
+     * Method that returns the target height of the Optimized {@link Bitmap} decoded by
+     * {@link #getOptimizedBitmapFromContentUri(Context, Uri)}, which is half the height of the display.
+     *
+     * @param context {@link Context} to get the Window dimensions.
+     * @return The target height of the Optimized Bitmap in pixels
+     */
+    public static int getOptimizedTargetHeight(Context context) {
+        return (int) (WindowDimensionsUtility.getDisplayWindowHeight(context) * 0.5);
+    }
+
     /**
      * Method that decodes and returns an Optimized {@link Bitmap} from the file pointed to by
      * the Content URI {@code fileContentUri}.
@@ -153,13 +483,49 @@ public final class ImageStorageUtility {
      */
     @Nullable
     public static Bitmap getOptimizedBitmapFromContentUri(Context context, Uri fileContentUri) throws IOException {
+        //Get the device target dimensions (Normalizing to 50 percent of the value)
+        return getOptimizedBitmapFromContentUri(context, fileContentUri,
+                getOptimizedTargetWidth(context), getOptimizedTargetHeight(context));
+    }
+
+    /**
+     * Method that decodes and returns an Optimized {@link Bitmap} from the file pointed to by
+     * the Content URI {@code fileContentUri}, scaled down for the target dimensions.
+     *
+     * @param context        {@link Context} to get the {@link ContentResolver}.
+     * @param fileContentUri The Content URI of the Image File to be decoded
+     * @param targetW        The target width in pixels
+     * @param targetH        The target height in pixels
+     * @return An Optimized {@link Bitmap} decoded from the Image file {@code fileContentUri}
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @Nullable
+    public static Bitmap getOptimizedBitmapFromContentUri(Context context, Uri fileContentUri,
+                                                          int targetW, int targetH) throws IOException {
+        return getOptimizedBitmapFromContentUri(context, fileContentUri, targetW, targetH, DECODE_PROFILE_FULL_COLOR);
+    }
+
+    /**
+     * Method that decodes and returns an Optimized {@link Bitmap} from the file pointed to by
+     * the Content URI {@code fileContentUri}, scaled down for the target dimensions and
+     * configured by the {@code decodeProfile}.
+     *
+     * @param context        {@link Context} to get the {@link ContentResolver}.
+     * @param fileContentUri The Content URI of the Image File to be decoded
+     * @param targetW        The target width in pixels
+     * @param targetH        The target height in pixels
+     * @param decodeProfile  The profile of the Bitmap to be decoded, one of {@link #DECODE_PROFILE_FULL_COLOR},
+     *                       {@link #DECODE_PROFILE_OPAQUE} or {@link #DECODE_PROFILE_HARDWARE}
+     * @return An Optimized {@link Bitmap} decoded from the Image file {@code fileContentUri}
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @Nullable
+    public static Bitmap getOptimizedBitmapFromContentUri(Context context, Uri fileContentUri,
+                                                          int targetW, int targetH,
+                                                          @DecodeProfileDef int decodeProfile) throws IOException {
         //Retrieving the ContentResolver instance
         ContentResolver contentResolver = context.getContentResolver();
 
-        //Get the device target dimensions (Normalizing to 50 percent of the value)
-        int targetW = (int) (WindowDimensionsUtility.getDisplayWindowWidth(context) * 0.5);
-        int targetH = (int) (WindowDimensionsUtility.getDisplayWindowHeight(context) * 0.5);
-
         //Creating an Instance of BitmapFactory Options to decode the dimensions of the original
         //Bitmap from the File Content URI
         BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
@@ -182,6 +548,65 @@ public final class ImageStorageUtility {
         bitmapOptions.inJustDecodeBounds = false; //Decoding the Image
         bitmapOptions.inSampleSize = scaleFactor;
 
+        //Configuring the Bitmap for the profile, which reuses a pooled Bitmap when there is one that fits
+        applyDecodeProfile(bitmapOptions, decodeProfile);
+
+        try {
+            //Returning the optimized decoded Bitmap of the Image
+            return decodeBitmapFromContentUri(contentResolver, fileContentUri, bitmapOptions);
+        } catch (IllegalArgumentException e) {
+            //When the pooled Bitmap could not be reused, decode into a new Bitmap instead
+            bitmapOptions.inBitmap = null;
+            return decodeBitmapFromContentUri(contentResolver, fileContentUri, bitmapOptions);
+        }
+    }
+
+    /**
+     * Method that configures the {@code options} of a decode for the {@code decodeProfile}. The
+     * {@code options} should already carry the original dimensions and MIME Type decoded with
+     * {@link BitmapFactory.Options#inJustDecodeBounds}, and the {@link BitmapFactory.Options#inSampleSize}
+     * to be used. The software profiles reuse a pooled Bitmap when there is one that fits, hence the decode
+     * needs to be retried without the {@link BitmapFactory.Options#inBitmap} when it fails with
+     * an {@link IllegalArgumentException}.
+     *
+     * @param options       The {@link BitmapFactory.Options} of the decode
+     * @param decodeProfile The profile of the Bitmap to be decoded, one of {@link #DECODE_PROFILE_FULL_COLOR},
+     *                      {@link #DECODE_PROFILE_OPAQUE} or {@link #DECODE_PROFILE_HARDWARE}
+     */
+    public static void applyDecodeProfile(@NonNull BitmapFactory.Options options, @DecodeProfileDef int decodeProfile) {
+        if (decodeProfile == DECODE_PROFILE_HARDWARE && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            //Decoding into graphics memory, which can neither be mutated nor reused
+            options.inPreferredConfig = Bitmap.Config.HARDWARE;
+            options.inMutable = false;
+            options.inBitmap = null;
+            return;
+        }
+
+        if (decodeProfile != DECODE_PROFILE_FULL_COLOR && JPEG_MIME_TYPE.equals(options.outMimeType)) {
+            //Decoding the opaque Images without the Alpha channel, at 2 bytes per pixel
+            options.inPreferredConfig = Bitmap.Config.RGB_565;
+        } else {
+            //Decoding the other Images in full color, as they may have transparency
+            options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        }
+
+        //Reusing a pooled Bitmap for the decode when there is one that fits
+        BitmapPool.getInstance().setReusableBitmap(options);
+    }
+
+    /**
+     * Method that decodes and returns the {@link Bitmap} from the file pointed to by
+     * the Content URI {@code fileContentUri}, using the {@code bitmapOptions} passed.
+     *
+     * @param contentResolver The {@link ContentResolver} to open the Image file
+     * @param fileContentUri  The Content URI of the Image File to be decoded
+     * @param bitmapOptions   The {@link BitmapFactory.Options} of the decode
+     * @return The {@link Bitmap} decoded from the Image file {@code fileContentUri}
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @Nullable
+    private static Bitmap decodeBitmapFromContentUri(ContentResolver contentResolver, Uri fileContentUri,
+                                                     BitmapFactory.Options bitmapOptions) throws IOException {
         //Stores the optimized decoded Bitmap
         Bitmap optimizedBitmap = null;
 
@@ -198,7 +623,7 @@ public final class ImageStorageUtility {
             }
         }
 
-        //Returning the optimized decoded Bitmap of the Image
+        //Returning the decoded Bitmap of the Image
         return optimizedBitmap;
     }
 
@@ -215,7 +640,14 @@ public final class ImageStorageUtility {
 
     /**
      * Method that saves the Image captured in the temporary Image file pointed to by the Content URI {@code fileContentUri}
-     * to a permanent file stored in the App's External Files directory determined.
+     * to a permanent file stored in the App's External Files directory determined. The Image is
+     * downsampled to {@link AppConstants#IMAGE_IMPORT_MAX_DIMENSION} and orientation-corrected
+     * while decoding, and written with {@link AppConstants#IMAGE_IMPORT_JPEG_QUALITY}.
+     * <p>
+     * The permanent file is named by the hash of the content of the Image, so that the identical
+     * Images are stored once and shared by all the Products referring to them. When the Image
+     * was already saved, its existing file is returned without decoding the Image again.
+     * </p>
      *
      * @param context        A {@link Context} to create the Output Image File, read the input
      *                       temporary Image and for preparing the Content URI of the output Image File.
@@ -225,42 +657,82 @@ public final class ImageStorageUtility {
      */
     @Nullable
     public static Uri saveImage(Context context, Uri fileContentUri) throws IOException {
-        //Creating the Output Image File
-        File outputImageFile = createImageFile(context);
-
-        //Rotating the Image based on the EXIF information captured in the temporary Image File
-        Bitmap bitmap = rotateImageBasedOnExif(context, fileContentUri);
-
-        //When we have the bitmap
-        if (bitmap != null) {
-            //Save the Image
-
-            //Stores the success of the write operation
-            boolean writeSuccess;
-
-            //For writing the decoded Image to a File
-            try (FileOutputStream fileOutputStream = new FileOutputStream(outputImageFile)) {
-                //Opening the Output Stream to the Output Image File
-                //Writing the Image to the file with 100% quality
-                bitmap.compress(Bitmap.CompressFormat.JPEG, 100, fileOutputStream);
-                //Marking the operation as successful
-                writeSuccess = true;
-            } catch (Exception e) {
-                //Marking the operation as failure on Exception
-                writeSuccess = false;
-            }
+        //Retrieving the ContentResolver instance
+        ContentResolver contentResolver = context.getContentResolver();
+
+        //Hashing the content of the Image to identify the file it is to be saved in
+        String contentHash = hashImageContent(contentResolver, fileContentUri);
+        if (contentHash == null) {
+            //Returning NULL when the Image could not be read
+            return null;
+        }
 
-            //When the Bitmap was written successfully to a File
-            if (writeSuccess) {
-                //Add the image to the system gallery
-                addPhotoToGallery(context, outputImageFile);
+        //Serializing the saves of the identical Images, so that the file is written only once
+        synchronized (getImageWriteLock(contentHash)) {
+            //Looking up the file of the Image if already saved
+            File existingImageFile = findImageFile(context, FILE_NAME_PREFIX + contentHash + JPEG_FILE_EXT);
+            if (existingImageFile != null) {
+                //When the Image was already saved, share its file
+                touchImageFile(existingImageFile);
 
                 //Delete temporary image file
-                deleteImageFile(fileContentUri, context.getContentResolver());
+                deleteImageFile(fileContentUri, contentResolver);
 
-                //Returning the Uri of the Saved image
-                return getContentUriForImageFile(context, outputImageFile);
+                //Returning the Uri of the Image saved previously
+                return getContentUriForImageFile(context, existingImageFile);
             }
+
+            //Creating the Output Image File, which is written through a partial file
+            //so that an interrupted write never leaves an incomplete Image under its name
+            File outputImageFile = createImageFile(context, contentHash);
+            File partialImageFile = new File(outputImageFile.getParentFile(),
+                    FILE_NAME_PREFIX + contentHash + PARTIAL_FILE_NAME_SUFFIX + JPEG_FILE_EXT);
+
+            //Decoding the Image downsampled and rotated based on the EXIF information captured in the temporary Image File
+            Bitmap bitmap = decodeImageForImport(contentResolver, fileContentUri,
+                    AppConstants.IMAGE_IMPORT_MAX_DIMENSION);
+
+            //When we have the bitmap
+            if (bitmap != null) {
+                //Save the Image
+
+                //Stores the success of the write operation
+                boolean writeSuccess;
+
+                try {
+                    //Writing the Image to the file with the Import quality
+                    writeSuccess = writeImageFile(bitmap, partialImageFile);
+                    if (writeSuccess) {
+                        //Writing the smaller variants of the Image alongside, for the Views that show it smaller
+                        saveImageVariants(bitmap, outputImageFile);
+                        //Publishing the Image under its name once completely written
+                        writeSuccess = partialImageFile.renameTo(outputImageFile);
+                    }
+                } finally {
+                    //Purging the decoded Image as it is no longer required
+                    bitmap.recycle();
+                }
+
+                //When the Bitmap was written successfully to a File
+                if (writeSuccess) {
+                    //Add the image to the system gallery
+                    addPhotoToGallery(context, outputImageFile);
+
+                    //Delete temporary image file
+                    deleteImageFile(fileContentUri, contentResolver);
+
+                    //Returning the Uri of the Saved image
+                    return getContentUriForImageFile(context, outputImageFile);
+                }
+            }
+
+            //Deleting the incomplete Output Image Files when the process did not complete successfully
+            for (int variant = IMAGE_VARIANT_THUMBNAIL; variant < IMAGE_VARIANT_ORIGINAL; variant++) {
+                //noinspection ResultOfMethodCallIgnored
+                getImageVariantFile(outputImageFile, variant).delete();
+            }
+            //noinspection ResultOfMethodCallIgnored
+            partialImageFile.delete();
         }
 
         //Returning NULL when the process did not complete successfully
@@ -268,85 +740,348 @@ public final class ImageStorageUtility {
     }
 
     /**
-     * Method that returns the rotated/orientation-corrected version of the Bitmap Image pointed to by the Content URI
-     * of the Image file {@code fileContentUri} based on its ExifInterface data.
+     * Method that writes the Bitmap {@code bitmap} to the {@code outputImageFile} as JPEG
+     * with {@link AppConstants#IMAGE_IMPORT_JPEG_QUALITY}.
      *
-     * @param context        A {@link Context} to get the {@link ContentResolver} instance.
-     * @param fileContentUri Content URI of the Input Image file.
-     * @return New Bitmap which is the rotated/orientation-corrected version of the Input Image {@code fileContentUri}
-     * @throws IOException when opening and closing the stream to the input Image file.
+     * @param bitmap          The {@link Bitmap} to be written
+     * @param outputImageFile The Image {@link File} to write to
+     * @return <b>TRUE</b> when the Image was written successfully; <b>FALSE</b> otherwise
+     */
+    private static boolean writeImageFile(Bitmap bitmap, File outputImageFile) {
+        //For writing the decoded Image to a File
+        try (FileOutputStream fileOutputStream = new FileOutputStream(outputImageFile)) {
+            //Opening the Output Stream to the Output Image File
+            //Writing the Image to the file with the Import quality
+            return bitmap.compress(Bitmap.CompressFormat.JPEG, AppConstants.IMAGE_IMPORT_JPEG_QUALITY, fileOutputStream);
+        } catch (Exception e) {
+            //Marking the operation as failure on Exception
+            return false;
+        }
+    }
+
+    /**
+     * Method that writes the Medium and Thumbnail variants of the Image {@code bitmap} saved
+     * in the {@code outputImageFile}, alongside it. A variant is skipped when the Image is not
+     * larger than the variant. Failure to write a variant is not an error, as the Image is then
+     * loaded from its next larger variant.
+     *
+     * @param bitmap          The {@link Bitmap} of the Image saved
+     * @param outputImageFile The Image {@link File} to which the Image was saved
+     */
+    private static void saveImageVariants(Bitmap bitmap, File outputImageFile) {
+        //Scaling down from the largest variant to the smallest, each from the previous one
+        Bitmap sourceBitmap = bitmap;
+        for (int variant = IMAGE_VARIANT_MEDIUM; variant >= IMAGE_VARIANT_THUMBNAIL; variant--) {
+            int maxDimension = getImageVariantMaxDimension(variant);
+            float scale = (float) maxDimension / Math.max(sourceBitmap.getWidth(), sourceBitmap.getHeight());
+            if (scale >= 1f) {
+                //Skipping the variant that is not smaller than the Image
+                continue;
+            }
+
+            //Scaling the Image down to the variant
+            Bitmap variantBitmap = Bitmap.createScaledBitmap(sourceBitmap,
+                    Math.max(1, Math.round(sourceBitmap.getWidth() * scale)),
+                    Math.max(1, Math.round(sourceBitmap.getHeight() * scale)),
+                    true);
+            //Writing the variant next to the Image
+            if (!writeImageFile(variantBitmap, getImageVariantFile(outputImageFile, variant))) {
+                Log.e(LOG_TAG, "saveImageVariants: Failed to write the variant " + variant + " of " + outputImageFile);
+            }
+
+            if (sourceBitmap != bitmap) {
+                //Purging the previous variant, as the next one is scaled from this variant
+                sourceBitmap.recycle();
+            }
+            sourceBitmap = variantBitmap;
+        }
+
+        if (sourceBitmap != bitmap) {
+            //Purging the last variant written
+            sourceBitmap.recycle();
+        }
+    }
+
+    /**
+     * Method that returns the maximum width/height in pixels of the variant of the Images saved.
+     *
+     * @param variant The variant of the Image, one of {@link #IMAGE_VARIANT_THUMBNAIL},
+     *                {@link #IMAGE_VARIANT_MEDIUM} or {@link #IMAGE_VARIANT_ORIGINAL}
+     * @return The maximum width/height in pixels of the variant
+     */
+    public static int getImageVariantMaxDimension(int variant) {
+        switch (variant) {
+            case IMAGE_VARIANT_THUMBNAIL:
+                return AppConstants.IMAGE_VARIANT_THUMBNAIL_MAX_DIMENSION;
+            case IMAGE_VARIANT_MEDIUM:
+                return AppConstants.IMAGE_VARIANT_MEDIUM_MAX_DIMENSION;
+            default:
+                return AppConstants.IMAGE_IMPORT_MAX_DIMENSION;
+        }
+    }
+
+    /**
+     * Method that returns the smallest variant of the Images saved, that is large enough
+     * to be shown in a View of the {@code targetSize}.
+     *
+     * @param targetSize The larger of the width and height in pixels of the View showing the Image
+     * @return The variant of the Image, one of {@link #IMAGE_VARIANT_THUMBNAIL},
+     * {@link #IMAGE_VARIANT_MEDIUM} or {@link #IMAGE_VARIANT_ORIGINAL}
+     */
+    public static int selectImageVariant(int targetSize) {
+        for (int variant = IMAGE_VARIANT_THUMBNAIL; variant < IMAGE_VARIANT_ORIGINAL; variant++) {
+            if (targetSize <= getImageVariantMaxDimension(variant)) {
+                return variant;
+            }
+        }
+        return IMAGE_VARIANT_ORIGINAL;
+    }
+
+    /**
+     * Method that returns the Content URI of the {@code variant} of the Image saved at the
+     * Content URI {@code imageContentUri}. Variants are available only for the Images saved by the App.
+     *
+     * @param imageContentUri The Content URI of the original Image
+     * @param variant         The variant of the Image, one of {@link #IMAGE_VARIANT_THUMBNAIL},
+     *                        {@link #IMAGE_VARIANT_MEDIUM} or {@link #IMAGE_VARIANT_ORIGINAL}
+     * @return The Content URI of the variant; or {@code null} when the Image cannot have the variant.
+     * The file of the variant may not exist when the Image was not larger than the variant, or was
+     * saved before the variants were introduced.
      */
     @Nullable
-    private static Bitmap rotateImageBasedOnExif(Context context, Uri fileContentUri) throws IOException {
-        //Retrieving the ContentResolver instance
-        ContentResolver contentResolver = context.getContentResolver();
-        //Decoding the Bitmap from the Temporary Image File URI
-        Bitmap bitmap = getBitmapFromContentUri(fileContentUri, contentResolver);
+    public static Uri getImageVariantUri(Uri imageContentUri, int variant) {
+        if (variant == IMAGE_VARIANT_ORIGINAL) {
+            //Returning the Image itself for the Original variant
+            return imageContentUri;
+        }
+
+        String imageContentUriStr = imageContentUri.toString();
+        if (imageContentUri.getAuthority() == null
+                || !imageContentUri.getAuthority().contains(IMAGE_FILE_PROVIDER_AUTHORITY)
+                || !imageContentUriStr.endsWith(JPEG_FILE_EXT)) {
+            //Returning NULL for the Images not saved by the App
+            return null;
+        }
+
+        //Inserting the Suffix of the variant before the File extension
+        return Uri.parse(imageContentUriStr.substring(0, imageContentUriStr.length() - JPEG_FILE_EXT.length())
+                + IMAGE_VARIANT_FILE_SUFFIXES[variant] + JPEG_FILE_EXT);
+    }
 
-        //Returning NULL when the decoded Bitmap is NULL
-        if (bitmap == null) {
+    /**
+     * Method that returns the {@link File} of the {@code variant} of the Image saved in the {@code imageFile}.
+     *
+     * @param imageFile The Image {@link File} of the original Image
+     * @param variant   The variant of the Image, one of {@link #IMAGE_VARIANT_THUMBNAIL},
+     *                  {@link #IMAGE_VARIANT_MEDIUM} or {@link #IMAGE_VARIANT_ORIGINAL}
+     * @return The {@link File} of the variant, located alongside the original Image
+     */
+    private static File getImageVariantFile(File imageFile, int variant) {
+        String imageFileName = imageFile.getName();
+        String baseFileName = imageFileName.endsWith(JPEG_FILE_EXT)
+                ? imageFileName.substring(0, imageFileName.length() - JPEG_FILE_EXT.length())
+                : imageFileName;
+        return new File(imageFile.getParentFile(), baseFileName + IMAGE_VARIANT_FILE_SUFFIXES[variant] + JPEG_FILE_EXT);
+    }
+
+    /**
+     * Method that decodes the Image pointed to by the Content URI {@code fileContentUri} for import,
+     * downsampled such that its larger dimension does not exceed the {@code maxDimension}, and
+     * rotated/orientation-corrected based on its ExifInterface data.
+     * <p>
+     * The EXIF data, the dimensions and the pixels are all read from a single buffered stream
+     * that is rewound between the reads, and the Image is decoded directly at a reduced sample size,
+     * so that the full resolution Image is never held in memory.
+     * </p>
+     *
+     * @param contentResolver The {@link ContentResolver} to open the Image file
+     * @param fileContentUri  Content URI of the Input Image file.
+     * @param maxDimension    The maximum width/height in pixels of the Image decoded
+     * @return New Bitmap which is the downsampled and orientation-corrected version of the
+     * Input Image {@code fileContentUri}; or {@code null} when the Image could not be decoded.
+     * @throws IOException when opening and closing the stream to the input Image file.
+     */
+    @Nullable
+    private static Bitmap decodeImageForImport(ContentResolver contentResolver, Uri fileContentUri,
+                                               int maxDimension) throws IOException {
+        //Opening the buffered Stream to the Input Image File
+        InputStream importInputStream = openImportStream(contentResolver, fileContentUri);
+        if (importInputStream == null) {
+            //Returning NULL when the stream could not be opened
             return null;
         }
 
-        //Opening the Stream to the Temporary Image File URI
+        try {
+            //Reading the Orientation from the EXIF data of the Image
+            int orientation = readExifOrientation(importInputStream);
+
+            //Decoding the dimensions of the original Image
+            importInputStream = rewindImportStream(importInputStream, contentResolver, fileContentUri);
+            BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
+            bitmapOptions.inJustDecodeBounds = true;
+            BitmapFactory.decodeStream(importInputStream, null, bitmapOptions);
+            if (bitmapOptions.outWidth <= 0 || bitmapOptions.outHeight <= 0) {
+                //Returning NULL when the Image dimensions could not be decoded
+                return null;
+            }
+
+            //Decoding the Image at the largest sample size that does not go below the maximum dimension
+            importInputStream = rewindImportStream(importInputStream, contentResolver, fileContentUri);
+            bitmapOptions.inJustDecodeBounds = false;
+            bitmapOptions.inSampleSize = calculateImportSampleSize(bitmapOptions.outWidth, bitmapOptions.outHeight, maxDimension);
+            Bitmap sampledBitmap = BitmapFactory.decodeStream(importInputStream, null, bitmapOptions);
+            if (sampledBitmap == null) {
+                //Returning NULL when the Image could not be decoded
+                return null;
+            }
+
+            //Scaling the Image down to the maximum dimension and rotating it in a single step
+            return scaleAndRotateImage(sampledBitmap, maxDimension, getRotationDegrees(orientation));
+        } finally {
+            //Closing the stream when done
+            importInputStream.close();
+        }
+    }
+
+    /**
+     * Method that opens a buffered stream to the Image being imported, marked at its start
+     * for rewinding after reading its EXIF data and dimensions.
+     *
+     * @param contentResolver The {@link ContentResolver} to open the Image file
+     * @param fileContentUri  Content URI of the Input Image file.
+     * @return The buffered {@link InputStream} to the Image file; or {@code null} when it could not be opened.
+     * @throws IOException when opening the stream to the Image file.
+     */
+    @Nullable
+    private static InputStream openImportStream(ContentResolver contentResolver, Uri fileContentUri) throws IOException {
         InputStream uriInputStream = contentResolver.openInputStream(fileContentUri);
-        if (uriInputStream != null) {
-            //When the stream is opened
-            try {
-                //Retrieve the ExifInterface of the Image
-                ExifInterface exifInterface = new ExifInterface(uriInputStream);
-                //Get the Orientation from the ExifInterface data
-                int orientation = exifInterface.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
-
-                //Returning the rotated Image based on the Orientation degree determined
-                switch (orientation) {
-                    case ExifInterface.ORIENTATION_ROTATE_90:
-                        //For 90 degree clockwise rotated Image
-
-                        //Returning 90 degree clockwise rotated Image
-                        return rotateImage(bitmap, 90);
-                    case ExifInterface.ORIENTATION_ROTATE_180:
-                        //For 180 degree clockwise rotated Image
-
-                        //Returning 180 degree clockwise rotated Image
-                        return rotateImage(bitmap, 180);
-                    case ExifInterface.ORIENTATION_ROTATE_270:
-                        //For 270 degree clockwise rotated Image
-
-                        //Returning 270 degree clockwise rotated Image
-                        return rotateImage(bitmap, 270);
-                    default:
-                        //For no rotation, returning the temporary bitmap image AS-IS
-                        return bitmap;
-                }
-            } finally {
-                //Closing the stream when done
-                uriInputStream.close();
+        if (uriInputStream == null) {
+            return null;
+        }
+        InputStream bufferedInputStream = new BufferedInputStream(uriInputStream, IMPORT_STREAM_BUFFER_SIZE);
+        bufferedInputStream.mark(IMPORT_STREAM_MARK_LIMIT);
+        return bufferedInputStream;
+    }
+
+    /**
+     * Method that rewinds the stream to the Image being imported to its start. When the bytes read
+     * exceeded the {@link #IMPORT_STREAM_MARK_LIMIT}, the stream is closed and opened again.
+     *
+     * @param importInputStream The buffered stream opened by {@link #openImportStream(ContentResolver, Uri)}
+     * @param contentResolver   The {@link ContentResolver} to open the Image file again
+     * @param fileContentUri    Content URI of the Input Image file.
+     * @return The buffered {@link InputStream} to the Image file, positioned at its start
+     * @throws IOException when the stream could not be rewound or opened again.
+     */
+    @NonNull
+    private static InputStream rewindImportStream(InputStream importInputStream, ContentResolver contentResolver,
+                                                  Uri fileContentUri) throws IOException {
+        try {
+            //Rewinding to the start of the stream, and marking it again for the next rewind
+            importInputStream.reset();
+            importInputStream.mark(IMPORT_STREAM_MARK_LIMIT);
+            return importInputStream;
+        } catch (IOException e) {
+            //When the mark was invalidated, opening the stream again
+            importInputStream.close();
+            InputStream reopenedInputStream = openImportStream(contentResolver, fileContentUri);
+            if (reopenedInputStream == null) {
+                throw new IOException("Failed to reopen the stream to " + fileContentUri, e);
             }
+            return reopenedInputStream;
+        }
+    }
+
+    /**
+     * Method that reads the Orientation from the EXIF data of the Image stream.
+     *
+     * @param importInputStream The buffered stream to the Image file
+     * @return The EXIF Orientation of the Image; or {@link ExifInterface#ORIENTATION_NORMAL}
+     * when the EXIF data could not be read.
+     */
+    private static int readExifOrientation(InputStream importInputStream) {
+        try {
+            //Retrieve the ExifInterface of the Image
+            ExifInterface exifInterface = new ExifInterface(importInputStream);
+            //Get the Orientation from the ExifInterface data
+            return exifInterface.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+        } catch (IOException e) {
+            //Treating the Image as upright when its EXIF data could not be read
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+    }
+
+    /**
+     * Method that returns the degrees to rotate the Image in clockwise direction for the EXIF {@code orientation}.
+     *
+     * @param orientation The EXIF Orientation of the Image
+     * @return The degrees to rotate the Image in clockwise direction
+     */
+    private static int getRotationDegrees(int orientation) {
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                //For 90 degree clockwise rotated Image
+                return 90;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                //For 180 degree clockwise rotated Image
+                return 180;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                //For 270 degree clockwise rotated Image
+                return 270;
+            default:
+                //For no rotation
+                return 0;
+        }
+    }
+
+    /**
+     * Method that calculates the largest power of 2 sample size, with which the Image of the
+     * given dimensions is decoded without its larger dimension going below the {@code maxDimension}.
+     *
+     * @param width        The width of the original Image in pixels
+     * @param height       The height of the original Image in pixels
+     * @param maxDimension The maximum width/height in pixels of the Image to be decoded
+     * @return The sample size to decode the Image with
+     */
+    private static int calculateImportSampleSize(int width, int height, int maxDimension) {
+        int largerDimension = Math.max(width, height);
+        int sampleSize = 1;
+        while (largerDimension / (sampleSize * 2) >= maxDimension) {
+            sampleSize *= 2;
         }
-        //On all else, returning the Bitmap of Temporary Image
-        return bitmap;
+        return sampleSize;
     }
 
     /**
-     * Method that rotates the Bitmap {@code bitmap} by the {@code degrees} mentioned
-     * and returns the new Rotated version of the input bitmap.
+     * Method that scales down the Bitmap {@code bitmap} such that its larger dimension does not
+     * exceed the {@code maxDimension}, and rotates it by the {@code degrees} mentioned, in a single step.
      *
-     * @param bitmap  The input {@link Bitmap} image to be rotated.
-     * @param degrees Float value of the degrees to rotate the Image in clockwise direction.
-     * @return New Rotated version of the input {@code bitmap} by the {@code degrees} mentioned
+     * @param bitmap       The input {@link Bitmap} image, which is purged when a new Bitmap is created.
+     * @param maxDimension The maximum width/height in pixels of the resulting Bitmap
+     * @param degrees      The degrees to rotate the Image in clockwise direction.
+     * @return New Scaled and Rotated version of the input {@code bitmap}; or the input {@code bitmap}
+     * itself when it needs neither.
      */
-    private static Bitmap rotateImage(Bitmap bitmap, float degrees) {
-        //Creating a New Image Matrix
+    private static Bitmap scaleAndRotateImage(Bitmap bitmap, int maxDimension, int degrees) {
+        //Calculating the scale to fit the maximum dimension
+        float scale = Math.min(1f, (float) maxDimension / Math.max(bitmap.getWidth(), bitmap.getHeight()));
+        if (scale == 1f && degrees == 0) {
+            //Returning the input bitmap image AS-IS when it needs no transformation
+            return bitmap;
+        }
+
+        //Creating a New Image Matrix that scales and then rotates the Image
         Matrix matrix = new Matrix();
-        //Rotating the Image about its center by the degrees mentioned
-        matrix.setRotate(degrees, (float) bitmap.getWidth() / (float) 2, (float) bitmap.getHeight() / (float) 2);
-        //Creating a new Rotated Bitmap Image using the Matrix created
-        Bitmap bitmapRotated = Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true);
-        //Purging the temporary input bitmap image
-        bitmap.recycle();
-        //Returning the new Bitmap Image which is the rotated version of the input
-        return bitmapRotated;
+        matrix.setScale(scale, scale);
+        matrix.postRotate(degrees);
+        //Creating a new Bitmap Image using the Matrix created
+        Bitmap bitmapTransformed = Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true);
+        if (bitmapTransformed != bitmap) {
+            //Purging the temporary input bitmap image
+            bitmap.recycle();
+        }
+        //Returning the new Bitmap Image which is the transformed version of the input
+        return bitmapTransformed;
     }
 
     /**
@@ -376,6 +1111,22 @@ public final class ImageStorageUtility {
      * <br/><b>TRUE</b> if deleted; <b>FALSE</b> otherwise.
      */
     public static boolean deleteImageFile(Uri fileContentUri, ContentResolver contentResolver) {
+        //Deleting the smaller variants of the Image if any
+        for (int variant = IMAGE_VARIANT_THUMBNAIL; variant < IMAGE_VARIANT_ORIGINAL; variant++) {
+            Uri variantContentUri = getImageVariantUri(fileContentUri, variant);
+            if (variantContentUri != null) {
+                FileStorageUtility.deleteFile(variantContentUri, contentResolver, IMAGE_FILE_PROVIDER_AUTHORITY);
+            }
+        }
+        //Deleting the Image
         return FileStorageUtility.deleteFile(fileContentUri, contentResolver, IMAGE_FILE_PROVIDER_AUTHORITY);
     }
+
+    //Defining Annotation interface for valid profiles of the Bitmaps decoded
+    //Enumerating Annotation with the valid profiles of the Bitmaps decoded
+    //Retains annotation till Compile Time
+    @IntDef({DECODE_PROFILE_FULL_COLOR, DECODE_PROFILE_OPAQUE, DECODE_PROFILE_HARDWARE})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface DecodeProfileDef {
+    }
 }
@@ -52,11 +52,12 @@ public final class InjectorUtility {
      * Method that provides/injects the {@link StoreFileRepository} instance which
      * deals with the Files.
      *
-     * @param context A {@link Context} to derive the {@link android.content.ContentResolver} instance
+     * @param context A {@link Context} to derive the Application Context and
+     *                the {@link android.content.ContentResolver} instance
      * @return Instance of {@link StoreFileRepository}
      */
     private static StoreFileRepository provideFileRepository(Context context) {
-        return StoreFileRepository.getInstance(context.getContentResolver(), AppExecutors.getInstance());
+        return StoreFileRepository.getInstance(context, AppExecutors.getInstance());
     }
 
     /**
@@ -0,0 +1,566 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.workers;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+import android.support.annotation.MainThread;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.text.TextUtils;
+import android.util.Log;
+import android.widget.ImageView;
+
+import com.example.store_keeper.storeapp.R;
+import com.example.store_keeper.store_keeper.cache.BitmapImageCache;
+import com.example.store_keeper.store_keeper.cache.BitmapPool;
+import com.example.store_keeper.store_keeper.cache.DiskThumbnailCache;
+import com.example.store_keeper.store_keeper.utils.AppExecutors;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Image Loading engine that loads the Product Images for the file Content URIs pointing to the
+ * Images stored in the external storage, into the {@link ImageView}s of the lists and screens.
+ * <p>
+ * <p>Images are looked up in the Memory Cache {@link BitmapImageCache} and then in the
+ * Disk Cache {@link DiskThumbnailCache}, and are decoded only when not present in either.
+ * Decodes read the smallest variant of the Image saved by the App that is large enough for the
+ * ImageView, falling back to the larger variants when not present. The Caches are hence keyed by
+ * the Image URL along with the variant, and the Memory Cache also by the decode profile of the Bitmap,
+ * which lets the lists of Thumbnails use a lower footprint configuration than the Images shown large.</p>
+ * <p>Decodes run on the bounded Image Decode pool of {@link AppExecutors}, with a single decode
+ * per Image URL shared by all the ImageViews requesting it.</p>
+ * <p>Each ImageView is bound to its latest request, so that a recycled ImageView never shows
+ * the Image of its previous item. Requests of the recycled ImageViews should be cancelled with
+ * {@link #cancel(ImageView)}, which also cancels the decode when no other ImageView needs it.</p>
+ * <p>Images of the items ahead of the user's scroll can be warmed into the Caches with
+ * {@link #prefetch(String, ImageView, int)}, which are decoded at a lower priority than the Images to be shown.</p>
+ * <p>Bitmaps shown by the ImageViews are marked in use in the {@link BitmapPool}, so that they
+ * are never reused for another decode while they are shown.</p>
+ * <p>All the methods need to be called on the Main Thread.</p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class ImageLoader {
+
+    //Constant used for logs
+    private static final String LOG_TAG = ImageLoader.class.getSimpleName();
+    //Constant for the separator between the Image URL, its variant and its decode profile in the Keys of the Images
+    private static final String IMAGE_KEY_SEPARATOR = "#";
+
+    //For the Singleton instance of this
+    private static volatile ImageLoader INSTANCE;
+
+    //Application Context used for decoding the Images
+    private final Context mAppContext;
+    //Map of the ImageViews to their latest requests
+    private final Map<ImageView, ViewRequest> mViewRequests = new WeakHashMap<>();
+    //Map of the Image URLs to their decodes in progress
+    private final Map<String, DecodeJob> mActiveJobs = new HashMap<>();
+
+    /**
+     * Private Constructor of {@link ImageLoader}
+     *
+     * @param appContext Application Context used for decoding the Images
+     */
+    private ImageLoader(Context appContext) {
+        mAppContext = appContext;
+    }
+
+    /**
+     * Singleton Constructor of {@link ImageLoader}
+     *
+     * @param context A {@link Context} to retrieve the Application Context
+     * @return Instance of {@link ImageLoader}
+     */
+    public static ImageLoader getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (ImageLoader.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new ImageLoader(context.getApplicationContext());
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that loads the Image from the Caches or decodes the Image from the URL passed
+     * if necessary, and updates it to the {@code imageView}.
+     *
+     * @param imageView   The ImageView Component to which the Image needs to be updated
+     * @param imageURLStr String containing the Image URL whose Image needs to be loaded.
+     */
+    @MainThread
+    public void load(@NonNull ImageView imageView, @Nullable String imageURLStr) {
+        load(imageView, imageURLStr, null);
+    }
+
+    /**
+     * Method that loads the Image from the Caches or decodes the Image from the URL passed
+     * if necessary, and updates it to the {@code imageView}.
+     *
+     * @param imageView         The ImageView Component to which the Image needs to be updated
+     * @param imageURLStr       String containing the Image URL whose Image needs to be loaded.
+     * @param onSuccessListener Instance of {@link OnSuccessListener} that wishes to receive the
+     *                          Image loaded. Can be {@code null}.
+     */
+    @MainThread
+    public void load(@NonNull ImageView imageView, @Nullable String imageURLStr,
+                     @Nullable OnSuccessListener onSuccessListener) {
+        load(imageView, imageURLStr, ImageStorageUtility.DECODE_PROFILE_FULL_COLOR, onSuccessListener);
+    }
+
+    /**
+     * Method that loads the Image from the Caches or decodes the Image from the URL passed
+     * if necessary, into a Bitmap of the {@code decodeProfile}, and updates it to the {@code imageView}.
+     * The lists of Thumbnails should use a low footprint profile, to fit more of them in the Memory Cache.
+     *
+     * @param imageView         The ImageView Component to which the Image needs to be updated
+     * @param imageURLStr       String containing the Image URL whose Image needs to be loaded.
+     * @param decodeProfile     The profile of the Bitmap to be decoded, one of
+     *                          {@link ImageStorageUtility#DECODE_PROFILE_FULL_COLOR},
+     *                          {@link ImageStorageUtility#DECODE_PROFILE_OPAQUE} or
+     *                          {@link ImageStorageUtility#DECODE_PROFILE_HARDWARE}
+     * @param onSuccessListener Instance of {@link OnSuccessListener} that wishes to receive the
+     *                          Image loaded. Can be {@code null}.
+     */
+    @MainThread
+    public void load(@NonNull ImageView imageView, @Nullable String imageURLStr,
+                     @ImageStorageUtility.DecodeProfileDef int decodeProfile,
+                     @Nullable OnSuccessListener onSuccessListener) {
+        //Selecting the variant of the Image for the size of the ImageView
+        int targetSize = getTargetSize(imageView);
+        int variant = ImageStorageUtility.selectImageVariant(targetSize);
+        String imageKey = getImageKey(imageURLStr, variant, decodeProfile);
+
+        //Looking up the current request of the ImageView
+        ViewRequest currentRequest = mViewRequests.get(imageView);
+        if (currentRequest != null && !TextUtils.isEmpty(imageURLStr)
+                && imageKey.equals(currentRequest.mImageKey)) {
+            //When the ImageView is already waiting for the same Image, only update its listener
+            currentRequest.mOnSuccessListener = onSuccessListener;
+            return;
+        }
+
+        //Cancelling the previous request of the ImageView if any
+        cancel(imageView);
+
+        if (TextUtils.isEmpty(imageURLStr)) {
+            //Resetting the ImageView to the default Thumbnail Image when there is no Image
+            imageView.setImageResource(R.drawable.ic_all_product_default);
+            return;
+        }
+
+        //Looking up for the Image in Memory Cache for the given URL, marking it in use by the ImageView
+        Bitmap cachedBitmap = BitmapImageCache.getBitmapFromCache(imageKey, imageView);
+        if (cachedBitmap != null) {
+            //When Bitmap image was present in Memory Cache, update it right away
+            imageView.setImageBitmap(cachedBitmap);
+            if (onSuccessListener != null) {
+                onSuccessListener.onSuccess(cachedBitmap);
+            }
+            return;
+        }
+
+        //Resetting the ImageView to the default Thumbnail Image for lazy loading
+        imageView.setImageResource(R.drawable.ic_all_product_default);
+
+        //Binding a new request to the ImageView
+        ViewRequest viewRequest = new ViewRequest(imageView, imageKey, onSuccessListener);
+        mViewRequests.put(imageView, viewRequest);
+
+        //Joining the decode in progress for the Image URL and variant if any
+        DecodeJob decodeJob = mActiveJobs.get(imageKey);
+        if (decodeJob != null && decodeJob.mPrefetch && !decodeJob.mStarted) {
+            //Replacing the prefetch still waiting in the queue, as the Image is now required to be shown
+            decodeJob.mCancelled = true;
+            decodeJob = null;
+        }
+        if (decodeJob == null) {
+            //Starting a new decode when there is none for the Image URL and variant
+            decodeJob = new DecodeJob(imageURLStr, variant, decodeProfile, targetSize, false);
+            mActiveJobs.put(imageKey, decodeJob);
+            AppExecutors.getInstance().getImageDecode().execute(decodeJob);
+        }
+        decodeJob.mViewRequests.add(viewRequest);
+        viewRequest.mDecodeJob = decodeJob;
+    }
+
+    /**
+     * Method that cancels the request bound to the {@code imageView} if any. The decode of the
+     * Image is cancelled as well, when no other ImageView is waiting for the same Image.
+     * This should be called when the ViewHolder of the {@code imageView} is recycled, which also
+     * releases the Bitmap shown by the {@code imageView} for reuse by the {@link BitmapPool}.
+     *
+     * @param imageView The ImageView whose request needs to be cancelled
+     */
+    @MainThread
+    public void cancel(@NonNull ImageView imageView) {
+        //Releasing the Bitmap shown by the ImageView, as it will be rebound before it is shown again
+        BitmapPool.getInstance().releaseInUse(imageView);
+
+        ViewRequest viewRequest = mViewRequests.remove(imageView);
+        if (viewRequest == null) {
+            //Bail out when there is no request bound to the ImageView
+            return;
+        }
+
+        DecodeJob decodeJob = viewRequest.mDecodeJob;
+        if (decodeJob != null) {
+            decodeJob.mViewRequests.remove(viewRequest);
+            if (decodeJob.mViewRequests.isEmpty()) {
+                //Cancelling the decode when no ImageView is waiting for it
+                decodeJob.mCancelled = true;
+                if (mActiveJobs.get(decodeJob.mImageKey) == decodeJob) {
+                    mActiveJobs.remove(decodeJob.mImageKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that decodes the Image of the URL passed into the Caches at a lower priority, ahead of
+     * it being shown. Nothing is done when the Image is already in the Memory Cache or being decoded.
+     *
+     * @param imageURLStr   String containing the Image URL whose Image needs to be prefetched.
+     * @param imageView     An ImageView of the same size as the one that will show the Image
+     * @param decodeProfile The profile of the Bitmap to be decoded, which should be the same
+     *                      as the one the Image will be loaded with
+     */
+    @MainThread
+    public void prefetch(@Nullable String imageURLStr, @NonNull ImageView imageView,
+                         @ImageStorageUtility.DecodeProfileDef int decodeProfile) {
+        if (TextUtils.isEmpty(imageURLStr)) {
+            //Bail out when there is no Image
+            return;
+        }
+
+        //Selecting the variant of the Image for the size of the ImageView
+        int targetSize = getTargetSize(imageView);
+        int variant = ImageStorageUtility.selectImageVariant(targetSize);
+        String imageKey = getImageKey(imageURLStr, variant, decodeProfile);
+        if (mActiveJobs.containsKey(imageKey) || BitmapImageCache.containsBitmap(imageKey)) {
+            //Bail out when the Image is already loaded or being loaded
+            return;
+        }
+
+        //Queueing the decode on the Image Prefetch lane, behind the Images to be shown
+        DecodeJob decodeJob = new DecodeJob(imageURLStr, variant, decodeProfile, targetSize, true);
+        mActiveJobs.put(imageKey, decodeJob);
+        AppExecutors.getInstance().getImagePrefetch().execute(decodeJob);
+    }
+
+    /**
+     * Method that cancels all the prefetches started by {@link #prefetch(String, ImageView, int)}, which
+     * no ImageView is waiting for.
+     */
+    @MainThread
+    public void cancelPrefetches() {
+        Iterator<DecodeJob> decodeJobIterator = mActiveJobs.values().iterator();
+        while (decodeJobIterator.hasNext()) {
+            DecodeJob decodeJob = decodeJobIterator.next();
+            if (decodeJob.mPrefetch && decodeJob.mViewRequests.isEmpty()) {
+                //Cancelling the prefetch that no ImageView is waiting for
+                decodeJob.mCancelled = true;
+                decodeJobIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Method that delivers the result of the decode to all the ImageViews still waiting for it.
+     *
+     * @param decodeJob   The decode that has finished
+     * @param bitmapImage The Bitmap Image decoded, or {@code null} when the decode failed
+     */
+    @MainThread
+    private void deliverResult(DecodeJob decodeJob, @Nullable Bitmap bitmapImage) {
+        if (mActiveJobs.get(decodeJob.mImageKey) == decodeJob) {
+            mActiveJobs.remove(decodeJob.mImageKey);
+        }
+
+        for (ViewRequest viewRequest : decodeJob.mViewRequests) {
+            ImageView imageView = viewRequest.mImageViewReference.get();
+            if (imageView == null || mViewRequests.get(imageView) != viewRequest) {
+                //Skipping the ImageView that is gone or bound to another request
+                continue;
+            }
+            mViewRequests.remove(imageView);
+
+            if (bitmapImage != null) {
+                //Updating the ImageView when the Bitmap is decoded successfully, marking it in use by the ImageView
+                BitmapPool.getInstance().markInUse(imageView, bitmapImage);
+                imageView.setImageBitmap(bitmapImage);
+                //When the OnSuccessListener is registered, dispatch the success event
+                if (viewRequest.mOnSuccessListener != null) {
+                    viewRequest.mOnSuccessListener.onSuccess(bitmapImage);
+                }
+            } else {
+                //Resetting the ImageView to the default Thumbnail Image when the Bitmap failed to decode
+                imageView.setImageResource(R.drawable.ic_all_product_default);
+            }
+        }
+        decodeJob.mViewRequests.clear();
+
+        //Releasing the Bitmap held by the decode, now that the ImageViews have marked it
+        BitmapPool.getInstance().releaseInUse(decodeJob);
+    }
+
+    /**
+     * Method that returns the size for which the Image of the {@code imageView} is to be decoded,
+     * which is the larger of its width and height. When the ImageView is not laid out yet,
+     * the size of the Optimized Bitmap is used instead.
+     *
+     * @param imageView The ImageView that will show the Image
+     * @return The target size in pixels
+     */
+    @MainThread
+    private int getTargetSize(@NonNull ImageView imageView) {
+        int targetSize = Math.max(imageView.getWidth(), imageView.getHeight());
+        if (targetSize <= 0) {
+            //When the ImageView is not laid out yet
+            targetSize = Math.min(ImageStorageUtility.getOptimizedTargetWidth(mAppContext),
+                    ImageStorageUtility.getOptimizedTargetHeight(mAppContext));
+        }
+        return targetSize;
+    }
+
+    /**
+     * Method that returns the Key of the {@code variant} of the Image URL, used for the Disk Cache
+     * which saves the Thumbnails independent of the profile they are decoded with.
+     *
+     * @param imageURLStr String containing the Image URL
+     * @param variant     The variant of the Image selected by {@link ImageStorageUtility#selectImageVariant(int)}
+     * @return The Key of the variant of the Image
+     */
+    private static String getThumbnailKey(String imageURLStr, int variant) {
+        return imageURLStr + IMAGE_KEY_SEPARATOR + variant;
+    }
+
+    /**
+     * Method that returns the Key of the {@code variant} of the Image URL decoded with the {@code decodeProfile},
+     * used for the Memory Cache and for the decodes in progress.
+     *
+     * @param imageURLStr   String containing the Image URL
+     * @param variant       The variant of the Image selected by {@link ImageStorageUtility#selectImageVariant(int)}
+     * @param decodeProfile The profile of the Bitmap decoded
+     * @return The Key of the variant of the Image in the profile
+     */
+    private static String getImageKey(String imageURLStr, int variant, int decodeProfile) {
+        return getThumbnailKey(imageURLStr, variant) + IMAGE_KEY_SEPARATOR + decodeProfile;
+    }
+
+    /**
+     * Method that retrieves the Bitmap of the Image from the Caches, or decodes it from the
+     * smallest variant of the Image present when not cached, and saves it to the Caches.
+     * The Bitmap returned is marked in use by the {@code holder} in the {@link BitmapPool},
+     * so that it is not reused for another decode before it is shown.
+     *
+     * @param decodeJob The decode providing the Image URL, its variant and the target size,
+     *                  which is also the holder of the Bitmap until it is shown
+     * @return The Bitmap of the Image; or {@code null} when the Image could not be decoded
+     */
+    @WorkerThread
+    @Nullable
+    private Bitmap loadBitmap(DecodeJob decodeJob) {
+        String imageKey = decodeJob.mImageKey;
+        int targetSize = decodeJob.mTargetSize;
+        try {
+            //Looking up for the Image in Memory Cache, as it could be loaded
+            //while this decode was waiting in the queue
+            Bitmap cachedBitmap = BitmapImageCache.getBitmapFromCache(imageKey, decodeJob);
+            if (cachedBitmap != null) {
+                return cachedBitmap;
+            }
+
+            //When Bitmap image was NOT present in Memory Cache, look up its Thumbnail in the Disk Cache
+            DiskThumbnailCache diskThumbnailCache = DiskThumbnailCache.getInstance(mAppContext);
+            String thumbnailKey = getThumbnailKey(decodeJob.mImageURLStr, decodeJob.mVariant);
+            Bitmap thumbnailBitmap = diskThumbnailCache.get(thumbnailKey, targetSize, targetSize, decodeJob.mDecodeProfile);
+            if (thumbnailBitmap != null) {
+                //When the Thumbnail was present in Disk Cache, promote it to the Memory Cache
+                BitmapPool.getInstance().markInUse(decodeJob, thumbnailBitmap);
+                thumbnailBitmap.prepareToDraw();
+                BitmapImageCache.addBitmapToCache(imageKey, thumbnailBitmap);
+                return thumbnailBitmap;
+            }
+
+            //When the Thumbnail was NOT present in Disk Cache, decode the Bitmap from the
+            //smallest variant of the Image present, scaled down for the target size
+            Bitmap decodedBitmap = decodeImageVariant(Uri.parse(decodeJob.mImageURLStr), decodeJob.mVariant,
+                    decodeJob.mDecodeProfile, targetSize);
+            if (decodedBitmap != null) {
+                //Uploading the Bitmap to GPU for caching in background thread (for faster loads)
+                decodedBitmap.prepareToDraw();
+
+                //Adding the decoded Bitmap to both the Cache tiers
+                BitmapPool.getInstance().markInUse(decodeJob, decodedBitmap);
+                BitmapImageCache.addBitmapToCache(imageKey, decodedBitmap);
+                diskThumbnailCache.put(thumbnailKey, targetSize, targetSize, decodedBitmap);
+            }
+            return decodedBitmap;
+        } catch (IOException | SecurityException e) {
+            Log.e(LOG_TAG, "loadBitmap: Failed while decoding the bitmap for the URI " + decodeJob.mImageURLStr, e);
+            return null;
+        }
+    }
+
+    /**
+     * Method that decodes the {@code variant} of the Image, or its next larger variant present when
+     * the file of the variant does not exist, scaled down for the {@code targetSize}.
+     *
+     * @param imageUri      The Content URI of the original Image
+     * @param variant       The variant of the Image to begin with
+     * @param decodeProfile The profile of the Bitmap to be decoded
+     * @param targetSize    The target size in pixels
+     * @return The Bitmap of the Image; or {@code null} when the Image could not be decoded
+     * @throws IOException when opening and closing the stream to the Image file.
+     */
+    @WorkerThread
+    @Nullable
+    private Bitmap decodeImageVariant(Uri imageUri, int variant, int decodeProfile, int targetSize) throws IOException {
+        for (int currentVariant = variant; currentVariant < ImageStorageUtility.IMAGE_VARIANT_ORIGINAL; currentVariant++) {
+            Uri variantUri = ImageStorageUtility.getImageVariantUri(imageUri, currentVariant);
+            if (variantUri == null) {
+                //Skipping to the Original Image, when the Image cannot have variants
+                break;
+            }
+            try {
+                return ImageStorageUtility.getOptimizedBitmapFromContentUri(mAppContext, variantUri,
+                        targetSize, targetSize, decodeProfile);
+            } catch (FileNotFoundException e) {
+                //Trying the next larger variant, when the variant was not saved
+            }
+        }
+        //Decoding the Original Image
+        return ImageStorageUtility.getOptimizedBitmapFromContentUri(mAppContext, imageUri,
+                targetSize, targetSize, decodeProfile);
+    }
+
+    /**
+     * Callback interface to be implemented by the Activity/Fragment
+     * to receive success events of the Image load operation
+     */
+    public interface OnSuccessListener {
+        /**
+         * Callback method of {@link OnSuccessListener} invoked when the Bitmap
+         * is loaded successfully
+         *
+         * @param bitmap The {@link Bitmap} of the Image loaded
+         */
+        void onSuccess(Bitmap bitmap);
+    }
+
+    /**
+     * Class that binds an ImageView to the Image URL requested for it.
+     */
+    private static class ViewRequest {
+        //Weak Reference to the ImageView, so that a pending decode does not leak it
+        private final WeakReference<ImageView> mImageViewReference;
+        //The Key of the variant of the Image URL requested
+        private final String mImageKey;
+        //The listener to be notified on success
+        private OnSuccessListener mOnSuccessListener;
+        //The decode that this request is waiting on
+        private DecodeJob mDecodeJob;
+
+        /**
+         * Constructor of {@link ViewRequest}
+         *
+         * @param imageView         The ImageView to which the Image needs to be updated
+         * @param imageKey          The Key of the variant of the Image URL requested
+         * @param onSuccessListener The listener to be notified on success. Can be {@code null}.
+         */
+        ViewRequest(ImageView imageView, String imageKey, @Nullable OnSuccessListener onSuccessListener) {
+            mImageViewReference = new WeakReference<>(imageView);
+            mImageKey = imageKey;
+            mOnSuccessListener = onSuccessListener;
+        }
+    }
+
+    /**
+     * Task that decodes a variant of the Image of an Image URL once, for all the ImageViews waiting for it.
+     */
+    private class DecodeJob implements Runnable {
+        //The Image URL to be decoded
+        private final String mImageURLStr;
+        //The variant of the Image to be decoded
+        private final int mVariant;
+        //The profile of the Bitmap to be decoded
+        private final int mDecodeProfile;
+        //The Key of the variant of the Image URL
+        private final String mImageKey;
+        //The target size in pixels to decode the Image for
+        private final int mTargetSize;
+        //Flag that indicates whether this decode was started as a prefetch
+        private final boolean mPrefetch;
+        //The requests waiting for this decode. Accessed on the Main Thread only
+        private final List<ViewRequest> mViewRequests = new ArrayList<>(1);
+        //Flag set when no request is waiting for this decode anymore
+        private volatile boolean mCancelled;
+        //Flag set when this decode is taken up by a Thread
+        private volatile boolean mStarted;
+
+        /**
+         * Constructor of {@link DecodeJob}
+         *
+         * @param imageURLStr   The Image URL to be decoded
+         * @param variant       The variant of the Image to be decoded
+         * @param decodeProfile The profile of the Bitmap to be decoded
+         * @param targetSize    The target size in pixels to decode the Image for
+         * @param prefetch      Whether the decode is started as a prefetch
+         */
+        DecodeJob(String imageURLStr, int variant, int decodeProfile, int targetSize, boolean prefetch) {
+            mImageURLStr = imageURLStr;
+            mVariant = variant;
+            mDecodeProfile = decodeProfile;
+            mImageKey = getImageKey(imageURLStr, variant, decodeProfile);
+            mTargetSize = targetSize;
+            mPrefetch = prefetch;
+        }
+
+        /**
+         * Decodes the Image when not cancelled, and delivers the result on the Main Thread.
+         */
+        @Override
+        public void run() {
+            mStarted = true;
+            if (mCancelled) {
+                //Skipping the decode that is no longer required
+                return;
+            }
+
+            Bitmap bitmapImage = loadBitmap(this);
+            AppExecutors.getInstance().getMainThread().execute(() -> deliverResult(this, bitmapImage));
+        }
+    }
+}
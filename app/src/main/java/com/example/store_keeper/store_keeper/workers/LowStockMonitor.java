@@ -0,0 +1,470 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.workers;
+
+import android.content.ContentResolver;
+import android.content.ContentUris;
+import android.content.Context;
+import android.content.UriMatcher;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.support.annotation.MainThread;
+import android.support.annotation.NonNull;
+import android.support.v4.util.Pair;
+import android.util.Log;
+import android.util.SparseArray;
+
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.StoreContract;
+import com.example.store_keeper.store_keeper.data.local.contracts.SupplierContract;
+import com.example.store_keeper.store_keeper.data.local.models.LowStockProduct;
+import com.example.store_keeper.store_keeper.data.local.utils.QueryArgsUtility;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Worker that maintains the set of Products whose Total Available Quantity is at or below
+ * their own Reorder Level, and reports the changes in the set to its {@link LowStockListener}s.
+ * <p>
+ * <p>The set is built with a full scan when the first listener is added, and from then on kept
+ * current from the change notifications of the Inventory. A notification of the Inventory of a
+ * Product, such as the one sent for every sale, re-checks only that Product by its Key against
+ * the 'item_sales_summary' maintained by the database. The notifications that do not identify the
+ * Products changed, like the ones of a Supplier, re-check all the Products in a single scan, as do
+ * the re-checks of more than {@link AppConstants#LOW_STOCK_MAX_INCREMENTAL_CHECKS} Products.</p>
+ * <p>The notifications and the re-checks run serially on a background thread of the Monitor, where
+ * the notifications received during a re-check are collected and re-checked together next.</p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public class LowStockMonitor {
+
+    //Constant used for logs
+    private static final String LOG_TAG = LowStockMonitor.class.getSimpleName();
+    //Constant for the name of the thread that receives the notifications and re-checks the Products
+    private static final String MONITOR_THREAD_NAME = "Thread_LowStockMonitor";
+
+    //URI Matcher codes for identifying the URIs of the notifications
+    private static final int ITEMS = 10;
+    private static final int ITEM_ID = 11;
+    private static final int SUPPLIERS = 20;
+    private static final int SUPPLIER_ID = 21;
+    private static final int SALES_INVENTORY_ITEM_ID = 40;
+
+    //For the Singleton instance of this
+    private static volatile LowStockMonitor INSTANCE;
+
+    //ContentResolver for querying and observing the Inventory
+    private final ContentResolver mContentResolver;
+    //URI Matcher for matching the URIs of the notifications
+    private final UriMatcher mUriMatcher = buildUriMatcher();
+    //Handler of the Monitor thread on which the notifications are received and the Products are re-checked
+    private final Handler mMonitorHandler;
+    //Main Thread Handler for dispatching the changes in the set to the listeners
+    private final Handler mMainThreadHandler;
+    //The Content Observer of the Inventory
+    private final InventoryContentObserver mInventoryObserver;
+    //Runnable that re-checks the Products changed since the last re-check
+    private final Runnable mRecheckRunnable = this::recheckPendingProducts;
+
+    //The Products that are Low on Stock mapped by their Id, accessed only on the Monitor thread
+    private final SparseArray<LowStockProduct> mLowStockProducts = new SparseArray<>();
+    //The Ids of the Products changed since the last re-check, accessed only on the Monitor thread
+    private final Set<Integer> mPendingProductIds = new HashSet<>();
+    //Boolean that records when all the Products are to be re-checked, accessed only on the Monitor thread
+    private boolean mFullScanPending;
+    //Boolean that records when a re-check has been posted, accessed only on the Monitor thread
+    private boolean mRecheckPosted;
+
+    //The Listeners registered for the changes in the set, accessed only on the Main thread
+    private final List<LowStockListener> mListeners = new ArrayList<>();
+    //The last published Products that are Low on Stock, accessed only on the Main thread
+    private List<LowStockProduct> mLowStockProductsSnapshot = Collections.emptyList();
+
+    /**
+     * Private Constructor of {@link LowStockMonitor}
+     *
+     * @param contentResolver ContentResolver for querying and observing the Inventory
+     */
+    private LowStockMonitor(ContentResolver contentResolver) {
+        mContentResolver = contentResolver;
+        //Starting the Monitor thread
+        HandlerThread monitorThread = new HandlerThread(MONITOR_THREAD_NAME);
+        monitorThread.start();
+        mMonitorHandler = new Handler(monitorThread.getLooper());
+        mMainThreadHandler = new Handler(Looper.getMainLooper());
+        mInventoryObserver = new InventoryContentObserver(mMonitorHandler);
+    }
+
+    /**
+     * Singleton Constructor of {@link LowStockMonitor}
+     *
+     * @param context A {@link Context} to retrieve the Application Context
+     * @return Instance of {@link LowStockMonitor}
+     */
+    public static LowStockMonitor getInstance(@NonNull Context context) {
+        if (INSTANCE == null) {
+            synchronized (LowStockMonitor.class) {
+                if (INSTANCE == null) {
+                    //Creating the instance when not available
+                    INSTANCE = new LowStockMonitor(context.getApplicationContext().getContentResolver());
+                }
+            }
+        }
+        //Using the previously created instance
+        return INSTANCE;
+    }
+
+    /**
+     * Method that returns the {@link UriMatcher} to be used
+     * for matching the URIs of the notifications.
+     *
+     * @return {@link UriMatcher} instance to be used for matching the Uri
+     */
+    private static UriMatcher buildUriMatcher() {
+        //Constructs an empty UriMatcher for the root node
+        UriMatcher matcher = new UriMatcher(UriMatcher.NO_MATCH);
+        //For "content://AUTHORITY/item" URI that references the whole 'item' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM, ITEMS);
+        //For "content://AUTHORITY/item/#" URI that references a record in 'item' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                ProductContract.PATH_ITEM + "/#", ITEM_ID);
+        //For "content://AUTHORITY/supplier" URI that references the whole 'supplier' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SupplierContract.PATH_SUPPLIER, SUPPLIERS);
+        //For "content://AUTHORITY/supplier/#" URI that references a record in 'supplier' table
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SupplierContract.PATH_SUPPLIER + "/#", SUPPLIER_ID);
+        //For "content://AUTHORITY/salesinventory/item/#" URI that references a set of records in 'item_supplier_inventory' table
+        //identified by 'item_id'
+        matcher.addURI(StoreContract.CONTENT_AUTHORITY,
+                SalesContract.PATH_ITEM_SUPPLIER_INVENTORY + "/" + ProductContract.PATH_ITEM + "/#",
+                SALES_INVENTORY_ITEM_ID);
+        //Returning the URI Matcher prepared
+        return matcher;
+    }
+
+    /**
+     * Method that registers the {@code listener} for the changes in the Products that are Low on Stock,
+     * and delivers the current Products to it. The Monitor starts observing the Inventory
+     * when the first listener is added.
+     *
+     * @param listener The {@link LowStockListener} to be registered
+     */
+    @MainThread
+    public void addListener(@NonNull LowStockListener listener) {
+        if (mListeners.contains(listener)) {
+            //Ignoring the listener already registered
+            return;
+        }
+
+        mListeners.add(listener);
+        if (mListeners.size() == 1) {
+            //When this is the first listener, start observing the Inventory and
+            //build the set with a full scan
+            mContentResolver.registerContentObserver(SalesContract.ProductSupplierInventory.CONTENT_URI, true, mInventoryObserver);
+            mContentResolver.registerContentObserver(ProductContract.Product.CONTENT_URI, true, mInventoryObserver);
+            mContentResolver.registerContentObserver(SupplierContract.Supplier.CONTENT_URI, true, mInventoryObserver);
+            mMonitorHandler.post(() -> requestRecheck(null));
+        } else {
+            //Delivering the current Products to the listener
+            listener.onLowStockChanged(mLowStockProductsSnapshot);
+        }
+    }
+
+    /**
+     * Method that unregisters the {@code listener} registered previously. The Monitor stops
+     * observing the Inventory when the last listener is removed.
+     *
+     * @param listener The {@link LowStockListener} to be unregistered
+     */
+    @MainThread
+    public void removeListener(@NonNull LowStockListener listener) {
+        if (mListeners.remove(listener) && mListeners.isEmpty()) {
+            //When the last listener is removed, stop observing the Inventory.
+            //(The set will be rebuilt with a full scan when observed again)
+            mContentResolver.unregisterContentObserver(mInventoryObserver);
+            mMonitorHandler.post(() -> {
+                mMonitorHandler.removeCallbacks(mRecheckRunnable);
+                mRecheckPosted = false;
+                mPendingProductIds.clear();
+                mFullScanPending = false;
+            });
+        }
+    }
+
+    /**
+     * Method that returns the Products that are Low on Stock, as last reported to the listeners.
+     *
+     * @return List of Products that are Low on Stock, ordered by their Total Available Quantity
+     */
+    @MainThread
+    public List<LowStockProduct> getLowStockProducts() {
+        return mLowStockProductsSnapshot;
+    }
+
+    /**
+     * Method that requests a re-check of the Product identified by {@code productId}, or all the
+     * Products when {@code productId} is {@code null}. The re-check is posted on the Monitor thread
+     * unless one is already posted, so that the requests received in the meantime are re-checked together.
+     * Called only on the Monitor thread.
+     *
+     * @param productId The Id of the Product changed, or {@code null} when not known
+     */
+    private void requestRecheck(Integer productId) {
+        if (productId == null) {
+            //Re-checking all the Products when the Product changed is not known
+            mFullScanPending = true;
+        } else if (!mFullScanPending) {
+            //Recording the Product changed when a full scan is not already pending
+            mPendingProductIds.add(productId);
+        }
+
+        if (!mRecheckPosted) {
+            //Posting the re-check when not posted already
+            mRecheckPosted = true;
+            mMonitorHandler.post(mRecheckRunnable);
+        }
+    }
+
+    /**
+     * Method that re-checks the Products changed since the last re-check, and publishes the
+     * Products that are Low on Stock to the listeners when the set has changed.
+     * Called only on the Monitor thread.
+     */
+    private void recheckPendingProducts() {
+        mRecheckPosted = false;
+
+        //Falling back to a full scan when there are more Products to re-check than allowed
+        boolean fullScan = mFullScanPending
+                || mPendingProductIds.size() > AppConstants.LOW_STOCK_MAX_INCREMENTAL_CHECKS;
+        //Taking the Ids of the Products to re-check
+        List<String> productIds = new ArrayList<>(mPendingProductIds.size());
+        for (Integer productId : mPendingProductIds) {
+            productIds.add(String.valueOf(productId));
+        }
+        mPendingProductIds.clear();
+        mFullScanPending = false;
+
+        if (!fullScan && productIds.isEmpty()) {
+            //Nothing to re-check
+            return;
+        }
+
+        //Building the Where clause restricting to the Products changed, for the incremental re-check
+        Pair<String, String[]> selectionPairs = fullScan ? null
+                : QueryArgsUtility.LowStockQuery.getSelectionForProductIds(productIds);
+
+        //Retrieving the Products that are Low on Stock among the Products re-checked
+        Cursor cursor;
+        try {
+            cursor = mContentResolver.query(
+                    SalesContract.SalesAggregate.CONTENT_URI_LOW_STOCK,
+                    QueryArgsUtility.LowStockQuery.getProjection(),
+                    selectionPairs != null ? selectionPairs.first : null,
+                    selectionPairs != null ? selectionPairs.second : null,
+                    null
+            );
+        } catch (RuntimeException e) {
+            Log.e(LOG_TAG, "recheckPendingProducts: Failed to re-check the Products for Low Stock", e);
+            return;
+        }
+
+        if (cursor == null) {
+            //Nothing to update when the query failed
+            return;
+        }
+
+        //Stores whether the set has changed
+        boolean changed = false;
+        try {
+            //Products that are no longer Low on Stock are dropped from the set: a full scan
+            //replaces the whole set, while an incremental re-check drops those re-checked, first
+            SparseArray<LowStockProduct> previousProducts = new SparseArray<>(mLowStockProducts.size());
+            if (fullScan) {
+                for (int index = 0, size = mLowStockProducts.size(); index < size; index++) {
+                    previousProducts.put(mLowStockProducts.keyAt(index), mLowStockProducts.valueAt(index));
+                }
+                mLowStockProducts.clear();
+            } else {
+                for (String productIdStr : productIds) {
+                    int productId = Integer.parseInt(productIdStr);
+                    LowStockProduct previousProduct = mLowStockProducts.get(productId);
+                    if (previousProduct != null) {
+                        previousProducts.put(productId, previousProduct);
+                        mLowStockProducts.remove(productId);
+                    }
+                }
+            }
+
+            //Adding the Products that are Low on Stock, checking for any change from their previous state
+            while (cursor.moveToNext()) {
+                LowStockProduct lowStockProduct = LowStockProduct.from(cursor);
+                LowStockProduct previousProduct = previousProducts.get(lowStockProduct.getProductId());
+                if (previousProduct == null) {
+                    //When the Product was not Low on Stock previously
+                    changed = true;
+                } else {
+                    previousProducts.remove(lowStockProduct.getProductId());
+                    if (previousProduct.getAvailableQuantity() != lowStockProduct.getAvailableQuantity()
+                            || previousProduct.getReorderLevel() != lowStockProduct.getReorderLevel()) {
+                        //When the Product is still Low on Stock, but with a different quantity or level
+                        changed = true;
+                    }
+                }
+                mLowStockProducts.put(lowStockProduct.getProductId(), lowStockProduct);
+            }
+
+            if (previousProducts.size() > 0) {
+                //When some of the Products are no longer Low on Stock
+                changed = true;
+            }
+        } finally {
+            //Closing the cursor to release its resources
+            cursor.close();
+        }
+
+        if (changed || fullScan) {
+            //Publishing the set when changed, or when built with a full scan
+            publishLowStockProducts();
+        }
+    }
+
+    /**
+     * Method that publishes a snapshot of the Products that are Low on Stock to the listeners
+     * on the Main thread. Called only on the Monitor thread.
+     */
+    private void publishLowStockProducts() {
+        //Taking a snapshot of the set, ordered by the Total Available Quantity
+        int noOfLowStockProducts = mLowStockProducts.size();
+        ArrayList<LowStockProduct> lowStockProducts = new ArrayList<>(noOfLowStockProducts);
+        for (int index = 0; index < noOfLowStockProducts; index++) {
+            lowStockProducts.add(mLowStockProducts.valueAt(index));
+        }
+        Collections.sort(lowStockProducts,
+                (product1, product2) -> product1.getAvailableQuantity() - product2.getAvailableQuantity());
+        final List<LowStockProduct> snapshot = Collections.unmodifiableList(lowStockProducts);
+
+        //Dispatching the snapshot to the listeners on the Main thread
+        mMainThreadHandler.post(() -> {
+            mLowStockProductsSnapshot = snapshot;
+            for (LowStockListener listener : new ArrayList<>(mListeners)) {
+                listener.onLowStockChanged(snapshot);
+            }
+        });
+    }
+
+    /**
+     * Listener Interface to be implemented by the components interested in the changes
+     * of the Products that are Low on Stock.
+     */
+    public interface LowStockListener {
+        /**
+         * Method invoked on the Main thread when the Products that are Low on Stock have changed.
+         *
+         * @param lowStockProducts List of Products that are Low on Stock, ordered by their
+         *                         Total Available Quantity
+         */
+        void onLowStockChanged(List<LowStockProduct> lowStockProducts);
+    }
+
+    /**
+     * {@link ContentObserver} of the Inventory, that requests the re-checks of the
+     * Products changed as per the URIs of the notifications.
+     */
+    private class InventoryContentObserver extends ContentObserver {
+
+        /**
+         * Creates a content observer.
+         *
+         * @param handler The handler to run {@link #onChange} on
+         */
+        InventoryContentObserver(Handler handler) {
+            super(handler);
+        }
+
+        /**
+         * Returns true if this observer is interested receiving self-change notifications.
+         *
+         * @return True if self-change notifications should be delivered to the observer.
+         */
+        @Override
+        public boolean deliverSelfNotifications() {
+            return true;
+        }
+
+        /**
+         * This method is called when a content change occurs.
+         *
+         * @param selfChange True if this is a self-change notification.
+         */
+        @Override
+        public void onChange(boolean selfChange) {
+            onChange(selfChange, null);
+        }
+
+        /**
+         * This method is called when a content change occurs.
+         *
+         * @param selfChange True if this is a self-change notification.
+         * @param uri        The Uri of the changed content, or null if unknown.
+         */
+        @Override
+        public void onChange(boolean selfChange, Uri uri) {
+            if (uri == null) {
+                //Re-checking all the Products when the URI is not known
+                requestRecheck(null);
+                return;
+            }
+
+            //Requesting the re-check based on the URI
+            switch (mUriMatcher.match(uri)) {
+                case ITEM_ID:
+                    //For the change in the Product itself, like its Reorder Level or its removal
+                case SALES_INVENTORY_ITEM_ID:
+                    //For the change in the Inventory of the Product, like its sale
+                    requestRecheck((int) ContentUris.parseId(uri));
+                    break;
+                case ITEMS:
+                case SUPPLIERS:
+                    //For the changes in the Products or Suppliers, not identifying the ones changed
+                case SUPPLIER_ID:
+                    //For the change in the Supplier, whose removal also removes its Inventory
+                    requestRecheck(null);
+                    break;
+                default:
+                    if (uri.toString().startsWith(SalesContract.ProductSupplierInventory.CONTENT_URI.toString())) {
+                        //For any other change in the Inventory, not identifying the Products changed
+                        requestRecheck(null);
+                    }
+                    //Ignoring the other changes of the Product and Supplier, like their Images and Contacts
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.example.store_keeper.store_keeper.workers;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+import android.support.annotation.WorkerThread;
+import android.text.TextUtils;
+import android.util.Log;
+
+import com.example.store_keeper.store_keeper.data.local.StoreDbHelper;
+import com.example.store_keeper.store_keeper.data.local.contracts.ProductContract;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+import com.example.store_keeper.store_keeper.utils.AppExecutors;
+import com.example.store_keeper.store_keeper.utils.ImageStorageUtility;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Worker that reclaims the storage held by the Image files that are no longer referenced by any
+ * Product, such as the Images of the Products deleted, the Images removed from a Product, and
+ * the Temporary Images of the captures that were never saved.
+ * <p>
+ * <p>The Image files in the App's Image Directories are diffed against the Image URIs of the
+ * 'item_image' table. An Image is an orphan when none of the Products refer to it, and is deleted
+ * along with its variants only when all of them are older than the grace period
+ * {@link AppConstants#IMAGE_ORPHAN_GRACE_PERIOD_MILLIS}, so that the Images of an edit session
+ * that is not yet saved are never deleted. Since a save can share an orphaned Image by its content
+ * after the sweep has listed it, the age of its files is checked again right before the delete,
+ * under the write lock of the Image.</p>
+ * <p>The sweep runs at most once in {@link AppConstants#IMAGE_ORPHAN_SWEEP_INTERVAL_MILLIS}, with the
+ * files listed and deleted on the File I/O Thread and the Image URIs read on the Database Read Thread.
+ * Orphans are deleted in batches of {@link AppConstants#IMAGE_ORPHAN_SWEEP_BATCH_SIZE} per task,
+ * so that the other File I/O tasks are not held up by the sweep.</p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public final class OrphanImageSweeper {
+
+    //Constant used for logs
+    private static final String LOG_TAG = OrphanImageSweeper.class.getSimpleName();
+
+    //Constants for the Preferences that record the time of the last sweep
+    private static final String PREFS_NAME = "orphan_image_sweeper";
+    private static final String PREF_KEY_LAST_SWEEP_MILLIS = "last_sweep_millis";
+
+    //Flag that prevents a sweep from being started while another is running
+    private static final AtomicBoolean SWEEP_RUNNING = new AtomicBoolean(false);
+
+    /**
+     * Private Constructor to avoid direct instantiation of {@link OrphanImageSweeper}
+     */
+    private OrphanImageSweeper() {
+        //Suppressing with an error to enforce noninstantiability
+        throw new AssertionError("No " + this.getClass().getCanonicalName() + " instances for you!");
+    }
+
+    /**
+     * Method that starts a sweep of the orphaned Image files in the background, when the
+     * interval {@link AppConstants#IMAGE_ORPHAN_SWEEP_INTERVAL_MILLIS} has elapsed since the last sweep.
+     * Does nothing when a sweep is already running.
+     *
+     * @param context {@link Context} for reading the Image Directories and the database
+     */
+    public static void sweepIfDue(Context context) {
+        if (!SWEEP_RUNNING.compareAndSet(false, true)) {
+            //Bail out when a sweep is already running
+            return;
+        }
+
+        //Using the Application Context as the sweep outlives the callers
+        final Context appContext = context.getApplicationContext();
+
+        AppExecutors.getInstance().getFileIO().execute(() -> {
+            //Reading the time of the last sweep
+            SharedPreferences preferences = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+            long sweepStartMillis = System.currentTimeMillis();
+            if (sweepStartMillis - preferences.getLong(PREF_KEY_LAST_SWEEP_MILLIS, 0L)
+                    < AppConstants.IMAGE_ORPHAN_SWEEP_INTERVAL_MILLIS) {
+                //Bail out when the last sweep was recent
+                SWEEP_RUNNING.set(false);
+                return;
+            }
+
+            //Listing the Image files past the grace period, grouped by their original Image file
+            final long graceCutoffMillis = sweepStartMillis - AppConstants.IMAGE_ORPHAN_GRACE_PERIOD_MILLIS;
+            final Map<File, List<File>> imageFileGroups = collectImageFileGroups(appContext, graceCutoffMillis);
+            //Listing the Temporary Image files past the grace period, which are never referenced
+            final List<List<File>> orphanFileGroups = new ArrayList<>();
+            for (File tempImageFile : collectTempImageFiles(appContext, graceCutoffMillis)) {
+                orphanFileGroups.add(Collections.singletonList(tempImageFile));
+            }
+
+            if (imageFileGroups.isEmpty()) {
+                //When there are no Images to diff, delete the Temporary Images if any
+                new SweepTask(appContext, sweepStartMillis, graceCutoffMillis, orphanFileGroups).run();
+                return;
+            }
+
+            AppExecutors.getInstance().getDbRead().execute(() -> {
+                //Reading the names of the Image files referenced by the Products
+                Set<String> referencedFileNames;
+                try {
+                    referencedFileNames = queryReferencedImageFileNames(appContext);
+                } catch (SQLException e) {
+                    //Bail out when the references could not be read, as nothing can be deemed an orphan
+                    Log.e(LOG_TAG, "sweepIfDue: Failed to read the Image references, skipping the sweep", e);
+                    SWEEP_RUNNING.set(false);
+                    return;
+                }
+
+                //Picking the groups of the Images not referenced
+                for (Map.Entry<File, List<File>> imageFileGroupEntry : imageFileGroups.entrySet()) {
+                    if (!referencedFileNames.contains(imageFileGroupEntry.getKey().getName())) {
+                        orphanFileGroups.add(imageFileGroupEntry.getValue());
+                    }
+                }
+
+                //Deleting the orphans on the File I/O Thread
+                AppExecutors.getInstance().getFileIO().execute(
+                        new SweepTask(appContext, sweepStartMillis, graceCutoffMillis, orphanFileGroups));
+            });
+        });
+    }
+
+    /**
+     * Method that lists the Image files saved by the App in all its Image Directories, grouped by
+     * their original Image file. Groups having any file modified after the {@code graceCutoffMillis}
+     * are left out.
+     *
+     * @param context           {@link Context} for retrieving the Image Directories
+     * @param graceCutoffMillis The time in milliseconds after which the files are within the grace period
+     * @return Map of the original Image {@link File} to the list of its Image and variant files present.
+     */
+    @WorkerThread
+    @NonNull
+    private static Map<File, List<File>> collectImageFileGroups(Context context, long graceCutoffMillis) {
+        //Stores the Image files grouped by their original Image file
+        Map<File, List<File>> imageFileGroups = new HashMap<>();
+        //Stores the original Image files that have a file within the grace period
+        Set<File> recentImageFiles = new HashSet<>();
+
+        for (File imageStorageDir : ImageStorageUtility.getImageStorageDirs(context)) {
+            if (imageStorageDir == null) {
+                //Skipping the storage not mounted
+                continue;
+            }
+
+            File[] files = imageStorageDir.listFiles();
+            if (files == null) {
+                //Skipping the Directory that could not be read
+                continue;
+            }
+
+            for (File file : files) {
+                if (!ImageStorageUtility.isImageFile(file)) {
+                    //Skipping the files not saved by the App
+                    continue;
+                }
+
+                //Grouping the file under its original Image file
+                File originalImageFile = new File(imageStorageDir,
+                        ImageStorageUtility.getOriginalImageFileName(file.getName()));
+                List<File> imageFileGroup = imageFileGroups.get(originalImageFile);
+                if (imageFileGroup == null) {
+                    imageFileGroup = new ArrayList<>();
+                    imageFileGroups.put(originalImageFile, imageFileGroup);
+                }
+                imageFileGroup.add(file);
+
+                if (file.lastModified() > graceCutoffMillis) {
+                    //Marking the group as recent when the file is within the grace period
+                    recentImageFiles.add(originalImageFile);
+                }
+            }
+        }
+
+        //Leaving out the groups within the grace period
+        imageFileGroups.keySet().removeAll(recentImageFiles);
+
+        //Returning the groups of Image files past the grace period
+        return imageFileGroups;
+    }
+
+    /**
+     * Method that lists the Temporary Image files written by the App in all its Cache Directories,
+     * that were last modified before the {@code graceCutoffMillis}.
+     *
+     * @param context           {@link Context} for retrieving the Cache Directories
+     * @param graceCutoffMillis The time in milliseconds after which the files are within the grace period
+     * @return List of the Temporary Image files past the grace period.
+     */
+    @WorkerThread
+    @NonNull
+    private static List<File> collectTempImageFiles(Context context, long graceCutoffMillis) {
+        //Stores the Temporary Image files past the grace period
+        List<File> tempImageFiles = new ArrayList<>();
+
+        for (File tempStorageDir : ImageStorageUtility.getTempImageStorageDirs(context)) {
+            if (tempStorageDir == null) {
+                //Skipping the storage not mounted
+                continue;
+            }
+
+            File[] files = tempStorageDir.listFiles();
+            if (files == null) {
+                //Skipping the Directory that could not be read
+                continue;
+            }
+
+            for (File file : files) {
+                if (ImageStorageUtility.isTempImageFile(file) && file.lastModified() <= graceCutoffMillis) {
+                    tempImageFiles.add(file);
+                }
+            }
+        }
+
+        //Returning the Temporary Image files past the grace period
+        return tempImageFiles;
+    }
+
+    /**
+     * Method that reads the names of the Image files saved by the App, that are referenced
+     * by the Products in the 'item_image' table.
+     *
+     * @param context {@link Context} for retrieving the database
+     * @return Set of the names of the Image files referenced.
+     * @throws SQLException when the 'item_image' table could not be read.
+     */
+    @WorkerThread
+    @NonNull
+    private static Set<String> queryReferencedImageFileNames(Context context) throws SQLException {
+        //Stores the names of the Image files referenced
+        Set<String> referencedFileNames = new HashSet<>();
+
+        SQLiteDatabase readableDatabase = StoreDbHelper.getInstance(context).getReadableDatabase();
+        try (Cursor cursor = readableDatabase.query(true,
+                ProductContract.ProductImage.TABLE_NAME,
+                new String[]{ProductContract.ProductImage.COLUMN_ITEM_IMAGE_URI},
+                null, null, null, null, null, null)) {
+            while (cursor.moveToNext()) {
+                String imageUriStr = cursor.getString(0);
+                if (TextUtils.isEmpty(imageUriStr)) {
+                    //Skipping the empty references
+                    continue;
+                }
+
+                String imageFileName = ImageStorageUtility.getImageFileNameForContentUri(Uri.parse(imageUriStr));
+                if (imageFileName != null) {
+                    //Recording the name of the Image file saved by the App
+                    referencedFileNames.add(imageFileName);
+                }
+            }
+        }
+
+        //Returning the names of the Image files referenced
+        return referencedFileNames;
+    }
+
+    /**
+     * {@link Runnable} that deletes the orphaned Images of a sweep along with their variants, in batches
+     * of {@link AppConstants#IMAGE_ORPHAN_SWEEP_BATCH_SIZE}, re-queueing itself on the File I/O Thread
+     * after each batch, and logs the storage reclaimed when done.
+     */
+    private static class SweepTask implements Runnable {
+
+        //Application Context for recording the time of the sweep
+        private final Context mAppContext;
+        //The time in milliseconds when the sweep was started
+        private final long mSweepStartMillis;
+        //The time in milliseconds after which the files are within the grace period
+        private final long mGraceCutoffMillis;
+        //The orphaned Images to be deleted, each grouped with its variant files
+        private final List<List<File>> mOrphanFileGroups;
+        //Index of the next Image to be deleted
+        private int mNextIndex;
+        //Number of files deleted
+        private int mDeletedCount;
+        //Number of orphaned files found
+        private int mOrphanCount;
+        //Number of bytes reclaimed by the files deleted
+        private long mReclaimedBytes;
+
+        /**
+         * Constructor of {@link SweepTask}
+         *
+         * @param appContext        Application Context for recording the time of the sweep
+         * @param sweepStartMillis  The time in milliseconds when the sweep was started
+         * @param graceCutoffMillis The time in milliseconds after which the files are within the grace period
+         * @param orphanFileGroups  The orphaned Images to be deleted, each grouped with its variant files
+         */
+        SweepTask(Context appContext, long sweepStartMillis, long graceCutoffMillis, List<List<File>> orphanFileGroups) {
+            mAppContext = appContext;
+            mSweepStartMillis = sweepStartMillis;
+            mGraceCutoffMillis = graceCutoffMillis;
+            mOrphanFileGroups = orphanFileGroups;
+        }
+
+        /**
+         * Deletes the next batch of the orphaned Images, and re-queues itself when there are more.
+         */
+        @Override
+        public void run() {
+            //Deleting the next batch of Images
+            int batchEndIndex = Math.min(mNextIndex + AppConstants.IMAGE_ORPHAN_SWEEP_BATCH_SIZE, mOrphanFileGroups.size());
+            for (; mNextIndex < batchEndIndex; mNextIndex++) {
+                deleteOrphanFileGroup(mOrphanFileGroups.get(mNextIndex));
+            }
+
+            if (mNextIndex < mOrphanFileGroups.size()) {
+                //Re-queueing for the next batch, letting the other File I/O tasks run in between
+                AppExecutors.getInstance().getFileIO().execute(this);
+                return;
+            }
+
+            //Recording the time of the sweep when done
+            mAppContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                    .edit()
+                    .putLong(PREF_KEY_LAST_SWEEP_MILLIS, mSweepStartMillis)
+                    .apply();
+
+            //Reporting the storage reclaimed
+            Log.i(LOG_TAG, "run: Swept " + mDeletedCount + " of " + mOrphanCount
+                    + " orphaned Image files, reclaiming " + mReclaimedBytes + " bytes");
+
+            //Allowing the next sweep
+            SWEEP_RUNNING.set(false);
+        }
+
+        /**
+         * Method that deletes the files of an orphaned Image {@code orphanFileGroup}, only when all of
+         * them are still past the grace period. The check and the delete are done under the write lock
+         * of the Image, so that a save sharing the Image in the meantime, which refreshes the
+         * last modified time of its files, keeps the Image from being deleted.
+         *
+         * @param orphanFileGroup The files of the orphaned Image along with its variants
+         */
+        private void deleteOrphanFileGroup(List<File> orphanFileGroup) {
+            mOrphanCount += orphanFileGroup.size();
+
+            synchronized (ImageStorageUtility.getImageWriteLock(orphanFileGroup.get(0))) {
+                for (File orphanFile : orphanFileGroup) {
+                    if (orphanFile.lastModified() > mGraceCutoffMillis) {
+                        //Bail out when the Image was shared after the files were listed
+                        Log.i(LOG_TAG, "deleteOrphanFileGroup: Skipping the Image shared again " + orphanFile);
+                        return;
+                    }
+                }
+
+                for (File orphanFile : orphanFileGroup) {
+                    long fileLength = orphanFile.length();
+                    if (orphanFile.delete()) {
+                        mDeletedCount++;
+                        mReclaimedBytes += fileLength;
+                    } else {
+                        Log.w(LOG_TAG, "deleteOrphanFileGroup: Failed to delete the orphaned file " + orphanFile);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Created By Rajat Gupta And Harshita Joshi 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.store_keeper.store_keeper.workers;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+
+import com.example.store_keeper.store_keeper.data.local.StoreDbHelper;
+import com.example.store_keeper.store_keeper.data.local.contracts.SalesContract;
+import com.example.store_keeper.store_keeper.data.local.utils.SqliteUtility;
+import com.example.store_keeper.store_keeper.utils.AppConstants;
+import com.example.store_keeper.store_keeper.utils.AppExecutors;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Worker that compacts the append-only Ledger of the Sales, 'sales_event', into its daily rollups
+ * in 'sales_daily_rollup', so that the Ledger does not grow without bounds.
+ * <p>
+ * <p>The Sales Events older than the retention period {@link AppConstants#SALES_EVENT_RETENTION_MILLIS}
+ * are summed by the Item, the Supplier and the Day of the event in the local time zone, added to
+ * the rollup of that Day, and then removed from the Ledger. The recent Sales Events are retained
+ * as they are, for reporting the Sales in detail.</p>
+ * <p>The compaction runs at most once in {@link AppConstants#SALES_EVENT_COMPACTION_INTERVAL_MILLIS},
+ * on the Database Write Thread, with the oldest {@link AppConstants#SALES_EVENT_COMPACTION_BATCH_SIZE}
+ * events compacted per transaction, so that the other writes are not held up by the compaction.</p>
+ *
+ * @author Rajat Gupta And Harshita Joshi 
+ */
+public final class SalesLedgerCompactor {
+
+    //Constant used for logs
+    private static final String LOG_TAG = SalesLedgerCompactor.class.getSimpleName();
+
+    //Constants for the Preferences that record the time of the last compaction
+    private static final String PREFS_NAME = "sales_ledger_compactor";
+    private static final String PREF_KEY_LAST_COMPACTION_MILLIS = "last_compaction_millis";
+
+    //Constant for the number of milliseconds in a Day
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    //Query that finds the Id of the last of the oldest Sales Events past the retention, that make up a batch
+    private static final String QUERY_BATCH_LAST_EVENT_ID
+            = SqliteUtility.SELECT + "IFNULL(MAX(" + SalesContract.SalesEvent._ID + "), 0)"
+            + SqliteUtility.FROM + SqliteUtility.OPEN_BRACE
+            + SqliteUtility.SELECT + SalesContract.SalesEvent._ID
+            + SqliteUtility.FROM + SalesContract.SalesEvent.TABLE_NAME
+            + SqliteUtility.WHERE + SalesContract.SalesEvent.COLUMN_EVENT_TIME + SqliteUtility.LESS_THAN + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.ORDER_BY + SalesContract.SalesEvent._ID
+            + SqliteUtility.LIMIT + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.CLOSE_BRACE;
+
+    //Where clause that identifies the Sales Events of a batch
+    private static final String SELECTION_BATCH_EVENTS
+            = SalesContract.SalesEvent._ID + " <= " + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.AND + SalesContract.SalesEvent.COLUMN_EVENT_TIME + SqliteUtility.LESS_THAN + SqliteUtility.PLACEHOLDER;
+
+    //Expression for the Day of a Sales Event in the local time zone, shifted by the offset bound
+    private static final String EXPRESSION_EVENT_DAY
+            = SqliteUtility.OPEN_BRACE + SalesContract.SalesEvent.COLUMN_EVENT_TIME + " + " + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.CLOSE_BRACE + " / " + DAY_MILLIS;
+
+    //Query that sums the Sales Events of a batch by the Item, the Supplier and the Day
+    private static final String QUERY_BATCH_DAILY_TOTALS
+            = SqliteUtility.SELECT
+            + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + EXPRESSION_EVENT_DAY + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.SUM + SqliteUtility.OPEN_BRACE + SalesContract.SalesEvent.COLUMN_QUANTITY_DELTA + SqliteUtility.CLOSE_BRACE + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.COUNT + "(*)"
+            + SqliteUtility.FROM + SalesContract.SalesEvent.TABLE_NAME
+            + SqliteUtility.WHERE + SELECTION_BATCH_EVENTS
+            + " GROUP BY " + SalesContract.SalesEvent.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesEvent.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + EXPRESSION_EVENT_DAY;
+
+    //Column Indices of the Query that sums the Sales Events of a batch
+    private static final int COLUMN_ITEM_ID_INDEX = 0;
+    private static final int COLUMN_SUPPLIER_ID_INDEX = 1;
+    private static final int COLUMN_SALES_DAY_INDEX = 2;
+    private static final int COLUMN_QUANTITY_DELTA_INDEX = 3;
+    private static final int COLUMN_EVENT_COUNT_INDEX = 4;
+
+    //Statement that adds the totals of a Day to its existing rollup
+    private static final String UPDATE_DAILY_ROLLUP
+            = SqliteUtility.UPDATE + SalesContract.SalesDailyRollup.TABLE_NAME
+            + SqliteUtility.SET + SalesContract.SalesDailyRollup.COLUMN_QUANTITY_DELTA + SqliteUtility.EQUALS
+            + SalesContract.SalesDailyRollup.COLUMN_QUANTITY_DELTA + " + " + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_EVENT_COUNT + SqliteUtility.EQUALS
+            + SalesContract.SalesDailyRollup.COLUMN_EVENT_COUNT + " + " + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.WHERE + SalesContract.SalesDailyRollup.COLUMN_ITEM_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.AND + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER
+            + SqliteUtility.AND + SalesContract.SalesDailyRollup.COLUMN_SALES_DAY + SqliteUtility.EQUALS + SqliteUtility.PLACEHOLDER;
+
+    //Statement that inserts the rollup of a Day not rolled up before
+    private static final String INSERT_DAILY_ROLLUP
+            = SqliteUtility.INSERT_INTO + SalesContract.SalesDailyRollup.TABLE_NAME
+            + SqliteUtility.SPACE + SqliteUtility.OPEN_BRACE
+            + SalesContract.SalesDailyRollup.COLUMN_QUANTITY_DELTA + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_EVENT_COUNT + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_ITEM_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SUPPLIER_ID + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SalesContract.SalesDailyRollup.COLUMN_SALES_DAY + SqliteUtility.CLOSE_BRACE
+            + " VALUES " + SqliteUtility.OPEN_BRACE
+            + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.PLACEHOLDER + SqliteUtility.COMMA + SqliteUtility.SPACE
+            + SqliteUtility.PLACEHOLDER + SqliteUtility.CLOSE_BRACE;
+
+    //Flag that prevents a compaction from being started while another is running
+    private static final AtomicBoolean COMPACTION_RUNNING = new AtomicBoolean(false);
+
+    /**
+     * Private Constructor to avoid direct instantiation of {@link SalesLedgerCompactor}
+     */
+    private SalesLedgerCompactor() {
+        //Suppressing with an error to enforce noninstantiability
+        throw new AssertionError("No " + this.getClass().getCanonicalName() + " instances for you!");
+    }
+
+    /**
+     * Method that starts a compaction of the Sales Ledger in the background, when the
+     * interval {@link AppConstants#SALES_EVENT_COMPACTION_INTERVAL_MILLIS} has elapsed since the last
+     * compaction. Does nothing when a compaction is already running.
+     *
+     * @param context {@link Context} for reading the database
+     */
+    public static void compactIfDue(Context context) {
+        if (!COMPACTION_RUNNING.compareAndSet(false, true)) {
+            //Bail out when a compaction is already running
+            return;
+        }
+
+        //Using the Application Context as the compaction outlives the callers
+        final Context appContext = context.getApplicationContext();
+
+        AppExecutors.getInstance().getDbWrite().execute(() -> {
+            //Stores whether the compaction was handed to the CompactionTask, which then allows the next compaction
+            boolean compactionStarted = false;
+            try {
+                //Reading the time of the last compaction
+                SharedPreferences preferences = appContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+                long compactionStartMillis = System.currentTimeMillis();
+                if (compactionStartMillis - preferences.getLong(PREF_KEY_LAST_COMPACTION_MILLIS, 0L)
+                        < AppConstants.SALES_EVENT_COMPACTION_INTERVAL_MILLIS) {
+                    //Bail out when the last compaction was recent
+                    return;
+                }
+
+                //Compacting the Sales Events past the retention period in batches
+                compactionStarted = true;
+                new CompactionTask(appContext, compactionStartMillis).run();
+            } finally {
+                if (!compactionStarted) {
+                    //Allowing the next compaction when this one did not start
+                    COMPACTION_RUNNING.set(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Method that compacts a batch of the oldest Sales Events that occurred before the
+     * {@code cutoffMillis} into their daily rollups, in a single transaction.
+     *
+     * @param db           The database in write mode
+     * @param cutoffMillis The time in milliseconds before which the Sales Events are compacted
+     * @param offsetMillis The offset in milliseconds of the local time zone from UTC, for finding the Day of the events
+     * @return The number of Sales Events compacted, which is 0 when there are no more events to compact.
+     * @throws SQLException when the batch could not be compacted, in which case it is rolled back.
+     */
+    @WorkerThread
+    private static int compactBatch(SQLiteDatabase db, long cutoffMillis, long offsetMillis) throws SQLException {
+        db.beginTransaction();
+        try {
+            //Finding the last event of the batch
+            long lastEventId = DatabaseUtils.longForQuery(db, QUERY_BATCH_LAST_EVENT_ID, new String[]{
+                    String.valueOf(cutoffMillis), String.valueOf(AppConstants.SALES_EVENT_COMPACTION_BATCH_SIZE)
+            });
+            if (lastEventId == 0) {
+                //When there are no more events to compact
+                db.setTransactionSuccessful();
+                return 0;
+            }
+
+            //Arguments of the where clause that identifies the events of the batch
+            String[] batchEventArgs = new String[]{String.valueOf(lastEventId), String.valueOf(cutoffMillis)};
+
+            SQLiteStatement updateStatement = db.compileStatement(UPDATE_DAILY_ROLLUP);
+            SQLiteStatement insertStatement = db.compileStatement(INSERT_DAILY_ROLLUP);
+            //Cursor to the totals of each Day of the batch
+            Cursor cursor = null;
+            try {
+                cursor = db.rawQuery(QUERY_BATCH_DAILY_TOTALS, new String[]{
+                        String.valueOf(offsetMillis), batchEventArgs[0], batchEventArgs[1], String.valueOf(offsetMillis)
+                });
+                while (cursor.moveToNext()) {
+                    //Adding the totals to the rollup of the Day
+                    bindDailyTotals(updateStatement, cursor);
+                    if (updateStatement.executeUpdateDelete() == 0) {
+                        //Inserting the rollup when the Day was not rolled up before
+                        bindDailyTotals(insertStatement, cursor);
+                        insertStatement.executeInsert();
+                    }
+                }
+            } finally {
+                //Releasing the cursor and the statements
+                if (cursor != null) {
+                    cursor.close();
+                }
+                updateStatement.close();
+                insertStatement.close();
+            }
+
+            //Removing the events of the batch from the Ledger
+            int noOfEventsCompacted = db.delete(SalesContract.SalesEvent.TABLE_NAME, SELECTION_BATCH_EVENTS, batchEventArgs);
+
+            //Marking the transaction as successful
+            db.setTransactionSuccessful();
+            return noOfEventsCompacted;
+        } finally {
+            //Committing or rolling back the batch
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Method that binds the totals of a Day read by the {@code cursor} to the {@code rollupStatement},
+     * which is one of {@link #UPDATE_DAILY_ROLLUP} or {@link #INSERT_DAILY_ROLLUP} that take
+     * the same arguments in the same order.
+     *
+     * @param rollupStatement The statement to bind the totals to
+     * @param cursor          The Cursor positioned at the totals of a Day
+     */
+    private static void bindDailyTotals(SQLiteStatement rollupStatement, Cursor cursor) {
+        rollupStatement.clearBindings();
+        rollupStatement.bindLong(1, cursor.getLong(COLUMN_QUANTITY_DELTA_INDEX));
+        rollupStatement.bindLong(2, cursor.getLong(COLUMN_EVENT_COUNT_INDEX));
+        rollupStatement.bindLong(3, cursor.getLong(COLUMN_ITEM_ID_INDEX));
+        rollupStatement.bindLong(4, cursor.getLong(COLUMN_SUPPLIER_ID_INDEX));
+        rollupStatement.bindLong(5, cursor.getLong(COLUMN_SALES_DAY_INDEX));
+    }
+
+    /**
+     * {@link Runnable} that compacts the Sales Events past the retention period a batch at a time,
+     * re-queueing itself on the Database Write Thread after each batch, and logs the number of
+     * events compacted when done.
+     */
+    private static class CompactionTask implements Runnable {
+
+        //Application Context for reading the database and recording the time of the compaction
+        private final Context mAppContext;
+        //The time in milliseconds when the compaction was started
+        private final long mCompactionStartMillis;
+        //The time in milliseconds before which the Sales Events are compacted
+        private final long mCutoffMillis;
+        //The offset in milliseconds of the local time zone from UTC
+        private final long mOffsetMillis;
+        //Number of Sales Events compacted
+        private int mCompactedCount;
+
+        /**
+         * Constructor of {@link CompactionTask}
+         *
+         * @param appContext            Application Context for reading the database
+         *                              and recording the time of the compaction
+         * @param compactionStartMillis The time in milliseconds when the compaction was started
+         */
+        CompactionTask(Context appContext, long compactionStartMillis) {
+            mAppContext = appContext;
+            mCompactionStartMillis = compactionStartMillis;
+            mCutoffMillis = compactionStartMillis - AppConstants.SALES_EVENT_RETENTION_MILLIS;
+            mOffsetMillis = TimeZone.getDefault().getOffset(compactionStartMillis);
+        }
+
+        /**
+         * Compacts the next batch of the Sales Events, and re-queues itself when there may be more.
+         */
+        @Override
+        public void run() {
+            //Stores whether the task was re-queued for the next batch, which keeps the compaction running
+            boolean requeued = false;
+            try {
+                int noOfEventsCompacted = compactBatch(StoreDbHelper.getInstance(mAppContext).getWritableDatabase(),
+                        mCutoffMillis, mOffsetMillis);
+
+                mCompactedCount += noOfEventsCompacted;
+                if (noOfEventsCompacted == AppConstants.SALES_EVENT_COMPACTION_BATCH_SIZE) {
+                    //Re-queueing for the next batch, letting the other writes run in between
+                    AppExecutors.getInstance().getDbWrite().execute(this);
+                    requeued = true;
+                    return;
+                }
+
+                //Recording the time of the compaction when done
+                mAppContext.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                        .edit()
+                        .putLong(PREF_KEY_LAST_COMPACTION_MILLIS, mCompactionStartMillis)
+                        .apply();
+
+                //Reporting the events compacted
+                Log.i(LOG_TAG, "run: Compacted " + mCompactedCount + " Sales Events into the daily rollups");
+            } catch (SQLException e) {
+                //Bail out when the batch could not be compacted, leaving the events for the next compaction
+                Log.e(LOG_TAG, "run: Failed to compact the Sales Events", e);
+            } finally {
+                if (!requeued) {
+                    //Allowing the next compaction, however this compaction ended
+                    COMPACTION_RUNNING.set(false);
+                }
+            }
+        }
+    }
+}